@@ -0,0 +1,21 @@
+package com.pet.apigateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * An upstream response as the gateway keeps it: status, the headers worth replaying and the body.
+ * {@code storedAt} is on the {@link ResponseCache}'s nano clock.
+ */
+public record CachedResponse(int status, HttpHeaders headers, byte[] body, long storedAt) {
+
+    public String etag() {
+        return headers.getETag();
+    }
+
+    /**
+     * The same response confirmed unchanged by the upstream at {@code now}.
+     */
+    public CachedResponse revalidated(long now) {
+        return new CachedResponse(status, headers, body, now);
+    }
+}
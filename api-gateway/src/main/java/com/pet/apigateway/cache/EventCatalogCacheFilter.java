@@ -0,0 +1,134 @@
+package com.pet.apigateway.cache;
+
+import com.pet.apigateway.loadbalancer.LoadTrackingExchangeFilterFunction;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Answers the public catalog reads, {@code GET /v1/events} and {@code GET /v1/events/{id}}, from a
+ * {@link ResponseCache} instead of routing them to event-service.
+ * <p>
+ * event-service marks these responses {@code no-cache} with an ETag, so refreshing a stale entry
+ * is a conditional request that usually comes back 304 without a body. Clients that send a
+ * matching {@code If-None-Match} get a 304 from the gateway. {@code X-Cache} tells how the
+ * response was served.
+ */
+@Component
+public class EventCatalogCacheFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+    static final String CACHE_HEADER = "X-Cache";
+
+    private static final Pattern CACHED_PATH = Pattern.compile("/v1/events(/\\d+)?/?");
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+    private final ResponseCache cache;
+    private final WebClient webClient;
+
+    public EventCatalogCacheFilter(WebClient.Builder loadBalancedWebClientBuilder,
+                                   LoadTrackingExchangeFilterFunction loadTracking,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${gateway.cache.events.upstream:http://event-service}") String upstream,
+                                   @Value("${gateway.cache.events.fresh-for:PT2S}") Duration freshFor,
+                                   @Value("${gateway.cache.events.stale-for:PT30S}") Duration staleFor,
+                                   @Value("${gateway.cache.events.maximum-size:10000}") long maximumSize) {
+        // Added after the load balancer's filter, so cache fills count towards the chosen instance's load.
+        this.webClient = loadBalancedWebClientBuilder.clone()
+                .filter(loadTracking)
+                .baseUrl(upstream)
+                .build();
+        this.cache = new ResponseCache("events", freshFor, staleFor, maximumSize, System::nanoTime, meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !CACHED_PATH.matcher(request.getPath().value()).matches()) {
+            return chain.filter(exchange);
+        }
+        String key = request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "");
+        return cache.get(key, previous -> fetch(key, previous))
+                .flatMap(lookup -> write(exchange, lookup))
+                .onErrorResume(WebClientException.class, ex -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                    return response.setComplete();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<CachedResponse> fetch(String uri, CachedResponse previous) {
+        return webClient.get()
+                .uri(uri)
+                .headers(headers -> {
+                    if (previous != null && previous.etag() != null) {
+                        headers.setIfNoneMatch(previous.etag());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && previous != null) {
+                        return response.releaseBody().thenReturn(previous.revalidated(System.nanoTime()));
+                    }
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> new CachedResponse(response.statusCode().value(), replayedHeaders(response),
+                                    body, System.nanoTime()));
+                });
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, ResponseCache.Lookup lookup) {
+        CachedResponse cached = lookup.response();
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().addAll(cached.headers());
+        response.getHeaders().set(CACHE_HEADER, lookup.outcome().name());
+        response.getHeaders().set(HttpHeaders.AGE,
+                Long.toString(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - cached.storedAt())));
+        String etag = cached.etag();
+        if (cached.status() == HttpStatus.OK.value() && etag != null
+                && exchange.getRequest().getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static HttpHeaders replayedHeaders(ClientResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : REPLAYED_HEADERS) {
+            List<String> values = response.headers().header(name);
+            if (!values.isEmpty()) {
+                headers.put(name, values);
+            }
+        }
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+}
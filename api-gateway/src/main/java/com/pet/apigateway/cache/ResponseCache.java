@@ -0,0 +1,121 @@
+package com.pet.apigateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Stale-while-revalidate response cache with request collapsing.
+ * <p>
+ * A response younger than {@code freshFor} is served as is. Up to {@code staleFor} after that it
+ * is still served immediately, while one background load refreshes it. Older or missing entries
+ * are loaded while the caller waits. Whatever the reason for a load, at most one runs per key:
+ * callers arriving meanwhile share its result. Only 200 responses are stored, but every response
+ * is shared with the callers waiting on it.
+ * <p>
+ * The loader gets the previous response, if any, so it can revalidate it with a conditional
+ * request instead of fetching the body again.
+ */
+@Slf4j
+public class ResponseCache {
+
+    public enum Outcome {
+        HIT, STALE, MISS, COLLAPSED
+    }
+
+    public record Lookup(CachedResponse response, Outcome outcome) {
+    }
+
+    private final Cache<String, CachedResponse> entries;
+    private final ConcurrentMap<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long freshNanos;
+    private final long staleNanos;
+    private final LongSupplier nanoClock;
+    private final Counter hits;
+    private final Counter stale;
+    private final Counter misses;
+    private final Counter collapsed;
+
+    public ResponseCache(String name, Duration freshFor, Duration staleFor, long maximumSize,
+                         LongSupplier nanoClock, MeterRegistry meterRegistry) {
+        this.freshNanos = freshFor.toNanos();
+        this.staleNanos = staleFor.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(freshFor.plus(staleFor))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "gateway.cache." + name);
+        this.hits = outcomeCounter(meterRegistry, name, Outcome.HIT);
+        this.stale = outcomeCounter(meterRegistry, name, Outcome.STALE);
+        this.misses = outcomeCounter(meterRegistry, name, Outcome.MISS);
+        this.collapsed = outcomeCounter(meterRegistry, name, Outcome.COLLAPSED);
+    }
+
+    public Mono<Lookup> get(String key, Function<CachedResponse, Mono<CachedResponse>> loader) {
+        return Mono.defer(() -> {
+            CachedResponse cached = entries.getIfPresent(key);
+            long age = cached != null ? nanoClock.getAsLong() - cached.storedAt() : Long.MAX_VALUE;
+            if (age < freshNanos) {
+                hits.increment();
+                return Mono.just(new Lookup(cached, Outcome.HIT));
+            }
+            if (age < freshNanos + staleNanos) {
+                stale.increment();
+                load(key, cached, loader).subscribe(
+                        response -> { },
+                        ex -> log.warn("Background revalidation of {} failed, serving stale", key, ex));
+                return Mono.just(new Lookup(cached, Outcome.STALE));
+            }
+            boolean[] created = new boolean[1];
+            Mono<CachedResponse> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return newLoad(k, cached, loader);
+            });
+            (created[0] ? misses : collapsed).increment();
+            return shared.map(response -> new Lookup(response, created[0] ? Outcome.MISS : Outcome.COLLAPSED));
+        });
+    }
+
+    public void invalidate(String key) {
+        entries.invalidate(key);
+    }
+
+    private Mono<CachedResponse> load(String key, CachedResponse previous,
+                                      Function<CachedResponse, Mono<CachedResponse>> loader) {
+        return inFlight.computeIfAbsent(key, k -> newLoad(k, previous, loader));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<CachedResponse> newLoad(String key, CachedResponse previous,
+                                         Function<CachedResponse, Mono<CachedResponse>> loader) {
+        Mono<CachedResponse>[] self = new Mono[1];
+        self[0] = Mono.defer(() -> loader.apply(previous))
+                .doOnNext(response -> {
+                    if (response.status() == 200) {
+                        entries.put(key, response);
+                    }
+                })
+                .doFinally(signal -> inFlight.remove(key, self[0]))
+                .cache();
+        return self[0];
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String name, Outcome outcome) {
+        return Counter.builder("gateway.cache.requests")
+                .tag("cache", name)
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,14 @@
+package com.pet.apigateway.config;
+
+import com.pet.apigateway.loadbalancer.PeakEwmaLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Routes and the load-balanced {@code WebClient} pick instances with
+ * {@link com.pet.apigateway.loadbalancer.PeakEwmaLoadBalancer} instead of round robin.
+ */
+@Configuration
+@LoadBalancerClients(defaultConfiguration = PeakEwmaLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,64 @@
+package com.pet.apigateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load of one service instance: a peak-sensitive EWMA of its latency and its in-flight requests.
+ * <p>
+ * A sample above the average replaces it outright, so a slow instance is penalised at once,
+ * while faster samples pull it down gradually. With no samples the average decays towards zero,
+ * so an instance that was slow gets probed again after a while instead of being shunned forever.
+ */
+final class InstanceLoad {
+
+    private final double decayNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double ewmaNanos;
+    private long stampNanos;
+    private volatile long lastUsedNanos;
+
+    InstanceLoad(long decayNanos, long nowNanos) {
+        this.decayNanos = decayNanos;
+        this.stampNanos = nowNanos;
+        this.lastUsedNanos = nowNanos;
+    }
+
+    void started(long nowNanos) {
+        inFlight.incrementAndGet();
+        lastUsedNanos = nowNanos;
+    }
+
+    void finished() {
+        inFlight.decrementAndGet();
+    }
+
+    synchronized void observe(long latencyNanos, long nowNanos) {
+        if (latencyNanos > ewmaNanos) {
+            ewmaNanos = latencyNanos;
+        } else {
+            double weight = Math.exp(-Math.max(0, nowNanos - stampNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+        }
+        stampNanos = nowNanos;
+    }
+
+    /**
+     * Expected latency times the requests queued behind it; an instance with requests in flight
+     * but no sample yet is charged the given penalty as its latency.
+     */
+    double cost(long nowNanos, long unknownLatencyNanos) {
+        double latency;
+        synchronized (this) {
+            latency = ewmaNanos * Math.exp(-Math.max(0, nowNanos - stampNanos) / decayNanos);
+        }
+        int pending = inFlight.get();
+        if (latency == 0 && pending > 0) {
+            latency = unknownLatencyNanos;
+        }
+        return latency * (pending + 1);
+    }
+
+    boolean isIdleSince(long nanos) {
+        return inFlight.get() == 0 && lastUsedNanos - nanos < 0;
+    }
+}
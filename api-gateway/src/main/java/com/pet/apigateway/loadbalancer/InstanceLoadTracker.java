@@ -0,0 +1,87 @@
+package com.pet.apigateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link InstanceLoad} of every instance the gateway routes to, keyed by host and port. Fed by
+ * {@link LoadTrackingFilter} and {@link LoadTrackingExchangeFilterFunction}, read by
+ * {@link PeakEwmaLoadBalancer}.
+ */
+@Component
+public class InstanceLoadTracker {
+
+    public enum Outcome { SUCCESS, FAILURE, CANCELLED }
+
+    private static final long EVICTION_INTERVAL = 4096;
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+    private final AtomicLong starts = new AtomicLong();
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InstanceLoadTracker(@Value("${gateway.load-balancer.decay:PT10S}") Duration decay,
+                               @Value("${gateway.load-balancer.failure-penalty:PT1S}") Duration failurePenalty) {
+        this(decay, failurePenalty, System::nanoTime);
+    }
+
+    InstanceLoadTracker(Duration decay, Duration failurePenalty, LongSupplier nanoClock) {
+        this.decayNanos = decay.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public double cost(ServiceInstance instance) {
+        InstanceLoad load = loads.get(key(instance));
+        return load != null ? load.cost(nanoClock.getAsLong(), failurePenaltyNanos) : 0;
+    }
+
+    /**
+     * Records a request sent to the instance and returns its start time for {@link #finished}.
+     */
+    public long started(ServiceInstance instance) {
+        long now = nanoClock.getAsLong();
+        if (starts.incrementAndGet() % EVICTION_INTERVAL == 0) {
+            long idleSince = now - IDLE_EVICTION_NANOS;
+            loads.values().removeIf(load -> load.isIdleSince(idleSince));
+        }
+        loads.computeIfAbsent(key(instance), key -> new InstanceLoad(decayNanos, now)).started(now);
+        return now;
+    }
+
+    /**
+     * Failures count as at least the failure penalty, so an instance that refuses connections
+     * quickly does not look fast. Cancelled requests say nothing about the instance.
+     */
+    public void finished(ServiceInstance instance, long startedNanos, Outcome outcome) {
+        InstanceLoad load = loads.get(key(instance));
+        if (load == null) {
+            return;
+        }
+        load.finished();
+        long now = nanoClock.getAsLong();
+        long latency = now - startedNanos;
+        switch (outcome) {
+            case SUCCESS -> load.observe(latency, now);
+            case FAILURE -> load.observe(Math.max(latency, failurePenaltyNanos), now);
+            case CANCELLED -> {
+            }
+        }
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,46 @@
+package com.pet.apigateway.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link LoadTrackingFilter} for requests the gateway makes itself through a load-balanced
+ * {@code WebClient}. Must be added after the load balancer's own filter, so the request URL
+ * already names the chosen instance; timed up to the response headers, like routed requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadTrackingExchangeFilterFunction implements ExchangeFilterFunction {
+
+    private final InstanceLoadTracker tracker;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        ServiceInstance instance = instance(request.url());
+        long started = tracker.started(instance);
+        AtomicReference<InstanceLoadTracker.Outcome> outcome = new AtomicReference<>(InstanceLoadTracker.Outcome.FAILURE);
+        return next.exchange(request)
+                .doOnNext(response -> outcome.set(response.statusCode().is5xxServerError()
+                        ? InstanceLoadTracker.Outcome.FAILURE
+                        : InstanceLoadTracker.Outcome.SUCCESS))
+                .doFinally(signal -> tracker.finished(instance, started,
+                        signal == SignalType.CANCEL ? InstanceLoadTracker.Outcome.CANCELLED : outcome.get()));
+    }
+
+    private static ServiceInstance instance(URI url) {
+        boolean secure = "https".equalsIgnoreCase(url.getScheme());
+        int port = url.getPort() != -1 ? url.getPort() : secure ? 443 : 80;
+        return new DefaultServiceInstance(null, null, url.getHost(), port, secure);
+    }
+}
@@ -0,0 +1,56 @@
+package com.pet.apigateway.loadbalancer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Times routed requests against the instance the load balancer picked, up to the upstream
+ * response headers. Runs right after load balancing; unlike the load balancer lifecycle
+ * callbacks it also sees cancelled requests, so their in-flight count is not leaked.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadTrackingFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    private final InstanceLoadTracker tracker;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> chosen = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (chosen == null || !chosen.hasServer()) {
+            return chain.filter(exchange);
+        }
+        ServiceInstance instance = chosen.getServer();
+        long started = tracker.started(instance);
+        return chain.filter(exchange)
+                .doFinally(signal -> tracker.finished(instance, started, outcome(signal, exchange)));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static InstanceLoadTracker.Outcome outcome(SignalType signal, ServerWebExchange exchange) {
+        if (signal == SignalType.CANCEL) {
+            return InstanceLoadTracker.Outcome.CANCELLED;
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return signal == SignalType.ON_ERROR || status != null && status.is5xxServerError()
+                ? InstanceLoadTracker.Outcome.FAILURE
+                : InstanceLoadTracker.Outcome.SUCCESS;
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.apigateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power of two choices: picks two distinct instances at random and sends the request to the one
+ * with the lower {@link InstanceLoadTracker#cost cost}. Unlike round robin, an instance that
+ * degrades, say stuck in GC, quickly stops getting traffic, yet the random pick keeps the
+ * gateway instances from all piling onto the same "best" one.
+ */
+@Slf4j
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> suppliers;
+    private final InstanceLoadTracker tracker;
+
+    public PeakEwmaLoadBalancer(String serviceId,
+                                ObjectProvider<ServiceInstanceListSupplier> suppliers,
+                                InstanceLoadTracker tracker) {
+        this.serviceId = serviceId;
+        this.suppliers = suppliers;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = suppliers.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        int count = instances.size();
+        if (count == 0) {
+            log.warn("No instances available for service {}", serviceId);
+            return new EmptyResponse();
+        }
+        if (count == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(tracker.cost(a) <= tracker.cost(b) ? a : b);
+    }
+}
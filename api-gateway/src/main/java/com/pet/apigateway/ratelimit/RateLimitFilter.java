@@ -0,0 +1,79 @@
+package com.pet.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects clients that exceed {@code gateway.rate-limit.rate-per-second} with 429 and a
+ * {@code Retry-After}, before anything else, including the catalog cache, spends work on them.
+ * <p>
+ * Clients are told apart by remote address, or by the first {@code X-Forwarded-For} hop when
+ * the gateway runs behind a trusted load balancer.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final StripedRateLimiter limiter;
+    private final boolean trustForwardedFor;
+    private final Counter rejected;
+
+    public RateLimitFilter(MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.rate-per-second:20}") double ratePerSecond,
+                           @Value("${gateway.rate-limit.burst:40}") double burst,
+                           @Value("${gateway.rate-limit.stripes:64}") int stripes,
+                           @Value("${gateway.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.limiter = new StripedRateLimiter(ratePerSecond, burst, stripes, System::nanoTime);
+        this.trustForwardedFor = trustForwardedFor;
+        this.rejected = Counter.builder("gateway.rate-limit.rejected")
+                .description("Requests rejected because the client exceeded its rate")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long waitNanos = limiter.tryAcquire(clientKey(exchange.getRequest()));
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+        rejected.increment();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+        return response.setComplete();
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private String clientKey(ServerHttpRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeaders().getFirst(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+}
@@ -0,0 +1,146 @@
+package com.pet.apigateway.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets, spread over independently locked stripes so that clients only
+ * contend with the few others hashed to the same stripe.
+ * <p>
+ * A stripe is an open-addressing table over parallel primitive arrays (client hash, tokens, last
+ * refill), about 20 bytes per client and no object per bucket. A bucket that has refilled to the
+ * burst is indistinguishable from a new one, so full buckets are simply dropped when a stripe
+ * fills up; the table only grows when it is full of clients that are actually being limited.
+ * Clients are identified by a 64-bit hash of their key, and a collision merely makes two clients
+ * share a bucket.
+ */
+public class StripedRateLimiter {
+
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Stripe[] stripes;
+    private final double ratePerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    public StripedRateLimiter(double ratePerSecond, double burst, int stripes, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.ratePerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token from the client's bucket.
+     *
+     * @return 0 if the request may pass, otherwise the nanoseconds until it would
+     */
+    public long tryAcquire(String clientKey) {
+        long hash = hash(clientKey);
+        Stripe stripe = stripes[(int) (hash >>> 58) & (stripes.length - 1)];
+        return stripe.tryAcquire(hash, nanoClock.getAsLong());
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    private final class Stripe {
+
+        // Hash 0 marks a free slot; a client that hashes to 0 is remapped to 1.
+        private long[] keys = new long[INITIAL_STRIPE_CAPACITY];
+        private double[] tokens = new double[INITIAL_STRIPE_CAPACITY];
+        private long[] refilledAt = new long[INITIAL_STRIPE_CAPACITY];
+        private int size;
+
+        synchronized long tryAcquire(long hash, long now) {
+            int slot = find(hash);
+            if (keys[slot] == 0) {
+                if (size + 1 > keys.length * LOAD_FACTOR) {
+                    compact(now);
+                    slot = find(hash);
+                }
+                keys[slot] = hash;
+                tokens[slot] = burst;
+                refilledAt[slot] = now;
+                size++;
+            }
+            double available = Math.min(burst, tokens[slot] + (now - refilledAt[slot]) * ratePerNano);
+            refilledAt[slot] = now;
+            if (available >= 1) {
+                tokens[slot] = available - 1;
+                return 0;
+            }
+            tokens[slot] = available;
+            return (long) Math.ceil((1 - available) / ratePerNano);
+        }
+
+        private int find(long hash) {
+            int mask = keys.length - 1;
+            int slot = (int) hash & mask;
+            while (keys[slot] != 0 && keys[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Rebuilds the table without full buckets, doubling it if the clients still being limited
+         * would leave it more than half full.
+         */
+        private void compact(long now) {
+            long[] oldKeys = keys;
+            double[] oldTokens = tokens;
+            long[] oldRefilledAt = refilledAt;
+            int live = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0 && !isFull(oldTokens[i], oldRefilledAt[i], now)) {
+                    live++;
+                }
+            }
+            int capacity = live * 2 > oldKeys.length ? oldKeys.length * 2 : oldKeys.length;
+            keys = new long[capacity];
+            tokens = new double[capacity];
+            refilledAt = new long[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0 && !isFull(oldTokens[i], oldRefilledAt[i], now)) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    tokens[slot] = oldTokens[i];
+                    refilledAt[slot] = oldRefilledAt[i];
+                    size++;
+                }
+            }
+        }
+
+        private boolean isFull(double tokens, long refilledAt, long now) {
+            return tokens + (now - refilledAt) * ratePerNano >= burst;
+        }
+    }
+
+    static long hash(String key) {
+        // FNV-1a, then a 64-bit finalizer to spread the bits used for stripe and slot selection.
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+}
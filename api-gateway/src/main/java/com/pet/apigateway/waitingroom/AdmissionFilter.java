@@ -0,0 +1,127 @@
+package com.pet.apigateway.waitingroom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.BearerTokenFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lets checkout requests for queued events through only with a valid admission token in
+ * {@code X-Admission-Token}, sent by the user it was issued to: seat holds, whose event is in the path, and orders, whose event is
+ * read from the (small) JSON body and replayed downstream. Everything else passes untouched.
+ * <p>
+ * While any waiting room is active, an order whose event cannot be told fails closed: a body that
+ * is not JSON, has no integer {@code eventId} (order-service also accepts one written as a string)
+ * or is over the size limit is rejected with 400 instead of being passed on unchecked.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionFilter implements GlobalFilter, Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 50;
+    static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+    static final String WAITING_ROOM_HEADER = "X-Waiting-Room";
+
+    private static final Pattern HOLD_PATH = Pattern.compile("/v1/inventory/(\\d+)/holds/?");
+    private static final String ORDERS_PATH = "/v1/orders";
+    private static final int MAX_ORDER_BODY_BYTES = 16 * 1024;
+
+    private final WaitingRoomService waitingRoomService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.POST) {
+            return chain.filter(exchange);
+        }
+        String path = request.getPath().value();
+        Matcher hold = HOLD_PATH.matcher(path);
+        if (hold.matches()) {
+            return admit(exchange, chain, Long.parseLong(hold.group(1)));
+        }
+        if (!path.equals(ORDERS_PATH) && !path.equals(ORDERS_PATH + "/") || !waitingRoomService.hasRooms()) {
+            return chain.filter(exchange);
+        }
+        return DataBufferUtils.join(request.getBody(), MAX_ORDER_BODY_BYTES)
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    ServerWebExchange replayable = exchange.mutate().request(new ServerHttpRequestDecorator(request) {
+                        @Override
+                        public Flux<DataBuffer> getBody() {
+                            return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+                        }
+                    }).build();
+                    Long eventId = eventIdOf(body);
+                    return eventId != null ? admit(replayable, chain, eventId) : reject(exchange);
+                })
+                .onErrorResume(DataBufferLimitException.class, e -> reject(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, GatewayFilterChain chain, long eventId) {
+        String token = exchange.getRequest().getHeaders().getFirst(ADMISSION_TOKEN_HEADER);
+        AccessToken user = exchange.getAttribute(BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE);
+        if (waitingRoomService.isAdmitted(eventId, token, user != null ? user.subject() : null)) {
+            return chain.filter(exchange);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().set(WAITING_ROOM_HEADER, "/v1/waiting-room/" + eventId + "/join");
+        return response.setComplete();
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange) {
+        exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+        return exchange.getResponse().setComplete();
+    }
+
+    /**
+     * The order's event ID, or {@code null} if it cannot be read from the body.
+     */
+    private Long eventIdOf(byte[] body) {
+        try {
+            JsonNode tree = objectMapper.readTree(body);
+            JsonNode eventId = tree != null ? tree.get("eventId") : null;
+            if (eventId == null) {
+                return null;
+            }
+            if (eventId.isTextual()) {
+                return Long.parseLong(eventId.textValue().trim());
+            }
+            return eventId.isNumber() && eventId.canConvertToLong() ? eventId.asLong() : null;
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+}
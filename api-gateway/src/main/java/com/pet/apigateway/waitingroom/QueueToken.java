@@ -0,0 +1,33 @@
+package com.pet.apigateway.waitingroom;
+
+/**
+ * Claim carried by a signed token: a place in an event's queue, or the admission it turned into.
+ * A place is the time it is due to be admitted, fixed when the client joins, so any gateway
+ * instance can tell how far along it is. Both belong to the user who joined, by access token
+ * subject, and are no use to anyone else.
+ */
+public record QueueToken(Kind kind, long eventId, String subject, long admitAtEpochMilli, long expiresAtEpochSecond) {
+
+    public enum Kind {
+        QUEUED("q"), ADMITTED("a");
+
+        private final String code;
+
+        Kind(String code) {
+            this.code = code;
+        }
+
+        String code() {
+            return code;
+        }
+
+        static Kind of(String code) {
+            for (Kind kind : values()) {
+                if (kind.code.equals(code)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.pet.apigateway.waitingroom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Encodes {@link QueueToken}s as {@code kind.eventId.subject.admitAt.expiresAt.mac}, with the
+ * subject and a 128-bit HMAC-SHA256 tag in URL-safe Base64. Tokens hold all of a client's queue state, so the
+ * gateway keeps nothing per waiting client.
+ */
+public class QueueTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    public QueueTokenSigner(String secret) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("gateway.waiting-room.secret must be at least 32 characters long");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    public String sign(QueueToken token) {
+        String claims = token.kind().code() + "." + token.eventId() + "."
+                + ENCODER.encodeToString(token.subject().getBytes(StandardCharsets.UTF_8)) + "."
+                + token.admitAtEpochMilli() + "." + token.expiresAtEpochSecond();
+        return claims + "." + ENCODER.encodeToString(mac(claims));
+    }
+
+    /**
+     * @return the token, or {@code null} if it is malformed, forged or expired
+     */
+    public QueueToken verify(String value, long nowEpochSecond) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.lastIndexOf('.');
+        if (separator < 0) {
+            return null;
+        }
+        String claims = value.substring(0, separator);
+        try {
+            byte[] mac = DECODER.decode(value.substring(separator + 1));
+            if (!MessageDigest.isEqual(mac(claims), mac)) {
+                return null;
+            }
+            String[] parts = claims.split("\\.");
+            QueueToken.Kind kind = parts.length == 5 ? QueueToken.Kind.of(parts[0]) : null;
+            if (kind == null) {
+                return null;
+            }
+            QueueToken token = new QueueToken(kind, Long.parseLong(parts[1]),
+                    new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8),
+                    Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+            return token.expiresAtEpochSecond() > nowEpochSecond ? token : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String claims) {
+        byte[] full = macs.get().doFinal(claims.getBytes(StandardCharsets.US_ASCII));
+        byte[] truncated = new byte[MAC_BYTES];
+        System.arraycopy(full, 0, truncated, 0, MAC_BYTES);
+        return truncated;
+    }
+}
@@ -0,0 +1,81 @@
+package com.pet.apigateway.waitingroom;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission queue of one event, reduced to two counters: how many places have been handed out
+ * and how many of them have been admitted. A joining client's position is just
+ * {@code sequence - admitted}, which its token turns into an admission time, so waiting clients
+ * cost nothing here however many there are.
+ * <p>
+ * Admissions accrue at {@code ratePerSecond} but never run ahead of the places issued, so a quiet
+ * period does not save up a burst for the next rush. Clients that give up still use their
+ * admission slot when their turn comes; the rate should leave headroom for that.
+ */
+public class WaitingRoom {
+
+    private final long eventId;
+    private final double ratePerSecond;
+    private final double ratePerNano;
+    private final AtomicLong issued = new AtomicLong();
+
+    private double admitted;
+    private long admittedAt;
+
+    public WaitingRoom(long eventId, double ratePerSecond, long nowNanos) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Admission rate of event " + eventId + " must be positive");
+        }
+        this.eventId = eventId;
+        this.ratePerSecond = ratePerSecond;
+        this.ratePerNano = ratePerSecond / 1_000_000_000d;
+        this.admittedAt = nowNanos;
+    }
+
+    /**
+     * @return the new client's sequence number, starting at 1
+     */
+    public long join() {
+        return issued.incrementAndGet();
+    }
+
+    /**
+     * @return the highest sequence number admitted so far
+     */
+    public synchronized long admittedUpTo(long nowNanos) {
+        long issuedNow = issued.get();
+        admitted = Math.min(issuedNow, admitted + (nowNanos - admittedAt) * ratePerNano);
+        admittedAt = nowNanos;
+        return (long) admitted;
+    }
+
+    /**
+     * @return how many clients are ahead of {@code sequence}, 0 once it is admitted
+     */
+    public long position(long sequence, long nowNanos) {
+        return Math.max(0, sequence - admittedUpTo(nowNanos));
+    }
+
+    public long waiting(long nowNanos) {
+        return issued.get() - admittedUpTo(nowNanos);
+    }
+
+    public long estimatedWaitSeconds(long position) {
+        return (long) Math.ceil(position / (ratePerNano * 1_000_000_000d));
+    }
+
+    public long estimatedWaitMillis(long position) {
+        return (long) Math.ceil(position * 1000d / ratePerSecond);
+    }
+
+    /**
+     * @return how many clients are still ahead of one due to be admitted in {@code waitMillis}
+     */
+    public long positionAfter(long waitMillis) {
+        return Math.max(0, (long) Math.ceil(waitMillis * ratePerSecond / 1000d));
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,59 @@
+package com.pet.apigateway.waitingroom;
+
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.BearerTokenFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/v1/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{eventId}/join")
+    public WaitingRoomService.Place join(
+            @PathVariable long eventId,
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        return waitingRoomService.join(eventId, subject(token));
+    }
+
+    @GetMapping("/{eventId}/status")
+    public WaitingRoomService.Status status(
+            @PathVariable long eventId,
+            @RequestHeader(QUEUE_TOKEN_HEADER) String queueToken,
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        return waitingRoomService.status(eventId, queueToken, subject(token));
+    }
+
+    /**
+     * The same status as a server-sent event stream, pushed at the suggested poll interval and
+     * closed after the admission.
+     */
+    @GetMapping(value = "/{eventId}/status", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<WaitingRoomService.Status>> statusStream(
+            @PathVariable long eventId,
+            @RequestHeader(QUEUE_TOKEN_HEADER) String queueToken,
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        String subject = subject(token);
+        return Mono.fromSupplier(() -> waitingRoomService.status(eventId, queueToken, subject))
+                .expand(status -> status.admitted()
+                        ? Mono.empty()
+                        : Mono.delay(Duration.ofSeconds(status.pollAfterSeconds()))
+                                .map(tick -> waitingRoomService.status(eventId, queueToken, subject)))
+                .map(status -> ServerSentEvent.builder(status).event(status.admitted() ? "admitted" : "queued").build());
+    }
+
+    private static String subject(AccessToken token) {
+        return token != null ? token.subject() : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pet.apigateway.waitingroom;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Waiting rooms by event ID, each with the number of users it admits per second. Events without
+ * a room are not queued. An admission lets its user through checkout {@code maxAdmissionUses}
+ * times, enough for a hold, an order and a few retries.
+ */
+@ConfigurationProperties("gateway.waiting-room")
+public record WaitingRoomProperties(
+        String secret,
+        Map<Long, Double> rooms,
+        @DefaultValue("PT15M") Duration admissionTtl,
+        @DefaultValue("PT2H") Duration queueTokenTtl,
+        @DefaultValue("5") int maxAdmissionUses
+) {
+
+    public WaitingRoomProperties {
+        rooms = rooms != null ? Map.copyOf(rooms) : Map.of();
+    }
+}
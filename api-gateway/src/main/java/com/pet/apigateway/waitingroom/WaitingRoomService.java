@@ -0,0 +1,170 @@
+package com.pet.apigateway.waitingroom;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Issues queue tokens for events with a {@link WaitingRoom}, turns them into admission tokens once
+ * their turn comes, and checks admission tokens at the edge.
+ * <p>
+ * A queue token carries the time its holder is due to be admitted, worked out on joining from the
+ * room's counters, so status polls need no queue state and any gateway instance can answer them:
+ * no sticky routing is needed. The counters themselves are per instance, so with several
+ * instances, or briefly after a restart, the configured rates add up.
+ * <p>
+ * Only signed-in users can join, and both tokens name the user, so a token passed on to someone
+ * else is refused. Joining again returns the user's existing place until its admission has run
+ * out, and an admission lets its user through checkout a limited number of times. Both are
+ * tracked per instance, like the counters.
+ */
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+    private static final long MIN_POLL_SECONDS = 2;
+    private static final long MAX_POLL_SECONDS = 30;
+
+    public record Place(String queueToken, long position, long estimatedWaitSeconds, long pollAfterSeconds) {
+    }
+
+    public record Status(long position, long estimatedWaitSeconds, String admissionToken, long pollAfterSeconds) {
+
+        public boolean admitted() {
+            return admissionToken != null;
+        }
+    }
+
+    private final Map<Long, WaitingRoom> rooms;
+    private final QueueTokenSigner signer;
+    private final WaitingRoomProperties properties;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+    private final Cache<String, QueueToken> places;
+    private final Cache<String, AtomicInteger> admissionUses;
+
+    @Autowired
+    public WaitingRoomService(WaitingRoomProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC(), System::nanoTime);
+    }
+
+    WaitingRoomService(WaitingRoomProperties properties, MeterRegistry meterRegistry, Clock clock, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.signer = properties.rooms().isEmpty() ? null : new QueueTokenSigner(properties.secret());
+        this.places = Caffeine.newBuilder()
+                .expireAfterWrite(properties.queueTokenTtl().plus(properties.admissionTtl()))
+                .build();
+        this.admissionUses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.admissionTtl())
+                .build();
+        long now = nanoClock.getAsLong();
+        this.rooms = properties.rooms().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> new WaitingRoom(entry.getKey(), entry.getValue(), now)));
+        rooms.values().forEach(room -> Gauge.builder("gateway.waiting-room.waiting", room,
+                        r -> r.waiting(nanoClock.getAsLong()))
+                .tag("event", Long.toString(room.getEventId()))
+                .description("Clients queued and not yet admitted")
+                .register(meterRegistry));
+        if (!rooms.isEmpty()) {
+            log.info("Waiting rooms active for events {}", rooms.keySet());
+        }
+    }
+
+    public boolean hasRooms() {
+        return !rooms.isEmpty();
+    }
+
+    public boolean isQueued(long eventId) {
+        return rooms.containsKey(eventId);
+    }
+
+    /**
+     * @param subject the signed-in user, or {@code null}
+     */
+    public Place join(long eventId, String subject) {
+        WaitingRoom room = room(eventId);
+        if (subject == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Sign in to join the waiting room");
+        }
+        long now = clock.millis();
+        long admissionTtl = properties.admissionTtl().toMillis();
+        QueueToken place = places.asMap().compute(eventId + ":" + subject, (key, existing) -> {
+            if (existing != null && now < existing.admitAtEpochMilli() + admissionTtl) {
+                return existing;
+            }
+            long position = room.position(room.join(), nanoClock.getAsLong());
+            long expiresAt = clock.instant().plus(properties.queueTokenTtl()).getEpochSecond();
+            return new QueueToken(QueueToken.Kind.QUEUED, eventId, subject, now + room.estimatedWaitMillis(position), expiresAt);
+        });
+        long position = room.positionAfter(place.admitAtEpochMilli() - now);
+        return new Place(signer.sign(place), position, room.estimatedWaitSeconds(position), pollAfter(room, position));
+    }
+
+    public Status status(long eventId, String queueToken, String subject) {
+        WaitingRoom room = room(eventId);
+        QueueToken token = signer.verify(queueToken, clock.instant().getEpochSecond());
+        if (token == null || token.kind() != QueueToken.Kind.QUEUED || token.eventId() != eventId
+                || !token.subject().equals(subject)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Queue token is invalid or expired, join again");
+        }
+        long position = room.positionAfter(token.admitAtEpochMilli() - clock.millis());
+        if (position > 0) {
+            return new Status(position, room.estimatedWaitSeconds(position), null, pollAfter(room, position));
+        }
+        long expiresAt = clock.instant().plus(properties.admissionTtl()).getEpochSecond();
+        String admission = signer.sign(new QueueToken(QueueToken.Kind.ADMITTED, eventId, subject,
+                token.admitAtEpochMilli(), expiresAt));
+        return new Status(0, 0, admission, 0);
+    }
+
+    /**
+     * Whether the request may go through to checkout for this event. Each request let through
+     * uses up one of the admission's uses.
+     *
+     * @param subject the signed-in user, or {@code null}
+     */
+    public boolean isAdmitted(long eventId, String admissionToken, String subject) {
+        if (!isQueued(eventId)) {
+            return true;
+        }
+        QueueToken token = signer.verify(admissionToken, clock.instant().getEpochSecond());
+        if (token == null || token.kind() != QueueToken.Kind.ADMITTED || token.eventId() != eventId
+                || !token.subject().equals(subject)) {
+            return false;
+        }
+        AtomicInteger uses = admissionUses.get(eventId + ":" + subject + ":" + token.admitAtEpochMilli(),
+                key -> new AtomicInteger());
+        return uses.incrementAndGet() <= properties.maxAdmissionUses();
+    }
+
+    private WaitingRoom room(long eventId) {
+        WaitingRoom room = rooms.get(eventId);
+        if (room == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No waiting room for event " + eventId);
+        }
+        return room;
+    }
+
+    /**
+     * Clients far back in the queue are told to poll less often, which keeps polling load roughly
+     * proportional to the admission rate rather than to the queue length.
+     */
+    private static long pollAfter(WaitingRoom room, long position) {
+        return Math.max(MIN_POLL_SECONDS, Math.min(MAX_POLL_SECONDS, room.estimatedWaitSeconds(position) / 10));
+    }
+}
@@ -0,0 +1,207 @@
+package com.pet.apigateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pet.tokenverifier.VerificationKeySource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "gateway.rate-limit.trust-forwarded-for=true",
+        "gateway.rate-limit.rate-per-second=1",
+        "gateway.rate-limit.burst=30"
+})
+@ActiveProfiles("it")
+class GatewayIntegrationTest {
+
+    private static final KeyPair SIGNING_KEY = signingKey();
+    private static final Map<String, AtomicInteger> upstreamCalls = new ConcurrentHashMap<>();
+    private static final DisposableServer eventService = HttpServer.create()
+            .port(0)
+            .route(routes -> routes.get("/v1/events/{id}", (request, response) -> {
+                upstreamCalls.computeIfAbsent(request.param("id"), id -> new AtomicInteger()).incrementAndGet();
+                return response.header(HttpHeaders.CONTENT_TYPE, "application/json")
+                        .header(HttpHeaders.ETAG, "\"v1\"")
+                        .sendString(Mono.just("{\"id\":" + request.param("id") + "}").delayElement(Duration.ofMillis(200)));
+            }))
+            .bindNow();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @TestConfiguration
+    static class AccessTokenKeys {
+
+        @Bean
+        VerificationKeySource verificationKeySource() {
+            return () -> Map.of("test", SIGNING_KEY.getPublic());
+        }
+    }
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.event-service[0].uri",
+                () -> "http://localhost:" + eventService.port());
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        eventService.disposeNow();
+    }
+
+    @Test
+    @DisplayName("Concurrent catalog reads reach event-service once and are then served from the cache")
+    void catalogReadsAreCollapsedAndCached() {
+        List<String> outcomes = Flux.range(0, 20)
+                .flatMap(i -> Mono.fromCallable(() -> webTestClient.get().uri("/v1/events/7")
+                        .header("X-Forwarded-For", "203.0.113.1")
+                        .exchange()
+                        .expectStatus().isOk()
+                        .expectBody(String.class).isEqualTo("{\"id\":7}")
+                        .returnResult().getResponseHeaders().getFirst("X-Cache")), 20)
+                .collectList()
+                .block();
+
+        assertEquals(1, upstreamCalls.get("7").get());
+        assertEquals(20, outcomes.size());
+        assertTrue(outcomes.contains("MISS"));
+
+        webTestClient.get().uri("/v1/events/7")
+                .header("X-Forwarded-For", "203.0.113.1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")
+                .exchange()
+                .expectStatus().isNotModified();
+        assertEquals(1, upstreamCalls.get("7").get());
+    }
+
+    @Test
+    @DisplayName("A client over its burst gets 429 with Retry-After while others still pass")
+    void clientsOverTheLimitAreRejected() {
+        for (int i = 0; i < 30; i++) {
+            webTestClient.get().uri("/v1/events/8").header("X-Forwarded-For", "198.51.100.1")
+                    .exchange().expectStatus().isOk();
+        }
+        webTestClient.get().uri("/v1/events/8").header("X-Forwarded-For", "198.51.100.1")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        webTestClient.get().uri("/v1/events/8").header("X-Forwarded-For", "198.51.100.2")
+                .exchange().expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Checkout for a queued event needs an admission token from the waiting room")
+    void checkoutForQueuedEventNeedsAdmission() {
+        String bearer = "Bearer " + accessToken("user-500");
+        webTestClient.post().uri("/v1/waiting-room/500/join").header("X-Forwarded-For", "198.51.100.3")
+                .exchange()
+                .expectStatus().isUnauthorized();
+        String queueToken = webTestClient.post().uri("/v1/waiting-room/500/join").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .get("queueToken").asText();
+        webTestClient.post().uri("/v1/inventory/500/holds").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectHeader().valueEquals("X-Waiting-Room", "/v1/waiting-room/500/join");
+        webTestClient.post().uri("/v1/orders").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .bodyValue("{\"eventId\":500,\"quantity\":1}")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        // The room has been idle, so the first client in it is admitted straight away.
+        String admissionToken = webTestClient.get().uri("/v1/waiting-room/500/status").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header("X-Queue-Token", queueToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class).returnResult().getResponseBody()
+                .get("admissionToken").asText();
+        // No ticket-generation-service instance is registered, so an admitted request ends at the load balancer.
+        webTestClient.post().uri("/v1/inventory/500/holds").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header("X-Admission-Token", admissionToken)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        // The admission is no use to another user.
+        webTestClient.post().uri("/v1/inventory/500/holds").header("X-Forwarded-For", "198.51.100.5")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken("user-501"))
+                .header("X-Admission-Token", admissionToken)
+                .exchange()
+                .expectStatus().isForbidden();
+        webTestClient.post().uri("/v1/waiting-room/9/join").header("X-Forwarded-For", "198.51.100.3")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Ticket layouts cannot be registered from outside the cluster")
+    void ticketLayoutsAreInternal() {
+        webTestClient.put().uri("/v1/tickets/layouts/101").header("X-Forwarded-For", "198.51.100.4")
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .bodyValue("{\"eventName\":\"Підробка\",\"venue\":\"Ніде\",\"startsAt\":\"2030-06-01T19:00:00\"}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private static KeyPair signingKey() {
+        try {
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String accessToken(String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Instant now = Instant.now();
+        String header = "{\"alg\":\"EdDSA\",\"typ\":\"JWT\",\"kid\":\"test\"}";
+        String payload = "{\"iss\":\"user-service\",\"sub\":\"" + subject + "\",\"jti\":\"" + subject + "-token\","
+                + "\"roles\":[\"USER\"],\"iat\":" + now.getEpochSecond() + ",\"exp\":" + now.plusSeconds(600).getEpochSecond() + "}";
+        String signingInput = encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("Ed25519");
+            signature.initSign(SIGNING_KEY.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + encoder.encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
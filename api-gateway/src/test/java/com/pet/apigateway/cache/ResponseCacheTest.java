@@ -0,0 +1,112 @@
+package com.pet.apigateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1);
+    private final ResponseCache cache = new ResponseCache("test", Duration.ofSeconds(2), Duration.ofSeconds(30),
+            100, now::get, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Concurrent misses for the same key share one upstream load")
+    void concurrentMissesCollapse() {
+        Sinks.One<CachedResponse> upstream = Sinks.one();
+        List<CachedResponse> previousSeen = new ArrayList<>();
+
+        Mono<ResponseCache.Lookup> first = cache.get("/v1/events", previous -> {
+            previousSeen.add(previous);
+            return upstream.asMono();
+        });
+        Mono<ResponseCache.Lookup> second = cache.get("/v1/events", previous -> {
+            previousSeen.add(previous);
+            return upstream.asMono();
+        });
+        List<ResponseCache.Lookup> results = new ArrayList<>();
+        first.subscribe(results::add);
+        second.subscribe(results::add);
+        upstream.tryEmitValue(response("page", now.get()));
+
+        assertEquals(1, previousSeen.size());
+        assertEquals(2, results.size());
+        assertEquals(ResponseCache.Outcome.MISS, results.get(0).outcome());
+        assertEquals(ResponseCache.Outcome.COLLAPSED, results.get(1).outcome());
+        assertSame(results.get(0).response(), results.get(1).response());
+    }
+
+    @Test
+    @DisplayName("Fresh entries are hits, stale ones are served while one revalidation runs, expired ones reload")
+    void staleWhileRevalidate() {
+        CachedResponse original = response("v1", now.get());
+        List<CachedResponse> previousSeen = new ArrayList<>();
+        assertEquals(ResponseCache.Outcome.MISS, lookup(previous -> Mono.just(original)).outcome());
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertEquals(ResponseCache.Outcome.HIT, lookup(previous -> Mono.error(new AssertionError())).outcome());
+
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        Sinks.One<CachedResponse> revalidation = Sinks.one();
+        ResponseCache.Lookup stale = lookup(previous -> {
+            previousSeen.add(previous);
+            return revalidation.asMono();
+        });
+        assertEquals(ResponseCache.Outcome.STALE, stale.outcome());
+        assertSame(original, stale.response());
+        assertEquals(ResponseCache.Outcome.STALE, lookup(previous -> {
+            previousSeen.add(previous);
+            return revalidation.asMono();
+        }).outcome());
+        assertEquals(List.of(original), previousSeen);
+
+        revalidation.tryEmitValue(original.revalidated(now.get()));
+        assertEquals(ResponseCache.Outcome.HIT, lookup(previous -> Mono.error(new AssertionError())).outcome());
+
+        now.addAndGet(Duration.ofSeconds(40).toNanos());
+        previousSeen.clear();
+        ResponseCache.Lookup reloaded = lookup(previous -> {
+            previousSeen.add(previous);
+            return Mono.just(response("v2", now.get()));
+        });
+        assertEquals(ResponseCache.Outcome.MISS, reloaded.outcome());
+        assertEquals("v2", new String(reloaded.response().body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Errors and non-200 responses are not cached")
+    void failuresAreNotCached() {
+        assertEquals(503, lookup(previous -> Mono.just(new CachedResponse(503, HttpHeaders.EMPTY, new byte[0], now.get())))
+                .response().status());
+        List<CachedResponse> previousSeen = new ArrayList<>();
+        ResponseCache.Lookup retried = lookup(previous -> {
+            previousSeen.add(previous);
+            return Mono.just(response("ok", now.get()));
+        });
+        assertEquals(ResponseCache.Outcome.MISS, retried.outcome());
+        assertNull(previousSeen.get(0));
+    }
+
+    private ResponseCache.Lookup lookup(java.util.function.Function<CachedResponse, Mono<CachedResponse>> loader) {
+        return cache.get("/v1/events/1", loader).block();
+    }
+
+    private static CachedResponse response(String body, long storedAt) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"" + body + "\"");
+        return new CachedResponse(200, headers, body.getBytes(StandardCharsets.UTF_8), storedAt);
+    }
+}
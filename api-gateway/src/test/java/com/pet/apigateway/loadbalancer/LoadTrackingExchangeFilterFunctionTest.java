@@ -0,0 +1,44 @@
+package com.pet.apigateway.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoadTrackingExchangeFilterFunctionTest {
+
+    private final AtomicLong nanos = new AtomicLong(1);
+    private final InstanceLoadTracker tracker = new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1), nanos::get);
+    private final LoadTrackingExchangeFilterFunction filter = new LoadTrackingExchangeFilterFunction(tracker);
+    private final ServiceInstance instance = new DefaultServiceInstance("event-service-1", "event-service", "10.0.0.7", 8081, false);
+
+    @Test
+    @DisplayName("Calls the gateway makes itself count towards the load of the instance they reached")
+    void exchangeIsTimedAgainstInstance() {
+        exchange(HttpStatus.OK, 50);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), tracker.cost(instance), TimeUnit.MILLISECONDS.toNanos(1));
+
+        exchange(HttpStatus.SERVICE_UNAVAILABLE, 5);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), tracker.cost(instance), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    private void exchange(HttpStatus status, long latencyMillis) {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://10.0.0.7:8081/v1/events")).build();
+        filter.filter(request, sent -> Mono.fromSupplier(() -> {
+            nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+            return ClientResponse.create(status).build();
+        })).block(Duration.ofSeconds(5));
+    }
+}
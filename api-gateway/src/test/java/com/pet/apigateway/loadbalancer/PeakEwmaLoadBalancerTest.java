@@ -0,0 +1,75 @@
+package com.pet.apigateway.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeakEwmaLoadBalancerTest {
+
+    private final AtomicLong nanos = new AtomicLong(1);
+    private final InstanceLoadTracker tracker = new InstanceLoadTracker(Duration.ofSeconds(10), Duration.ofSeconds(1), nanos::get);
+    private final PeakEwmaLoadBalancer balancer = new PeakEwmaLoadBalancer("event-service", null, tracker);
+    private final List<ServiceInstance> instances = List.of(instance(8081), instance(8082), instance(8083));
+
+    @Test
+    @DisplayName("A slow instance stops getting traffic and is probed again once its latency decays")
+    void slowInstanceIsAvoided() {
+        for (ServiceInstance instance : instances) {
+            serve(instance, instance.getPort() == 8083 ? 2_000 : 20);
+        }
+        assertEquals(0, choices(1000).getOrDefault(8083, 0));
+
+        // Traffic keeps flowing to the fast instances while the slow one's average decays.
+        for (int second = 0; second < 60; second++) {
+            serve(instances.get(0), 20);
+            serve(instances.get(1), 20);
+            nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertTrue(choices(1000).getOrDefault(8083, 0) > 0);
+    }
+
+    @Test
+    @DisplayName("Requests in flight and fast failures count against an instance")
+    void inFlightAndFailuresCount() {
+        ServiceInstance busy = instances.get(0);
+        ServiceInstance failing = instances.get(1);
+        for (int i = 0; i < 3; i++) {
+            tracker.started(busy);
+        }
+        tracker.finished(failing, tracker.started(failing), InstanceLoadTracker.Outcome.FAILURE);
+
+        Map<Integer, Integer> choices = choices(1000);
+        // The busy instance loses every pairing; the failed one wins only against the busy one.
+        assertEquals(0, choices.getOrDefault(8081, 0));
+        assertTrue(choices.get(8083) > choices.get(8082));
+    }
+
+    private void serve(ServiceInstance instance, long latencyMillis) {
+        long started = tracker.started(instance);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        tracker.finished(instance, started, InstanceLoadTracker.Outcome.SUCCESS);
+    }
+
+    private Map<Integer, Integer> choices(int requests) {
+        Map<Integer, Integer> choices = new HashMap<>();
+        for (int i = 0; i < requests; i++) {
+            choices.merge(balancer.choose(instances).getServer().getPort(), 1, Integer::sum);
+        }
+        return choices;
+    }
+
+    private static ServiceInstance instance(int port) {
+        return new DefaultServiceInstance("event-service-" + port, "event-service", "localhost", port, false);
+    }
+}
@@ -0,0 +1,47 @@
+package com.pet.apigateway.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("Each client gets its own burst and then its rate")
+    void clientsAreLimitedIndependently() {
+        StripedRateLimiter limiter = new StripedRateLimiter(2, 3, 8, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+    }
+
+    @Test
+    @DisplayName("Clients whose buckets have refilled are dropped when a stripe fills up")
+    void refilledClientsAreEvicted() {
+        StripedRateLimiter limiter = new StripedRateLimiter(1, 2, 1, now::get);
+
+        // A new client every millisecond, each refilled a second after its request.
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals(0, limiter.tryAcquire("client-" + i));
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        assertTrue(limiter.size() < 4_000, "size " + limiter.size());
+        assertEquals(0, limiter.tryAcquire("client-19999"));
+        assertTrue(limiter.tryAcquire("client-19999") > 0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.pet.apigateway.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionFilterTest {
+
+    private static final String SECRET = "waiting-room-test-secret-0123456789";
+
+    private final AdmissionFilter filter = filter(Map.of(500L, 2.0));
+
+    @Test
+    @DisplayName("An order for a queued event is stopped whether its eventId is a number or a string")
+    void textualEventIdIsChecked() {
+        assertEquals(HttpStatus.FORBIDDEN, post(filter, "{\"eventId\":500,\"quantity\":1}").status());
+        assertEquals(HttpStatus.FORBIDDEN, post(filter, "{\"eventId\":\"500\",\"quantity\":1}").status());
+        assertTrue(post(filter, "{\"eventId\":\"42\",\"quantity\":1}").passed());
+    }
+
+    @Test
+    @DisplayName("An order whose event cannot be read, or whose body is too large, is rejected while a room is active")
+    void unreadableOrdersFailClosed() {
+        assertEquals(HttpStatus.BAD_REQUEST, post(filter, "{\"eventId\":\"five hundred\"}").status());
+        assertEquals(HttpStatus.BAD_REQUEST, post(filter, "{\"eventId\":null}").status());
+        assertEquals(HttpStatus.BAD_REQUEST, post(filter, "{\"quantity\":1}").status());
+        assertEquals(HttpStatus.BAD_REQUEST, post(filter, "not json").status());
+        assertEquals(HttpStatus.BAD_REQUEST, post(filter, "{\"eventId\":500,\"note\":\"" + "x".repeat(20_000) + "\"}").status());
+    }
+
+    @Test
+    @DisplayName("Without waiting rooms, order bodies are passed on without being read")
+    void noRoomsPassThrough() {
+        assertTrue(post(filter(Map.of()), "not json").passed());
+    }
+
+    private static AdmissionFilter filter(Map<Long, Double> rooms) {
+        WaitingRoomProperties properties = new WaitingRoomProperties(SECRET, rooms, Duration.ofMinutes(15), Duration.ofHours(2), 5);
+        return new AdmissionFilter(new WaitingRoomService(properties, new SimpleMeterRegistry()), new ObjectMapper());
+    }
+
+    private static Outcome post(AdmissionFilter filter, String body) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+        AtomicBoolean passed = new AtomicBoolean();
+        GatewayFilterChain chain = filtered -> {
+            passed.set(true);
+            return Mono.empty();
+        };
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+        if (passed.get()) {
+            assertFalse(exchange.getResponse().isCommitted());
+        }
+        return new Outcome(passed.get(), (HttpStatus) exchange.getResponse().getStatusCode());
+    }
+
+    private record Outcome(boolean passed, HttpStatus status) {
+    }
+}
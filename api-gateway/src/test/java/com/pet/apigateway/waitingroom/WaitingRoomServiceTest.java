@@ -0,0 +1,166 @@
+package com.pet.apigateway.waitingroom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitingRoomServiceTest {
+
+    private static final String SECRET = "waiting-room-test-secret-0123456789";
+    private static final long EVENT_ID = 500;
+
+    private final AtomicLong nanos = new AtomicLong(1);
+    private final WaitingRoomProperties properties = new WaitingRoomProperties(SECRET, Map.of(EVENT_ID, 2.0),
+            Duration.ofMinutes(15), Duration.ofHours(2), 2);
+    private final Clock clock = new NanoClock(Instant.parse("2026-01-01T10:00:00Z"), nanos);
+
+    private WaitingRoomService service(Clock clock) {
+        return new WaitingRoomService(properties, new SimpleMeterRegistry(), clock, nanos::get);
+    }
+
+    @Test
+    @DisplayName("Clients are admitted in join order at the configured rate")
+    void admitsAtConfiguredRate() {
+        WaitingRoomService service = service(clock);
+        WaitingRoomService.Place first = service.join(EVENT_ID, "user-1");
+        WaitingRoomService.Place second = service.join(EVENT_ID, "user-2");
+        WaitingRoomService.Place third = service.join(EVENT_ID, "user-3");
+        assertEquals(1, first.position());
+        assertEquals(3, third.position());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        WaitingRoomService.Status firstStatus = service.status(EVENT_ID, first.queueToken(), "user-1");
+        assertTrue(firstStatus.admitted());
+        assertTrue(service.status(EVENT_ID, second.queueToken(), "user-2").admitted());
+        WaitingRoomService.Status thirdStatus = service.status(EVENT_ID, third.queueToken(), "user-3");
+        assertFalse(thirdStatus.admitted());
+        assertEquals(1, thirdStatus.position());
+
+        assertTrue(service.isAdmitted(EVENT_ID, firstStatus.admissionToken(), "user-1"));
+        assertFalse(service.isAdmitted(EVENT_ID, null, "user-1"));
+        assertFalse(service.isAdmitted(EVENT_ID, first.queueToken(), "user-1"));
+        assertTrue(service.isAdmitted(EVENT_ID + 1, null, null));
+    }
+
+    @Test
+    @DisplayName("Forged, expired and foreign tokens are rejected")
+    void rejectsInvalidTokens() {
+        WaitingRoomService service = service(clock);
+        WaitingRoomService.Place place = service.join(EVENT_ID, "user-1");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        String admission = service.status(EVENT_ID, place.queueToken(), "user-1").admissionToken();
+        assertNotNull(admission);
+
+        QueueTokenSigner signer = new QueueTokenSigner(SECRET);
+        String forged = admission.replaceFirst("^a\\.500\\.", "a.501.");
+        assertNull(signer.verify(forged, clock.instant().getEpochSecond()));
+        // Moving a place to the front of the queue breaks the signature.
+        assertUnauthorized(() -> service.status(EVENT_ID,
+                place.queueToken().replaceFirst("^(q\\.500\\.[^.]+)\\.\\d+", "$1.0"), "user-1"));
+
+        WaitingRoomService later = service(Clock.offset(clock, Duration.ofMinutes(16)));
+        assertFalse(later.isAdmitted(EVENT_ID, admission, "user-1"));
+        assertNull(signer.verify(place.queueToken(), clock.instant().plus(Duration.ofHours(3)).getEpochSecond()));
+    }
+
+    @Test
+    @DisplayName("A place taken on one gateway instance keeps its turn when polled on another")
+    void placesAreHonouredByOtherInstances() {
+        WaitingRoomService first = service(clock);
+        WaitingRoomService second = service(clock);
+        first.join(EVENT_ID, "user-1");
+        first.join(EVENT_ID, "user-2");
+        WaitingRoomService.Place place = first.join(EVENT_ID, "user-3");
+        assertEquals(3, place.position());
+
+        WaitingRoomService.Status status = second.status(EVENT_ID, place.queueToken(), "user-3");
+        assertFalse(status.admitted());
+        assertEquals(3, status.position());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        status = second.status(EVENT_ID, place.queueToken(), "user-3");
+        assertFalse(status.admitted());
+        assertEquals(1, status.position());
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertTrue(second.isAdmitted(EVENT_ID, second.status(EVENT_ID, place.queueToken(), "user-3").admissionToken(), "user-3"));
+    }
+
+    @Test
+    @DisplayName("A user holds one place, and an admission is good only for that user and a few checkout calls")
+    void placesAndAdmissionsBelongToTheUser() {
+        WaitingRoomService service = service(clock);
+        assertUnauthorized(() -> service.join(EVENT_ID, null));
+        WaitingRoomService.Place place = service.join(EVENT_ID, "user-1");
+        service.join(EVENT_ID, "user-2");
+        WaitingRoomService.Place again = service.join(EVENT_ID, "user-1");
+        assertEquals(1, again.position());
+        assertEquals(place.queueToken(), again.queueToken());
+        assertUnauthorized(() -> service.status(EVENT_ID, place.queueToken(), "user-2"));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        String admission = service.status(EVENT_ID, place.queueToken(), "user-1").admissionToken();
+        assertFalse(service.isAdmitted(EVENT_ID, admission, "user-2"));
+        assertFalse(service.isAdmitted(EVENT_ID, admission, null));
+        assertTrue(service.isAdmitted(EVENT_ID, admission, "user-1"));
+        assertTrue(service.isAdmitted(EVENT_ID, admission, "user-1"));
+        assertFalse(service.isAdmitted(EVENT_ID, admission, "user-1"));
+
+        // Once the admission has run out, joining again takes a new place.
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(16));
+        assertNotEquals(place.queueToken(), service.join(EVENT_ID, "user-1").queueToken());
+    }
+
+    private static void assertUnauthorized(Runnable call) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+        assertEquals(HttpStatus.UNAUTHORIZED, e.getStatusCode());
+    }
+
+    /**
+     * Wall clock that moves with the test's nano clock.
+     */
+    private static final class NanoClock extends Clock {
+
+        private final Instant start;
+        private final AtomicLong nanos;
+
+        NanoClock(Instant start, AtomicLong nanos) {
+            this.start = start;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return start.plusNanos(nanos.get());
+        }
+    }
+}
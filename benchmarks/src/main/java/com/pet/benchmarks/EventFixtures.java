@@ -0,0 +1,46 @@
+package com.pet.benchmarks;
+
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.model.Event;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Realistically sized sample data shared by the benchmarks.
+ */
+final class EventFixtures {
+
+    static final LocalDate DATE = LocalDate.now().plusDays(30);
+    static final String DESCRIPTION = "Найбільший музичний фестиваль Східної Європи повертається з новим лайнапом. ".repeat(5);
+    static final String IMAGE_URL = "https://cdn.example.com/images/events/atlas-united-2025/poster-1920x1080.jpg";
+
+    private EventFixtures() {
+    }
+
+    static Event event(long id) {
+        return new Event(id, "Atlas United " + id, DATE.plusDays(id % 365), "Blockbuster Mall, Київ", "Okean Elzy",
+                DESCRIPTION, IMAGE_URL, 3L, Instant.now());
+    }
+
+    static EventRequest request(long id) {
+        return new EventRequest("Atlas United " + id, DATE.plusDays(id % 365), "Blockbuster Mall, Київ", "Okean Elzy",
+                DESCRIPTION, IMAGE_URL);
+    }
+
+    static EventResponse response(long id) {
+        return new EventResponse(id, "Atlas United " + id, DATE.plusDays(id % 365), "Blockbuster Mall, Київ", "Okean Elzy",
+                DESCRIPTION, IMAGE_URL);
+    }
+
+    static List<EventResponse> responses(int count) {
+        List<EventResponse> responses = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            responses.add(response(i));
+        }
+        return responses;
+    }
+}
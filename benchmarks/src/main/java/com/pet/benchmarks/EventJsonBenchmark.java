@@ -0,0 +1,60 @@
+package com.pet.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pet.eventservice.dto.EventPageResponse;
+import com.pet.eventservice.dto.EventResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response payloads, configured the way Spring Boot configures the
+ * application's {@link ObjectMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventJsonBenchmark {
+
+    @Param({"10000"})
+    private int listSize;
+
+    private ObjectWriter writer;
+    private EventResponse single;
+    private List<EventResponse> list;
+    private EventPageResponse page;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+        single = EventFixtures.response(42);
+        list = EventFixtures.responses(listSize);
+        page = new EventPageResponse(list.subList(0, 20), "MjAyNS0wNy0yNnwxMDE");
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() throws JsonProcessingException {
+        return writer.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(list);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pet.benchmarks;
+
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.mapper.EventMapper;
+import com.pet.eventservice.mapper.EventMapperImpl;
+import com.pet.eventservice.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct-generated {@link EventMapper} conversions on the read and write paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventMapperBenchmark {
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+    private Event event;
+    private EventRequest request;
+
+    @Setup
+    public void setUp() {
+        event = EventFixtures.event(42);
+        request = EventFixtures.request(43);
+    }
+
+    @Benchmark
+    public EventResponse toEventResponse() {
+        return eventMapper.toEventResponse(event);
+    }
+
+    @Benchmark
+    public Event toEvent() {
+        return eventMapper.toEvent(request);
+    }
+
+    @Benchmark
+    public Event updateEventFromDto() {
+        eventMapper.updateEventFromDto(request, event);
+        return event;
+    }
+}
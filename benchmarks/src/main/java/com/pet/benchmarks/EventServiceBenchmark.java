@@ -0,0 +1,109 @@
+package com.pet.benchmarks;
+
+import com.pet.eventservice.EventServiceApplication;
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.dto.EventSearchResponse;
+import com.pet.eventservice.model.Event;
+import com.pet.eventservice.search.EventSearchIndexLoader;
+import com.pet.eventservice.search.EventSearchQuery;
+import com.pet.eventservice.service.EventPage;
+import com.pet.eventservice.service.EventPageVersion;
+import com.pet.eventservice.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventService} read paths against an embedded H2 database seeded with {@code catalogSize} events.
+ * Kafka consumers and the outbox relay are switched off; nothing here writes through the service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventServiceBenchmark {
+
+    private static final int HOT_SET = 200;
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EventServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.r2dbc.url=r2dbc:h2:mem:///benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "eureka.client.enabled=false",
+                        "management.tracing.enabled=false",
+                        "events.cache.sync.enabled=false",
+                        "events.outbox.relay.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(EventSearchIndexLoader.class).load();
+        eventService = context.getBean(EventService.class);
+        for (long id = 1; id <= HOT_SET; id++) {
+            eventService.getCachedEvent(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CachedEvent getCachedEventHit() {
+        return eventService.getCachedEvent(ThreadLocalRandom.current().nextLong(1, HOT_SET + 1));
+    }
+
+    @Benchmark
+    public CachedEvent loadEventFromDatabase() {
+        return eventService.loadCachedEvent(ThreadLocalRandom.current().nextLong(1, catalogSize + 1));
+    }
+
+    @Benchmark
+    public EventPage getFirstPage() {
+        return eventService.getEventPage(null, EventService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public EventPageVersion getFirstPageVersion() {
+        return eventService.getEventPageVersion(null, EventService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public EventSearchResponse searchPrefix() {
+        return eventService.search(new EventSearchQuery("atlas 12", null, null, null, null, EventService.DEFAULT_PAGE_SIZE));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(catalogSize);
+        for (long id = 1; id <= catalogSize; id++) {
+            Event event = EventFixtures.event(id);
+            rows.add(new Object[]{event.getId(), event.getName(), Date.valueOf(event.getDate()), event.getVenue(),
+                    event.getArtist(), event.getDescription(), event.getImageURL(), event.getVersion(),
+                    Timestamp.from(event.getLastModified())});
+        }
+        jdbcTemplate.batchUpdate("insert into events (id, name, date, venue, artist, description, imageurl, version, last_modified) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
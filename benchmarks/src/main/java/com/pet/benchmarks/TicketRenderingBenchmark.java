@@ -0,0 +1,102 @@
+package com.pet.benchmarks;
+
+import com.pet.ticketgenerationservice.ticket.QrCodeSigner;
+import com.pet.ticketgenerationservice.ticket.TicketLayout;
+import com.pet.ticketgenerationservice.ticket.TicketRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticket PDF rendering throughput, per thread; run with {@code -t max} to see how it scales
+ * across cores the way the rendering pool does.
+ * <pre>
+ *   java -jar benchmarks/target/benchmarks.jar TicketRendering -t max
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketRenderingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        TicketRenderer renderer;
+        TicketLayout layout;
+
+        @Setup
+        public void setUp() {
+            renderer = new TicketRenderer(new QrCodeSigner("benchmark-secret-for-ticket-qr-codes"));
+            layout = TicketLayout.compile(42L, "Концерт симфонічного оркестру", "Національна філармонія, Київ",
+                    LocalDateTime.of(2030, 6, 1, 19, 0));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024);
+        Path file;
+        FileChannel channel;
+        long holdId = 1L << 40;
+        int seat;
+
+        @Setup
+        public void setUp() throws IOException {
+            file = Files.createTempFile("ticket-benchmark", ".pdf");
+            channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+
+        int nextSeat() {
+            if (++seat == 50_000) {
+                seat = 0;
+                holdId++;
+            }
+            return seat;
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer[] renderToBuffer(Shared shared, Worker worker) {
+        return shared.renderer.render(shared.layout, worker.holdId, worker.nextSeat(), worker.buffer);
+    }
+
+    /**
+     * The same ticket copied out into a heap array, as a byte[]-based renderer would return it.
+     */
+    @Benchmark
+    public byte[] renderToByteArray(Shared shared, Worker worker) {
+        ByteBuffer[] ticket = shared.renderer.render(shared.layout, worker.holdId, worker.nextSeat(), worker.buffer);
+        byte[] bytes = new byte[ticket[0].remaining() + ticket[1].remaining()];
+        ticket[0].get(bytes, 0, ticket[0].remaining());
+        ticket[1].get(bytes, bytes.length - ticket[1].remaining(), ticket[1].remaining());
+        return bytes;
+    }
+
+    @Benchmark
+    public long renderToFile(Shared shared, Worker worker) throws IOException {
+        ByteBuffer[] ticket = shared.renderer.render(shared.layout, worker.holdId, worker.nextSeat(), worker.buffer);
+        worker.channel.position(0);
+        long written = 0;
+        while (ticket[1].hasRemaining()) {
+            written += worker.channel.write(ticket);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,69 @@
+package com.pet.discoveryservice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.server.response-cache-update-interval-ms=100"
+})
+class DiscoveryServiceApplicationTest {
+
+    private static final String INSTANCE = """
+            {"instance": {
+              "instanceId": "localhost:event-service:8081",
+              "hostName": "localhost",
+              "app": "EVENT-SERVICE",
+              "ipAddr": "127.0.0.1",
+              "status": "UP",
+              "port": {"$": 8081, "@enabled": "true"},
+              "dataCenterInfo": {"@class": "com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo", "name": "MyOwn"}
+            }}
+            """;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("A registered instance shows up in the full registry and in the delta")
+    void registeredInstanceIsServed() throws InterruptedException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<Void> registered = restTemplate.postForEntity("/eureka/apps/EVENT-SERVICE",
+                new HttpEntity<>(INSTANCE, headers), Void.class);
+        assertEquals(HttpStatus.NO_CONTENT, registered.getStatusCode());
+
+        HttpHeaders accept = new HttpHeaders();
+        accept.setAccept(List.of(MediaType.APPLICATION_JSON));
+        String apps = null;
+        String delta = null;
+        for (int attempt = 0; attempt < 50; attempt++) {
+            apps = restTemplate.exchange("/eureka/apps", HttpMethod.GET,
+                    new HttpEntity<>(accept), String.class).getBody();
+            delta = restTemplate.exchange("/eureka/apps/delta", HttpMethod.GET,
+                    new HttpEntity<>(accept), String.class).getBody();
+            if (apps != null && apps.contains("localhost:event-service:8081")
+                    && delta != null && delta.contains("localhost:event-service:8081")) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        assertNotNull(apps);
+        assertTrue(apps.contains("localhost:event-service:8081"), apps);
+        assertTrue(delta.contains("localhost:event-service:8081"), delta);
+    }
+}
@@ -2,13 +2,15 @@ package com.pet.eventservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.web.bind.annotation.RestController;
 
-@SpringBootApplication
+// R2DBC serves reads only; a second (reactive) transaction manager would make @Transactional ambiguous.
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 @RestController
 public class EventServiceApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(EventServiceApplication.class, args);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.pet.eventservice.archive;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * An event that has taken place, moved out of {@code events} by {@link EventArchiver}. It keeps the
+ * ID it had in the live catalog and is never modified afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "archived_events", indexes = @Index(name = "idx_archived_events_date_id", columnList = "date, id"))
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    private String name;
+
+    private LocalDate date;
+
+    private String venue;
+
+    private String artist;
+
+    private String description;
+
+    @Column(columnDefinition = "VARCHAR(255)")
+    private String imageURL;
+
+    private Long version;
+
+    private Instant lastModified;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
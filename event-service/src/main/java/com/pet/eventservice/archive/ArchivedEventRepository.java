@@ -0,0 +1,23 @@
+package com.pet.eventservice.archive;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Archive pages run newest first, the order people browse past events in.
+ */
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    @Query("select e from ArchivedEvent e order by e.date desc, e.id desc")
+    List<ArchivedEvent> findFirstPage(Limit limit);
+
+    @Query("select e from ArchivedEvent e where e.date < :date or (e.date = :date and e.id < :id) order by e.date desc, e.id desc")
+    List<ArchivedEvent> findPageBefore(@Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+}
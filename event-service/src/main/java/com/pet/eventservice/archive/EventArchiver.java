@@ -0,0 +1,61 @@
+package com.pet.eventservice.archive;
+
+import com.pet.eventservice.service.EventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Moves events whose date has passed from {@code events} to {@code archived_events}, so the hot
+ * table and its (date, id) index only hold upcoming events and catalog queries stay proportional
+ * to those.
+ * <p>
+ * Each batch is its own transaction and claims rows with {@code SKIP LOCKED}, so several instances
+ * can run the job at once and a failed batch is simply picked up again on the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class EventArchiver {
+
+    private final EventService eventService;
+    private final Clock clock;
+    private final int batchSize;
+
+    @Autowired
+    public EventArchiver(EventService eventService,
+                         @Value("${events.archive.batch-size:500}") int batchSize) {
+        this(eventService, Clock.systemDefaultZone(), batchSize);
+    }
+
+    EventArchiver(EventService eventService, Clock clock, int batchSize) {
+        this.eventService = eventService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${events.archive.cron:0 15 * * * *}")
+    public void archiveEndedEvents() {
+        LocalDate today = LocalDate.now(clock);
+        int total = 0;
+        try {
+            int archived;
+            do {
+                archived = eventService.archiveEventsBefore(today, batchSize);
+                total += archived;
+            } while (archived == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Event archival stopped after {} events, will retry: {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("Archived {} events dated before {}", total, today);
+        }
+    }
+}
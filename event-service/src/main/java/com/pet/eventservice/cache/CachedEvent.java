@@ -0,0 +1,22 @@
+package com.pet.eventservice.cache;
+
+import com.pet.eventservice.dto.EventResponse;
+
+import java.time.Instant;
+
+public record CachedEvent(EventResponse response, long version, Instant lastModified) {
+
+    /**
+     * Strong validator for the serialized response: it changes exactly when the entity version does.
+     */
+    public String etag() {
+        return "\"" + response.id() + "-" + version + "\"";
+    }
+
+    /**
+     * Rows written before the version column was added still hold NULL there; they count as version 0.
+     */
+    public static long versionOf(Long version) {
+        return version != null ? version : 0L;
+    }
+}
@@ -0,0 +1,100 @@
+package com.pet.eventservice.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of ready-to-serialize event responses keyed by event ID, each tagged
+ * with the entity version it was built from.
+ * <p>
+ * A load is published as a pending entry and then run by the calling thread outside the cache's
+ * locks, so concurrent reads of the key wait for it rather than querying again. An invalidation
+ * issued while a load is in flight drops the pending entry without waiting: the result reaches
+ * only the reads already waiting on it and is never stored. Writers invalidate once inside the
+ * transaction and again after it completes, which means a read started after a commit can
+ * never be answered with the pre-commit value.
+ * <p>
+ * Running the loader inside the cache's compute, as a synchronous cache does, would hold a
+ * hash-bin lock while waiting for a database connection, and a writer invalidating a key in the
+ * same bin while holding a connection could then exhaust the pool.
+ */
+@Component
+public class EventCache {
+
+    private final AsyncCache<Long, CachedEvent> cache;
+
+    public EventCache(MeterRegistry meterRegistry,
+                      @Value("${events.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${events.cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events");
+    }
+
+    public CachedEvent get(Long id, Function<Long, CachedEvent> loader) {
+        CompletableFuture<CachedEvent> load = new CompletableFuture<>();
+        CompletableFuture<CachedEvent> entry = cache.get(id, (key, executor) -> load);
+        if (entry == load) {
+            try {
+                load.complete(loader.apply(id));
+            } catch (RuntimeException | Error e) {
+                load.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Applies a change made elsewhere: entries older than {@code version} are dropped and,
+     * because the key was hot enough to be cached, reloaded right away.
+     *
+     * @return {@code true} if a stale entry was replaced
+     */
+    public boolean refreshIfStale(Long id, long version, Function<Long, CachedEvent> loader) {
+        CachedEvent current = cache.synchronous().getIfPresent(id);
+        if (current == null || current.version() >= version) {
+            return false;
+        }
+        invalidate(id);
+        get(id, loader);
+        return true;
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidateAfterCommit(Long id) {
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+}
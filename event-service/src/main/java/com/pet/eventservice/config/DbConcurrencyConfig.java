@@ -0,0 +1,46 @@
+package com.pet.eventservice.config;
+
+import com.pet.eventservice.jdbc.ConcurrencyLimitedDataSource;
+import com.pet.eventservice.jdbc.DbConcurrencyLimiter;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts a {@link DbConcurrencyLimiter} in front of the application DataSource. Meant for the
+ * {@code virtual-threads} profile, where Tomcat no longer caps how many requests run at once.
+ * Unless {@code events.db.concurrency.max-permits} is set, the limit follows the Hikari pool size.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.db.concurrency.enabled", havingValue = "true")
+public class DbConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimitingPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${events.db.concurrency.max-permits:0}") int maxPermits,
+            @Value("${events.db.concurrency.acquire-timeout:PT5S}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int permits = maxPermits > 0 ? maxPermits
+                        : bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize()
+                        : 10;
+                DbConcurrencyLimiter limiter =
+                        new DbConcurrencyLimiter(permits, acquireTimeout, meterRegistry.getObject());
+                return new ConcurrencyLimitedDataSource(dataSource, limiter);
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.pet.eventservice.config;
+
+import com.pet.eventservice.messaging.EventChangeMessage;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaConfig {
+
+    @Bean
+    public KafkaTemplate<String, EventChangeMessage> eventChangeKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    /**
+     * Producer for the outbox relay: idempotent and acks=all so retries after a broker hiccup
+     * cannot duplicate or reorder records within a partition, with linger and batch size tuned
+     * so a drained outbox batch leaves in as few requests as possible.
+     */
+    @Bean
+    public KafkaTemplate<String, String> catalogKafkaTemplate(
+            KafkaProperties kafkaProperties,
+            @Value("${events.outbox.producer.linger-ms:20}") int lingerMs,
+            @Value("${events.outbox.producer.batch-size:131072}") int batchSize) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EventChangeMessage> eventChangeListenerContainerFactory(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        // Only the cache follows this topic, and a fresh replica starts with an empty one: entries
+        // are read from the database after startup, so earlier invalidations do not apply to them.
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        DefaultKafkaConsumerFactory<String, EventChangeMessage> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new JsonDeserializer<>(EventChangeMessage.class, false));
+        ConcurrentKafkaListenerContainerFactory<String, EventChangeMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        return factory;
+    }
+
+    /**
+     * Listeners of the outbox topic within this service. The search index positions itself
+     * explicitly, so the reset policy only covers partitions it has no position for.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> eventCatalogListenerContainerFactory(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()));
+        return factory;
+    }
+}
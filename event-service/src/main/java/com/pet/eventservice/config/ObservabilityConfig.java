@@ -0,0 +1,100 @@
+package com.pet.eventservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.observability.LayerTimingAspect;
+import com.pet.eventservice.observability.QueryStatsCollector;
+import com.pet.eventservice.observability.RequestProfilingFilter;
+import com.pet.eventservice.observability.SlowRequestLog;
+import com.pet.eventservice.observability.SlowRequestsEndpoint;
+import com.pet.eventservice.observability.StartupReporter;
+import com.pet.eventservice.observability.TimedJacksonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hot-path instrumentation: per-layer timers, per-request Hibernate statement and entity counts
+ * with an N+1 / large-result detector, and the {@code slowrequests} actuator endpoint. Expose the
+ * endpoint with {@code management.endpoints.web.exposure.include}. Startup time and memory are
+ * reported by {@link StartupReporter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "events.observability.enabled", havingValue = "true", matchIfMissing = true)
+public class ObservabilityConfig {
+
+    @Bean
+    public LayerTimingAspect layerTimingAspect(MeterRegistry meterRegistry,
+                                               @Value("${events.observability.histograms:true}") boolean histograms) {
+        return new LayerTimingAspect(meterRegistry, histograms);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsCustomizer() {
+        QueryStatsCollector collector = new QueryStatsCollector();
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, collector);
+            properties.putIfAbsent(AvailableSettings.INTERCEPTOR, collector);
+        };
+    }
+
+    @Bean
+    public SlowRequestLog slowRequestLog(@Value("${events.observability.slow-requests.capacity:100}") int capacity) {
+        return new SlowRequestLog(capacity);
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestsEndpoint(slowRequestLog);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(
+            MeterRegistry meterRegistry,
+            SlowRequestLog slowRequestLog,
+            ObjectProvider<Tracer> tracer,
+            @Value("${events.observability.repeated-statement-threshold:10}") int repeatedStatementThreshold,
+            @Value("${events.observability.large-result-threshold:1000}") long largeResultThreshold,
+            @Value("${events.observability.slow-requests.threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${events.observability.slow-requests.sample-rate:1.0}") double slowSampleRate) {
+        FilterRegistrationBean<RequestProfilingFilter> registration = new FilterRegistrationBean<>(new RequestProfilingFilter(
+                meterRegistry, slowRequestLog, tracer.getIfAvailable(), repeatedStatementThreshold,
+                largeResultThreshold, slowThreshold, slowSampleRate));
+        // Inside the tracing filter, so slow requests carry their trace ID.
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public StartupReporter startupReporter(MeterRegistry meterRegistry) {
+        return new StartupReporter(meterRegistry);
+    }
+
+    @Bean
+    public WebMvcConfigurer timedJacksonConverterConfigurer(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                                            @Value("${events.observability.histograms:true}") boolean histograms) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                for (int i = 0; i < converters.size(); i++) {
+                    if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                        converters.set(i, new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry, histograms));
+                    }
+                }
+            }
+        };
+    }
+}
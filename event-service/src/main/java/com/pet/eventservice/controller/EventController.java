@@ -1,9 +1,19 @@
 package com.pet.eventservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.archive.ArchivedEvent;
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.dto.BulkImportResponse;
+import com.pet.eventservice.dto.EventPageResponse;
 import com.pet.eventservice.dto.EventRequest;
 import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.dto.EventSearchResponse;
 import com.pet.eventservice.mapper.EventMapper;
 import com.pet.eventservice.model.Event;
+import com.pet.eventservice.search.EventSearchQuery;
+import com.pet.eventservice.service.ArchivedEventPage;
+import com.pet.eventservice.service.EventBulkImportService;
+import com.pet.eventservice.service.EventPage;
 import com.pet.eventservice.service.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,10 +24,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,28 +49,135 @@ import java.util.List;
 @Tag(name = "Event API", description = "API для керування подіями")
 public class EventController {
 
+    // Shared caches may store responses but must revalidate; unchanged data then costs a 304.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+    // Archived events never change.
+    private static final CacheControl ARCHIVED = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
     private final EventService eventService;
+    private final EventBulkImportService eventBulkImportService;
     private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "Отримати список усіх подій", description = "Повертає повний список подій, наявних у системі.")
-    @ApiResponse(responseCode = "200", description = "Успішно отримано список подій")
+    @Operation(summary = "Отримати сторінку подій",
+            description = "Повертає події, впорядковані за датою та ID. Для наступної сторінки передайте nextCursor з попередньої відповіді.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успішно отримано сторінку подій"),
+            @ApiResponse(responseCode = "304", description = "Сторінка не змінилася з часу, вказаного в If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Некоректний курсор", content = @Content)
+    })
     @GetMapping
-    public List<EventResponse> getAllEvents() {
-        return eventService.getAllEvents().stream()
+    public ResponseEntity<EventPageResponse> getAllEvents(
+            @Parameter(description = "Курсор з попередньої сторінки") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Розмір сторінки (1-" + EventService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String etag = eventService.getEventPageVersion(cursor, size).etag();
+            if (matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(REVALIDATE)
+                        .build();
+            }
+        }
+        // The ETag sent with a body comes from the rows in that body, not from the check above.
+        EventPage page = eventService.getEventPage(cursor, size);
+        List<EventResponse> content = page.events().stream()
+                .map(eventMapper::toEventResponse)
+                .toList();
+        return ResponseEntity.ok()
+                .eTag(page.etag())
+                .cacheControl(REVALIDATE)
+                .body(new EventPageResponse(content, page.nextCursor()));
+    }
+
+    @Operation(summary = "Потоково отримати всі події (NDJSON)",
+            description = "Передає всі події по одній на рядок, читаючи їх курсором бази даних без завантаження всього списку в пам'ять.")
+    @ApiResponse(responseCode = "200", description = "Потік подій у форматі NDJSON")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEvents() {
+        StreamingResponseBody body = out -> eventService.streamAllEvents(event -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(eventMapper.toEventResponse(event)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Пошук подій",
+            description = "Шукає події за префіксом (або з урахуванням помилок) у назві, артисті та місці проведення, "
+                    + "фільтрує за діапазоном дат і повертає кількість збігів за артистами та місцями.")
+    @ApiResponse(responseCode = "200", description = "Результати пошуку")
+    @GetMapping("/search")
+    public EventSearchResponse searchEvents(
+            @Parameter(description = "Пошуковий запит", example = "okean") @RequestParam(required = false) String q,
+            @Parameter(description = "Дата від (включно)", example = "2025-07-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Дата до (включно)", example = "2025-08-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Фільтр за артистом") @RequestParam(required = false) String artist,
+            @Parameter(description = "Фільтр за місцем проведення") @RequestParam(required = false) String venue,
+            @Parameter(description = "Максимальна кількість результатів (1-" + EventService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int limit) {
+        int boundedLimit = Math.min(Math.max(limit, 1), EventService.MAX_PAGE_SIZE);
+        return eventService.search(new EventSearchQuery(q, from, to, artist, venue, boundedLimit));
+    }
+
+    @Operation(summary = "Отримати сторінку архіву подій",
+            description = "Повертає події, що вже відбулися, від найновіших до найстаріших. Для наступної сторінки передайте nextCursor з попередньої відповіді.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успішно отримано сторінку архіву"),
+            @ApiResponse(responseCode = "400", description = "Некоректний курсор", content = @Content)
+    })
+    @GetMapping("/archive")
+    public EventPageResponse getArchivedEvents(
+            @Parameter(description = "Курсор з попередньої сторінки") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Розмір сторінки (1-" + EventService.MAX_PAGE_SIZE + ")", example = "20")
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size) {
+        ArchivedEventPage page = eventService.getArchivedEventPage(cursor, size);
+        List<EventResponse> content = page.events().stream()
                 .map(eventMapper::toEventResponse)
                 .toList();
+        return new EventPageResponse(content, page.nextCursor());
+    }
+
+    @Operation(summary = "Отримати архівну подію за ID", description = "Повертає подію, що вже відбулася і перенесена до архіву.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Подію знайдено в архіві"),
+            @ApiResponse(responseCode = "404", description = "Архівної події з таким ID не знайдено", content = @Content)
+    })
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<EventResponse> getArchivedEventById(
+            @Parameter(description = "Унікальний ID події", example = "1") @PathVariable Long id) {
+        ArchivedEvent event = eventService.getArchivedEventById(id);
+        return ResponseEntity.ok()
+                .cacheControl(ARCHIVED)
+                .body(eventMapper.toEventResponse(event));
     }
 
     @Operation(summary = "Отримати подію за ID", description = "Шукає та повертає подію за її унікальним ідентифікатором.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Подію успішно знайдено"),
+            @ApiResponse(responseCode = "304", description = "Подія не змінилася з часу, вказаного в If-None-Match / If-Modified-Since", content = @Content),
             @ApiResponse(responseCode = "404", description = "Подію з таким ID не знайдено", content = @Content)
     })
     @GetMapping("/{id}")
-    public EventResponse getEventById(
-            @Parameter(description = "Унікальний ID події", example = "1") @PathVariable Long id) {
-        Event event = eventService.getEventById(id);
-        return eventMapper.toEventResponse(event);
+    public ResponseEntity<EventResponse> getEventById(
+            @Parameter(description = "Унікальний ID події", example = "1") @PathVariable Long id,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        CachedEvent event = eventService.getCachedEvent(id);
+        if (webRequest.checkNotModified(event.etag(), toEpochMilli(event.lastModified()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(event.response());
     }
 
     @Operation(summary = "Додати нову подію", description = "Створює новий запис про подію в системі.")
@@ -65,6 +195,15 @@ public class EventController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Масовий імпорт подій",
+            description = "Приймає JSON-масив або NDJSON-потік подій, перевіряє та зберігає їх пакетами. "
+                    + "Існуючі події з тією ж назвою, датою та місцем оновлюються. Повертає результат для кожного рядка.")
+    @ApiResponse(responseCode = "200", description = "Імпорт завершено; помилки окремих рядків наведено у звіті")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BulkImportResponse importEvents(InputStream body) throws IOException {
+        return eventBulkImportService.importEvents(body);
+    }
+
     @Operation(summary = "Оновити існуючу подію", description = "Оновлює дані події за її ID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Подію успішно оновлено"),
@@ -90,4 +229,14 @@ public class EventController {
             @Parameter(description = "Унікальний ID події для видалення", example = "1") @PathVariable Long id) {
         eventService.deleteEvent(id);
     }
-}
\ No newline at end of file
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    private static long toEpochMilli(Instant instant) {
+        return instant != null ? instant.toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,90 @@
+package com.pet.eventservice.controller;
+
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.exception.ResourceNotFoundException;
+import com.pet.eventservice.repository.ReactiveEventRepository;
+import com.pet.eventservice.service.EventCursor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only twin of {@link EventController} backed by R2DBC. Handlers return publishers, so the
+ * servlet thread is released right away and rows are written out as the client consumes them;
+ * writes stay on the blocking JPA path.
+ */
+@RestController
+@RequestMapping("/v1/events/reactive")
+@RequiredArgsConstructor
+@Tag(name = "Event API (reactive)", description = "Неблокуюче читання подій через R2DBC")
+public class ReactiveEventController {
+
+    private final ReactiveEventRepository reactiveEventRepository;
+
+    @Operation(summary = "Потоково отримати події (NDJSON)",
+            description = "Передає події, впорядковані за датою та ID, по мірі того як клієнт їх читає. "
+                    + "Курсор має той самий формат, що й nextCursor у GET /v1/events. "
+                    + "Лише NDJSON: JSON-масив довелося б зібрати в пам'яті цілком, для нього є GET /v1/events.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Потік подій"),
+            @ApiResponse(responseCode = "400", description = "Некоректний курсор", content = @Content),
+            @ApiResponse(responseCode = "406", description = "Запитано формат, відмінний від NDJSON або SSE", content = @Content)
+    })
+    // No application/json here: Spring collects a Flux into one list before writing a JSON array.
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EventResponse> getEvents(
+            @Parameter(description = "Курсор, після якого почати") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Максимальна кількість подій (усі, якщо не вказано)")
+            @RequestParam(required = false) Integer limit) {
+        return findAfter(cursor, limit);
+    }
+
+    @Operation(summary = "Отримати події як server-sent events",
+            description = "Кожна подія має id, що є курсором; після розриву з'єднання клієнт продовжує з Last-Event-ID.")
+    @ApiResponse(responseCode = "200", description = "Потік SSE")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EventResponse>> streamEvents(
+            @Parameter(hidden = true) @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+            @Parameter(description = "Курсор, після якого почати") @RequestParam(required = false) String cursor) {
+        return findAfter(lastEventId != null ? lastEventId : cursor, null)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(new EventCursor(event.date(), event.id()).encode())
+                        .event("event")
+                        .build());
+    }
+
+    @Operation(summary = "Отримати подію за ID", description = "Неблокуюче читання однієї події.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Подію успішно знайдено"),
+            @ApiResponse(responseCode = "404", description = "Подію з таким ID не знайдено", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public Mono<EventResponse> getEventById(
+            @Parameter(description = "Унікальний ID події", example = "1") @PathVariable Long id) {
+        return reactiveEventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Event not found with id: " + id)));
+    }
+
+    private Flux<EventResponse> findAfter(String cursor, Integer limit) {
+        int boundedLimit = limit != null ? Math.max(limit, 1) : Integer.MAX_VALUE;
+        if (cursor == null || cursor.isBlank()) {
+            return reactiveEventRepository.findAllOrdered(boundedLimit);
+        }
+        EventCursor position = EventCursor.decode(cursor);
+        return reactiveEventRepository.findAllOrderedAfter(position.date(), position.id(), boundedLimit);
+    }
+}
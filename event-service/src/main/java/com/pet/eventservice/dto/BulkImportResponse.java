@@ -0,0 +1,27 @@
+package com.pet.eventservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Звіт про масовий імпорт подій")
+public record BulkImportResponse(
+        @Schema(description = "Кількість оброблених рядків", example = "1000")
+        int total,
+
+        @Schema(description = "Кількість створених подій", example = "950")
+        int created,
+
+        @Schema(description = "Кількість оновлених подій", example = "45")
+        int updated,
+
+        @Schema(description = "Кількість рядків, що повторюють назву, дату та місце попереднього рядка", example = "0")
+        int duplicate,
+
+        @Schema(description = "Кількість відхилених рядків", example = "5")
+        int failed,
+
+        @Schema(description = "Результат для кожного рядка")
+        List<BulkImportRowResult> rows
+) {
+}
@@ -0,0 +1,26 @@
+package com.pet.eventservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Результат імпорту одного рядка")
+public record BulkImportRowResult(
+        @Schema(description = "Номер рядка у вхідних даних (з нуля)", example = "0")
+        int row,
+
+        @Schema(description = "Результат обробки рядка")
+        BulkImportRowStatus status,
+
+        @Schema(description = "ID створеної або оновленої події", example = "101")
+        Long id,
+
+        @Schema(description = "Помилки валідації за полями")
+        Map<String, String> errors
+) {
+    public static BulkImportRowResult failed(int row, Map<String, String> errors) {
+        return new BulkImportRowResult(row, BulkImportRowStatus.FAILED, null, errors);
+    }
+}
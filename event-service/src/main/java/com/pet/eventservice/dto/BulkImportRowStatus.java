@@ -0,0 +1,11 @@
+package com.pet.eventservice.dto;
+
+public enum BulkImportRowStatus {
+    CREATED,
+    UPDATED,
+    /**
+     * Repeats the (name, date, venue) of an earlier row in the same chunk; its values were applied to that row's event.
+     */
+    DUPLICATE,
+    FAILED
+}
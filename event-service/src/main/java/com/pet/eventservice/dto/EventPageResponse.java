@@ -0,0 +1,15 @@
+package com.pet.eventservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Сторінка подій, впорядкованих за датою та ID")
+public record EventPageResponse(
+        @Schema(description = "Події на поточній сторінці")
+        List<EventResponse> content,
+
+        @Schema(description = "Курсор для отримання наступної сторінки; відсутній, якщо сторінка остання", example = "MjAyNS0wNy0yNnwxMDE")
+        String nextCursor
+) {
+}
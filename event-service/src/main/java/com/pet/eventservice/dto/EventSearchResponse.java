@@ -0,0 +1,22 @@
+package com.pet.eventservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Результати пошуку подій із фасетами")
+public record EventSearchResponse(
+        @Schema(description = "Знайдені події, впорядковані за датою")
+        List<EventResponse> hits,
+
+        @Schema(description = "Загальна кількість збігів до застосування ліміту", example = "42")
+        int total,
+
+        @Schema(description = "true, якщо підрахунок для дуже широкого запиту зупинено на 10000 збігах і total є нижньою межею", example = "false")
+        boolean totalCapped,
+
+        @Schema(description = "Кількість збігів за значеннями фасетів (artist, venue); для дуже широких запитів рахується за першими 10000 збігами")
+        Map<String, Map<String, Integer>> facets
+) {
+}
@@ -0,0 +1,7 @@
+package com.pet.eventservice.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
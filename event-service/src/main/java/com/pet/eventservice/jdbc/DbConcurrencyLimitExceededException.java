@@ -0,0 +1,13 @@
+package com.pet.eventservice.jdbc;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Thrown from {@code getConnection()} like a pool timeout would be, so JPA and Spring translate
+ * it the same way they translate an exhausted pool.
+ */
+public class DbConcurrencyLimitExceededException extends SQLTransientConnectionException {
+    public DbConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
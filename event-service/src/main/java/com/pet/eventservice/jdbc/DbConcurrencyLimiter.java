@@ -0,0 +1,108 @@
+package com.pet.eventservice.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fair semaphore in front of the connection pool. With request threads being virtual there is
+ * no thread pool left to bound concurrency, so this is what keeps a burst of requests from
+ * turning into a burst of connection attempts.
+ * <p>
+ * Records how long callers waited for a permit ({@code events.db.limiter.queue}) separately from
+ * how long they held it ({@code events.db.limiter.execution}), which splits request latency into
+ * time spent queueing for the database and time spent using it.
+ */
+public class DbConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration acquireTimeout;
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+    private final Counter rejected;
+
+    public DbConcurrencyLimiter(int maxPermits, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        if (maxPermits < 1) {
+            throw new IllegalArgumentException("maxPermits must be positive: " + maxPermits);
+        }
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeout = acquireTimeout;
+        this.queueTimer = Timer.builder("events.db.limiter.queue")
+                .description("Time spent waiting for a database permit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("events.db.limiter.execution")
+                .description("Time a database permit was held")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("events.db.limiter.rejected")
+                .description("Permit requests that timed out")
+                .register(meterRegistry);
+        Gauge.builder("events.db.limiter.waiting", permits, Semaphore::getQueueLength)
+                .description("Callers waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("events.db.limiter.in-use", permits, p -> maxPermits - p.availablePermits())
+                .description("Database permits currently held")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks until a permit is free or the acquire timeout elapses.
+     *
+     * @throws DbConcurrencyLimitExceededException if no permit became free in time
+     */
+    public Permit acquire() throws DbConcurrencyLimitExceededException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbConcurrencyLimitExceededException("Interrupted while waiting for a database permit");
+        }
+        long acquiredAt = System.nanoTime();
+        queueTimer.record(acquiredAt - start, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            rejected.increment();
+            throw new DbConcurrencyLimitExceededException(
+                    "No database permit available within " + acquireTimeout.toMillis() + " ms");
+        }
+        return new Permit(acquiredAt);
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * A held permit. Releasing is idempotent, so a connection closed twice gives back one permit.
+     */
+    public final class Permit {
+
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                executionTimer.record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+                permits.release();
+            }
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.pet.eventservice.mapper;
 
+import com.pet.eventservice.archive.ArchivedEvent;
 import com.pet.eventservice.dto.EventRequest;
 import com.pet.eventservice.dto.EventResponse;
 import com.pet.eventservice.model.Event;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(componentModel = "spring")
 public interface EventMapper {
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
     Event toEvent(EventRequest request);
     EventResponse toEventResponse(Event event);
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "lastModified", ignore = true)
     void updateEventFromDto(EventRequest dto, @MappingTarget Event event);
+    EventResponse toEventResponse(ArchivedEvent event);
+    @Mapping(target = "archivedAt", ignore = true)
+    ArchivedEvent toArchivedEvent(Event event);
 }
\ No newline at end of file
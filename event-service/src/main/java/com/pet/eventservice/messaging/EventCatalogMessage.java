@@ -0,0 +1,9 @@
+package com.pet.eventservice.messaging;
+
+import com.pet.eventservice.dto.EventResponse;
+
+/**
+ * Full catalog change for downstream services. {@code event} is {@code null} for deletions.
+ */
+public record EventCatalogMessage(Long eventId, long version, EventChangeType type, EventResponse event) {
+}
@@ -0,0 +1,40 @@
+package com.pet.eventservice.messaging;
+
+import com.pet.eventservice.cache.EventCache;
+import com.pet.eventservice.exception.ResourceNotFoundException;
+import com.pet.eventservice.service.EventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps this replica's {@link EventCache} coherent with writes made on any replica. Each instance
+ * joins its own consumer group so every node sees every change. The search index does not rely
+ * on this topic, whose messages are sent without a retry; it follows the outbox topic instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventChangeListener {
+
+    private final EventCache eventCache;
+    private final EventService eventService;
+
+    @KafkaListener(
+            topics = "${events.cache.sync.topic:event-cache-invalidation}",
+            groupId = "${spring.application.name:event-service}-cache-${random.uuid}",
+            containerFactory = "eventChangeListenerContainerFactory",
+            autoStartup = "${events.cache.sync.enabled:true}")
+    public void onEventChange(EventChangeMessage message) {
+        if (message.type() == EventChangeType.DELETED) {
+            eventCache.invalidate(message.eventId());
+            return;
+        }
+        try {
+            eventCache.refreshIfStale(message.eventId(), message.version(), eventService::loadCachedEvent);
+        } catch (ResourceNotFoundException e) {
+            log.debug("Event {} disappeared before refresh", message.eventId());
+        }
+    }
+}
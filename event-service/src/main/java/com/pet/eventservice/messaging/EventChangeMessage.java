@@ -0,0 +1,8 @@
+package com.pet.eventservice.messaging;
+
+/**
+ * Compact notification that an event row changed. Carries no payload: replicas use it to
+ * decide whether their local copy is older than {@code version}.
+ */
+public record EventChangeMessage(Long eventId, long version, EventChangeType type) {
+}
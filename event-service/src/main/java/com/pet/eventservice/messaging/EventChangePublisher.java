@@ -0,0 +1,45 @@
+package com.pet.eventservice.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventChangePublisher {
+
+    private final KafkaTemplate<String, EventChangeMessage> eventChangeKafkaTemplate;
+
+    @Value("${events.cache.sync.topic:event-cache-invalidation}")
+    private String topic;
+
+    /**
+     * Sends the message once the surrounding transaction commits; rolled back writes are never announced.
+     */
+    public void publishAfterCommit(EventChangeMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(message);
+            }
+        });
+    }
+
+    private void send(EventChangeMessage message) {
+        eventChangeKafkaTemplate.send(topic, String.valueOf(message.eventId()), message)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish change for event {}: {}", message.eventId(), ex.getMessage());
+                    }
+                });
+    }
+}
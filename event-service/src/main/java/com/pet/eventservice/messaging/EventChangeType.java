@@ -0,0 +1,6 @@
+package com.pet.eventservice.messaging;
+
+public enum EventChangeType {
+    UPSERTED,
+    DELETED
+}
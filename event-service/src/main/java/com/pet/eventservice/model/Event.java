@@ -9,18 +9,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="events")
+@Table(name="events", indexes = @Index(name = "idx_events_date_id", columnList = "date, id"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 @Builder
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @NotEmpty(message = "Name must not be empty")
@@ -43,6 +46,12 @@ public class Event {
     @Column(columnDefinition = "VARCHAR(255)")
     @NotNull(message = "File")
     private String imageURL;
+
+    @Version
+    private Long version;
+
+    @UpdateTimestamp
+    private Instant lastModified;
 //    @JsonManagedReference
 //    @OneToMany(mappedBy = "concert", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 //    private List<Ticket> tickets;
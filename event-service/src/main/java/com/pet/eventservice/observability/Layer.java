@@ -0,0 +1,22 @@
+package com.pet.eventservice.observability;
+
+/**
+ * The parts of a request that are timed separately. Times are inclusive: service time contains
+ * the repository and mapping calls made from it.
+ */
+public enum Layer {
+    SERVICE("service"),
+    REPOSITORY("repository"),
+    MAPPER("mapper"),
+    SERIALIZATION("serialization");
+
+    private final String tag;
+
+    Layer(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
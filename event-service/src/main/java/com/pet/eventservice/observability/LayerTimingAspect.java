@@ -0,0 +1,89 @@
+package com.pet.eventservice.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times {@code EventService}, the Spring Data repositories and {@code EventMapper} per method as
+ * {@code events.layer.duration}, and adds the time to the current {@link RequestProfile}.
+ * <p>
+ * Timers are resolved once per method and cached, so the per-call cost is two
+ * {@code nanoTime()} calls and a map lookup.
+ */
+@Aspect
+public class LayerTimingAspect {
+
+    static final String METRIC = "events.layer.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean histograms;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private record TimerKey(Class<?> type, Method method) {
+    }
+
+    public LayerTimingAspect(MeterRegistry meterRegistry, boolean histograms) {
+        this.meterRegistry = meterRegistry;
+        this.histograms = histograms;
+    }
+
+    @Around("execution(public * com.pet.eventservice.service.EventService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Layer.SERVICE);
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Layer.REPOSITORY);
+    }
+
+    @Around("execution(* com.pet.eventservice.mapper.EventMapper.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Layer.MAPPER);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Layer layer) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timers.computeIfAbsent(new TimerKey(joinPoint.getThis().getClass(), method),
+                            key -> timer(layer, ownerName(joinPoint, layer), method))
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            RequestProfile profile = RequestProfile.current();
+            if (profile != null) {
+                profile.addLayerTime(layer, elapsed);
+            }
+        }
+    }
+
+    Timer timer(Layer layer, String owner, Method method) {
+        return Timer.builder(METRIC)
+                .description("Time spent in a service, repository, mapping or serialization call")
+                .tag("layer", layer.tag())
+                .tag("method", owner + "." + method.getName())
+                .publishPercentileHistogram(histograms)
+                .register(meterRegistry);
+    }
+
+    private static String ownerName(ProceedingJoinPoint joinPoint, Layer layer) {
+        if (layer == Layer.REPOSITORY) {
+            // Inherited methods such as findById are declared on CrudRepository; name the repository instead.
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(joinPoint.getThis());
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -0,0 +1,31 @@
+package com.pet.eventservice.observability;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads, attributing both to the
+ * current {@link RequestProfile}. Registered once for the session factory, so it holds no state
+ * of its own.
+ */
+public class QueryStatsCollector implements StatementInspector, Interceptor {
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.onStatement(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.onEntityLoaded();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pet.eventservice.observability;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What one request spent its time and database round trips on. Bound to the request thread by
+ * {@link RequestProfilingFilter}; work handed to other threads is not attributed to the request.
+ */
+final class RequestProfile {
+
+    // Enough to spot a repeated statement without letting a pathological request grow the map.
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] layerNanos = new long[Layer.values().length];
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long entitiesLoaded;
+    private String mostRepeatedStatement;
+    private int mostRepeats;
+
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    void addLayerTime(Layer layer, long nanos) {
+        layerNanos[layer.ordinal()] += nanos;
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        Integer count = statementCounts.get(sql);
+        if (count == null && statementCounts.size() >= MAX_DISTINCT_STATEMENTS) {
+            return;
+        }
+        int repeats = count == null ? 1 : count + 1;
+        statementCounts.put(sql, repeats);
+        if (repeats > mostRepeats) {
+            mostRepeats = repeats;
+            mostRepeatedStatement = sql;
+        }
+    }
+
+    void onEntityLoaded() {
+        entitiesLoaded++;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    long entitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    int mostRepeats() {
+        return mostRepeats;
+    }
+
+    String mostRepeatedStatement() {
+        return mostRepeatedStatement;
+    }
+
+    Map<String, Long> layerMillis() {
+        Map<String, Long> millis = new LinkedHashMap<>();
+        for (Layer layer : Layer.values()) {
+            if (layerNanos[layer.ordinal()] > 0) {
+                millis.put(layer.tag(), TimeUnit.NANOSECONDS.toMillis(layerNanos[layer.ordinal()]));
+            }
+        }
+        return millis;
+    }
+}
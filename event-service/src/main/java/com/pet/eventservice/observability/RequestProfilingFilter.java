@@ -0,0 +1,147 @@
+package com.pet.eventservice.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects a {@link RequestProfile} for each request and, once it completes:
+ * <ul>
+ *     <li>records statements and loaded entities per endpoint ({@code events.request.db.statements},
+ *     {@code events.request.db.entities});</li>
+ *     <li>flags likely N+1 access (one statement repeated many times) and large results in
+ *     {@code events.request.db.suspicious}, with a rate-limited warning;</li>
+ *     <li>samples requests slower than the threshold into the {@link SlowRequestLog}.</li>
+ * </ul>
+ */
+@Slf4j
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private static final long WARN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final MeterRegistry meterRegistry;
+    private final SlowRequestLog slowRequestLog;
+    private final Tracer tracer;
+    private final int repeatedStatementThreshold;
+    private final long largeResultThreshold;
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+    private final Map<String, Long> lastWarned = new ConcurrentHashMap<>();
+
+    public RequestProfilingFilter(MeterRegistry meterRegistry, SlowRequestLog slowRequestLog, Tracer tracer,
+                                  int repeatedStatementThreshold, long largeResultThreshold,
+                                  Duration slowThreshold, double slowSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestLog = slowRequestLog;
+        this.tracer = tracer;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+        this.largeResultThreshold = largeResultThreshold;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestProfile.end();
+            long elapsed = profile.elapsedNanos();
+            String uri = uri(request);
+            recordDbStats(request.getMethod(), uri, profile);
+            if (elapsed >= slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+                slowRequestLog.record(slowRequest(request, response, uri, profile, elapsed));
+            }
+        }
+    }
+
+    private void recordDbStats(String method, String uri, RequestProfile profile) {
+        DistributionSummary.builder("events.request.db.statements")
+                .description("SQL statements executed per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(profile.statements());
+        DistributionSummary.builder("events.request.db.entities")
+                .description("Entities loaded per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(profile.entitiesLoaded());
+        if (profile.mostRepeats() >= repeatedStatementThreshold) {
+            flag(method, uri, "repeated-statement", "Possible N+1 in {} {}: statement ran {} times: {}",
+                    profile.mostRepeats(), profile.mostRepeatedStatement());
+        }
+        if (profile.entitiesLoaded() >= largeResultThreshold) {
+            flag(method, uri, "large-result", "Large result in {} {}: {} entities loaded in {} statements",
+                    profile.entitiesLoaded(), profile.statements());
+        }
+    }
+
+    private void flag(String method, String uri, String reason, String message, Object first, Object second) {
+        Counter.builder("events.request.db.suspicious")
+                .description("Requests with a likely N+1 pattern or an unusually large result")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        String key = method + ' ' + uri + ' ' + reason;
+        long now = System.nanoTime();
+        Long previous = lastWarned.get(key);
+        boolean due = previous == null
+                ? lastWarned.putIfAbsent(key, now) == null
+                : now - previous >= WARN_INTERVAL_NANOS && lastWarned.replace(key, previous, now);
+        if (due) {
+            log.warn(message, method, uri, first, second);
+        }
+    }
+
+    private SlowRequest slowRequest(HttpServletRequest request, HttpServletResponse response, String uri,
+                                    RequestProfile profile, long elapsed) {
+        boolean repeated = profile.mostRepeats() > 1;
+        return new SlowRequest(
+                Instant.now(),
+                request.getMethod(),
+                uri,
+                request.getQueryString(),
+                response.getStatus(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                profile.statements(),
+                profile.entitiesLoaded(),
+                profile.layerMillis(),
+                repeated ? profile.mostRepeatedStatement() : null,
+                repeated ? profile.mostRepeats() : 0,
+                traceId());
+    }
+
+    private String traceId() {
+        Span span = tracer != null ? tracer.currentSpan() : null;
+        return span != null ? span.context().traceId() : null;
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched paths are not used as tags, which would let any client create new series.
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,26 @@
+package com.pet.eventservice.observability;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A request that took longer than {@code events.observability.slow-requests.threshold}.
+ *
+ * @param uri                   the matched URI template, or {@code UNKNOWN} if no handler matched
+ * @param layerMillis           inclusive time per {@link Layer}
+ * @param mostRepeatedStatement the statement executed most often, if it ran more than once
+ */
+public record SlowRequest(
+        Instant timestamp,
+        String method,
+        String uri,
+        String query,
+        int status,
+        long durationMillis,
+        int statements,
+        long entitiesLoaded,
+        Map<String, Long> layerMillis,
+        String mostRepeatedStatement,
+        int mostRepeats,
+        String traceId) {
+}
@@ -0,0 +1,44 @@
+package com.pet.eventservice.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring of the most recent slow requests. Writers claim a slot with one atomic
+ * increment, so recording never blocks a request; the oldest entry is simply overwritten.
+ */
+public class SlowRequestLog {
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    public SlowRequestLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void record(SlowRequest request) {
+        long index = written.getAndIncrement();
+        slots.set((int) (index % slots.length()), request);
+    }
+
+    /**
+     * @return the retained requests, newest first
+     */
+    public List<SlowRequest> recent() {
+        long end = written.get();
+        long start = Math.max(0, end - slots.length());
+        List<SlowRequest> recent = new ArrayList<>((int) (end - start));
+        for (long index = end - 1; index >= start; index--) {
+            SlowRequest request = slots.get((int) (index % slots.length()));
+            if (request != null) {
+                recent.add(request);
+            }
+        }
+        return recent;
+    }
+}
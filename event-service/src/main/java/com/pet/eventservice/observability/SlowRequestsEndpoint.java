@@ -0,0 +1,23 @@
+package com.pet.eventservice.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/slowrequests}: the sampled slow requests with their per-layer breakdown and
+ * database statistics, newest first.
+ */
+@Endpoint(id = "slowrequests")
+@RequiredArgsConstructor
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    @ReadOperation
+    public List<SlowRequest> slowRequests() {
+        return slowRequestLog.recent();
+    }
+}
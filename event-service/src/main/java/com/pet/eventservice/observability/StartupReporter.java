@@ -0,0 +1,99 @@
+package com.pet.eventservice.observability;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Reports how quickly a new instance becomes useful, to track the fast-startup build: JVM uptime
+ * when the context is ready and when the first API request completes, and heap / non-heap usage
+ * at ready. Logged once and kept as {@code events.startup.*} gauges.
+ * <p>
+ * Only requests under {@value #API_PATH} count: the first request an instance sees is usually a
+ * health or readiness probe, which says nothing about serving real traffic.
+ */
+@Slf4j
+public class StartupReporter extends OncePerRequestFilter {
+
+    private static final long MB = 1024 * 1024;
+    private static final String API_PATH = "/v1/";
+
+    private final LongSupplier uptimeMillis;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    private volatile double readyMillis = Double.NaN;
+    private volatile double firstRequestMillis = Double.NaN;
+    private volatile double heapUsedAtReady = Double.NaN;
+    private volatile double nonHeapUsedAtReady = Double.NaN;
+
+    public StartupReporter(MeterRegistry meterRegistry) {
+        this(meterRegistry, ManagementFactory.getRuntimeMXBean()::getUptime);
+    }
+
+    StartupReporter(MeterRegistry meterRegistry, LongSupplier uptimeMillis) {
+        this.uptimeMillis = uptimeMillis;
+        Gauge.builder("events.startup.ready.time", this, reporter -> reporter.readyMillis)
+                .description("JVM uptime when the application was ready to serve")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("events.startup.first-request.time", this, reporter -> reporter.firstRequestMillis)
+                .description("JVM uptime when the first API request completed")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("events.startup.heap.used", this, reporter -> reporter.heapUsedAtReady)
+                .description("Heap in use when the application was ready")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("events.startup.nonheap.used", this, reporter -> reporter.nonHeapUsedAtReady)
+                .description("Non-heap memory (metaspace, code cache, CDS) in use when the application was ready")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = uptimeMillis.getAsLong();
+        long heap = memory.getHeapMemoryUsage().getUsed();
+        long nonHeap = memory.getNonHeapMemoryUsage().getUsed();
+        heapUsedAtReady = heap;
+        nonHeapUsedAtReady = nonHeap;
+        // java.vm.info contains "sharing" when classes were mapped from a CDS archive.
+        log.info("Ready {} ms after JVM start, heap {} MB, non-heap {} MB, AOT {}, CDS {}",
+                (long) readyMillis, heap / MB, nonHeap / MB,
+                AotDetector.useGeneratedArtifacts() ? "on" : "off",
+                System.getProperty("java.vm.info", "").contains("sharing") ? "on" : "off");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return firstRequestSeen.get()
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (firstRequestSeen.compareAndSet(false, true)) {
+                firstRequestMillis = uptimeMillis.getAsLong();
+                log.info("First API request served {} ms after JVM start", (long) firstRequestMillis);
+            }
+        }
+    }
+}
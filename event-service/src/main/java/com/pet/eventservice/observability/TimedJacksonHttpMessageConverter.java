@@ -0,0 +1,54 @@
+package com.pet.eventservice.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson converter that times response serialization as the {@code serialization} layer, tagged
+ * with the response body type.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean histograms;
+    private final Map<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry, boolean histograms) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+        this.histograms = histograms;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.computeIfAbsent(object.getClass(), this::timer).record(elapsed, TimeUnit.NANOSECONDS);
+            RequestProfile profile = RequestProfile.current();
+            if (profile != null) {
+                profile.addLayerTime(Layer.SERIALIZATION, elapsed);
+            }
+        }
+    }
+
+    private Timer timer(Class<?> bodyType) {
+        return Timer.builder(LayerTimingAspect.METRIC)
+                .description("Time spent in a service, repository, mapping or serialization call")
+                .tag("layer", Layer.SERIALIZATION.tag())
+                .tag("method", bodyType.getSimpleName())
+                .publishPercentileHistogram(histograms)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.pet.eventservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains {@code event_outbox} to Kafka in batches, off the request path.
+ * <p>
+ * A batch is claimed with {@code SKIP LOCKED}, handed to the producer in one go (so it is
+ * coalesced by linger/batch size), and deleted only once every record has been acknowledged.
+ * If the broker is unavailable the transaction rolls back and the rows are retried on the
+ * next run; delivery is therefore at-least-once.
+ * <p>
+ * Records are keyed by event ID, so one relay publishes an event's changes in order. Several
+ * relays may claim consecutive changes of the same event and publish them in either order;
+ * every message carries the event version, and consumers drop those older than what they hold.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> catalogKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       @Qualifier("catalogKafkaTemplate") KafkaTemplate<String, String> catalogKafkaTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${events.outbox.topic:event-catalog}") String topic,
+                       @Value("${events.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${events.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.outboxRepository = outboxRepository;
+        this.catalogKafkaTemplate = catalogKafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.relay.interval:PT0.2S}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay paused, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = outboxRepository.claimBatch(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        CompletableFuture<?>[] sends = batch.stream()
+                .map(message -> catalogKafkaTemplate.send(topic, String.valueOf(message.getEventId()), message.getPayload()))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox batch", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to publish outbox batch of " + batch.size(), e);
+        }
+        outboxRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+}
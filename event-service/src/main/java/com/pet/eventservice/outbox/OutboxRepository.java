@@ -0,0 +1,27 @@
+package com.pet.eventservice.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.pet.eventservice.repository.LockHints.SKIP_LOCKED;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Claims the oldest pending messages; rows already claimed by another relay instance are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = JAKARTA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("select m from OutboxMessage m order by m.id asc")
+    List<OutboxMessage> claimBatch(Limit limit);
+}
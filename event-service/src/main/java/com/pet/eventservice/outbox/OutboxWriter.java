@@ -0,0 +1,41 @@
+package com.pet.eventservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.messaging.EventCatalogMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Records the change in the caller's transaction, so it is published if and only if the write commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EventCatalogMessage message) {
+        outboxRepository.save(OutboxMessage.builder()
+                .eventId(message.eventId())
+                .version(message.version())
+                .type(message.type())
+                .payload(toJson(message))
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    private String toJson(EventCatalogMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize catalog change for event " + message.eventId(), e);
+        }
+    }
+}
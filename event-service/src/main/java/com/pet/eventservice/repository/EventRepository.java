@@ -1,10 +1,60 @@
 package com.pet.eventservice.repository;
 
 import com.pet.eventservice.model.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_LOCK_TIMEOUT;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface EventRepository extends JpaRepository<Event,Long> {
 
+    @Query("select e from Event e order by e.date asc, e.id asc")
+    List<Event> findFirstPage(Limit limit);
+
+    @Query("select e from Event e where e.date > :date or (e.date = :date and e.id > :id) order by e.date asc, e.id asc")
+    List<Event> findPageAfter(@Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    @Query("select new com.pet.eventservice.repository.EventVersion(e.id, e.version) "
+            + "from Event e order by e.date asc, e.id asc")
+    List<EventVersion> findFirstPageVersions(Limit limit);
+
+    @Query("select new com.pet.eventservice.repository.EventVersion(e.id, e.version) "
+            + "from Event e where e.date > :date or (e.date = :date and e.id > :id) order by e.date asc, e.id asc")
+    List<EventVersion> findPageVersionsAfter(@Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    /**
+     * Superset of events whose (name, date) could match one of the given natural keys; callers match exactly in memory.
+     */
+    @Query("select e from Event e where e.date in :dates and e.name in :names")
+    List<Event> findNaturalKeyCandidates(@Param("dates") Collection<LocalDate> dates, @Param("names") Collection<String> names);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Event e order by e.date asc, e.id asc")
+    Stream<Event> streamAllOrdered();
+
+    /**
+     * Claims the oldest events dated before the cutoff for archival; rows already claimed by another instance are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = JAKARTA_LOCK_TIMEOUT, value = LockHints.SKIP_LOCKED))
+    @Query("select e from Event e where e.date < :cutoff order by e.date asc, e.id asc")
+    List<Event> claimEndedBefore(@Param("cutoff") LocalDate cutoff, Limit limit);
 }
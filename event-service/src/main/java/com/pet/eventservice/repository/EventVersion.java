@@ -0,0 +1,7 @@
+package com.pet.eventservice.repository;
+
+/**
+ * Narrow projection used to validate cached listings without loading full rows.
+ */
+public record EventVersion(Long id, Long version) {
+}
@@ -0,0 +1,15 @@
+package com.pet.eventservice.repository;
+
+/**
+ * Values for the {@code jakarta.persistence.lock.timeout} query hint of pessimistic claims.
+ */
+public final class LockHints {
+
+    /**
+     * Lock timeout Hibernate renders as {@code SKIP LOCKED}, so concurrent claimers take disjoint rows.
+     */
+    public static final String SKIP_LOCKED = "-2";
+
+    private LockHints() {
+    }
+}
@@ -0,0 +1,66 @@
+package com.pet.eventservice.repository;
+
+import com.pet.eventservice.dto.EventResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking reads over the {@code events} table (schema owned by JPA), mapped straight to
+ * {@link EventResponse} without going through entities.
+ * <p>
+ * Listings set a fetch size so drivers that support it (PostgreSQL) pull rows from a server-side
+ * cursor as subscribers request them, instead of buffering the whole result.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveEventRepository {
+
+    private static final int FETCH_SIZE = 256;
+
+    private static final String COLUMNS = "select id, name, date, venue, artist, description, imageurl from events ";
+    private static final String ORDER = " order by date asc, id asc";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<EventResponse> findById(Long id) {
+        return databaseClient.sql(COLUMNS + "where id = :id")
+                .bind("id", id)
+                .map(ReactiveEventRepository::toResponse)
+                .one();
+    }
+
+    public Flux<EventResponse> findAllOrdered(int limit) {
+        return databaseClient.sql(COLUMNS + ORDER + " limit :limit")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("limit", limit)
+                .map(ReactiveEventRepository::toResponse)
+                .all();
+    }
+
+    public Flux<EventResponse> findAllOrderedAfter(LocalDate date, Long id, int limit) {
+        return databaseClient.sql(COLUMNS + "where date > :date or (date = :date and id > :id)" + ORDER + " limit :limit")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .bind("date", date)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveEventRepository::toResponse)
+                .all();
+    }
+
+    private static EventResponse toResponse(Readable row) {
+        return new EventResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("date", LocalDate.class),
+                row.get("venue", String.class),
+                row.get("artist", String.class),
+                row.get("description", String.class),
+                row.get("imageurl", String.class));
+    }
+}
@@ -0,0 +1,404 @@
+package com.pet.eventservice.search;
+
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.dto.EventSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over event name, artist and venue, with a date-ordered secondary index.
+ * <p>
+ * Term postings live in a sorted map so a prefix query is a single sub-map range; words that match
+ * no prefix fall back to a bounded edit-distance scan over terms sharing the first letter. Queries
+ * take the read lock only, writes (one event at a time) take the write lock.
+ * <p>
+ * Hits are kept in a heap of {@code limit} entries rather than sorting all matches, and facets and
+ * the total are counted over the first {@value #MAX_FACET_SCAN} matches only. A query without
+ * words walks the date index in order and stops once both are done, so does a query whose words
+ * are so short that their postings would cover that many documents: those words are checked
+ * against each walked event instead of being collected into a set. Either way a broad query
+ * costs about {@value #MAX_FACET_SCAN} documents, not the whole index.
+ */
+@Component
+public class EventSearchIndex {
+
+    public static final String ARTIST_FACET = "artist";
+    public static final String VENUE_FACET = "venue";
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final int FUZZY_TWO_EDITS_MIN_LENGTH = 8;
+    private static final int MAX_FACET_VALUES = 20;
+    static final int MAX_FACET_SCAN = 10_000;
+    private static final Comparator<EventResponse> BY_DATE_THEN_ID = Comparator
+            .comparing(EventResponse::date, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(EventResponse::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, CachedEvent> documents = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final NavigableMap<LocalDate, Set<Long>> byDate = new TreeMap<>();
+    private final Set<Long> undated = new HashSet<>();
+
+    /**
+     * Adds or replaces an event. Versions older than the indexed one are ignored, so out-of-order
+     * change notifications cannot roll the index back.
+     */
+    public void upsert(CachedEvent event) {
+        Long id = event.response().id();
+        lock.writeLock().lock();
+        try {
+            CachedEvent existing = documents.get(id);
+            if (existing != null) {
+                if (existing.version() > event.version()) {
+                    return;
+                }
+                unindex(existing.response());
+            }
+            documents.put(id, event);
+            index(event.response());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            CachedEvent existing = documents.remove(id);
+            if (existing != null) {
+                unindex(existing.response());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isStale(Long id, long version) {
+        lock.readLock().lock();
+        try {
+            CachedEvent existing = documents.get(id);
+            return existing == null || existing.version() < version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public EventSearchResponse search(EventSearchQuery query) {
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            List<String> broadTerms = new ArrayList<>();
+            for (String term : tokenize(query.text())) {
+                SortedMap<String, Set<Long>> range = prefixRange(term);
+                if (isBroad(range)) {
+                    broadTerms.add(term);
+                    continue;
+                }
+                Set<Long> matches = matchTerm(term, range);
+                candidates = candidates == null ? matches : intersect(candidates, matches);
+                if (candidates.isEmpty()) {
+                    return new EventSearchResponse(List.of(), 0, false, Map.of());
+                }
+            }
+            Matches matches = new Matches(query);
+            Predicate<EventResponse> filter = event -> broadTerms.isEmpty() || containsPrefixes(event, broadTerms);
+            if (candidates == null) {
+                walkDates(query, matches, filter, broadTerms.isEmpty());
+            } else {
+                for (Long id : candidates) {
+                    EventResponse event = documents.get(id).response();
+                    if (inDateRange(event.date(), query.from(), query.to()) && filter.test(event)) {
+                        matches.offer(event);
+                    }
+                }
+            }
+            return matches.toResponse();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(EventResponse event) {
+        for (String term : terms(event)) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(event.id());
+        }
+        if (event.date() != null) {
+            byDate.computeIfAbsent(event.date(), key -> new HashSet<>()).add(event.id());
+        } else {
+            undated.add(event.id());
+        }
+    }
+
+    private void unindex(EventResponse event) {
+        for (String term : terms(event)) {
+            removePosting(postings, term, event.id());
+        }
+        if (event.date() != null) {
+            removePosting(byDate, event.date(), event.id());
+        } else {
+            undated.remove(event.id());
+        }
+    }
+
+    private static <K> void removePosting(Map<K, Set<Long>> index, K key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Offers the events in the date range in date order, stopping once the hits and the counted
+     * matches are complete. Whatever is left is still added to the total when that needs no look
+     * at the events, otherwise the total is reported as capped.
+     */
+    private void walkDates(EventSearchQuery query, Matches matches, Predicate<EventResponse> filter, boolean unfiltered) {
+        Stream<Set<Long>> groups = byDate.subMap(query.from() != null ? query.from() : LocalDate.MIN, true,
+                query.to() != null ? query.to() : LocalDate.MAX, true).values().stream();
+        if (query.from() == null && query.to() == null) {
+            groups = Stream.concat(groups, Stream.of(undated));
+        }
+        boolean countOnly = unfiltered && isBlank(query.artist()) && isBlank(query.venue());
+        for (Iterator<Set<Long>> it = groups.iterator(); it.hasNext(); ) {
+            Set<Long> ids = it.next();
+            if (!matches.isComplete()) {
+                offerAll(ids, matches, filter);
+            } else if (countOnly) {
+                matches.countUnseen(ids.size());
+            } else {
+                matches.capTotal();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Whether a term's postings add up to more documents than a query should collect into a set.
+     */
+    private static boolean isBroad(SortedMap<String, Set<Long>> range) {
+        int postingCount = 0;
+        for (Set<Long> ids : range.values()) {
+            postingCount += ids.size();
+            if (postingCount > MAX_FACET_SCAN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsPrefixes(EventResponse event, List<String> prefixes) {
+        Set<String> terms = terms(event);
+        for (String prefix : prefixes) {
+            if (terms.stream().noneMatch(term -> term.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Set<Long> matchTerm(String term, SortedMap<String, Set<Long>> range) {
+        Set<Long> matches = new HashSet<>();
+        for (Set<Long> ids : range.values()) {
+            matches.addAll(ids);
+        }
+        if (matches.isEmpty() && term.length() >= FUZZY_MIN_LENGTH) {
+            int maxEdits = term.length() >= FUZZY_TWO_EDITS_MIN_LENGTH ? 2 : 1;
+            for (Map.Entry<String, Set<Long>> entry : prefixRange(term.substring(0, 1)).entrySet()) {
+                String candidate = entry.getKey();
+                // Compare against the candidate's leading characters so fuzzy matching is also prefix-friendly.
+                String head = candidate.length() > term.length() + maxEdits
+                        ? candidate.substring(0, term.length())
+                        : candidate;
+                if (withinEditDistance(term, head, maxEdits)) {
+                    matches.addAll(entry.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    private SortedMap<String, Set<Long>> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void offerAll(Set<Long> ids, Matches matches, Predicate<EventResponse> filter) {
+        for (Long id : ids) {
+            EventResponse event = documents.get(id).response();
+            if (filter.test(event)) {
+                matches.offer(event);
+            }
+        }
+    }
+
+    private static boolean inDateRange(LocalDate date, LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return date != null && (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+    }
+
+    private static Set<Long> intersect(Set<Long> left, Set<Long> right) {
+        Set<Long> smaller = left.size() <= right.size() ? left : right;
+        Set<Long> larger = smaller == left ? right : left;
+        Set<Long> result = new HashSet<>();
+        for (Long id : smaller) {
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static boolean matchesFacet(String filter, String value) {
+        return isBlank(filter) || filter.equalsIgnoreCase(value);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Collects the first {@code limit} matches in date order, the total, and facet counts over a
+     * bounded number of matches.
+     */
+    private static final class Matches {
+
+        private final EventSearchQuery query;
+        // Latest of the kept hits on top, so a better match replaces it.
+        private final PriorityQueue<EventResponse> top;
+        private final Map<String, Integer> artists = new HashMap<>();
+        private final Map<String, Integer> venues = new HashMap<>();
+        private int total;
+        private boolean totalCapped;
+
+        Matches(EventSearchQuery query) {
+            this.query = query;
+            this.top = new PriorityQueue<>(Math.max(query.limit(), 1), BY_DATE_THEN_ID.reversed());
+        }
+
+        void offer(EventResponse event) {
+            if (!matchesFacet(query.artist(), event.artist()) || !matchesFacet(query.venue(), event.venue())) {
+                return;
+            }
+            total++;
+            if (total <= MAX_FACET_SCAN) {
+                count(artists, event.artist());
+                count(venues, event.venue());
+            }
+            if (top.size() < query.limit()) {
+                top.add(event);
+            } else if (query.limit() > 0 && BY_DATE_THEN_ID.compare(event, top.peek()) < 0) {
+                top.poll();
+                top.add(event);
+            }
+        }
+
+        /**
+         * Whether the hits and facets are final; a date-ordered walk may stop here.
+         */
+        boolean isComplete() {
+            return top.size() >= query.limit() && total >= MAX_FACET_SCAN;
+        }
+
+        void countUnseen(int matches) {
+            total += matches;
+        }
+
+        void capTotal() {
+            totalCapped = true;
+        }
+
+        EventSearchResponse toResponse() {
+            List<EventResponse> hits = new ArrayList<>(top);
+            hits.sort(BY_DATE_THEN_ID);
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put(ARTIST_FACET, topValues(artists));
+            facets.put(VENUE_FACET, topValues(venues));
+            return new EventSearchResponse(hits, total, totalCapped, facets);
+        }
+
+        private static void count(Map<String, Integer> counts, String value) {
+            if (value != null) {
+                counts.merge(value, 1, Integer::sum);
+            }
+        }
+
+        private static Map<String, Integer> topValues(Map<String, Integer> counts) {
+            Map<String, Integer> top = new LinkedHashMap<>();
+            counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(MAX_FACET_VALUES)
+                    .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+            return top;
+        }
+    }
+
+    private static Set<String> terms(EventResponse event) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(event.name()));
+        terms.addAll(tokenize(event.artist()));
+        terms.addAll(tokenize(event.venue()));
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Levenshtein distance check that gives up as soon as every cell in a row exceeds {@code maxEdits}.
+     */
+    static boolean withinEditDistance(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+}
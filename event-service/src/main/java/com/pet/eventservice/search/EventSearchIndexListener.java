@@ -0,0 +1,99 @@
+package com.pet.eventservice.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.messaging.EventCatalogMessage;
+import com.pet.eventservice.messaging.EventChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies the catalog changes relayed from the outbox to this replica's {@link EventSearchIndex}.
+ * <p>
+ * The outbox topic carries every committed change, so unlike the cache invalidation topic it
+ * cannot miss one. {@link EventSearchIndexLoader} marks where the topic ends before it reads the
+ * snapshot and starts this listener from there: whatever changed while the snapshot was read, or
+ * before the listener got its partitions, is replayed on top of it. Replayed upserts older than
+ * the indexed version are ignored, and a deletion replays after any upsert of the same event.
+ */
+@Slf4j
+@Component
+public class EventSearchIndexListener implements ConsumerSeekAware {
+
+    public static final String LISTENER_ID = "event-search-index";
+
+    private final EventSearchIndex eventSearchIndex;
+    private final ObjectMapper objectMapper;
+    private final ConsumerFactory<?, ?> consumerFactory;
+    private final String topic;
+
+    private volatile Map<TopicPartition, Long> startOffsets = Map.of();
+
+    public EventSearchIndexListener(EventSearchIndex eventSearchIndex, ObjectMapper objectMapper,
+                                    @Qualifier("eventCatalogListenerContainerFactory")
+                                    ConcurrentKafkaListenerContainerFactory<String, String> containerFactory,
+                                    @Value("${events.outbox.topic:event-catalog}") String topic) {
+        this.eventSearchIndex = eventSearchIndex;
+        this.objectMapper = objectMapper;
+        this.consumerFactory = containerFactory.getConsumerFactory();
+        this.topic = topic;
+    }
+
+    /**
+     * Remembers the current end of every partition as the position to start from.
+     */
+    public void markStart() {
+        try (Consumer<?, ?> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            startOffsets = Map.copyOf(consumer.endOffsets(partitions));
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : assignments.keySet()) {
+            Long offset = startOffsets.get(partition);
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset);
+            } else {
+                // Created after the mark, so everything in it is newer than the snapshot.
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        }
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${events.outbox.topic:event-catalog}",
+            groupId = "${spring.application.name:event-service}-search-${random.uuid}",
+            containerFactory = "eventCatalogListenerContainerFactory",
+            autoStartup = "false")
+    public void onCatalogChange(String payload) {
+        EventCatalogMessage message;
+        try {
+            message = objectMapper.readValue(payload, EventCatalogMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable catalog change: {}", payload, e);
+            return;
+        }
+        if (message.type() == EventChangeType.DELETED) {
+            eventSearchIndex.remove(message.eventId());
+        } else {
+            eventSearchIndex.upsert(new CachedEvent(message.event(), message.version(), null));
+        }
+    }
+}
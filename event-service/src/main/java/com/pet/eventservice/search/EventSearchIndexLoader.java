@@ -0,0 +1,48 @@
+package com.pet.eventservice.search;
+
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.mapper.EventMapper;
+import com.pet.eventservice.service.EventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the {@link EventSearchIndex} from a single streaming pass over the events table once the
+ * application is up. Later changes arrive from {@link EventService} for local writes and from
+ * {@link EventSearchIndexListener} for all of them, starting at the catalog position marked
+ * before the snapshot, so nothing committed around startup is missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndexLoader {
+
+    private final EventService eventService;
+    private final EventMapper eventMapper;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSearchIndexListener eventSearchIndexListener;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Value("${events.search.sync.enabled:true}")
+    private boolean syncEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (syncEnabled) {
+            eventSearchIndexListener.markStart();
+        }
+        long start = System.nanoTime();
+        eventService.streamAllEvents(event ->
+                eventSearchIndex.upsert(new CachedEvent(eventMapper.toEventResponse(event),
+                        CachedEvent.versionOf(event.getVersion()), event.getLastModified())));
+        log.info("Indexed {} events for search in {} ms", eventSearchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+        if (syncEnabled) {
+            listenerRegistry.getListenerContainer(EventSearchIndexListener.LISTENER_ID).start();
+        }
+    }
+}
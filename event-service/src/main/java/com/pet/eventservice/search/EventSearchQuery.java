@@ -0,0 +1,14 @@
+package com.pet.eventservice.search;
+
+import java.time.LocalDate;
+
+/**
+ * @param text   free text matched by prefix (and, for longer words, fuzzily) against name, artist and venue
+ * @param from   inclusive lower bound on the event date, or {@code null}
+ * @param to     inclusive upper bound on the event date, or {@code null}
+ * @param artist exact (case-insensitive) artist facet filter, or {@code null}
+ * @param venue  exact (case-insensitive) venue facet filter, or {@code null}
+ * @param limit  maximum number of hits to return
+ */
+public record EventSearchQuery(String text, LocalDate from, LocalDate to, String artist, String venue, int limit) {
+}
@@ -0,0 +1,8 @@
+package com.pet.eventservice.service;
+
+import com.pet.eventservice.archive.ArchivedEvent;
+
+import java.util.List;
+
+public record ArchivedEventPage(List<ArchivedEvent> events, String nextCursor) {
+}
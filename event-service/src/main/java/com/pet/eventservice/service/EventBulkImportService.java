@@ -0,0 +1,105 @@
+package com.pet.eventservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.pet.eventservice.dto.BulkImportResponse;
+import com.pet.eventservice.dto.BulkImportRowResult;
+import com.pet.eventservice.dto.EventRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * Streams a JSON array or NDJSON body of {@link EventRequest} rows, validates them and upserts
+ * them in fixed-size chunks, one transaction per chunk. Only one chunk is held in memory at a time.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventBulkImportService {
+
+    private final EventService eventService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${events.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkImportResponse importEvents(InputStream body) throws IOException {
+        List<BulkImportRowResult> results = new ArrayList<>();
+        Map<Integer, EventRequest> chunk = new LinkedHashMap<>();
+        int row = 0;
+        try (MappingIterator<EventRequest> requests = objectMapper.readerFor(EventRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                EventRequest request = requests.nextValue();
+                Map<String, String> errors = validate(request);
+                if (errors.isEmpty()) {
+                    chunk.put(row, request);
+                } else {
+                    results.add(BulkImportRowResult.failed(row, errors));
+                }
+                row++;
+                if (chunk.size() >= chunkSize) {
+                    results.addAll(upsertChunk(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+            // The stream cannot be resynchronised after malformed input, so the import stops here.
+            results.add(BulkImportRowResult.failed(row, Map.of("payload", "Malformed JSON: " + e.getMessage())));
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(upsertChunk(chunk));
+        }
+
+        results.sort(Comparator.comparingInt(BulkImportRowResult::row));
+        int created = 0;
+        int updated = 0;
+        int duplicate = 0;
+        int failed = 0;
+        for (BulkImportRowResult result : results) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case DUPLICATE -> duplicate++;
+                case FAILED -> failed++;
+            }
+        }
+        return new BulkImportResponse(results.size(), created, updated, duplicate, failed, results);
+    }
+
+    private List<BulkImportRowResult> upsertChunk(Map<Integer, EventRequest> chunk) {
+        try {
+            return eventService.upsertEvents(chunk);
+        } catch (RuntimeException e) {
+            log.warn("Bulk import chunk starting at row {} failed: {}", chunk.keySet().iterator().next(), e.getMessage());
+            List<BulkImportRowResult> failed = new ArrayList<>(chunk.size());
+            chunk.keySet().forEach(row -> failed.add(BulkImportRowResult.failed(row, Map.of("row", "Chunk rejected: " + e.getMessage()))));
+            return failed;
+        }
+    }
+
+    private Map<String, String> validate(EventRequest request) {
+        if (request == null) {
+            return Map.of("row", "Row must be a JSON object");
+        }
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<EventRequest> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,11 @@
+package com.pet.eventservice.service;
+
+import com.pet.eventservice.model.Event;
+
+import java.util.List;
+
+/**
+ * @param etag validator computed from the same rows as {@code events}, see {@link EventPageVersion}
+ */
+public record EventPage(List<Event> events, String nextCursor, String etag) {
+}
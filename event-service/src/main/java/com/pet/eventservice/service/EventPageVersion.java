@@ -0,0 +1,9 @@
+package com.pet.eventservice.service;
+
+/**
+ * Validator for one listing page: a strong ETag over the IDs and versions in the page's keyset
+ * window. Listings carry no Last-Modified, since an event deleted, archived or moved out of the
+ * window would not advance it.
+ */
+public record EventPageVersion(String etag) {
+}
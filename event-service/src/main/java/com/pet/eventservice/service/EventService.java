@@ -1,25 +1,145 @@
 package com.pet.eventservice.service;
 
+import com.pet.eventservice.archive.ArchivedEvent;
+import com.pet.eventservice.archive.ArchivedEventRepository;
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.cache.EventCache;
+import com.pet.eventservice.dto.BulkImportRowResult;
+import com.pet.eventservice.dto.BulkImportRowStatus;
 import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.dto.EventSearchResponse;
 import com.pet.eventservice.exception.ResourceNotFoundException;
 import com.pet.eventservice.mapper.EventMapper;
+import com.pet.eventservice.messaging.EventCatalogMessage;
+import com.pet.eventservice.messaging.EventChangeMessage;
+import com.pet.eventservice.messaging.EventChangePublisher;
+import com.pet.eventservice.messaging.EventChangeType;
 import com.pet.eventservice.model.Event;
+import com.pet.eventservice.outbox.OutboxWriter;
 import com.pet.eventservice.repository.EventRepository;
+import com.pet.eventservice.repository.EventVersion;
+import com.pet.eventservice.search.EventSearchIndex;
+import com.pet.eventservice.search.EventSearchQuery;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final EventCache eventCache;
+    private final EventChangePublisher eventChangePublisher;
+    private final OutboxWriter outboxWriter;
+    private final EventSearchIndex eventSearchIndex;
+    private final ArchivedEventRepository archivedEventRepository;
+
+    public EventPage getEventPage(String cursor, int size) {
+        int pageSize = pageSize(size);
+        // One extra row tells us whether a next page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+        List<Event> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findFirstPage(limit);
+        } else {
+            EventCursor position = EventCursor.decode(cursor);
+            events = eventRepository.findPageAfter(position.date(), position.id(), limit);
+        }
+        String etag = pageEtag(cursor, pageSize, events.stream()
+                .map(event -> new EventVersion(event.getId(), event.getVersion())).toList());
+        if (events.size() <= pageSize) {
+            return new EventPage(events, null, etag);
+        }
+        List<Event> page = events.subList(0, pageSize);
+        Event last = page.get(pageSize - 1);
+        return new EventPage(page, new EventCursor(last.getDate(), last.getId()).encode(), etag);
+    }
+
+    /**
+     * Computes the validator of the page {@link #getEventPage} would return, reading only
+     * (id, version) for the same keyset window. Good for answering a conditional
+     * request without loading the page; a page that is sent must carry the ETag of
+     * {@link EventPage#etag()} instead, which was computed from the rows actually in the body.
+     */
+    public EventPageVersion getEventPageVersion(String cursor, int size) {
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<EventVersion> versions;
+        if (cursor == null || cursor.isBlank()) {
+            versions = eventRepository.findFirstPageVersions(limit);
+        } else {
+            EventCursor position = EventCursor.decode(cursor);
+            versions = eventRepository.findPageVersionsAfter(position.date(), position.id(), limit);
+        }
+        return new EventPageVersion(pageEtag(cursor, pageSize, versions));
+    }
+
+    private static String pageEtag(String cursor, int pageSize, List<EventVersion> window) {
+        MessageDigest digest = sha256();
+        digest.update((cursor + "|" + pageSize).getBytes(StandardCharsets.UTF_8));
+        for (EventVersion version : window) {
+            digest.update((";" + version.id() + ":" + version.version()).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = Arrays.copyOf(digest.digest(), 16);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Feeds every event to the consumer in (date, id) order from a server-side cursor,
+     * detaching each row so the persistence context does not grow with the catalog.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllEvents(Consumer<Event> consumer) {
+        try (Stream<Event> events = eventRepository.streamAllOrdered()) {
+            events.forEach(event -> {
+                consumer.accept(event);
+                entityManager.detach(event);
+            });
+        }
+    }
+
+    public EventSearchResponse search(EventSearchQuery query) {
+        return eventSearchIndex.search(query);
     }
 
     public Event getEventById(Long id) {
@@ -27,24 +147,181 @@ public class EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + id));
     }
 
+    public EventResponse getEventResponseById(Long id) {
+        return getCachedEvent(id).response();
+    }
+
+    public CachedEvent getCachedEvent(Long id) {
+        return eventCache.get(id, this::loadCachedEvent);
+    }
+
+    public CachedEvent loadCachedEvent(Long id) {
+        Event event = getEventById(id);
+        return new CachedEvent(eventMapper.toEventResponse(event), CachedEvent.versionOf(event.getVersion()), event.getLastModified());
+    }
+
     @Transactional
     public Event addEvent(EventRequest request) {
         Event event = eventMapper.toEvent(request);
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        onEventChanged(savedEvent, EventChangeType.UPSERTED);
+        return savedEvent;
     }
 
     @Transactional
     public Event updateEvent(EventRequest request, Long id) {
         Event existingEvent = getEventById(id);
         eventMapper.updateEventFromDto(request, existingEvent);
-        return eventRepository.save(existingEvent);
+        // Flush so the version bump is visible before we announce it.
+        Event savedEvent = eventRepository.saveAndFlush(existingEvent);
+        onEventChanged(savedEvent, EventChangeType.UPSERTED);
+        return savedEvent;
+    }
+
+    /**
+     * Inserts or updates a chunk of already validated rows in one transaction, matching existing
+     * events on (name, date, venue); a row repeating the key of an earlier row in the chunk is
+     * applied to the same event and reported as a duplicate. New rows take IDs from the pooled sequence, so Hibernate
+     * sends them as JDBC batches; the persistence context is cleared afterwards to keep chunks independent.
+     *
+     * @param rows requests keyed by their row number in the import
+     */
+    @Transactional
+    public List<BulkImportRowResult> upsertEvents(Map<Integer, EventRequest> rows) {
+        Set<LocalDate> dates = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        rows.values().forEach(request -> {
+            dates.add(request.date());
+            names.add(request.name());
+        });
+        Map<NaturalKey, Event> byKey = new HashMap<>();
+        for (Event event : eventRepository.findNaturalKeyCandidates(dates, names)) {
+            byKey.put(new NaturalKey(event.getName(), event.getDate(), event.getVenue()), event);
+        }
+
+        Set<NaturalKey> seen = new HashSet<>();
+        Map<Event, Boolean> touched = new IdentityHashMap<>();
+        List<Map.Entry<Integer, Event>> rowEvents = new ArrayList<>(rows.size());
+        List<BulkImportRowStatus> statuses = new ArrayList<>(rows.size());
+        for (Map.Entry<Integer, EventRequest> row : rows.entrySet()) {
+            EventRequest request = row.getValue();
+            NaturalKey key = new NaturalKey(request.name(), request.date(), request.venue());
+            Event event = byKey.get(key);
+            if (!seen.add(key)) {
+                eventMapper.updateEventFromDto(request, event);
+                statuses.add(BulkImportRowStatus.DUPLICATE);
+            } else if (event == null) {
+                event = eventMapper.toEvent(request);
+                byKey.put(key, event);
+                statuses.add(BulkImportRowStatus.CREATED);
+            } else {
+                eventMapper.updateEventFromDto(request, event);
+                statuses.add(BulkImportRowStatus.UPDATED);
+            }
+            touched.put(event, Boolean.TRUE);
+            rowEvents.add(Map.entry(row.getKey(), event));
+        }
+
+        eventRepository.saveAll(touched.keySet());
+        eventRepository.flush();
+        touched.keySet().forEach(event -> onEventChanged(event, EventChangeType.UPSERTED));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<BulkImportRowResult> results = new ArrayList<>(rowEvents.size());
+        for (int i = 0; i < rowEvents.size(); i++) {
+            Map.Entry<Integer, Event> rowEvent = rowEvents.get(i);
+            results.add(new BulkImportRowResult(rowEvent.getKey(), statuses.get(i), rowEvent.getValue().getId(), null));
+        }
+        return results;
     }
 
     @Transactional
     public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Cannot delete. Event not found with id: " + id);
+        Event existingEvent = eventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Cannot delete. Event not found with id: " + id));
+        eventRepository.delete(existingEvent);
+        onEventChanged(existingEvent, EventChangeType.DELETED);
+    }
+
+    /**
+     * Moves up to {@code batchSize} events dated before {@code cutoff} to the archive. To the live
+     * catalog (caches, search, replicas) an archived event is simply deleted.
+     *
+     * @return the number of events moved
+     */
+    @Transactional
+    public int archiveEventsBefore(LocalDate cutoff, int batchSize) {
+        List<Event> ended = eventRepository.claimEndedBefore(cutoff, Limit.of(batchSize));
+        if (ended.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        for (Event event : ended) {
+            ArchivedEvent archived = eventMapper.toArchivedEvent(event);
+            archived.setArchivedAt(now);
+            // The ID is kept, so persist directly rather than letting save() look for an existing row.
+            entityManager.persist(archived);
         }
-        eventRepository.deleteById(id);
+        eventRepository.deleteAllInBatch(ended);
+        ended.forEach(event -> onEventChanged(event, EventChangeType.DELETED));
+        return ended.size();
+    }
+
+    public ArchivedEventPage getArchivedEventPage(String cursor, int size) {
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ArchivedEvent> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = archivedEventRepository.findFirstPage(limit);
+        } else {
+            EventCursor position = EventCursor.decode(cursor);
+            events = archivedEventRepository.findPageBefore(position.date(), position.id(), limit);
+        }
+        if (events.size() <= pageSize) {
+            return new ArchivedEventPage(events, null);
+        }
+        List<ArchivedEvent> page = events.subList(0, pageSize);
+        ArchivedEvent last = page.get(pageSize - 1);
+        return new ArchivedEventPage(page, new EventCursor(last.getDate(), last.getId()).encode());
+    }
+
+    public ArchivedEvent getArchivedEventById(Long id) {
+        return archivedEventRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived event not found with id: " + id));
+    }
+
+    private void onEventChanged(Event event, EventChangeType type) {
+        eventCache.invalidateAfterCommit(event.getId());
+        long current = CachedEvent.versionOf(event.getVersion());
+        long version = type == EventChangeType.DELETED ? current + 1 : current;
+        eventChangePublisher.publishAfterCommit(new EventChangeMessage(event.getId(), version, type));
+        EventResponse payload = type == EventChangeType.DELETED ? null : eventMapper.toEventResponse(event);
+        outboxWriter.append(new EventCatalogMessage(event.getId(), version, type, payload));
+        Long id = event.getId();
+        Instant lastModified = event.getLastModified();
+        afterCommit(() -> {
+            if (payload == null) {
+                eventSearchIndex.remove(id);
+            } else {
+                eventSearchIndex.upsert(new CachedEvent(payload, version, lastModified));
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record NaturalKey(String name, LocalDate date, String venue) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.pet.eventservice.archive;
+
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.exception.ResourceNotFoundException;
+import com.pet.eventservice.repository.EventRepository;
+import com.pet.eventservice.service.ArchivedEventPage;
+import com.pet.eventservice.service.EventService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "events.archive.enabled=false")
+@ActiveProfiles("it")
+@EmbeddedKafka(partitions = 1, topics = {"event-cache-invalidation", "event-catalog"})
+class EventArchiverTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Test
+    @DisplayName("Ended events move to the archive in batches and are readable there, newest first")
+    void endedEvents_AreMovedToArchive() {
+        LocalDate soon = LocalDate.now().plusDays(5);
+        Long first = eventService.addEvent(request("Archive First", soon)).getId();
+        Long second = eventService.addEvent(request("Archive Second", soon.plusDays(1))).getId();
+        Long upcoming = eventService.addEvent(request("Archive Upcoming", soon.plusDays(60))).getId();
+
+        // A month from now the first two events have taken place.
+        Clock later = Clock.fixed(soon.plusDays(30).atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        new EventArchiver(eventService, later, 1).archiveEndedEvents();
+
+        assertFalse(eventRepository.existsById(first));
+        assertFalse(eventRepository.existsById(second));
+        assertTrue(eventRepository.existsById(upcoming));
+        assertFalse(archivedEventRepository.existsById(upcoming));
+        assertThrows(ResourceNotFoundException.class, () -> eventService.getEventById(first));
+
+        ArchivedEvent archived = eventService.getArchivedEventById(first);
+        assertEquals("Archive First", archived.getName());
+        assertEquals(soon, archived.getDate());
+
+        ArchivedEventPage page = eventService.getArchivedEventPage(null, 1);
+        assertEquals(List.of(second), page.events().stream().map(ArchivedEvent::getId).toList());
+        ArchivedEventPage next = eventService.getArchivedEventPage(page.nextCursor(), 1);
+        assertEquals(List.of(first), next.events().stream().map(ArchivedEvent::getId).toList());
+        assertNull(next.nextCursor());
+    }
+
+    private static EventRequest request(String name, LocalDate date) {
+        return new EventRequest(name, date, "Kyiv", "Okean Elzy", "Best festival of the year", "url");
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.eventservice.cache;
+
+import com.pet.eventservice.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventCacheTest {
+
+    private final EventCache cache = new EventCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Invalidating a key does not wait for its in-flight load, whose result is then not kept")
+    void invalidateDoesNotWaitForLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<CachedEvent> slowRead = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return event(id, 1);
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> cache.invalidate(1L));
+        release.countDown();
+
+        assertEquals(1, slowRead.get(5, TimeUnit.SECONDS).version());
+        assertEquals(2, cache.get(1L, id -> event(id, 2)).version());
+    }
+
+    @Test
+    @DisplayName("Concurrent reads of a key share one load, and a failed load is not cached")
+    void concurrentReadsShareLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<CachedEvent> first = CompletableFuture.supplyAsync(() -> cache.get(2L, id -> {
+            loads.incrementAndGet();
+            await(release);
+            return event(id, 1);
+        }));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<CachedEvent> second = CompletableFuture.supplyAsync(() -> cache.get(2L, id -> {
+            loads.incrementAndGet();
+            return event(id, 1);
+        }));
+        release.countDown();
+
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).version());
+        assertEquals(1, second.get(5, TimeUnit.SECONDS).version());
+        assertEquals(1, loads.get());
+
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(3L, id -> {
+            throw new ResourceNotFoundException("Event not found with id: " + id);
+        }));
+        assertEquals(3, cache.get(3L, id -> event(id, 3)).version());
+    }
+
+    private static CachedEvent event(long id, long version) {
+        return new CachedEvent(null, version, Instant.now());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,22 @@
 package com.pet.eventservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.dto.BulkImportResponse;
+import com.pet.eventservice.dto.BulkImportRowResult;
+import com.pet.eventservice.dto.BulkImportRowStatus;
 import com.pet.eventservice.dto.EventRequest;
 import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.dto.EventSearchResponse;
+import com.pet.eventservice.exception.InvalidCursorException;
 import com.pet.eventservice.exception.ResourceNotFoundException;
 import com.pet.eventservice.mapper.EventMapper;
 import com.pet.eventservice.model.Event;
+import com.pet.eventservice.search.EventSearchQuery;
+import com.pet.eventservice.service.EventBulkImportService;
+import com.pet.eventservice.service.EventCursor;
+import com.pet.eventservice.service.EventPage;
+import com.pet.eventservice.service.EventPageVersion;
 import com.pet.eventservice.service.EventService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,22 +25,37 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventController.class)
@@ -47,6 +73,9 @@ class EventControllerTest {
     @Autowired
     private EventMapper eventMapper;
 
+    @Autowired
+    private EventBulkImportService eventBulkImportService;
+
     @TestConfiguration
     static class TestConfig {
         @Bean
@@ -54,6 +83,11 @@ class EventControllerTest {
             return Mockito.mock(EventService.class);
         }
 
+        @Bean
+        public EventBulkImportService eventBulkImportService() {
+            return Mockito.mock(EventBulkImportService.class);
+        }
+
         @Bean
         public EventMapper eventMapper() {
             return Mockito.mock(EventMapper.class);
@@ -61,6 +95,7 @@ class EventControllerTest {
     }
 
     private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(10);
+    private static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T10:00:00Z");
 
     // --- Create Events (POST) ---
 
@@ -68,7 +103,7 @@ class EventControllerTest {
     @DisplayName("1.1: Create Event - Success (POST /v1/events)")
     void addEvent_Success() throws Exception {
         EventRequest eventRequest = new EventRequest("Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
-        Event savedEvent = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
+        Event savedEvent = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url", 0L, null);
         EventResponse eventResponse = new EventResponse(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
 
         when(eventService.addEvent(any(EventRequest.class))).thenReturn(savedEvent);
@@ -95,45 +130,193 @@ class EventControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("1.3: Bulk Import Events - NDJSON (POST /v1/events/bulk)")
+    void importEvents_Ndjson() throws Exception {
+        BulkImportResponse report = new BulkImportResponse(2, 1, 0, 0, 1, List.of(
+                new BulkImportRowResult(0, BulkImportRowStatus.CREATED, 1L, null),
+                BulkImportRowResult.failed(1, Map.of("name", "Назва не може бути порожньою"))));
+        when(eventBulkImportService.importEvents(any(InputStream.class))).thenReturn(report);
+
+        mockMvc.perform(post("/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n{}\n"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.rows[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.rows[1].errors.name").exists());
+    }
+
     // --- Read Events (GET) ---
 
     @Test
     @DisplayName("2.1: Get All Events - Success (GET /v1/events)")
     void getAllEvents_Success() throws Exception {
-        Event event = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
+        Event event = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url", 0L, null);
         EventResponse eventResponse = new EventResponse(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
 
-        when(eventService.getAllEvents()).thenReturn(List.of(event));
+        when(eventService.getEventPage(null, 20)).thenReturn(new EventPage(List.of(event), null, "\"page-1\""));
         when(eventMapper.toEventResponse(event)).thenReturn(eventResponse);
 
         mockMvc.perform(get("/v1/events"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].name", is("Atlas United")));
+                .andExpect(header().string(HttpHeaders.ETAG, "\"page-1\""))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Atlas United")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("2.1.1: Get All Events - Next Page Cursor (GET /v1/events?cursor=...&size=...)")
+    void getAllEvents_WithCursor() throws Exception {
+        Event event = new Event(2L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url", 0L, null);
+        EventResponse eventResponse = new EventResponse(2L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
+        String cursor = new EventCursor(FUTURE_DATE, 1L).encode();
+        String nextCursor = new EventCursor(FUTURE_DATE, 2L).encode();
+
+        when(eventService.getEventPage(cursor, 1)).thenReturn(new EventPage(List.of(event), nextCursor, "\"page-2\""));
+        when(eventMapper.toEventResponse(event)).thenReturn(eventResponse);
+
+        mockMvc.perform(get("/v1/events").param("cursor", cursor).param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id", is(2)))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)));
+    }
+
+    @Test
+    @DisplayName("2.1.1.1: Get All Events - Not Modified (GET /v1/events with If-None-Match)")
+    void getAllEvents_NotModified() throws Exception {
+        clearInvocations(eventService);
+        when(eventService.getEventPageVersion(null, 20)).thenReturn(new EventPageVersion("\"page-1\""));
+
+        mockMvc.perform(get("/v1/events").header(HttpHeaders.IF_NONE_MATCH, "\"page-0\", \"page-1\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"page-1\""))
+                .andExpect(content().string(""));
+
+        verify(eventService, never()).getEventPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("2.1.1.2: Get All Events - Stale If-None-Match gets the page with the ETag of its rows")
+    void getAllEvents_StaleEtag() throws Exception {
+        Event event = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url", 1L, null);
+        when(eventService.getEventPageVersion(null, 20)).thenReturn(new EventPageVersion("\"page-1\""));
+        when(eventService.getEventPage(null, 20)).thenReturn(new EventPage(List.of(event), null, "\"page-1b\""));
+        when(eventMapper.toEventResponse(event)).thenReturn(
+                new EventResponse(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url"));
+
+        mockMvc.perform(get("/v1/events").header(HttpHeaders.IF_NONE_MATCH, "\"page-0\""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"page-1b\""))
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("2.1.2: Get All Events - Invalid Cursor (GET /v1/events?cursor=...)")
+    void getAllEvents_InvalidCursor() throws Exception {
+        when(eventService.getEventPage("garbage", 20)).thenThrow(new InvalidCursorException("Invalid cursor: garbage"));
+
+        mockMvc.perform(get("/v1/events").param("cursor", "garbage"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid cursor: garbage")));
+    }
+
+    @Test
+    @DisplayName("2.1.3: Stream All Events - NDJSON (GET /v1/events/stream)")
+    void streamAllEvents_Success() throws Exception {
+        Event first = new Event(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url", 0L, null);
+        Event second = new Event(2L, "Faine Misto", FUTURE_DATE, "Lviv", "Artist", "...", "url", 0L, null);
+        when(eventMapper.toEventResponse(first)).thenReturn(new EventResponse(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url"));
+        when(eventMapper.toEventResponse(second)).thenReturn(new EventResponse(2L, "Faine Misto", FUTURE_DATE, "Lviv", "Artist", "...", "url"));
+        doAnswer(invocation -> {
+            Consumer<Event> consumer = invocation.getArgument(0);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(eventService).streamAllEvents(any());
+
+        MvcResult result = mockMvc.perform(get("/v1/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Atlas United", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Faine Misto", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    @DisplayName("2.1.4: Search Events - Success (GET /v1/events/search)")
+    void searchEvents_Success() throws Exception {
+        EventResponse eventResponse = new EventResponse(1L, "Atlas United", FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
+        EventSearchQuery query = new EventSearchQuery("atlas", FUTURE_DATE, null, null, null, 5);
+
+        when(eventService.search(query)).thenReturn(new EventSearchResponse(List.of(eventResponse), 1, false,
+                Map.of("artist", Map.of("Okean Elzy", 1))));
+
+        mockMvc.perform(get("/v1/events/search")
+                        .param("q", "atlas")
+                        .param("from", FUTURE_DATE.toString())
+                        .param("limit", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.hits[0].name", is("Atlas United")))
+                .andExpect(jsonPath("$.facets.artist['Okean Elzy']", is(1)));
     }
 
     @Test
     @DisplayName("2.2: Get Event by ID - Success (GET /v1/events/{id})")
     void getEventById_Success() throws Exception {
-        Event event = new Event(1L, "Faine Misto", FUTURE_DATE, "Lviv", "Artist", "...", "url");
         EventResponse eventResponse = new EventResponse(1L, "Faine Misto", FUTURE_DATE, "Lviv", "Artist", "...", "url");
 
-        when(eventService.getEventById(1L)).thenReturn(event);
-        when(eventMapper.toEventResponse(event)).thenReturn(eventResponse);
+        when(eventService.getCachedEvent(1L)).thenReturn(new CachedEvent(eventResponse, 3L, LAST_MODIFIED));
 
         mockMvc.perform(get("/v1/events/1"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(jsonPath("$.id", is(1)))
                 .andExpect(jsonPath("$.name", is("Faine Misto")));
     }
 
+    @Test
+    @DisplayName("2.2.1: Get Event by ID - Not Modified (GET /v1/events/{id} with If-None-Match / If-Modified-Since)")
+    void getEventById_NotModified() throws Exception {
+        EventResponse eventResponse = new EventResponse(1L, "Faine Misto", FUTURE_DATE, "Lviv", "Artist", "...", "url");
+        when(eventService.getCachedEvent(1L)).thenReturn(new CachedEvent(eventResponse, 3L, LAST_MODIFIED));
+
+        mockMvc.perform(get("/v1/events/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/v1/events/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-2\""))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/v1/events/1").header(HttpHeaders.IF_MODIFIED_SINCE, LAST_MODIFIED.plusSeconds(60).toEpochMilli()))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("2.3: Get Event by ID - Not Found (GET /v1/events/{id})")
     void getEventById_NotFound() throws Exception {
         String errorMessage = "Event not found with id: 99";
-        when(eventService.getEventById(99L)).thenThrow(new ResourceNotFoundException(errorMessage));
+        when(eventService.getCachedEvent(99L)).thenThrow(new ResourceNotFoundException(errorMessage));
 
         mockMvc.perform(get("/v1/events/99"))
                 .andDo(print())
@@ -147,7 +330,7 @@ class EventControllerTest {
     @DisplayName("3.1: Update Event - Success (PUT /v1/events/{id})")
     void updateEvent_Success() throws Exception {
         EventRequest eventRequest = new EventRequest("Updated Name", FUTURE_DATE, "Updated Venue", "Artist", "Оновлений Опис", "url");
-        Event updatedEvent = new Event(1L, "Updated Name", FUTURE_DATE, "Updated Venue", "Artist", "Оновлений Опис", "url");
+        Event updatedEvent = new Event(1L, "Updated Name", FUTURE_DATE, "Updated Venue", "Artist", "Оновлений Опис", "url", 0L, null);
         EventResponse eventResponse = new EventResponse(1L, "Updated Name", FUTURE_DATE, "Updated Venue", "Artist", "...", "url");
 
         when(eventService.updateEvent(any(EventRequest.class), eq(1L))).thenReturn(updatedEvent);
@@ -0,0 +1,120 @@
+package com.pet.eventservice.controller;
+
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.repository.ReactiveEventRepository;
+import com.pet.eventservice.service.EventCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReactiveEventController.class)
+class ReactiveEventControllerTest {
+
+    private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReactiveEventRepository reactiveEventRepository;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public ReactiveEventRepository reactiveEventRepository() {
+            return Mockito.mock(ReactiveEventRepository.class);
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON listing resumes after the cursor and writes one event per line")
+    void streamsNdjsonAfterCursor() throws Exception {
+        String cursor = new EventCursor(FUTURE_DATE, 1L).encode();
+        when(reactiveEventRepository.findAllOrderedAfter(FUTURE_DATE, 1L, 2))
+                .thenReturn(Flux.just(response(2L), response(3L)));
+
+        MvcResult result = mockMvc.perform(get("/v1/events/reactive")
+                        .param("cursor", cursor)
+                        .param("limit", "2")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.strip().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"id\":3"));
+    }
+
+    @Test
+    @DisplayName("Listing is not offered as a JSON array, which would be buffered whole")
+    void jsonListingIsNotAcceptable() throws Exception {
+        mockMvc.perform(get("/v1/events/reactive").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    @DisplayName("SSE listing tags every event with its cursor and honours Last-Event-ID")
+    void serverSentEventsCarryCursor() throws Exception {
+        String lastEventId = new EventCursor(FUTURE_DATE, 1L).encode();
+        when(reactiveEventRepository.findAllOrderedAfter(eq(FUTURE_DATE), eq(1L), anyInt()))
+                .thenReturn(Flux.just(response(2L)));
+
+        MvcResult result = mockMvc.perform(get("/v1/events/reactive")
+                        .header("Last-Event-ID", lastEventId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("id:" + new EventCursor(FUTURE_DATE, 2L).encode()));
+        assertTrue(body.contains("\"name\":\"Event 2\""));
+    }
+
+    @Test
+    @DisplayName("Single event lookup, 404 when absent")
+    void getById() throws Exception {
+        when(reactiveEventRepository.findById(2L)).thenReturn(Mono.just(response(2L)));
+        when(reactiveEventRepository.findById(99L)).thenReturn(Mono.empty());
+
+        MvcResult found = mockMvc.perform(get("/v1/events/reactive/2")).andReturn();
+        mockMvc.perform(asyncDispatch(found))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Event 2")));
+
+        MvcResult missing = mockMvc.perform(get("/v1/events/reactive/99")).andReturn();
+        mockMvc.perform(asyncDispatch(missing))
+                .andExpect(status().isNotFound());
+    }
+
+    private static EventResponse response(Long id) {
+        return new EventResponse(id, "Event " + id, FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival", "url");
+    }
+}
@@ -0,0 +1,75 @@
+package com.pet.eventservice.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+    private DataSource target;
+    private DbConcurrencyLimiter limiter;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        limiter = new DbConcurrencyLimiter(2, Duration.ofMillis(50), meterRegistry);
+        dataSource = new ConcurrencyLimitedDataSource(target, limiter);
+    }
+
+    @Test
+    @DisplayName("Connections hold a permit until closed, and a double close releases only once")
+    void permitHeldUntilClose() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(0, limiter.getAvailablePermits());
+
+        first.close();
+        first.close();
+
+        assertEquals(1, limiter.getAvailablePermits());
+        second.close();
+        assertEquals(2, limiter.getAvailablePermits());
+        assertEquals(2, meterRegistry.get("events.db.limiter.execution").timer().count());
+        assertEquals(2, meterRegistry.get("events.db.limiter.queue").timer().count());
+    }
+
+    @Test
+    @DisplayName("Callers over the limit time out instead of reaching the pool")
+    void rejectsWhenSaturated() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(DbConcurrencyLimitExceededException.class, dataSource::getConnection);
+
+        verify(target, times(2)).getConnection();
+        assertEquals(1.0, meterRegistry.get("events.db.limiter.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("A failing pool does not leak the permit")
+    void releasesPermitOnPoolFailure() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+}
@@ -0,0 +1,130 @@
+package com.pet.eventservice.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.exception.ResourceNotFoundException;
+import com.pet.eventservice.model.Event;
+import com.pet.eventservice.repository.EventRepository;
+import com.pet.eventservice.search.EventSearchIndex;
+import com.pet.eventservice.search.EventSearchQuery;
+import com.pet.eventservice.service.EventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("it")
+@EmbeddedKafka(partitions = 1, topics = {"event-cache-invalidation", "event-catalog"})
+class EventChangeListenerTest {
+
+    private static final LocalDate FUTURE_DATE = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private KafkaTemplate<String, EventChangeMessage> eventChangeKafkaTemplate;
+
+    @Autowired
+    @Qualifier("catalogKafkaTemplate")
+    private KafkaTemplate<String, String> catalogKafkaTemplate;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @BeforeEach
+    void waitForListener() {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, embeddedKafka.getPartitionsPerTopic());
+        }
+    }
+
+    @Test
+    @DisplayName("Write on another replica refreshes the locally cached event")
+    void remoteUpdate_RefreshesCachedEvent() {
+        Long id = eventService.addEvent(request("Atlas United")).getId();
+        assertEquals("Atlas United", eventService.getEventResponseById(id).name());
+
+        // Simulate another replica committing an update this node's cache has not seen.
+        Event row = eventRepository.findById(id).orElseThrow();
+        row.setName("Atlas Weekend");
+        Event updated = eventRepository.saveAndFlush(row);
+        assertEquals("Atlas United", eventService.getEventResponseById(id).name());
+
+        eventChangeKafkaTemplate.send("event-cache-invalidation", String.valueOf(id),
+                new EventChangeMessage(id, updated.getVersion(), EventChangeType.UPSERTED));
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals("Atlas Weekend", eventService.getEventResponseById(id).name()));
+    }
+
+    @Test
+    @DisplayName("Delete on another replica evicts the locally cached event")
+    void remoteDelete_EvictsCachedEvent() {
+        Long id = eventService.addEvent(request("Faine Misto")).getId();
+        Event row = eventRepository.findById(id).orElseThrow();
+        eventService.getEventResponseById(id);
+
+        eventRepository.deleteById(id);
+        eventChangeKafkaTemplate.send("event-cache-invalidation", String.valueOf(id),
+                new EventChangeMessage(id, row.getVersion() + 1, EventChangeType.DELETED));
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThrows(ResourceNotFoundException.class, () -> eventService.getEventResponseById(id)));
+    }
+
+    @Test
+    @DisplayName("Catalog changes relayed by another replica reach the search index")
+    void catalogChange_UpdatesSearchIndex() throws Exception {
+        long id = 9_000_001L;
+        EventResponse event = new EventResponse(id, "Zaporizhzhia Rock Fest", FUTURE_DATE, "Khortytsia", "Antytila", "Rock", "url");
+
+        catalogKafkaTemplate.send("event-catalog", String.valueOf(id), objectMapper.writeValueAsString(
+                new EventCatalogMessage(id, 1, EventChangeType.UPSERTED, event)));
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals(1, eventSearchIndex.search(query("zaporizhzhia")).total()));
+
+        catalogKafkaTemplate.send("event-catalog", String.valueOf(id), objectMapper.writeValueAsString(
+                new EventCatalogMessage(id, 2, EventChangeType.DELETED, null)));
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals(0, eventSearchIndex.search(query("zaporizhzhia")).total()));
+    }
+
+    private static EventSearchQuery query(String text) {
+        return new EventSearchQuery(text, null, null, null, null, 20);
+    }
+
+    private static EventRequest request(String name) {
+        return new EventRequest(name, FUTURE_DATE, "Kyiv", "Okean Elzy", "Best festival of the year", "url");
+    }
+}
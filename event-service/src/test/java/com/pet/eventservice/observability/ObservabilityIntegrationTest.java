@@ -0,0 +1,64 @@
+package com.pet.eventservice.observability;
+
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.service.EventService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "events.observability.slow-requests.threshold=PT0S")
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@EmbeddedKafka(partitions = 1, topics = {"event-cache-invalidation", "event-catalog"})
+class ObservabilityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private SlowRequestsEndpoint slowRequestsEndpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("A request is broken down by layer, with its statements counted per endpoint")
+    void request_IsProfiledPerLayer() throws Exception {
+        Long id = eventService.addEvent(new EventRequest("Profiled Gig", LocalDate.now().plusDays(10),
+                "Kyiv", "Okean Elzy", "Best festival of the year", "url")).getId();
+
+        mockMvc.perform(get("/v1/events/{id}", id)).andExpect(status().isOk());
+
+        SlowRequest profiled = slowRequestsEndpoint.slowRequests().stream()
+                .filter(request -> request.uri().equals("/v1/events/{id}"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(200, profiled.status());
+        assertEquals(1, profiled.statements());
+        assertEquals(1, profiled.entitiesLoaded());
+        assertTrue(profiled.layerMillis().keySet().containsAll(
+                List.of("service", "repository", "mapper", "serialization")), profiled.layerMillis().toString());
+        assertNotNull(meterRegistry.find(LayerTimingAspect.METRIC)
+                .tag("layer", "repository").tag("method", "EventRepository.findById").timer());
+        assertEquals(1.0, meterRegistry.get("events.request.db.statements")
+                .tag("uri", "/v1/events/{id}").summary().totalAmount());
+    }
+}
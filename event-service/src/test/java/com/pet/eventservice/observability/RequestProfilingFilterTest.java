@@ -0,0 +1,64 @@
+package com.pet.eventservice.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestProfilingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowRequestLog slowRequestLog = new SlowRequestLog(10);
+    private final QueryStatsCollector collector = new QueryStatsCollector();
+
+    @Test
+    @DisplayName("A statement repeated per row is flagged as a likely N+1 and the request is sampled as slow")
+    void repeatedStatements_AreFlagged() throws Exception {
+        RequestProfilingFilter filter = new RequestProfilingFilter(meterRegistry, slowRequestLog, null,
+                3, 1000, Duration.ZERO, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/events/search");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/v1/events/search");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            collector.inspect("select e from events e");
+            for (int i = 0; i < 4; i++) {
+                collector.inspect("select t from tickets t where t.event_id=?");
+            }
+        });
+
+        assertEquals(1.0, meterRegistry.get("events.request.db.suspicious")
+                .tag("uri", "/v1/events/search").tag("reason", "repeated-statement").counter().count());
+        assertEquals(5.0, meterRegistry.get("events.request.db.statements")
+                .tag("uri", "/v1/events/search").summary().totalAmount());
+        SlowRequest slow = slowRequestLog.recent().get(0);
+        assertEquals(5, slow.statements());
+        assertEquals(4, slow.mostRepeats());
+        assertEquals("select t from tickets t where t.event_id=?", slow.mostRepeatedStatement());
+        assertNull(RequestProfile.current());
+    }
+
+    @Test
+    @DisplayName("The slow request log keeps only the newest entries, newest first")
+    void slowRequestLog_OverwritesOldest() {
+        SlowRequestLog log = new SlowRequestLog(3);
+        for (int i = 0; i < 5; i++) {
+            log.record(new SlowRequest(Instant.EPOCH, "GET", "/v1/events/" + i, null, 200, i, 0, 0, Map.of(), null, 0, null));
+        }
+
+        List<String> uris = log.recent().stream().map(SlowRequest::uri).toList();
+
+        assertEquals(List.of("/v1/events/4", "/v1/events/3", "/v1/events/2"), uris);
+        assertTrue(new SlowRequestLog(3).recent().isEmpty());
+    }
+}
@@ -0,0 +1,38 @@
+package com.pet.eventservice.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupReporterTest {
+
+    @Test
+    @DisplayName("Ready and first API request times are taken once, from JVM start, ignoring probes")
+    void startupTimes_AreRecordedOnce() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AtomicLong uptime = new AtomicLong(1200);
+        StartupReporter reporter = new StartupReporter(meterRegistry, uptime::get);
+        assertTrue(Double.isNaN(meterRegistry.get("events.startup.first-request.time").gauge().value()));
+
+        reporter.onReady();
+        uptime.set(1300);
+        reporter.doFilter(new MockHttpServletRequest("GET", "/actuator/health/readiness"), new MockHttpServletResponse(), new MockFilterChain());
+        assertTrue(Double.isNaN(meterRegistry.get("events.startup.first-request.time").gauge().value()));
+        uptime.set(1450);
+        reporter.doFilter(new MockHttpServletRequest("GET", "/v1/events"), new MockHttpServletResponse(), new MockFilterChain());
+        uptime.set(9000);
+        reporter.doFilter(new MockHttpServletRequest("GET", "/v1/events"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1200, meterRegistry.get("events.startup.ready.time").gauge().value());
+        assertEquals(1450, meterRegistry.get("events.startup.first-request.time").gauge().value());
+        assertTrue(meterRegistry.get("events.startup.heap.used").gauge().value() > 0);
+    }
+}
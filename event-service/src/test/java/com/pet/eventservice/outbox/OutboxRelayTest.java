@@ -0,0 +1,83 @@
+package com.pet.eventservice.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.eventservice.dto.EventRequest;
+import com.pet.eventservice.service.EventService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("it")
+@EmbeddedKafka(partitions = 1, topics = {"event-cache-invalidation", "event-catalog"})
+class OutboxRelayTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Catalog changes are relayed from the outbox to Kafka in commit order")
+    void catalogChanges_AreRelayedAndDrained() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", embeddedKafka);
+        props.put("auto.offset.reset", "earliest");
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, "event-catalog");
+
+            Long id = eventService.addEvent(request("Atlas United")).getId();
+            eventService.updateEvent(request("Atlas Weekend"), id);
+            eventService.deleteEvent(id);
+
+            List<JsonNode> received = new ArrayList<>();
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                for (ConsumerRecord<String, String> record : KafkaTestUtils.getRecords(consumer, Duration.ofMillis(200))) {
+                    if (record.key().equals(String.valueOf(id))) {
+                        received.add(objectMapper.readTree(record.value()));
+                    }
+                }
+                return received.size() >= 3;
+            });
+            JsonNode[] changes = received.toArray(JsonNode[]::new);
+
+            assertEquals(3, changes.length);
+            assertEquals("UPSERTED", changes[0].get("type").asText());
+            assertEquals("Atlas United", changes[0].get("event").get("name").asText());
+            assertEquals("Atlas Weekend", changes[1].get("event").get("name").asText());
+            assertEquals("DELETED", changes[2].get("type").asText());
+            assertEquals(changes[1].get("version").asLong() + 1, changes[2].get("version").asLong());
+        }
+        await().atMost(Duration.ofSeconds(10)).until(() -> outboxRepository.count() == 0);
+    }
+
+    private static EventRequest request(String name) {
+        return new EventRequest(name, LocalDate.now().plusDays(10), "Kyiv", "Okean Elzy", "Best festival of the year", "url");
+    }
+}
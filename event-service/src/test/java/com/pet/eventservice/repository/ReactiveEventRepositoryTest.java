@@ -0,0 +1,71 @@
+package com.pet.eventservice.repository;
+
+import com.pet.eventservice.dto.EventResponse;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReactiveEventRepositoryTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2030, 7, 1);
+
+    private ReactiveEventRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient databaseClient = DatabaseClient.create(H2ConnectionFactory.inMemory(UUID.randomUUID().toString()));
+        databaseClient.sql("create table events (id bigint primary key, name varchar(100), date date, venue varchar(150), "
+                        + "artist varchar(100), description varchar(500), imageurl varchar(255), version bigint, last_modified timestamp)")
+                .then().block();
+        insert(databaseClient, 1L, JULY_1.plusDays(1));
+        insert(databaseClient, 2L, JULY_1);
+        insert(databaseClient, 3L, JULY_1);
+        repository = new ReactiveEventRepository(databaseClient);
+    }
+
+    @Test
+    @DisplayName("Listing follows the same (date, id) keyset order as the JPA path")
+    void keysetOrder() {
+        List<Long> all = ids(repository.findAllOrdered(Integer.MAX_VALUE).collectList().block());
+        List<Long> afterFirst = ids(repository.findAllOrderedAfter(JULY_1, 2L, 10).collectList().block());
+        List<Long> limited = ids(repository.findAllOrdered(1).collectList().block());
+
+        assertEquals(List.of(2L, 3L, 1L), all);
+        assertEquals(List.of(3L, 1L), afterFirst);
+        assertEquals(List.of(2L), limited);
+    }
+
+    @Test
+    @DisplayName("Lookup by ID maps every column and completes empty when absent")
+    void findById() {
+        EventResponse event = repository.findById(3L).block();
+
+        assertEquals("Event 3", event.name());
+        assertEquals(JULY_1, event.date());
+        assertEquals("url-3", event.imageURL());
+        assertNull(repository.findById(42L).block());
+    }
+
+    private static void insert(DatabaseClient databaseClient, Long id, LocalDate date) {
+        databaseClient.sql("insert into events (id, name, date, venue, artist, description, imageurl, version) "
+                        + "values (:id, :name, :date, 'Kyiv', 'Okean Elzy', 'Best festival', :image, 0)")
+                .bind("id", id)
+                .bind("name", "Event " + id)
+                .bind("date", date)
+                .bind("image", "url-" + id)
+                .then().block();
+    }
+
+    private static List<Long> ids(List<EventResponse> events) {
+        return events.stream().map(EventResponse::id).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.pet.eventservice.search;
+
+import com.pet.eventservice.cache.CachedEvent;
+import com.pet.eventservice.dto.EventResponse;
+import com.pet.eventservice.dto.EventSearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSearchIndexTest {
+
+    private static final LocalDate JULY_1 = LocalDate.of(2030, 7, 1);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        index.upsert(event(1L, "Atlas United", JULY_1, "Blockbuster Mall", "Okean Elzy", 0));
+        index.upsert(event(2L, "Atlas Weekend", JULY_1.plusDays(10), "VDNH", "Okean Elzy", 0));
+        index.upsert(event(3L, "Faine Misto", JULY_1.plusDays(20), "Ternopil Airfield", "Boombox", 0));
+    }
+
+    @Test
+    @DisplayName("Prefix query matches any indexed word")
+    void prefixMatch() {
+        EventSearchResponse response = index.search(query("atl", null, null));
+
+        assertEquals(2, response.total());
+        assertEquals(1L, response.hits().get(0).id());
+        assertEquals(2, response.facets().get(EventSearchIndex.ARTIST_FACET).get("Okean Elzy"));
+    }
+
+    @Test
+    @DisplayName("Misspelled word falls back to fuzzy matching")
+    void fuzzyMatch() {
+        EventSearchResponse response = index.search(query("bombox", null, null));
+
+        assertEquals(1, response.total());
+        assertEquals(3L, response.hits().get(0).id());
+    }
+
+    @Test
+    @DisplayName("All words must match and the date range narrows the result")
+    void termsAndDateRange() {
+        assertEquals(1, index.search(query("okean weekend", null, null)).total());
+        assertEquals(1, index.search(query("okean", JULY_1.plusDays(5), JULY_1.plusDays(15))).total());
+        assertEquals(0, index.search(query("nothing", null, null)).total());
+    }
+
+    @Test
+    @DisplayName("Updates re-index the event and older versions are ignored")
+    void updatesAndVersions() {
+        index.upsert(event(1L, "Kyiv Jazz", JULY_1, "Blockbuster Mall", "Okean Elzy", 2));
+        index.upsert(event(1L, "Atlas United", JULY_1, "Blockbuster Mall", "Okean Elzy", 1));
+
+        assertEquals(1, index.search(query("atlas", null, null)).total());
+        assertEquals(1, index.search(query("jazz", null, null)).total());
+        assertFalse(index.isStale(1L, 2));
+        assertTrue(index.isStale(1L, 3));
+
+        index.remove(1L);
+        assertEquals(0, index.search(query("jazz", null, null)).total());
+    }
+
+    @Test
+    @DisplayName("A query without words returns the earliest events, undated last, and still counts every match")
+    void emptyQueryWalksDates() {
+        index.upsert(event(4L, "Open Air", null, "VDNH", "Boombox", 0));
+        index.upsert(event(5L, "Early Bird", JULY_1.minusDays(1), "VDNH", "Boombox", 0));
+
+        EventSearchResponse firstTwo = index.search(new EventSearchQuery("", null, null, null, null, 2));
+        assertEquals(5, firstTwo.total());
+        assertEquals(List.of(5L, 1L), firstTwo.hits().stream().map(EventResponse::id).toList());
+
+        EventSearchResponse all = index.search(new EventSearchQuery(null, null, null, null, "vdnh", 20));
+        assertEquals(List.of(5L, 2L, 4L), all.hits().stream().map(EventResponse::id).toList());
+        assertEquals(3, all.facets().get(EventSearchIndex.VENUE_FACET).get("VDNH"));
+    }
+
+    @Test
+    @DisplayName("Facets of a very broad query are counted over a bounded number of matches")
+    void facetWorkIsCapped() {
+        for (long id = 10; id < 10 + EventSearchIndex.MAX_FACET_SCAN; id++) {
+            index.upsert(event(id, "Club Night", JULY_1.plusDays(30 + id % 100), "Atlas Club", "DJ Set", 0));
+        }
+
+        EventSearchResponse response = index.search(new EventSearchQuery("", null, null, null, null, 5));
+
+        assertEquals(EventSearchIndex.MAX_FACET_SCAN + 3, response.total());
+        assertEquals(5, response.hits().size());
+        assertEquals(1L, response.hits().get(0).id());
+        assertEquals(EventSearchIndex.MAX_FACET_SCAN - 3, response.facets().get(EventSearchIndex.VENUE_FACET).get("Atlas Club"));
+    }
+
+    @Test
+    @DisplayName("A one-letter query stops walking once hits and the capped count are complete")
+    void broadPrefixIsWalkedLazily() {
+        for (long id = 10; id < 10 + 2 * EventSearchIndex.MAX_FACET_SCAN; id++) {
+            index.upsert(event(id, "Club Night", JULY_1.plusDays(30 + id % 100), "Atlas Club", "DJ Set", 0));
+        }
+
+        EventSearchResponse broad = index.search(new EventSearchQuery("c", null, null, null, null, 3));
+        assertTrue(broad.totalCapped());
+        assertEquals(EventSearchIndex.MAX_FACET_SCAN, broad.total(), 200);
+        assertEquals(List.of(100L, 200L, 300L), broad.hits().stream().map(EventResponse::id).toList());
+
+        EventSearchResponse narrowed = index.search(new EventSearchQuery("weekend a", null, null, null, null, 3));
+        assertFalse(narrowed.totalCapped());
+        assertEquals(List.of(2L), narrowed.hits().stream().map(EventResponse::id).toList());
+
+        EventSearchResponse everything = index.search(new EventSearchQuery(null, null, null, null, null, 3));
+        assertFalse(everything.totalCapped());
+        assertEquals(3 + 2 * EventSearchIndex.MAX_FACET_SCAN, everything.total());
+    }
+
+    private static EventSearchQuery query(String text, LocalDate from, LocalDate to) {
+        return new EventSearchQuery(text, from, to, null, null, 20);
+    }
+
+    private static CachedEvent event(Long id, String name, LocalDate date, String venue, String artist, long version) {
+        return new CachedEvent(new EventResponse(id, name, date, venue, artist, "Description", "url"), version, null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.pet.eventservice.service;
+
+import com.pet.eventservice.dto.BulkImportResponse;
+import com.pet.eventservice.dto.BulkImportRowStatus;
+import com.pet.eventservice.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "events.bulk.chunk-size=2")
+@ActiveProfiles("it")
+@EmbeddedKafka(partitions = 1, topics = {"event-cache-invalidation", "event-catalog"})
+class EventBulkImportServiceTest {
+
+    private static final String DATE = LocalDate.now().plusDays(30).toString();
+
+    @Autowired
+    private EventBulkImportService eventBulkImportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    @DisplayName("JSON array import creates, upserts on (name, date, venue) and reports invalid rows")
+    void importJsonArray() throws Exception {
+        String body = "[" + row("Bulk Opening", "Arena Lviv") + "," + row("Bulk Closing", "Arena Lviv") + ","
+                + row("", "Arena Lviv") + "," + row("Bulk Opening", "Arena Lviv") + "]";
+
+        BulkImportResponse report = eventBulkImportService.importEvents(stream(body));
+
+        assertEquals(4, report.total());
+        assertEquals(2, report.created());
+        assertEquals(1, report.updated());
+        assertEquals(1, report.failed());
+        assertEquals(BulkImportRowStatus.FAILED, report.rows().get(2).status());
+        assertEquals(report.rows().get(0).id(), report.rows().get(3).id());
+    }
+
+    @Test
+    @DisplayName("A row repeating the key of an earlier row in its chunk is reported as a duplicate of the same event")
+    void duplicateWithinChunk() throws Exception {
+        String body = "[" + row("Bulk Encore", "Arena Odesa") + "," + row("Bulk Encore", "Arena Odesa") + "]";
+
+        BulkImportResponse report = eventBulkImportService.importEvents(stream(body));
+
+        assertEquals(1, report.created());
+        assertEquals(0, report.updated());
+        assertEquals(1, report.duplicate());
+        assertEquals(BulkImportRowStatus.DUPLICATE, report.rows().get(1).status());
+        assertEquals(report.rows().get(0).id(), report.rows().get(1).id());
+    }
+
+    @Test
+    @DisplayName("NDJSON import stops at malformed input and keeps rows already imported")
+    void importNdjsonWithMalformedLine() throws Exception {
+        long before = eventRepository.count();
+        String body = row("Bulk Night One", "Palace Kyiv") + "\n" + row("Bulk Night Two", "Palace Kyiv") + "\n{\"name\": ";
+
+        BulkImportResponse report = eventBulkImportService.importEvents(stream(body));
+
+        assertEquals(2, report.created());
+        assertEquals(1, report.failed());
+        assertEquals(before + 2, eventRepository.count());
+    }
+
+    private static String row(String name, String venue) {
+        return """
+                {"name": "%s", "date": "%s", "venue": "%s", "artist": "Okean Elzy",
+                 "description": "Season schedule entry", "imageURL": "https://example.com/a.jpg"}"""
+                .formatted(name, DATE, venue).replace("\n", "");
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
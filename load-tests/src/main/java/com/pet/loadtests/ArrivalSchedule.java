@@ -0,0 +1,64 @@
+package com.pet.loadtests;
+
+import java.time.Duration;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * When requests are due, independent of how fast earlier ones were answered (an open model). Each
+ * arrival is spaced {@code 1 / rate(t)} after the previous one.
+ */
+final class ArrivalSchedule {
+
+    private final DoubleUnaryOperator ratePerSecond;
+    private final long durationNanos;
+    private double nextSeconds;
+
+    private ArrivalSchedule(DoubleUnaryOperator ratePerSecond, Duration duration) {
+        this.ratePerSecond = ratePerSecond;
+        this.durationNanos = duration.toNanos();
+    }
+
+    static ArrivalSchedule constant(double rate, Duration duration) {
+        return new ArrivalSchedule(t -> rate, duration);
+    }
+
+    /**
+     * An on-sale spike: {@code baseRate} until {@code burstAt}, a linear ramp to {@code peakRate}
+     * over {@code ramp}, {@code hold} at the peak, then an equally long ramp back down.
+     */
+    static ArrivalSchedule burst(double baseRate, double peakRate, Duration duration,
+                                 Duration burstAt, Duration ramp, Duration hold) {
+        double start = seconds(burstAt);
+        double rampSeconds = Math.max(seconds(ramp), 1e-9);
+        double peakEnd = start + rampSeconds + seconds(hold);
+        return new ArrivalSchedule(t -> {
+            if (t < start || t >= peakEnd + rampSeconds) {
+                return baseRate;
+            }
+            if (t < start + rampSeconds) {
+                return baseRate + (peakRate - baseRate) * (t - start) / rampSeconds;
+            }
+            if (t < peakEnd) {
+                return peakRate;
+            }
+            return peakRate - (peakRate - baseRate) * (t - peakEnd) / rampSeconds;
+        }, duration);
+    }
+
+    /**
+     * @return nanoseconds from the start of the run at which the next request is due, or -1 once
+     * the run is over
+     */
+    long next() {
+        long due = (long) (nextSeconds * 1e9);
+        if (due >= durationNanos) {
+            return -1;
+        }
+        nextSeconds += 1 / Math.max(ratePerSecond.applyAsDouble(nextSeconds), 1e-3);
+        return due;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1e9;
+    }
+}
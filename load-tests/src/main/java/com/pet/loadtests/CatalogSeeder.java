@@ -0,0 +1,93 @@
+package com.pet.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the catalog with {@code events} upcoming events spread over the next year and, below them
+ * in ID order, a tenth as many archived ones. Rows go in with JDBC batches, so a million events
+ * take seconds rather than the minutes it would take through the API.
+ */
+@Slf4j
+final class CatalogSeeder {
+
+    static final String DESCRIPTION = "Найбільший музичний фестиваль Східної Європи повертається з новим лайнапом. ".repeat(3).trim();
+    static final String IMAGE_URL = "https://cdn.example.com/images/events/atlas-united-2025/poster-1920x1080.jpg";
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String[] VENUES = {"Blockbuster Mall, Київ", "Палац Спорту, Київ", "Стадіон Арена Львів",
+            "Атлас, Київ", "Zhara Club, Одеса", "Малевич, Харків"};
+    private static final String[] ARTISTS = {"Okean Elzy", "The Hardkiss", "Go_A", "Jamala", "DakhaBrakha",
+            "Kalush Orchestra", "Antytila", "Boombox"};
+
+    /**
+     * @param firstEventId ID of the first upcoming event; archived events take IDs below it
+     */
+    record Layout(long firstEventId, int events, int archivedEvents) {
+
+        long lastEventId() {
+            return firstEventId + events - 1;
+        }
+    }
+
+    private CatalogSeeder() {
+    }
+
+    static Layout seed(JdbcTemplate jdbcTemplate, int events) {
+        int archived = events / 10;
+        Layout layout = new Layout(archived + 1, events, archived);
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= archived; id++) {
+            rows.add(row(id, today.minusDays(1 + id % 730), now, true));
+            flushIfFull(jdbcTemplate, rows, true);
+        }
+        flush(jdbcTemplate, rows, true);
+        for (long id = layout.firstEventId(); id <= layout.lastEventId(); id++) {
+            rows.add(row(id, today.plusDays(1 + id % 365), now, false));
+            flushIfFull(jdbcTemplate, rows, false);
+        }
+        flush(jdbcTemplate, rows, false);
+
+        // New events take IDs from the pooled sequence; move it past the seeded range (plus one allocation block).
+        jdbcTemplate.execute("alter sequence events_seq restart with " + (layout.lastEventId() + 51));
+        log.info("Seeded {} events and {} archived events", events, archived);
+        return layout;
+    }
+
+    private static Object[] row(long id, LocalDate date, Timestamp now, boolean archived) {
+        String name = "Atlas United " + id;
+        String venue = VENUES[(int) (id % VENUES.length)];
+        String artist = ARTISTS[(int) (id % ARTISTS.length)];
+        return archived
+                ? new Object[]{id, name, Date.valueOf(date), venue, artist, DESCRIPTION, IMAGE_URL, 3L, now, now}
+                : new Object[]{id, name, Date.valueOf(date), venue, artist, DESCRIPTION, IMAGE_URL, 3L, now};
+    }
+
+    private static void flushIfFull(JdbcTemplate jdbcTemplate, List<Object[]> rows, boolean archived) {
+        if (rows.size() == BATCH_SIZE) {
+            flush(jdbcTemplate, rows, archived);
+        }
+    }
+
+    private static void flush(JdbcTemplate jdbcTemplate, List<Object[]> rows, boolean archived) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(archived
+                ? "insert into archived_events (id, name, date, venue, artist, description, imageurl, version, last_modified, archived_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+                : "insert into events (id, name, date, venue, artist, description, imageurl, version, last_modified) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.pet.loadtests;
+
+import com.pet.eventservice.EventServiceApplication;
+import com.pet.eventservice.search.EventSearchIndexLoader;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * event-service on a random local port, with an in-process Kafka broker and either an in-memory
+ * H2 database in PostgreSQL mode or the PostgreSQL instance given by {@code --jdbc-url}.
+ * Discovery, tracing and token verification are switched off; everything else, including the
+ * outbox relay and cache invalidation, runs as deployed.
+ */
+final class EmbeddedEventService implements AutoCloseable {
+
+    private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    private static final String H2_R2DBC_URL = "r2dbc:h2:mem:///loadtest;DB_CLOSE_DELAY=-1";
+
+    private final EmbeddedKafkaKraftBroker broker;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedEventService(EmbeddedKafkaKraftBroker broker, ConfigurableApplicationContext context) {
+        this.broker = broker;
+        this.context = context;
+    }
+
+    static EmbeddedEventService start(LoadTestOptions options) {
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, 1, "event-cache-invalidation", "event-catalog");
+        broker.afterPropertiesSet();
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "eureka.client.enabled=false",
+                "management.tracing.enabled=false",
+                "token-verifier.enabled=false",
+                "events.archive.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.com.pet.loadtests=INFO"));
+        if (options.jdbcUrl() != null) {
+            properties.add("spring.datasource.url=" + options.jdbcUrl());
+            properties.add("spring.datasource.username=" + options.jdbcUsername());
+            properties.add("spring.datasource.password=" + options.jdbcPassword());
+            properties.add("spring.r2dbc.url=r2dbc:" + options.jdbcUrl().substring("jdbc:".length()));
+            properties.add("spring.r2dbc.username=" + options.jdbcUsername());
+            properties.add("spring.r2dbc.password=" + options.jdbcPassword());
+        } else {
+            properties.add("spring.datasource.url=" + H2_URL);
+            properties.add("spring.r2dbc.url=" + H2_R2DBC_URL);
+        }
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(EventServiceApplication.class)
+                    .properties(properties.toArray(String[]::new))
+                    .run();
+            return new EmbeddedEventService(broker, context);
+        } catch (RuntimeException e) {
+            broker.destroy();
+            throw e;
+        }
+    }
+
+    CatalogSeeder.Layout seed(int catalogSize) {
+        CatalogSeeder.Layout layout = CatalogSeeder.seed(context.getBean(JdbcTemplate.class), catalogSize);
+        // The search index was built from the empty catalog at startup.
+        context.getBean(EventSearchIndexLoader.class).load();
+        return layout;
+    }
+
+    URI baseUri() {
+        return URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        broker.destroy();
+    }
+}
@@ -0,0 +1,60 @@
+package com.pet.loadtests;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency (microseconds, from the time a request was due) and outcomes for one endpoint.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void completed(long latencyNanos, int status) {
+        record(latencyNanos);
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void failed(long latencyNanos) {
+        record(latencyNanos);
+        failures.increment();
+    }
+
+    void drop(long latencyNanos) {
+        record(latencyNanos);
+        dropped.increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Map<Integer, Long> statuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    private void record(long latencyNanos) {
+        latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+    }
+}
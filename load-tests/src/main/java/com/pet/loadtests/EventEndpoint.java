@@ -0,0 +1,60 @@
+package com.pet.loadtests;
+
+/**
+ * The {@code EventController} endpoints a workload can hit; results are reported per endpoint.
+ */
+enum EventEndpoint {
+    LIST("list"),
+    STREAM("stream"),
+    SEARCH("search"),
+    GET("get"),
+    ARCHIVE_LIST("archive-list"),
+    ARCHIVE_GET("archive-get"),
+    CREATE("create"),
+    BULK("bulk"),
+    UPDATE("update"),
+    DELETE("delete"),
+    OTHER("other");
+
+    private final String key;
+
+    EventEndpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static EventEndpoint byKey(String key) {
+        for (EventEndpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint: " + key);
+    }
+
+    /**
+     * Maps a recorded request to its endpoint, so replayed traffic is reported like generated traffic.
+     */
+    static EventEndpoint classify(String method, String path) {
+        int query = path.indexOf('?');
+        String[] segments = (query >= 0 ? path.substring(0, query) : path).replaceAll("^/+|/+$", "").split("/");
+        if (segments.length < 2 || !segments[0].equals("v1") || !segments[1].equals("events")) {
+            return OTHER;
+        }
+        String third = segments.length > 2 ? segments[2] : null;
+        return switch (method) {
+            case "GET" -> third == null ? LIST
+                    : third.equals("stream") ? STREAM
+                    : third.equals("search") ? SEARCH
+                    : third.equals("archive") ? (segments.length > 3 ? ARCHIVE_GET : ARCHIVE_LIST)
+                    : GET;
+            case "POST" -> "bulk".equals(third) ? BULK : third == null ? CREATE : OTHER;
+            case "PUT" -> third != null ? UPDATE : OTHER;
+            case "DELETE" -> third != null ? DELETE : OTHER;
+            default -> OTHER;
+        };
+    }
+}
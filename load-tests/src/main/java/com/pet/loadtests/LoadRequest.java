@@ -0,0 +1,6 @@
+package com.pet.loadtests;
+
+import java.net.http.HttpRequest;
+
+record LoadRequest(EventEndpoint endpoint, HttpRequest request) {
+}
@@ -0,0 +1,23 @@
+package com.pet.loadtests;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+final class LoadResults {
+
+    private final Map<EventEndpoint, EndpointStats> endpoints = new EnumMap<>(EventEndpoint.class);
+
+    LoadResults() {
+        for (EventEndpoint endpoint : EventEndpoint.values()) {
+            endpoints.put(endpoint, new EndpointStats());
+        }
+    }
+
+    EndpointStats of(EventEndpoint endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    Map<EventEndpoint, EndpointStats> endpoints() {
+        return endpoints;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pet.loadtests;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadTestRunner}, given as {@code --name=value}. Durations use the ISO-8601
+ * form ({@code PT60S}), rates are requests per second.
+ */
+record LoadTestOptions(
+        int catalogSize,
+        Workload workload,
+        double rate,
+        double peakRate,
+        Duration duration,
+        Duration warmup,
+        Duration burstAt,
+        Duration burstRamp,
+        Duration burstHold,
+        Path replay,
+        double replaySpeed,
+        String mix,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        Path output,
+        Path baseline,
+        double maxRegression,
+        int maxInFlight,
+        long seed) {
+
+    enum Workload {
+        CONSTANT,
+        BURST,
+        REPLAY
+    }
+
+    static final String DEFAULT_MIX = "get:50,list:20,search:15,archive-list:2,archive-get:3,create:5,update:3,bulk:1,delete:1";
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(take(values, "catalog-size", "10000")),
+                Workload.valueOf(take(values, "workload", "constant").toUpperCase().replace('-', '_')),
+                Double.parseDouble(take(values, "rate", "200")),
+                Double.parseDouble(take(values, "peak-rate", "2000")),
+                Duration.parse(take(values, "duration", "PT60S")),
+                Duration.parse(take(values, "warmup", "PT10S")),
+                Duration.parse(take(values, "burst-at", "PT20S")),
+                Duration.parse(take(values, "burst-ramp", "PT5S")),
+                Duration.parse(take(values, "burst-hold", "PT15S")),
+                path(values.remove("replay")),
+                Double.parseDouble(take(values, "replay-speed", "1.0")),
+                take(values, "mix", DEFAULT_MIX),
+                values.remove("jdbc-url"),
+                take(values, "jdbc-username", "postgres"),
+                take(values, "jdbc-password", "postgres"),
+                Path.of(take(values, "output", "load-test-results")),
+                path(values.remove("baseline")),
+                Double.parseDouble(take(values, "max-regression", "0.2")),
+                Integer.parseInt(take(values, "max-in-flight", "10000")),
+                Long.parseLong(take(values, "seed", "42")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        if (options.workload() == Workload.REPLAY && options.replay() == null) {
+            throw new IllegalArgumentException("--workload=replay needs --replay=<file>");
+        }
+        return options;
+    }
+
+    private static String take(Map<String, String> values, String name, String defaultValue) {
+        String value = values.remove(name);
+        return value != null ? value : defaultValue;
+    }
+
+    private static Path path(String value) {
+        return value != null ? Path.of(value) : null;
+    }
+}
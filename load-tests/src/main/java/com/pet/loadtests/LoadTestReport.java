@@ -0,0 +1,162 @@
+package com.pet.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a run's results to the output directory:
+ * <ul>
+ *     <li>{@code summary.json}: throughput, outcomes and latency percentiles (ms) per endpoint and
+ *     in total, meant to be archived by CI and compared between builds. Counts and percentiles
+ *     include dropped requests at the request timeout; throughput counts only those sent;</li>
+ *     <li>{@code <endpoint>.hgrm}: the full HdrHistogram percentile distribution, for plotting.</li>
+ * </ul>
+ */
+final class LoadTestReport {
+
+    static final String SUMMARY = "summary.json";
+    static final String TOTAL = "total";
+
+    // Too few samples make p99 noise, so such endpoints are not compared against the baseline.
+    private static final long MIN_SAMPLES_TO_COMPARE = 100;
+    // Failed and dropped requests, as a share of all requests, may grow by at most this much.
+    private static final double MAX_ERROR_RATE_INCREASE = 0.01;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestReport() {
+    }
+
+    static Path write(LoadTestOptions options, LoadResults results, Duration elapsed) throws IOException {
+        Path output = options.output();
+        Files.createDirectories(output);
+        double seconds = elapsed.toNanos() / 1e9;
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalFailures = 0;
+        long totalDropped = 0;
+        for (Map.Entry<EventEndpoint, EndpointStats> entry : results.endpoints().entrySet()) {
+            EndpointStats stats = entry.getValue();
+            Histogram latency = stats.latency().copy();
+            if (latency.getTotalCount() == 0 && stats.dropped() == 0) {
+                continue;
+            }
+            total.add(latency);
+            totalFailures += stats.failures();
+            totalDropped += stats.dropped();
+            Map<String, Object> endpoint = summary(latency, stats.failures(), stats.dropped(), seconds);
+            endpoint.put("statuses", stats.statuses());
+            endpoints.put(entry.getKey().key(), endpoint);
+            writeDistribution(output.resolve(entry.getKey().key() + ".hgrm"), latency);
+        }
+        writeDistribution(output.resolve(TOTAL + ".hgrm"), total);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("workload", options.workload().name().toLowerCase());
+        summary.put("catalogSize", options.catalogSize());
+        summary.put("targetRate", options.workload() == LoadTestOptions.Workload.REPLAY ? null : options.rate());
+        summary.put("peakRate", options.workload() == LoadTestOptions.Workload.BURST ? options.peakRate() : null);
+        summary.put("mix", options.workload() == LoadTestOptions.Workload.REPLAY ? null : options.mix());
+        summary.put("elapsedSeconds", seconds);
+        summary.put(TOTAL, summary(total, totalFailures, totalDropped, seconds));
+        summary.put("endpoints", endpoints);
+        Path file = output.resolve(SUMMARY);
+        OBJECT_MAPPER.writeValue(file.toFile(), summary);
+        print(summary);
+        return file;
+    }
+
+    /**
+     * Endpoints whose p99 grew by more than {@code maxRegression} (0.2 = 20%) over the baseline run,
+     * or whose share of failed and dropped requests grew by more than one percentage point.
+     */
+    static List<String> regressions(Path baseline, Path current, double maxRegression) throws IOException {
+        JsonNode before = OBJECT_MAPPER.readTree(baseline.toFile());
+        JsonNode after = OBJECT_MAPPER.readTree(current.toFile());
+        List<String> regressions = new ArrayList<>();
+        compare(TOTAL, before.path(TOTAL), after.path(TOTAL), maxRegression, regressions);
+        Iterator<Map.Entry<String, JsonNode>> endpoints = after.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            compare(endpoint.getKey(), before.path("endpoints").path(endpoint.getKey()), endpoint.getValue(),
+                    maxRegression, regressions);
+        }
+        return regressions;
+    }
+
+    private static void compare(String name, JsonNode before, JsonNode after, double maxRegression, List<String> regressions) {
+        double errorRateWas = errorRate(before);
+        double errorRateIs = errorRate(after);
+        if (errorRateIs > errorRateWas + MAX_ERROR_RATE_INCREASE) {
+            regressions.add(String.format("%s: failed or dropped %.1f%% -> %.1f%%", name, errorRateWas * 100, errorRateIs * 100));
+        }
+        if (before.path("count").asLong() < MIN_SAMPLES_TO_COMPARE || after.path("count").asLong() < MIN_SAMPLES_TO_COMPARE) {
+            return;
+        }
+        double was = before.path("latencyMs").path("p99").asDouble();
+        double is = after.path("latencyMs").path("p99").asDouble();
+        if (is > was * (1 + maxRegression)) {
+            regressions.add(String.format("%s: p99 %.2f ms -> %.2f ms (+%.0f%%)", name, was, is, (is / was - 1) * 100));
+        }
+    }
+
+    private static double errorRate(JsonNode run) {
+        long count = run.path("count").asLong();
+        return count > 0 ? (double) (run.path("failures").asLong() + run.path("dropped").asLong()) / count : 0.0;
+    }
+
+    private static Map<String, Object> summary(Histogram latency, long failures, long dropped, double seconds) {
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", millis(latency.getValueAtPercentile(50)));
+        latencyMs.put("p90", millis(latency.getValueAtPercentile(90)));
+        latencyMs.put("p99", millis(latency.getValueAtPercentile(99)));
+        latencyMs.put("p99.9", millis(latency.getValueAtPercentile(99.9)));
+        latencyMs.put("max", millis(latency.getMaxValue()));
+        latencyMs.put("mean", latency.getTotalCount() > 0 ? latency.getMean() / MICROS_PER_MILLI : 0.0);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", latency.getTotalCount());
+        summary.put("throughput", seconds > 0 ? (latency.getTotalCount() - dropped) / seconds : 0.0);
+        summary.put("failures", failures);
+        summary.put("dropped", dropped);
+        summary.put("latencyMs", latencyMs);
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+
+    private static void writeDistribution(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> summary) {
+        System.out.printf("%-14s %10s %10s %9s %9s %9s %9s %9s%n", "endpoint", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) summary.get("endpoints"));
+        rows.put(TOTAL, summary.get(TOTAL));
+        rows.forEach((name, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            Map<String, Object> latency = (Map<String, Object>) row.get("latencyMs");
+            System.out.printf("%-14s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, row.get("count"), row.get("throughput"),
+                    latency.get("p50"), latency.get("p90"), latency.get("p99"), latency.get("p99.9"), latency.get("max"));
+        });
+    }
+}
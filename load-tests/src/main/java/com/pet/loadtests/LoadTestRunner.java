@@ -0,0 +1,62 @@
+package com.pet.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Entry point of {@code load-tests.jar}: boots event-service in-process, seeds the catalog and
+ * drives an open-model workload against the {@code EventController} endpoints.
+ * <pre>
+ *   mvn -pl load-tests -am package -DskipTests
+ *   java -jar load-tests/target/load-tests.jar --catalog-size=100000 --rate=500 --duration=PT2M
+ *   java -jar load-tests/target/load-tests.jar --workload=burst --rate=200 --peak-rate=3000 --burst-at=PT30S
+ *   java -jar load-tests/target/load-tests.jar --workload=replay --replay=onsale.ndjson --replay-speed=2
+ * </pre>
+ * Results go to {@code --output} (see {@link LoadTestReport}). With {@code --baseline=<summary.json>}
+ * the run exits with status 2 if any endpoint's p99 regressed by more than {@code --max-regression}.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        int status = 0;
+        try (EmbeddedEventService service = EmbeddedEventService.start(options)) {
+            CatalogSeeder.Layout catalog = service.seed(options.catalogSize());
+            RequestMix mix = new RequestMix(service.baseUri(), catalog, options.mix(), options.seed());
+            OpenModelDriver driver = new OpenModelDriver(options.maxInFlight());
+
+            if (!options.warmup().isZero()) {
+                log.info("Warming up at {} req/s for {}", options.rate(), options.warmup());
+                driver.run(TrafficSource.generated(ArrivalSchedule.constant(options.rate(), options.warmup()), mix), new LoadResults());
+            }
+
+            LoadResults results = new LoadResults();
+            Duration elapsed;
+            if (options.workload() == LoadTestOptions.Workload.REPLAY) {
+                try (ReplayLog replay = new ReplayLog(options.replay(), service.baseUri(), options.replaySpeed())) {
+                    elapsed = driver.run(replay, results);
+                }
+            } else {
+                ArrivalSchedule schedule = options.workload() == LoadTestOptions.Workload.BURST
+                        ? ArrivalSchedule.burst(options.rate(), options.peakRate(), options.duration(),
+                        options.burstAt(), options.burstRamp(), options.burstHold())
+                        : ArrivalSchedule.constant(options.rate(), options.duration());
+                elapsed = driver.run(TrafficSource.generated(schedule, mix), results);
+            }
+
+            Path summary = LoadTestReport.write(options, results, elapsed);
+            log.info("Results written to {}", options.output().toAbsolutePath());
+            if (options.baseline() != null) {
+                List<String> regressions = LoadTestReport.regressions(options.baseline(), summary, options.maxRegression());
+                regressions.forEach(regression -> log.error("Latency regression against baseline: {}", regression));
+                status = regressions.isEmpty() ? 0 : 2;
+            }
+        }
+        // Kafka and HTTP client threads would otherwise keep the JVM alive.
+        System.exit(status);
+    }
+}
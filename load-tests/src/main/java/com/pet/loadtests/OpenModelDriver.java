@@ -0,0 +1,83 @@
+package com.pet.loadtests;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends each request at its due time without waiting for earlier responses, and measures latency
+ * from the due time rather than the send time. A stalled server therefore shows up as queueing in
+ * the percentiles instead of silently lowering the request rate (coordinated omission).
+ * <p>
+ * Requests beyond {@code maxInFlight} are dropped rather than sent, to bound the generator's own
+ * memory when the server stops answering. A dropped request is recorded with the request timeout
+ * as its latency, so a stalled server cannot look faster by shedding its slowest requests.
+ */
+@Slf4j
+final class OpenModelDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final int maxInFlight;
+
+    OpenModelDriver(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * @return wall-clock time from the first due request until the last response
+     */
+    Duration run(TrafficSource source, LoadResults results) {
+        AtomicInteger inFlight = new AtomicInteger();
+        long start = System.nanoTime();
+        TrafficSource.ScheduledRequest next;
+        long sent = 0;
+        while ((next = source.next()) != null) {
+            long due = start + next.offsetNanos();
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            EndpointStats stats = results.of(next.request().endpoint());
+            if (inFlight.get() >= maxInFlight) {
+                stats.drop(REQUEST_TIMEOUT.toNanos());
+                continue;
+            }
+            inFlight.incrementAndGet();
+            HttpRequest request = HttpRequest.newBuilder(next.request().request(), (name, value) -> true)
+                    .timeout(REQUEST_TIMEOUT)
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, ex) -> {
+                long latency = System.nanoTime() - due;
+                if (ex != null) {
+                    stats.failed(latency);
+                } else {
+                    stats.completed(latency, response.statusCode());
+                }
+                inFlight.decrementAndGet();
+            });
+            sent++;
+        }
+        long drainUntil = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        if (inFlight.get() > 0) {
+            log.warn("{} requests still in flight after {}, not counted", inFlight.get(), DRAIN_TIMEOUT);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("Sent {} requests in {}", sent, elapsed);
+        return elapsed;
+    }
+}
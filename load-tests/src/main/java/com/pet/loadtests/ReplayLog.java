@@ -0,0 +1,72 @@
+package com.pet.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Replays recorded traffic, one JSON object per line:
+ * <pre>
+ *   {"offsetMillis": 1250, "method": "GET", "path": "/v1/events/42"}
+ *   {"offsetMillis": 1300, "method": "POST", "path": "/v1/events", "body": {"name": "..."}}
+ * </pre>
+ * {@code offsetMillis} is the time since the start of the recording; lines must be in that order.
+ * Requests are sent at their recorded times divided by the replay speed, whatever the response
+ * times, so a recorded on-sale spike arrives as a spike. IDs in the paths should exist in the
+ * seeded catalog (events from {@code catalogSize / 10 + 1} upwards).
+ */
+final class ReplayLog implements TrafficSource, AutoCloseable {
+
+    private final BufferedReader reader;
+    private final URI baseUri;
+    private final double speed;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int line;
+
+    ReplayLog(Path file, URI baseUri, double speed) throws IOException {
+        this.reader = Files.newBufferedReader(file);
+        this.baseUri = baseUri;
+        this.speed = speed;
+    }
+
+    @Override
+    public ScheduledRequest next() {
+        try {
+            String json;
+            do {
+                json = reader.readLine();
+                line++;
+                if (json == null) {
+                    return null;
+                }
+            } while (json.isBlank());
+            JsonNode entry = objectMapper.readTree(json);
+            String method = entry.path("method").asText("GET");
+            String path = entry.path("path").asText();
+            JsonNode body = entry.get("body");
+            HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path));
+            if (body != null && !body.isNull()) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofString(body.isTextual() ? body.asText() : body.toString()));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            long offsetNanos = (long) (entry.path("offsetMillis").asLong() * 1_000_000 / speed);
+            return new ScheduledRequest(offsetNanos, new LoadRequest(EventEndpoint.classify(method, path), request.build()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read replay log at line " + line, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,118 @@
+package com.pet.loadtests;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates requests for a weighted mix of endpoints, e.g. {@code get:50,list:20,search:15}.
+ * <p>
+ * Reads and updates target the live part of the seeded catalog; deletes walk down from the top of
+ * it, so each deletes a different event and the reads rarely run into one that is gone.
+ */
+final class RequestMix {
+
+    private static final String[] SEARCH_TERMS = {"atlas", "atlas 12", "okean", "kyiv", "atlsa", "blockbuster"};
+
+    private final URI baseUri;
+    private final CatalogSeeder.Layout catalog;
+    private final Random random;
+    private final List<EventEndpoint> endpoints = new ArrayList<>();
+    private final int[] cumulativeWeights;
+    private final AtomicLong nextDelete;
+    private final AtomicLong created = new AtomicLong();
+    private final int totalWeight;
+
+    RequestMix(URI baseUri, CatalogSeeder.Layout catalog, String mix, long seed) {
+        this.baseUri = baseUri;
+        this.catalog = catalog;
+        this.random = new Random(seed);
+        List<Integer> weights = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                endpoints.add(EventEndpoint.byKey(parts[0]));
+                weights.add(weight);
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Mix has no endpoints: " + mix);
+        }
+        cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+        totalWeight = sum;
+        nextDelete = new AtomicLong(catalog.lastEventId());
+    }
+
+    /**
+     * Called from the single dispatcher thread only.
+     */
+    LoadRequest next() {
+        int pick = random.nextInt(totalWeight);
+        int index = 0;
+        while (cumulativeWeights[index] <= pick) {
+            index++;
+        }
+        EventEndpoint endpoint = endpoints.get(index);
+        return new LoadRequest(endpoint, request(endpoint));
+    }
+
+    private HttpRequest request(EventEndpoint endpoint) {
+        return switch (endpoint) {
+            case LIST -> get("/v1/events?size=20");
+            case STREAM -> get("/v1/events/stream");
+            case SEARCH -> get("/v1/events/search?q=" + URLEncoder.encode(SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)], StandardCharsets.UTF_8) + "&limit=20");
+            case GET -> get("/v1/events/" + liveEventId());
+            case ARCHIVE_LIST -> get("/v1/events/archive?size=20");
+            case ARCHIVE_GET -> get("/v1/events/archive/" + (1 + random.nextInt(Math.max(catalog.archivedEvents(), 1))));
+            case CREATE -> json("POST", "/v1/events", eventJson("Load Test " + created.incrementAndGet()));
+            case BULK -> json("POST", "/v1/events/bulk", bulkJson(10));
+            case UPDATE -> json("PUT", "/v1/events/" + liveEventId(), eventJson("Atlas United Updated " + random.nextInt(1000)));
+            case DELETE -> HttpRequest.newBuilder(baseUri.resolve("/v1/events/" + nextDelete.getAndDecrement())).DELETE().build();
+            case OTHER -> throw new IllegalArgumentException("Not a generated endpoint: " + endpoint);
+        };
+    }
+
+    private long liveEventId() {
+        // Stay clear of the top tenth of the catalog, which deletes eat into.
+        long live = Math.max(catalog.events() * 9L / 10, 1);
+        return catalog.firstEventId() + (long) (random.nextDouble() * live);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest json(String method, String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String bulkJson(int rows) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < rows; i++) {
+            json.append(i > 0 ? "," : "").append(eventJson("Bulk Import " + created.incrementAndGet()));
+        }
+        return json.append(']').toString();
+    }
+
+    private String eventJson(String name) {
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(365));
+        return "{\"name\":\"" + name + "\",\"date\":\"" + date + "\",\"venue\":\"Blockbuster Mall, Kyiv\","
+                + "\"artist\":\"Okean Elzy\",\"description\":\"" + CatalogSeeder.DESCRIPTION + "\","
+                + "\"imageURL\":\"" + CatalogSeeder.IMAGE_URL + "\"}";
+    }
+}
@@ -0,0 +1,22 @@
+package com.pet.loadtests;
+
+/**
+ * The requests of one run in order of their due time. Only the dispatcher thread calls it.
+ */
+interface TrafficSource {
+
+    /**
+     * @return the next request, or {@code null} once the run is over
+     */
+    ScheduledRequest next();
+
+    record ScheduledRequest(long offsetNanos, LoadRequest request) {
+    }
+
+    static TrafficSource generated(ArrivalSchedule schedule, RequestMix mix) {
+        return () -> {
+            long offset = schedule.next();
+            return offset < 0 ? null : new ScheduledRequest(offset, mix.next());
+        };
+    }
+}
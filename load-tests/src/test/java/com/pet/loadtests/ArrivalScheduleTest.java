@@ -0,0 +1,49 @@
+package com.pet.loadtests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArrivalScheduleTest {
+
+    @Test
+    @DisplayName("A constant rate spaces arrivals evenly and stops at the end of the run")
+    void constantRate() {
+        ArrivalSchedule schedule = ArrivalSchedule.constant(100, Duration.ofSeconds(2));
+
+        assertEquals(0, schedule.next());
+        assertEquals(10_000_000, schedule.next());
+        assertEquals(200, 2 + count(schedule));
+    }
+
+    @Test
+    @DisplayName("A burst ramps up to the peak rate, holds it and ramps back down")
+    void burstShape() {
+        ArrivalSchedule schedule = ArrivalSchedule.burst(10, 1000, Duration.ofSeconds(10),
+                Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofSeconds(3));
+
+        int[] perSecond = new int[10];
+        long due;
+        while ((due = schedule.next()) >= 0) {
+            perSecond[(int) (due / 1_000_000_000L)]++;
+        }
+
+        assertEquals(10, perSecond[0], 1);
+        assertEquals(1000, perSecond[4], 1);
+        assertEquals(10, perSecond[9], 1);
+        assertTrue(perSecond[2] > 10 && perSecond[2] < 1000);
+        assertTrue(perSecond[6] > 10 && perSecond[6] < 1000);
+    }
+
+    private static int count(ArrivalSchedule schedule) {
+        int count = 0;
+        while (schedule.next() >= 0) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,49 @@
+package com.pet.loadtests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTestReportTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("A run that sheds requests fails the baseline check even if the requests it answered were fast")
+    void droppedRequestsAreARegression() throws IOException {
+        Path baseline = summary("baseline.json", 1000, 0, 0, 40.0);
+        Path stalled = summary("stalled.json", 1000, 0, 200, 30.0);
+
+        List<String> regressions = LoadTestReport.regressions(baseline, stalled, 0.2);
+
+        assertEquals(2, regressions.size());
+        assertTrue(regressions.get(0).startsWith("total: failed or dropped 0.0% -> 20.0%"));
+    }
+
+    @Test
+    @DisplayName("A run within the p99 and error budgets passes")
+    void comparableRunPasses() throws IOException {
+        Path baseline = summary("baseline.json", 1000, 2, 0, 40.0);
+        Path current = summary("current.json", 1000, 5, 0, 45.0);
+
+        assertTrue(LoadTestReport.regressions(baseline, current, 0.2).isEmpty());
+    }
+
+    private Path summary(String name, long count, long failures, long dropped, double p99) throws IOException {
+        String stats = """
+                {"count": %d, "failures": %d, "dropped": %d, "latencyMs": {"p99": %s}}""".formatted(count, failures, dropped, p99);
+        Path file = dir.resolve(name);
+        Files.writeString(file, """
+                {"total": %s, "endpoints": {"get": %s}}""".formatted(stats, stats));
+        return file;
+    }
+}
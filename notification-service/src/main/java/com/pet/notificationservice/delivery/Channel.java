@@ -0,0 +1,6 @@
+package com.pet.notificationservice.delivery;
+
+public enum Channel {
+    EMAIL,
+    PUSH
+}
@@ -0,0 +1,21 @@
+package com.pet.notificationservice.delivery;
+
+import java.util.List;
+
+/**
+ * Some or all notifications of a batch were not delivered. {@link #getFailed()} lists the ones
+ * to retry; the rest of the batch went through.
+ */
+public class DeliveryException extends Exception {
+
+    private final List<Notification> failed;
+
+    public DeliveryException(String message, List<Notification> failed, Throwable cause) {
+        super(message, cause);
+        this.failed = failed;
+    }
+
+    public List<Notification> getFailed() {
+        return failed;
+    }
+}
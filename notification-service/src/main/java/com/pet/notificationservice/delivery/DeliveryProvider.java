@@ -0,0 +1,21 @@
+package com.pet.notificationservice.delivery;
+
+import java.util.List;
+
+/**
+ * Sends batches of notifications for one channel. Each provider gets its own dispatcher, queue and
+ * rate limit.
+ */
+public interface DeliveryProvider {
+
+    String name();
+
+    Channel channel();
+
+    /**
+     * Largest batch the provider should be handed at once.
+     */
+    int maxBatch();
+
+    void deliver(List<Notification> batch) throws DeliveryException;
+}
@@ -0,0 +1,58 @@
+package com.pet.notificationservice.delivery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+
+/**
+ * Sends push notifications to the push gateway at {@code notifications.push.url}, one POST per
+ * batch. Only active when that URL is configured; without it push notifications are not rendered.
+ */
+@Component
+@ConditionalOnProperty("notifications.push.url")
+public class HttpPushProvider implements DeliveryProvider {
+
+    private final RestClient restClient;
+    private final int maxBatch;
+
+    record PushMessage(String token, String body) {
+    }
+
+    public HttpPushProvider(RestClient.Builder restClientBuilder,
+                            @Value("${notifications.push.url}") String url,
+                            @Value("${notifications.push.max-batch:500}") int maxBatch) {
+        this.restClient = restClientBuilder.baseUrl(url).build();
+        this.maxBatch = maxBatch;
+    }
+
+    @Override
+    public String name() {
+        return "push-gateway";
+    }
+
+    @Override
+    public Channel channel() {
+        return Channel.PUSH;
+    }
+
+    @Override
+    public int maxBatch() {
+        return maxBatch;
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) throws DeliveryException {
+        List<PushMessage> messages = batch.stream()
+                .map(notification -> new PushMessage(notification.recipient(), notification.body()))
+                .toList();
+        try {
+            restClient.post().body(messages).retrieve().toBodilessEntity();
+        } catch (RestClientException e) {
+            throw new DeliveryException("Push gateway is unavailable", batch, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.pet.notificationservice.delivery;
+
+/**
+ * One rendered message to one recipient. {@code subject} is {@code null} for push notifications.
+ */
+public record Notification(String id, Channel channel, String recipient, String subject, String body, int attempt) {
+
+    public Notification nextAttempt() {
+        return new Notification(id, channel, recipient, subject, body, attempt + 1);
+    }
+}
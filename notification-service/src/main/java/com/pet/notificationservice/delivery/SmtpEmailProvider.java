@@ -0,0 +1,81 @@
+package com.pet.notificationservice.delivery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends email through the configured SMTP relay. A batch goes out as one
+ * {@link JavaMailSender#send(SimpleMailMessage...)} call, which reuses a single SMTP connection
+ * for every message in it instead of connecting per email.
+ */
+@Component
+public class SmtpEmailProvider implements DeliveryProvider {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int maxBatch;
+
+    public SmtpEmailProvider(JavaMailSender mailSender,
+                             @Value("${notifications.email.from:tickets@bilspot.com}") String from,
+                             @Value("${notifications.email.max-batch:50}") int maxBatch) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.maxBatch = maxBatch;
+    }
+
+    @Override
+    public String name() {
+        return "smtp";
+    }
+
+    @Override
+    public Channel channel() {
+        return Channel.EMAIL;
+    }
+
+    @Override
+    public int maxBatch() {
+        return maxBatch;
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) throws DeliveryException {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Notification notification = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(from);
+            message.setTo(notification.recipient());
+            message.setSubject(notification.subject());
+            message.setText(notification.body());
+            messages[i] = message;
+        }
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            throw new DeliveryException("SMTP relay rejected part of the batch", failedOf(batch, messages, e), e);
+        } catch (MailException e) {
+            throw new DeliveryException("SMTP relay is unavailable", batch, e);
+        }
+    }
+
+    private static List<Notification> failedOf(List<Notification> batch, SimpleMailMessage[] messages, MailSendException e) {
+        if (e.getFailedMessages().isEmpty()) {
+            return batch;
+        }
+        List<Notification> failed = new ArrayList<>();
+        for (int i = 0; i < messages.length; i++) {
+            if (e.getFailedMessages().containsKey(messages[i])) {
+                failed.add(batch.get(i));
+            }
+        }
+        return failed;
+    }
+}
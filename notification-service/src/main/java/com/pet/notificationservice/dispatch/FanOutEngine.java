@@ -0,0 +1,118 @@
+package com.pet.notificationservice.dispatch;
+
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.delivery.DeliveryProvider;
+import com.pet.notificationservice.delivery.Notification;
+import com.pet.notificationservice.messaging.OrderConfirmedMessage;
+import com.pet.notificationservice.ratelimit.TokenBucket;
+import com.pet.notificationservice.spill.DiskSpillQueue;
+import com.pet.notificationservice.template.TemplateRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fans a confirmed order out to every channel it can be delivered on: renders the notifications
+ * once and routes each to the {@link ProviderDispatcher} of its channel.
+ * <p>
+ * Each provider is limited by its own token bucket, {@code notifications.providers.<name>.rate-per-second}
+ * and {@code .burst}, so a slow or strict relay never holds back the others.
+ */
+@Slf4j
+@Component
+public class FanOutEngine implements SmartLifecycle {
+
+    private final TemplateRenderer templateRenderer;
+    private final Map<Channel, ProviderDispatcher> dispatchers = new EnumMap<>(Channel.class);
+    private final Set<Channel> channels;
+
+    private volatile boolean running;
+
+    public FanOutEngine(List<DeliveryProvider> providers,
+                        TemplateRenderer templateRenderer,
+                        MeterRegistry meterRegistry,
+                        Environment environment,
+                        @Value("${notifications.queue.capacity:10000}") int queueCapacity,
+                        @Value("${notifications.spill.dir:./data/spill}") Path spillDir,
+                        @Value("${notifications.spill.segment-size:64MB}") DataSize segmentSize,
+                        @Value("${notifications.spill.max-size:1GB}") DataSize maxSpillSize,
+                        @Value("${notifications.delivery.max-attempts:5}") int maxAttempts,
+                        @Value("${notifications.delivery.retry-backoff:PT1S}") Duration retryBackoff) {
+        this.templateRenderer = templateRenderer;
+        for (DeliveryProvider provider : providers) {
+            String prefix = "notifications.providers." + provider.name() + ".";
+            double ratePerSecond = environment.getProperty(prefix + "rate-per-second", Double.class, 100.0);
+            double burst = environment.getProperty(prefix + "burst", Double.class, (double) provider.maxBatch());
+            DiskSpillQueue spillQueue;
+            try {
+                spillQueue = new DiskSpillQueue(spillDir.resolve(provider.name()), segmentSize.toBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open spill queue of " + provider.name(), e);
+            }
+            ProviderDispatcher previous = dispatchers.put(provider.channel(), new ProviderDispatcher(provider,
+                    new TokenBucket(ratePerSecond, burst), spillQueue, queueCapacity, maxSpillSize.toBytes(),
+                    maxAttempts, retryBackoff, meterRegistry));
+            if (previous != null) {
+                throw new IllegalStateException("More than one delivery provider for " + provider.channel());
+            }
+        }
+        this.channels = Collections.unmodifiableSet(dispatchers.keySet());
+        log.info("Delivering notifications on {}", channels);
+    }
+
+    /**
+     * @return a receipt that settles once none of the message's notifications can be lost any more
+     */
+    public Receipt submit(OrderConfirmedMessage message) throws InterruptedException {
+        List<Notification> notifications = templateRenderer.render(message, channels);
+        Receipt receipt = new Receipt(notifications.size());
+        for (Notification notification : notifications) {
+            dispatchers.get(notification.channel()).submit(notification, receipt);
+        }
+        return receipt;
+    }
+
+    /**
+     * Notifications accepted but not yet delivered, in memory and on disk.
+     */
+    public long getBacklog() {
+        return dispatchers.values().stream().mapToLong(ProviderDispatcher::getBacklog).sum();
+    }
+
+    @Override
+    public void start() {
+        dispatchers.values().forEach(ProviderDispatcher::start);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        dispatchers.values().forEach(ProviderDispatcher::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the Kafka listener, so no record is handed to a stopped dispatcher.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,283 @@
+package com.pet.notificationservice.dispatch;
+
+import com.pet.notificationservice.delivery.DeliveryException;
+import com.pet.notificationservice.delivery.DeliveryProvider;
+import com.pet.notificationservice.delivery.Notification;
+import com.pet.notificationservice.ratelimit.TokenBucket;
+import com.pet.notificationservice.spill.DiskSpillQueue;
+import com.pet.notificationservice.spill.NotificationCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers the notifications of one provider from one thread: takes up to
+ * {@link DeliveryProvider#maxBatch()} at a time, waits for that many tokens from the provider's
+ * {@link TokenBucket}, and hands the batch over in one call.
+ * <p>
+ * Work waits in a bounded in-memory queue. What does not fit, and everything submitted while older
+ * work is still on disk, goes to a {@link DiskSpillQueue} so that order is kept; the dispatcher
+ * moves it back into memory as room frees up. Only when the spill queue itself reaches
+ * {@code maxSpillBytes} does {@link #submit} block, which in turn pauses the Kafka consumer.
+ * Failed notifications are retried from the back of the queue after a backoff that grows while
+ * the provider keeps failing.
+ * <p>
+ * A submitted notification settles its {@link Receipt} once it is delivered, given up on or
+ * spilled, since spill appends are on disk before they return. One that is still in memory when
+ * the service dies is not lost: its receipt never settled, so its Kafka record was not committed
+ * and comes back after the restart. Delivery is therefore at least once.
+ */
+@Slf4j
+public class ProviderDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final DeliveryProvider provider;
+    private final TokenBucket tokenBucket;
+    private final DiskSpillQueue spillQueue;
+    private final BlockingQueue<Queued> memoryQueue;
+    private final int memoryCapacity;
+    private final int maxBatch;
+    private final long maxSpillBytes;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public ProviderDispatcher(DeliveryProvider provider, TokenBucket tokenBucket, DiskSpillQueue spillQueue,
+                              int memoryCapacity, long maxSpillBytes, int maxAttempts, Duration retryBackoff,
+                              MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.tokenBucket = tokenBucket;
+        this.spillQueue = spillQueue;
+        this.memoryQueue = new ArrayBlockingQueue<>(memoryCapacity);
+        this.memoryCapacity = memoryCapacity;
+        this.maxBatch = Math.min(provider.maxBatch(), tokenBucket.getBurst());
+        this.maxSpillBytes = maxSpillBytes;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        Tags tags = Tags.of("channel", provider.channel().name().toLowerCase(), "provider", provider.name());
+        this.delivered = Counter.builder("notifications.delivered").tags(tags).register(meterRegistry);
+        this.retried = Counter.builder("notifications.retried").tags(tags).register(meterRegistry);
+        this.dropped = Counter.builder("notifications.dropped")
+                .description("Notifications given up on after the last attempt")
+                .tags(tags).register(meterRegistry);
+        this.spilled = Counter.builder("notifications.spilled")
+                .description("Notifications written to the disk queue because memory was full")
+                .tags(tags).register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("notifications.batch").tags(tags).register(meterRegistry);
+        Gauge.builder("notifications.queue.memory", memoryQueue, BlockingQueue::size).tags(tags).register(meterRegistry);
+        Gauge.builder("notifications.queue.spilled", spillQueue, DiskSpillQueue::getCount).tags(tags).register(meterRegistry);
+    }
+
+    /**
+     * Queues a notification, blocking only while the spill queue is over its size limit.
+     */
+    public void submit(Notification notification, Receipt receipt) throws InterruptedException {
+        while (spillQueue.getSizeBytes() > maxSpillBytes) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        enqueue(List.of(new Queued(notification, receipt)));
+    }
+
+    public long getBacklog() {
+        return memoryQueue.size() + spillQueue.getCount();
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "notification-dispatcher-" + provider.name());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Notifications read back from disk survive the restart there again. The others belong to
+        // records that were never committed, so Kafka hands them over again.
+        List<Queued> remaining = new ArrayList<>();
+        memoryQueue.drainTo(remaining);
+        List<Notification> readFromSpill = remaining.stream()
+                .filter(queued -> queued.receipt() == null)
+                .map(Queued::notification)
+                .toList();
+        if (!readFromSpill.isEmpty()) {
+            appendToSpill(readFromSpill);
+        }
+        try {
+            spillQueue.close();
+        } catch (IOException e) {
+            log.warn("Could not close spill queue of {}", provider.name(), e);
+        }
+    }
+
+    private synchronized void enqueue(List<Queued> notifications) {
+        if (spillQueue.isEmpty()) {
+            int offered = 0;
+            while (offered < notifications.size() && memoryQueue.offer(notifications.get(offered))) {
+                offered++;
+            }
+            if (offered == notifications.size()) {
+                return;
+            }
+            notifications = notifications.subList(offered, notifications.size());
+        }
+        appendToSpill(notifications.stream().map(Queued::notification).toList());
+        spilled.increment(notifications.size());
+        notifications.forEach(Queued::settle);
+    }
+
+    private synchronized void refillFromSpill() throws IOException {
+        int room = memoryCapacity - memoryQueue.size();
+        if (room < memoryCapacity / 2 || spillQueue.isEmpty()) {
+            return;
+        }
+        for (byte[] record : spillQueue.poll(room)) {
+            memoryQueue.add(new Queued(NotificationCodec.decode(record), null));
+        }
+    }
+
+    private void appendToSpill(List<Notification> notifications) {
+        try {
+            spillQueue.append(notifications.stream().map(NotificationCodec::encode).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill notifications of " + provider.name(), e);
+        }
+    }
+
+    private void run() {
+        List<Queued> batch = new ArrayList<>(maxBatch);
+        Duration backoff = retryBackoff;
+        while (running) {
+            try {
+                refillFromSpill();
+                Queued first = memoryQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                memoryQueue.drainTo(batch, maxBatch - 1);
+                tokenBucket.acquire(batch.size());
+                batchSize.record(batch.size());
+                boolean delivered = deliver(batch);
+                batch.clear();
+                if (delivered) {
+                    backoff = retryBackoff;
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(backoff.toMillis());
+                    backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                requeue(batch);
+                break;
+            } catch (IOException | RuntimeException e) {
+                log.error("Notification dispatcher of {} failed", provider.name(), e);
+                requeue(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if anything in the batch failed
+     */
+    private boolean deliver(List<Queued> batch) {
+        List<Notification> notifications = batch.stream().map(Queued::notification).toList();
+        Set<Notification> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Exception failure;
+        try {
+            provider.deliver(notifications);
+            delivered.increment(batch.size());
+            batch.forEach(Queued::settle);
+            return true;
+        } catch (DeliveryException e) {
+            failed.addAll(e.getFailed());
+            failure = e;
+        } catch (RuntimeException e) {
+            // Nothing says which of them went out, so all of them are tried again.
+            failed.addAll(notifications);
+            failure = e;
+        }
+        delivered.increment(batch.size() - failed.size());
+        List<Queued> retry = new ArrayList<>(failed.size());
+        for (Queued queued : batch) {
+            Notification notification = queued.notification();
+            if (!failed.contains(notification)) {
+                queued.settle();
+            } else if (notification.attempt() + 1 < maxAttempts) {
+                retry.add(new Queued(notification.nextAttempt(), queued.receipt()));
+            } else {
+                dropped.increment();
+                queued.settle();
+                log.error("Giving up on notification {} to {} after {} attempts",
+                        notification.id(), notification.recipient(), maxAttempts);
+            }
+        }
+        retried.increment(retry.size());
+        log.warn("{} of {} notifications failed via {}, retrying {}", failed.size(), batch.size(),
+                provider.name(), retry.size(), failure);
+        requeue(retry);
+        return false;
+    }
+
+    /**
+     * Puts notifications back at the end of the queue; those that cannot be stored are counted as
+     * dropped. Their receipts stay unsettled, so their records are read again after a restart.
+     */
+    private void requeue(List<Queued> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            enqueue(new ArrayList<>(notifications));
+        } catch (RuntimeException e) {
+            dropped.increment(notifications.size());
+            log.error("Dropped {} notifications of {} that could not be queued again",
+                    notifications.size(), provider.name(), e);
+        }
+    }
+
+    /**
+     * A notification waiting in memory, with the receipt it settles. Notifications read back from
+     * the spill queue have none: theirs settled when they were spilled.
+     */
+    private record Queued(Notification notification, Receipt receipt) {
+
+        void settle() {
+            if (receipt != null) {
+                receipt.settle();
+            }
+        }
+    }
+}
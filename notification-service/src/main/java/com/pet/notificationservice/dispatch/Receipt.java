@@ -0,0 +1,32 @@
+package com.pet.notificationservice.dispatch;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the notifications rendered from one order-confirmed record. It settles once each of them
+ * has been delivered, given up on or written to a spill queue, none of which a crash can undo, so
+ * the record may then be committed.
+ */
+public final class Receipt {
+
+    private final AtomicInteger pending;
+    private final CompletableFuture<Void> settled = new CompletableFuture<>();
+
+    public Receipt(int notifications) {
+        this.pending = new AtomicInteger(notifications);
+        if (notifications == 0) {
+            settled.complete(null);
+        }
+    }
+
+    public CompletableFuture<Void> settled() {
+        return settled;
+    }
+
+    void settle() {
+        if (pending.decrementAndGet() == 0) {
+            settled.complete(null);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.pet.notificationservice.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.notificationservice.dispatch.FanOutEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands every confirmed order to the {@link FanOutEngine}. The engine blocks while its spill
+ * queues are full, which stops this listener from polling until the providers catch up.
+ * <p>
+ * A record is acknowledged only once its receipt settles, that is once every notification of it
+ * is delivered, given up on or spilled to disk. Notifications still in memory when the service
+ * dies are therefore read again from Kafka, and some may go out twice: delivery is at least once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderConfirmedListener {
+
+    private final FanOutEngine fanOutEngine;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${notifications.topic:order-confirmed}",
+            groupId = "${spring.application.name:notification-service}",
+            containerFactory = "orderConfirmedListenerContainerFactory",
+            autoStartup = "${notifications.consumer.enabled:true}")
+    public void onOrderConfirmed(String payload, Acknowledgment acknowledgment) throws InterruptedException {
+        OrderConfirmedMessage message;
+        try {
+            message = objectMapper.readValue(payload, OrderConfirmedMessage.class);
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable order-confirmed record: {}", payload, e);
+            acknowledgment.acknowledge();
+            return;
+        }
+        fanOutEngine.submit(message).settled().thenRun(acknowledgment::acknowledge);
+    }
+}
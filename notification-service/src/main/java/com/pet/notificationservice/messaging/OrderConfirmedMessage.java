@@ -0,0 +1,19 @@
+package com.pet.notificationservice.messaging;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Payload of the {@code order-confirmed} topic. {@code pushToken} is {@code null} for customers
+ * without the mobile app.
+ */
+public record OrderConfirmedMessage(
+        UUID orderId,
+        Long eventId,
+        String eventName,
+        LocalDate eventDate,
+        String venue,
+        String customerEmail,
+        String pushToken,
+        Integer quantity) {
+}
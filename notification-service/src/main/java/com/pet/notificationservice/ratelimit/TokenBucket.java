@@ -0,0 +1,72 @@
+package com.pet.notificationservice.ratelimit;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled continuously at {@code ratePerSecond} up to {@code burst} tokens. Callers
+ * that cannot take their tokens yet learn how long to wait instead of being queued, so a
+ * dispatcher can sleep exactly as long as needed.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratePerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, double burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, double burst, LongSupplier nanoClock) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+        this.ratePerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes {@code permits} tokens if they are available.
+     *
+     * @return 0 if the tokens were taken, otherwise the nanoseconds until they will be
+     */
+    public synchronized long tryAcquire(int permits) {
+        if (permits > burst) {
+            throw new IllegalArgumentException("Cannot take " + permits + " tokens from a bucket of " + burst);
+        }
+        refill();
+        if (tokens >= permits) {
+            tokens -= permits;
+            return 0;
+        }
+        return (long) Math.ceil((permits - tokens) / ratePerNano);
+    }
+
+    /**
+     * Blocks until {@code permits} tokens have been taken.
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire(permits)) > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    public int getBurst() {
+        return (int) burst;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * ratePerNano);
+        refilledAt = now;
+    }
+}
@@ -0,0 +1,224 @@
+package com.pet.notificationservice.spill;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * FIFO queue of byte records in segment files, for work that does not fit in memory. Records
+ * are {@code [length][payload]}; the writer appends to the newest segment and the reader consumes
+ * the oldest, deleting each segment once it is fully read. The read position is saved after every
+ * poll, so a restart resumes where it left off and redelivers at most the last polled records.
+ * Appends are forced to disk before they return, so an appended record survives a crash.
+ */
+@Slf4j
+public class DiskSpillQueue implements Closeable {
+
+    private static final String SUFFIX = ".spill";
+    private static final String POSITION_FILE = "read.pos";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Deque<Long> segments = new ArrayDeque<>();
+
+    private FileChannel writer;
+    private FileChannel reader;
+    private long readSegment = -1;
+    private long sizeBytes;
+    private long count;
+
+    public DiskSpillQueue(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SUFFIX.length())))
+                    .sorted()
+                    .forEach(segments::addLast);
+        }
+        if (segments.isEmpty()) {
+            segments.addLast(0L);
+        }
+        openReader(readPosition());
+        recount();
+        writer = openWriter(segments.peekLast());
+    }
+
+    public synchronized void append(List<byte[]> records) throws IOException {
+        int total = 0;
+        for (byte[] record : records) {
+            total += Integer.BYTES + record.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        for (byte[] record : records) {
+            buffer.putInt(record.length).put(record);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            writer.write(buffer);
+        }
+        writer.force(false);
+        sizeBytes += total;
+        count += records.size();
+        if (writer.size() >= segmentBytes) {
+            writer.close();
+            long next = segments.peekLast() + 1;
+            segments.addLast(next);
+            writer = openWriter(next);
+        }
+    }
+
+    /**
+     * Removes and returns up to {@code max} records, oldest first.
+     */
+    public synchronized List<byte[]> poll(int max) throws IOException {
+        List<byte[]> records = new ArrayList<>(Math.min(max, 1024));
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (records.size() < max) {
+            header.clear();
+            if (reader.read(header) < Integer.BYTES) {
+                if (!advanceSegment()) {
+                    break;
+                }
+                continue;
+            }
+            header.flip();
+            ByteBuffer payload = ByteBuffer.allocate(header.getInt());
+            while (payload.hasRemaining() && reader.read(payload) > 0) {
+                // keep reading
+            }
+            records.add(payload.array());
+            sizeBytes -= Integer.BYTES + payload.capacity();
+        }
+        count -= records.size();
+        if (!records.isEmpty()) {
+            saveReadPosition();
+        }
+        return records;
+    }
+
+    public synchronized boolean isEmpty() {
+        return count == 0;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+        reader.close();
+    }
+
+    /**
+     * Moves the reader to the next segment once the current one is exhausted and fully written,
+     * deleting the exhausted one.
+     */
+    private boolean advanceSegment() throws IOException {
+        if (readSegment == segments.peekLast()) {
+            return false;
+        }
+        reader.close();
+        segments.pollFirst();
+        Files.deleteIfExists(segmentPath(readSegment));
+        openReader(0);
+        return true;
+    }
+
+    /**
+     * Opens a segment for appending. A new segment's directory entry is forced as well, since
+     * forcing the file alone does not make the file itself survive a crash.
+     */
+    private FileChannel openWriter(long segment) throws IOException {
+        Path path = segmentPath(segment);
+        boolean created = !Files.exists(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        if (created) {
+            try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+                dir.force(true);
+            } catch (IOException e) {
+                // Not every platform can open a directory; there the file system has to do.
+                log.debug("Could not force spill directory {}", directory, e);
+            }
+        }
+        return channel;
+    }
+
+    private void openReader(long position) throws IOException {
+        readSegment = segments.peekFirst();
+        reader = FileChannel.open(segmentPath(readSegment), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        reader.position(position);
+    }
+
+    private long readPosition() throws IOException {
+        Path file = directory.resolve(POSITION_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        String[] parts = Files.readString(file).trim().split(":");
+        long segment = Long.parseLong(parts[0]);
+        return segment == segments.peekFirst() ? Long.parseLong(parts[1]) : 0;
+    }
+
+    private void saveReadPosition() throws IOException {
+        Path temp = directory.resolve(POSITION_FILE + ".tmp");
+        Files.writeString(temp, readSegment + ":" + reader.position());
+        Files.move(temp, directory.resolve(POSITION_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Counts the records left to read and cuts a torn record, left by a crash mid-append, off the
+     * end of the newest segment so that appends continue from a record boundary.
+     */
+    private void recount() throws IOException {
+        long position = reader.position();
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        for (long segment : segments) {
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                long offset = segment == readSegment ? position : 0;
+                while (true) {
+                    header.clear();
+                    int read = channel.read(header, offset);
+                    header.flip();
+                    if (read < Integer.BYTES || offset + Integer.BYTES + header.getInt(0) > channel.size()) {
+                        if (offset < channel.size() && segment == segments.peekLast()) {
+                            log.warn("Truncating torn record at the end of spill segment {}", segment);
+                            channel.truncate(offset);
+                        }
+                        break;
+                    }
+                    int length = header.getInt();
+                    offset += Integer.BYTES + length;
+                    sizeBytes += Integer.BYTES + length;
+                    count++;
+                }
+            }
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d", segment) + SUFFIX);
+    }
+}
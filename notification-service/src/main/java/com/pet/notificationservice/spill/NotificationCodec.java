@@ -0,0 +1,58 @@
+package com.pet.notificationservice.spill;
+
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.delivery.Notification;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of a {@link Notification} for the spill queue.
+ */
+public final class NotificationCodec {
+
+    private NotificationCodec() {
+    }
+
+    public static byte[] encode(Notification notification) {
+        byte[] id = bytes(notification.id());
+        byte[] recipient = bytes(notification.recipient());
+        byte[] subject = bytes(notification.subject());
+        byte[] body = bytes(notification.body());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Integer.BYTES
+                + 4 * Integer.BYTES + id.length + recipient.length + subject.length + body.length);
+        buffer.put((byte) notification.channel().ordinal());
+        buffer.putInt(notification.attempt());
+        put(buffer, id, notification.id());
+        put(buffer, recipient, notification.recipient());
+        put(buffer, subject, notification.subject());
+        put(buffer, body, notification.body());
+        return buffer.array();
+    }
+
+    public static Notification decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        Channel channel = Channel.values()[buffer.get()];
+        int attempt = buffer.getInt();
+        return new Notification(get(buffer), channel, get(buffer), get(buffer), get(buffer), attempt);
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    private static void put(ByteBuffer buffer, byte[] bytes, String value) {
+        buffer.putInt(value != null ? bytes.length : -1);
+        buffer.put(bytes);
+    }
+
+    private static String get(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.pet.notificationservice.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A text template with {@code {{name}}} placeholders, parsed once into alternating literal and
+ * variable parts so that rendering is a single pass of appends.
+ * <p>
+ * {@link #bind} fills in the variables it is given and folds them into the surrounding literals,
+ * which lets the event-level part of a message be rendered once per event and only the per-order
+ * part be rendered per recipient.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals has one element more than variables: literal, variable, literal, ..., literal.
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int from = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, from);
+            int close = open >= 0 ? source.indexOf(CLOSE, open + OPEN.length()) : -1;
+            if (close < 0) {
+                literals.add(source.substring(from));
+                break;
+            }
+            literals.add(source.substring(from, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            from = close + CLOSE.length();
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * Returns a template with the given variables substituted; variables not in {@code values}
+     * stay placeholders.
+     */
+    public CompiledTemplate bind(Map<String, ?> values) {
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> boundVariables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            if (values.containsKey(variables[i])) {
+                literal.append(valueOf(values.get(variables[i]))).append(literals[i + 1]);
+            } else {
+                boundLiterals.add(literal.toString());
+                boundVariables.add(variables[i]);
+                literal = new StringBuilder(literals[i + 1]);
+            }
+        }
+        boundLiterals.add(literal.toString());
+        return new CompiledTemplate(boundLiterals.toArray(String[]::new), boundVariables.toArray(String[]::new));
+    }
+
+    /**
+     * Renders the template; missing variables render as empty strings.
+     */
+    public String render(Map<String, ?> values) {
+        if (variables.length == 0) {
+            return literals[0];
+        }
+        StringBuilder out = new StringBuilder(literalLength + 16 * variables.length);
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(valueOf(values.get(variables[i]))).append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    private static String valueOf(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
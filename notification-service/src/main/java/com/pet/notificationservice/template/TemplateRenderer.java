@@ -0,0 +1,100 @@
+package com.pet.notificationservice.template;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.delivery.Notification;
+import com.pet.notificationservice.messaging.OrderConfirmedMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders the notifications for a confirmed order.
+ * <p>
+ * Template files are compiled once and kept for the life of the service. The event part of each
+ * template (name, date, venue) is then bound once per event and cached, so a sell-out that
+ * confirms thousands of orders for the same event only substitutes the per-order fields. The
+ * cache is keyed on the event fields themselves, so a renamed or rescheduled event is bound anew.
+ */
+@Component
+public class TemplateRenderer {
+
+    private static final String TEMPLATE_DIR = "templates/order-confirmed/";
+
+    private final Map<String, CompiledTemplate> compiled = new ConcurrentHashMap<>();
+    private final Cache<EventFields, EventTemplates> eventTemplates;
+
+    private record EventFields(Long eventId, String eventName, LocalDate eventDate, String venue) {
+    }
+
+    private record EventTemplates(CompiledTemplate emailSubject, CompiledTemplate emailBody, CompiledTemplate pushBody) {
+    }
+
+    public TemplateRenderer(MeterRegistry meterRegistry,
+                            @Value("${notifications.templates.cached-events:1000}") long cachedEvents) {
+        this.eventTemplates = Caffeine.newBuilder()
+                .maximumSize(cachedEvents)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, eventTemplates, "notifications.templates");
+    }
+
+    /**
+     * Renders one notification per channel the order can be reached on, out of {@code channels}.
+     */
+    public List<Notification> render(OrderConfirmedMessage message, Set<Channel> channels) {
+        EventFields event = new EventFields(message.eventId(), message.eventName(), message.eventDate(), message.venue());
+        EventTemplates templates = eventTemplates.get(event, this::bindEvent);
+        Map<String, Object> values = new HashMap<>(4);
+        values.put("orderId", message.orderId());
+        values.put("quantity", message.quantity());
+        values.put("customerEmail", message.customerEmail());
+
+        List<Notification> notifications = new ArrayList<>(2);
+        if (channels.contains(Channel.EMAIL) && message.customerEmail() != null) {
+            notifications.add(new Notification(message.orderId() + ":email", Channel.EMAIL, message.customerEmail(),
+                    templates.emailSubject().render(values), templates.emailBody().render(values), 0));
+        }
+        if (channels.contains(Channel.PUSH) && message.pushToken() != null) {
+            notifications.add(new Notification(message.orderId() + ":push", Channel.PUSH, message.pushToken(),
+                    null, templates.pushBody().render(values), 0));
+        }
+        return notifications;
+    }
+
+    private EventTemplates bindEvent(EventFields event) {
+        Map<String, Object> values = new HashMap<>(4);
+        values.put("eventName", event.eventName());
+        values.put("eventDate", event.eventDate());
+        values.put("venue", event.venue());
+        return new EventTemplates(
+                template("email-subject.txt").bind(values),
+                template("email-body.txt").bind(values),
+                template("push-body.txt").bind(values));
+    }
+
+    private CompiledTemplate template(String name) {
+        return compiled.computeIfAbsent(name, file -> {
+            try {
+                String source = new ClassPathResource(TEMPLATE_DIR + file).getContentAsString(StandardCharsets.UTF_8);
+                return CompiledTemplate.compile(source.stripTrailing());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot load notification template " + file, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.pet.notificationservice.dispatch;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.pet.notificationservice.messaging.OrderConfirmedMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "notifications.queue.capacity=10",
+        "notifications.email.max-batch=20",
+        "notifications.providers.smtp.rate-per-second=1000",
+        "notifications.providers.smtp.burst=20"
+})
+@ActiveProfiles("it")
+class FanOutEngineTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private FanOutEngine fanOutEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Every confirmed order is emailed once, with the overflow going through the spill queue")
+    void deliversEveryOrderThroughSpill() throws Exception {
+        int orders = 200;
+        for (int i = 0; i < orders; i++) {
+            fanOutEngine.submit(new OrderConfirmedMessage(UUID.randomUUID(), 42L, "Джаз у парку",
+                    LocalDate.of(2030, 6, 1), "Київ", "fan" + i + "@example.com", null, 2));
+        }
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> greenMail.getReceivedMessages().length == orders);
+        MimeMessage first = greenMail.getReceivedMessages()[0];
+        assertEquals("Ваше замовлення на Джаз у парку підтверджено", first.getSubject());
+        assertTrue(((String) first.getContent()).contains("Київ"));
+        assertTrue(meterRegistry.get("notifications.spilled").counter().count() > 0);
+        await().atMost(Duration.ofSeconds(5)).until(() -> fanOutEngine.getBacklog() == 0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.pet.notificationservice.dispatch;
+
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.delivery.DeliveryProvider;
+import com.pet.notificationservice.delivery.Notification;
+import com.pet.notificationservice.ratelimit.TokenBucket;
+import com.pet.notificationservice.spill.DiskSpillQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProviderDispatcherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("A batch whose provider call throws unexpectedly is retried instead of lost")
+    void unexpectedProviderFailureIsRetried() throws Exception {
+        List<Notification> delivered = new CopyOnWriteArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        DeliveryProvider provider = new DeliveryProvider() {
+            @Override
+            public String name() {
+                return "flaky";
+            }
+
+            @Override
+            public Channel channel() {
+                return Channel.EMAIL;
+            }
+
+            @Override
+            public int maxBatch() {
+                return 10;
+            }
+
+            @Override
+            public void deliver(List<Notification> batch) {
+                if (calls.getAndIncrement() == 0) {
+                    throw new IllegalStateException("Connection pool shut down");
+                }
+                delivered.addAll(batch);
+            }
+        };
+        ProviderDispatcher dispatcher = new ProviderDispatcher(provider, new TokenBucket(1000, 10),
+                new DiskSpillQueue(directory, 1024), 10, 1 << 20, 3, Duration.ofMillis(10), new SimpleMeterRegistry());
+        Receipt receipt = new Receipt(3);
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit(notification(i), receipt);
+        }
+        dispatcher.start();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 3);
+        assertEquals(List.of(1, 1, 1), delivered.stream().map(Notification::attempt).toList());
+        await().atMost(Duration.ofSeconds(5)).until(() -> receipt.settled().isDone());
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("A notification's receipt settles once it is on disk or delivered, never while it is only in memory")
+    void receiptsSettleOnceNotificationsAreSafe() throws Exception {
+        List<Notification> delivered = new CopyOnWriteArrayList<>();
+        DeliveryProvider provider = new DeliveryProvider() {
+            @Override
+            public String name() {
+                return "steady";
+            }
+
+            @Override
+            public Channel channel() {
+                return Channel.EMAIL;
+            }
+
+            @Override
+            public int maxBatch() {
+                return 10;
+            }
+
+            @Override
+            public void deliver(List<Notification> batch) {
+                delivered.addAll(batch);
+            }
+        };
+        ProviderDispatcher dispatcher = new ProviderDispatcher(provider, new TokenBucket(1000, 10),
+                new DiskSpillQueue(directory, 1024), 2, 1 << 20, 3, Duration.ofMillis(10), new SimpleMeterRegistry());
+        List<Receipt> receipts = List.of(new Receipt(1), new Receipt(1), new Receipt(1));
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit(notification(i), receipts.get(i));
+        }
+
+        assertFalse(receipts.get(0).settled().isDone());
+        assertFalse(receipts.get(1).settled().isDone());
+        assertTrue(receipts.get(2).settled().isDone(), "the spilled notification is already on disk");
+
+        dispatcher.start();
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered.size() == 3);
+        await().atMost(Duration.ofSeconds(5)).until(() -> receipts.stream().allMatch(r -> r.settled().isDone()));
+        dispatcher.stop();
+    }
+
+    private static Notification notification(int i) {
+        return new Notification("n" + i, Channel.EMAIL, "fan" + i + "@example.com", "s", "b", 0);
+    }
+}
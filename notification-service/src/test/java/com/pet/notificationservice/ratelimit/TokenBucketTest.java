@@ -0,0 +1,39 @@
+package com.pet.notificationservice.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("A full bucket allows a burst, then refills at the configured rate")
+    void burstThenRefill() {
+        TokenBucket bucket = new TokenBucket(10, 20, now::get);
+
+        assertEquals(0, bucket.tryAcquire(20));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), bucket.tryAcquire(5));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(0, bucket.tryAcquire(5));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryAcquire(1));
+    }
+
+    @Test
+    @DisplayName("Idle time never fills the bucket beyond its burst")
+    void tokensAreCappedAtBurst() {
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertEquals(0, bucket.tryAcquire(5));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), bucket.tryAcquire(1));
+        assertThrows(IllegalArgumentException.class, () -> bucket.tryAcquire(6));
+    }
+}
@@ -0,0 +1,78 @@
+package com.pet.notificationservice.spill;
+
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.delivery.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DiskSpillQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records come back in order across segments and a restart")
+    void recordsSurviveReopenInOrder() throws IOException {
+        DiskSpillQueue queue = new DiskSpillQueue(directory, 64);
+        queue.append(records(0, 10));
+        queue.append(records(10, 20));
+        assertEquals(List.of("0", "1", "2"), strings(queue.poll(3)));
+        queue.close();
+
+        DiskSpillQueue reopened = new DiskSpillQueue(directory, 64);
+        assertEquals(17, reopened.getCount());
+        assertEquals(IntStream.range(3, 20).mapToObj(String::valueOf).toList(), strings(reopened.poll(100)));
+        assertTrue(reopened.isEmpty());
+        assertEquals(0, reopened.getSizeBytes());
+        reopened.close();
+
+        try (Stream<Path> segments = Files.list(directory).filter(path -> path.toString().endsWith(".spill"))) {
+            assertEquals(1, segments.count());
+        }
+    }
+
+    @Test
+    @DisplayName("A torn record at the end is dropped on open and appends continue after it")
+    void tornTailIsTruncated() throws IOException {
+        DiskSpillQueue queue = new DiskSpillQueue(directory, 1 << 20);
+        queue.append(records(0, 2));
+        queue.close();
+        try (Stream<Path> segments = Files.list(directory).filter(path -> path.toString().endsWith(".spill"))) {
+            Files.write(segments.findFirst().orElseThrow(), new byte[]{0, 0, 0, 50, 1, 2}, StandardOpenOption.APPEND);
+        }
+
+        DiskSpillQueue reopened = new DiskSpillQueue(directory, 1 << 20);
+        assertEquals(2, reopened.getCount());
+        reopened.append(records(2, 3));
+        assertEquals(List.of("0", "1", "2"), strings(reopened.poll(10)));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Notifications round-trip through the codec, including a missing subject")
+    void codecRoundTrip() {
+        Notification notification = new Notification("order-1:push", Channel.PUSH, "token", null, "Привіт", 2);
+        assertEquals(notification, NotificationCodec.decode(NotificationCodec.encode(notification)));
+    }
+
+    private static List<byte[]> records(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> String.valueOf(i).getBytes(StandardCharsets.UTF_8)).toList();
+    }
+
+    private static List<String> strings(List<byte[]> records) {
+        return records.stream().map(record -> new String(record, StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.pet.notificationservice.template;
+
+import com.pet.notificationservice.delivery.Channel;
+import com.pet.notificationservice.messaging.OrderConfirmedMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TemplateRendererTest {
+
+    private final TemplateRenderer renderer = new TemplateRenderer(new SimpleMeterRegistry(), 100);
+
+    @Test
+    @DisplayName("A renamed event is rendered with its new name, not the one cached for its ID")
+    void renamedEventIsRenderedAnew() {
+        assertEquals("Ваше замовлення на Джаз у парку підтверджено", subject("Джаз у парку"));
+        assertEquals("Ваше замовлення на Джаз на даху підтверджено", subject("Джаз на даху"));
+    }
+
+    private String subject(String eventName) {
+        OrderConfirmedMessage message = new OrderConfirmedMessage(UUID.randomUUID(), 42L, eventName,
+                LocalDate.of(2030, 6, 1), "Київ", "fan@example.com", null, 2);
+        return renderer.render(message, Set.of(Channel.EMAIL)).get(0).subject();
+    }
+}
@@ -0,0 +1,7 @@
+package com.pet.orderservice.catalog;
+
+/**
+ * A record of event-service's {@code event-catalog} topic. {@code event} is {@code null} for deletions.
+ */
+public record CatalogChange(Long eventId, long version, CatalogChangeType type, CatalogEvent event) {
+}
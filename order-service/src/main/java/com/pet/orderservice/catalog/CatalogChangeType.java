@@ -0,0 +1,6 @@
+package com.pet.orderservice.catalog;
+
+public enum CatalogChangeType {
+    UPSERTED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.pet.orderservice.catalog;
+
+import java.time.LocalDate;
+
+/**
+ * The part of an event-service event that checkout needs.
+ */
+public record CatalogEvent(long id, String name, LocalDate date, String venue) {
+}
@@ -0,0 +1,12 @@
+package com.pet.orderservice.catalog;
+
+import java.util.Optional;
+
+public interface EventCatalog {
+
+    /**
+     * @return the event, or empty if event-service does not know it
+     * @throws com.pet.orderservice.exception.CatalogUnavailableException if the catalog cannot be reached
+     */
+    Optional<CatalogEvent> findEvent(long eventId);
+}
@@ -0,0 +1,43 @@
+package com.pet.orderservice.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Feeds the {@link EventCatalogReplica} from event-service's {@code event-catalog} topic. Each
+ * instance joins its own consumer group so every replica sees every change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCatalogListener implements ConsumerSeekAware {
+
+    private final EventCatalogReplica replica;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${orders.catalog.topic:event-catalog}",
+            groupId = "${spring.application.name:order-service}-catalog-${random.uuid}",
+            containerFactory = "catalogListenerContainerFactory",
+            autoStartup = "${orders.catalog.sync.enabled:true}")
+    public void onCatalogChange(String payload) {
+        try {
+            replica.apply(objectMapper.readValue(payload, CatalogChange.class));
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable event-catalog record: {}", payload, e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        replica.onStreamAssigned();
+    }
+}
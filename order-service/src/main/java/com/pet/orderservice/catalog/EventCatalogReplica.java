@@ -0,0 +1,271 @@
+package com.pet.orderservice.catalog;
+
+import com.pet.orderservice.exception.CatalogUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory replica of the event catalog, so checkout validates orders without calling
+ * event-service.
+ * <p>
+ * Events are kept in a {@link LongObjectMap} keyed by the primitive event ID, with the date as an
+ * epoch day and venue strings interned, since many events share a handful of venues. Lookups
+ * take an optimistic read of a {@link StampedLock} and only fall back to a read lock if a write
+ * got in the way.
+ * <p>
+ * The replica is bootstrapped from the paginated {@code /v1/events} snapshot while
+ * {@link EventCatalogListener} already applies changes from the {@code event-catalog} topic. A
+ * change always wins over the snapshot, and deletions are kept as tombstones so that neither the
+ * snapshot nor a late, older change can bring back a deleted event. Tombstones are dropped
+ * {@code orders.catalog.tombstone-ttl} after the deletion once the snapshot is complete, which
+ * bounds how late a redelivered change may arrive. The snapshot waits until the listener has its
+ * partitions, so no change can fall between the two.
+ */
+@Slf4j
+@Component
+public class EventCatalogReplica implements EventCatalog, SmartLifecycle {
+
+    private static final long SNAPSHOT_VERSION = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final LongObjectMap<Entry> events;
+    private final Map<String, String> venues = new ConcurrentHashMap<>();
+    private final StampedLock lock = new StampedLock();
+    private final EventSnapshotClient snapshotClient;
+    private final Duration retryBackoff;
+    private final boolean syncEnabled;
+    private final Duration assignmentTimeout;
+    private final CountDownLatch streamAssigned = new CountDownLatch(1);
+    private final long tombstoneTtlNanos;
+    // Guarded by the write lock; in deletion order, so expired tombstones are at the head.
+    private final ArrayDeque<Tombstone> tombstones = new ArrayDeque<>();
+    private int deleted;
+
+    private volatile boolean ready;
+    private volatile boolean running;
+    private Thread bootstrapThread;
+
+    private record Tombstone(long eventId, long version, long expiresAtNanos) {
+    }
+
+    private record Entry(long version, String name, int epochDay, String venue) {
+
+        static Entry tombstone(long version) {
+            return new Entry(version, null, 0, null);
+        }
+
+        boolean isDeleted() {
+            return name == null;
+        }
+    }
+
+    public EventCatalogReplica(EventSnapshotClient snapshotClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${orders.catalog.expected-size:10000}") int expectedSize,
+                               @Value("${orders.catalog.snapshot.retry-backoff:PT1S}") Duration retryBackoff,
+                               @Value("${orders.catalog.sync.enabled:true}") boolean syncEnabled,
+                               @Value("${orders.catalog.sync.assignment-timeout:PT30S}") Duration assignmentTimeout,
+                               @Value("${orders.catalog.tombstone-ttl:PT10M}") Duration tombstoneTtl) {
+        this.snapshotClient = snapshotClient;
+        this.retryBackoff = retryBackoff;
+        this.syncEnabled = syncEnabled;
+        this.assignmentTimeout = assignmentTimeout;
+        this.tombstoneTtlNanos = tombstoneTtl.toNanos();
+        this.events = new LongObjectMap<>(expectedSize);
+        Gauge.builder("orders.catalog.events", this, EventCatalogReplica::size)
+                .description("Events in the local catalog replica")
+                .register(meterRegistry);
+        Gauge.builder("orders.catalog.ready", this, replica -> replica.isReady() ? 1 : 0)
+                .description("Whether the catalog replica has finished its initial snapshot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<CatalogEvent> findEvent(long eventId) {
+        if (!ready) {
+            throw new CatalogUnavailableException("Event catalog replica is still loading", null);
+        }
+        Entry entry = read(eventId);
+        if (entry == null || entry.isDeleted()) {
+            return Optional.empty();
+        }
+        LocalDate date = entry.epochDay() != NO_DATE ? LocalDate.ofEpochDay(entry.epochDay()) : null;
+        return Optional.of(new CatalogEvent(eventId, entry.name(), date, entry.venue()));
+    }
+
+    /**
+     * Applies a change from the {@code event-catalog} topic unless a newer version is already known.
+     */
+    public void apply(CatalogChange change) {
+        long eventId = change.eventId();
+        long stamp = lock.writeLock();
+        try {
+            long now = System.nanoTime();
+            if (ready) {
+                purgeTombstones(now);
+            }
+            Entry existing = events.get(eventId);
+            if (existing != null && existing.version() > change.version()) {
+                return;
+            }
+            boolean wasDeleted = existing != null && existing.isDeleted();
+            if (change.type() == CatalogChangeType.DELETED || change.event() == null) {
+                if (wasDeleted && existing.version() == change.version()) {
+                    return;
+                }
+                events.put(eventId, Entry.tombstone(change.version()));
+                tombstones.add(new Tombstone(eventId, change.version(), now + tombstoneTtlNanos));
+                if (!wasDeleted) {
+                    deleted++;
+                }
+            } else {
+                events.put(eventId, toEntry(change.event(), change.version()));
+                if (wasDeleted) {
+                    deleted--;
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Called once the change listener is positioned on its partitions.
+     */
+    public void onStreamAssigned() {
+        streamAssigned.countDown();
+    }
+
+    /**
+     * Loads the full catalog. Entries already set by a change are left alone.
+     */
+    void loadSnapshot() {
+        String cursor = null;
+        int loaded = 0;
+        do {
+            EventSnapshotClient.SnapshotPage page = snapshotClient.fetchPage(cursor);
+            long stamp = lock.writeLock();
+            try {
+                for (CatalogEvent event : page.content()) {
+                    if (events.get(event.id()) == null) {
+                        events.put(event.id(), toEntry(event, SNAPSHOT_VERSION));
+                        loaded++;
+                    }
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        ready = true;
+        log.info("Event catalog replica loaded {} events from snapshot, {} in total", loaded, size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return events.size() - deleted;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        bootstrapThread = new Thread(this::bootstrap, "event-catalog-bootstrap");
+        bootstrapThread.setDaemon(true);
+        bootstrapThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (bootstrapThread != null) {
+            bootstrapThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void bootstrap() {
+        try {
+            if (syncEnabled && !streamAssigned.await(assignmentTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Event catalog listener not assigned after {}, loading snapshot anyway", assignmentTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Duration backoff = retryBackoff;
+        while (running && !ready) {
+            try {
+                loadSnapshot();
+            } catch (RuntimeException e) {
+                log.warn("Event catalog snapshot failed, retrying in {}", backoff, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void purgeTombstones(long now) {
+        Tombstone head;
+        while ((head = tombstones.peek()) != null && now - head.expiresAtNanos() >= 0) {
+            tombstones.poll();
+            Entry entry = events.get(head.eventId());
+            if (entry != null && entry.isDeleted() && entry.version() == head.version()) {
+                events.remove(head.eventId());
+                deleted--;
+            }
+        }
+    }
+
+    private Entry read(long eventId) {
+        long stamp = lock.tryOptimisticRead();
+        Entry entry = events.get(eventId);
+        if (lock.validate(stamp)) {
+            return entry;
+        }
+        stamp = lock.readLock();
+        try {
+            return events.get(eventId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Entry toEntry(CatalogEvent event, long version) {
+        String venue = event.venue() != null ? venues.computeIfAbsent(event.venue(), v -> v) : null;
+        int epochDay = event.date() != null ? (int) event.date().toEpochDay() : NO_DATE;
+        return new Entry(version, event.name(), epochDay, venue);
+    }
+}
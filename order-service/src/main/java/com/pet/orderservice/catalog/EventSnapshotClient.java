@@ -0,0 +1,42 @@
+package com.pet.orderservice.catalog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the event catalog page by page from {@code GET /v1/events} on event-service, resolved
+ * through Eureka. Used only to bootstrap the {@link EventCatalogReplica}.
+ */
+@Component
+public class EventSnapshotClient {
+
+    private final RestClient restClient;
+    private final int pageSize;
+
+    public record SnapshotPage(List<CatalogEvent> content, String nextCursor) {
+    }
+
+    public EventSnapshotClient(RestClient.Builder loadBalancedRestClientBuilder,
+                               @Value("${orders.catalog.base-url:http://event-service}") String baseUrl,
+                               @Value("${orders.catalog.snapshot.page-size:100}") int pageSize) {
+        this.restClient = loadBalancedRestClientBuilder.baseUrl(baseUrl).build();
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param cursor {@code null} for the first page, then {@link SnapshotPage#nextCursor()} of the previous one
+     */
+    public SnapshotPage fetchPage(String cursor) {
+        return restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/v1/events")
+                        .queryParam("size", pageSize)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .retrieve()
+                .body(SnapshotPage.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.pet.orderservice.catalog;
+
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to values, with linear probing and
+ * backward-shift deletion. Compared to {@code HashMap<Long, V>} it needs no boxed key and no
+ * node object per entry: two parallel arrays hold the whole table.
+ * <p>
+ * Not thread-safe. {@link EventCatalogReplica} guards it with a lock; {@link #get} never writes, and a
+ * resize builds new arrays, so an optimistic reader working on stale arrays sees a consistent,
+ * if outdated, table and can simply validate and retry.
+ */
+final class LongObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    // Key 0 marks a free slot, so an entry with key 0 is kept outside the table.
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+
+    LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? (V) zeroValue : null;
+        }
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        if (keys.length != values.length) {
+            // Caught mid-resize by an optimistic reader, which will retry.
+            return null;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        for (int probes = 0; probes < keys.length; probes++) {
+            long existing = keys[slot];
+            if (existing == key) {
+                return (V) values[slot];
+            }
+            if (existing == 0) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (key == 0) {
+            Object previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return (V) previous;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                Object previous = values[slot];
+                values[slot] = value;
+                return (V) previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return null;
+            }
+            Object previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return (V) previous;
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        Object previous = values[slot];
+        shiftBack(slot, mask);
+        size--;
+        return (V) previous;
+    }
+
+    /**
+     * Removes every entry the predicate accepts.
+     */
+    @SuppressWarnings("unchecked")
+    void removeIf(BiPredicate<Long, V> predicate) {
+        if (hasZeroKey && predicate.test(0L, (V) zeroValue)) {
+            remove(0);
+        }
+        long[] matched = new long[16];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0 && predicate.test(keys[slot], (V) values[slot])) {
+                if (count == matched.length) {
+                    matched = Arrays.copyOf(matched, count * 2);
+                }
+                matched[count++] = keys[slot];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            remove(matched[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void shiftBack(int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == 0) {
+                break;
+            }
+            int home = slot(key, mask);
+            // Move the entry into the hole unless its home lies cyclically in (freed, slot].
+            boolean stays = freed <= slot ? freed < home && home <= slot : freed < home || home <= slot;
+            if (!stays) {
+                keys[freed] = key;
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+        keys[freed] = 0;
+        values[freed] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] newKeys = new long[capacity];
+        Object[] newValues = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key, mask);
+                while (newKeys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = key;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        this.values = newValues;
+        this.keys = newKeys;
+        this.resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.orderservice.controller;
+
+import com.pet.orderservice.dto.OrderRequest;
+import com.pet.orderservice.dto.OrderResponse;
+import com.pet.orderservice.exception.ResourceNotFoundException;
+import com.pet.orderservice.order.OrderPipeline;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/v1/orders")
+@RequiredArgsConstructor
+@Tag(name = "Order API", description = "API для оформлення замовлень")
+public class OrderController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final OrderPipeline orderPipeline;
+
+    @Operation(summary = "Оформити замовлення", description = "Приймає замовлення. Повторний запит з тим самим ключем ідемпотентності повертає вже створене замовлення.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Замовлення прийнято"),
+            @ApiResponse(responseCode = "200", description = "Повтор запиту: повернуто раніше прийняте замовлення"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит або відсутній ключ ідемпотентності", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Подія недоступна або ключ уже використано з іншим запитом", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Каталог подій тимчасово недоступний", content = @Content)
+    })
+    @PostMapping
+    public CompletableFuture<ResponseEntity<OrderResponse>> placeOrder(
+            @Parameter(description = "Унікальний ключ запиту, що генерує клієнт", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            @RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+            @Valid @RequestBody OrderRequest request) {
+        return orderPipeline.place(idempotencyKey, request)
+                .thenApply(result -> ResponseEntity.status(result.replayed() ? HttpStatus.OK : HttpStatus.CREATED)
+                        .header(REPLAYED_HEADER, String.valueOf(result.replayed()))
+                        .body(OrderResponse.from(result.order())));
+    }
+
+    @Operation(summary = "Отримати замовлення за ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Замовлення знайдено"),
+            @ApiResponse(responseCode = "404", description = "Замовлення не знайдено", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public OrderResponse getOrder(
+            @Parameter(description = "ID замовлення") @PathVariable UUID id) {
+        return orderPipeline.findById(id)
+                .map(OrderResponse::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id: " + id));
+    }
+}
@@ -0,0 +1,32 @@
+package com.pet.orderservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Запит на оформлення замовлення")
+public record OrderRequest(
+        @Schema(description = "ID події", example = "101")
+        @NotNull(message = "ID події є обов'язковим")
+        Long eventId,
+
+        @Schema(description = "ID бронювання місць", example = "1753123456789012")
+        Long holdId,
+
+        @Schema(description = "Кількість квитків", example = "2")
+        @NotNull(message = "Кількість квитків є обов'язковою")
+        @Min(value = 1, message = "Кількість квитків має бути додатною")
+        @Max(value = 20, message = "В одному замовленні можна купити не більше 20 квитків")
+        Integer quantity,
+
+        @Schema(description = "Email покупця", example = "buyer@example.com")
+        @NotBlank(message = "Email покупця є обов'язковим")
+        @Email(message = "Некоректний email")
+        @Size(max = 254, message = "Email не може перевищувати 254 символи")
+        String customerEmail
+) {
+}
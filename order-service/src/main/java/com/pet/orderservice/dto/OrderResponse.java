@@ -0,0 +1,37 @@
+package com.pet.orderservice.dto;
+
+import com.pet.orderservice.order.Order;
+import com.pet.orderservice.order.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Прийняте замовлення")
+public record OrderResponse(
+        @Schema(description = "ID замовлення", example = "3f2b8c1e-6a51-4c3e-9d0a-2b7f4e8a9c10")
+        UUID id,
+
+        @Schema(description = "ID події", example = "101")
+        long eventId,
+
+        @Schema(description = "ID бронювання місць", example = "1753123456789012")
+        Long holdId,
+
+        @Schema(description = "Кількість квитків", example = "2")
+        int quantity,
+
+        @Schema(description = "Email покупця", example = "buyer@example.com")
+        String customerEmail,
+
+        @Schema(description = "Статус замовлення", example = "ACCEPTED")
+        OrderStatus status,
+
+        @Schema(description = "Час створення замовлення")
+        Instant createdAt
+) {
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(order.id(), order.eventId(), order.holdId(), order.quantity(),
+                order.customerEmail(), order.status(), order.createdAt());
+    }
+}
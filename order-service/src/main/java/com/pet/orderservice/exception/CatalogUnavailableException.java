@@ -0,0 +1,7 @@
+package com.pet.orderservice.exception;
+
+public class CatalogUnavailableException extends RuntimeException {
+    public CatalogUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pet.orderservice.exception;
+
+public class OrderValidationException extends RuntimeException {
+    public OrderValidationException(String message) {
+        super(message);
+    }
+}
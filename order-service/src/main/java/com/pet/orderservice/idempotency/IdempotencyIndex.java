@@ -0,0 +1,77 @@
+package com.pet.orderservice.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pet.orderservice.order.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bounded in-memory map from client idempotency key to the order it produced. The entry is
+ * claimed before the order is validated or written, so concurrent retries of the same command
+ * share one in-flight future instead of racing each other into the database.
+ * <p>
+ * The index only has to cover the window in which clients retry. Keys that fell out of it are
+ * still caught by the unique constraint on {@code orders.idempotency_key}.
+ */
+@Component
+public class IdempotencyIndex {
+
+    private final Cache<String, Entry> entries;
+    private final Duration retention;
+
+    public record Entry(String requestHash, CompletableFuture<Order> order) {
+    }
+
+    public IdempotencyIndex(MeterRegistry meterRegistry,
+                            @Value("${orders.idempotency.maximum-size:1000000}") long maximumSize,
+                            @Value("${orders.idempotency.retention:PT24H}") Duration retention) {
+        this.retention = retention;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(retention)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "orders.idempotency");
+    }
+
+    /**
+     * Claims {@code key} for a new command.
+     *
+     * @return {@code null} if the caller now owns the key, otherwise the entry that already owns it
+     */
+    public Entry claim(String key, Entry entry) {
+        return entries.asMap().putIfAbsent(key, entry);
+    }
+
+    /**
+     * Drops the entry of a command that failed, so that the client can retry it.
+     */
+    public void release(String key, Entry entry) {
+        entries.asMap().remove(key, entry);
+    }
+
+    /**
+     * Loads already committed orders, typically the ones created within {@link #getRetention()}.
+     */
+    public void warm(List<Order> orders) {
+        for (Order order : orders) {
+            entries.asMap().putIfAbsent(order.idempotencyKey(),
+                    new Entry(order.requestHash(), CompletableFuture.completedFuture(order)));
+        }
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+}
@@ -0,0 +1,20 @@
+package com.pet.orderservice.order;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An accepted order as written to the order log and the {@code orders} table.
+ */
+public record Order(
+        UUID id,
+        String idempotencyKey,
+        String requestHash,
+        long eventId,
+        Long holdId,
+        int quantity,
+        String customerEmail,
+        OrderStatus status,
+        Instant createdAt
+) {
+}
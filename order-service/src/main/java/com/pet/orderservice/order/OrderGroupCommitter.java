@@ -0,0 +1,281 @@
+package com.pet.orderservice.order;
+
+import com.pet.orderservice.idempotency.IdempotencyIndex;
+import com.pet.orderservice.orderlog.OrderLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit of accepted orders. Request threads enqueue and wait on a future; one committer
+ * thread drains whatever has accumulated, appends it to the {@link OrderLog} with a single fsync
+ * and then inserts it into {@code orders} as one JDBC batch in one transaction.
+ * <p>
+ * Once the log write returns the batch is durable, so a failing database is retried with backoff
+ * instead of failing the orders, and whatever never reached the database is replayed from the log
+ * on the next start. Futures complete after the database commit, so an acknowledged order can be
+ * read back straight away. If a logged order is given up on instead, because the committer is
+ * stopping or the order failed on its own, the log stops rolling until the next start, so replay
+ * still finds it in the active segment. On start, the log is replayed and the {@link IdempotencyIndex} is
+ * warmed from recent orders before the committer accepts new ones.
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitter implements SmartLifecycle {
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final int REPLAY_CHUNK = 500;
+
+    private final OrderLog orderLog;
+    private final OrderRepository orderRepository;
+    private final IdempotencyIndex idempotencyIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatch;
+    private final Duration retryBackoff;
+    private final Timer fsyncTimer;
+    private final Timer commitTimer;
+    private final DistributionSummary batchSize;
+    private final Counter commitFailures;
+
+    private volatile boolean running;
+    private Thread committerThread;
+    // Set once a logged order was not committed; only the committer thread reads or writes it.
+    private boolean awaitingReplay;
+
+    private record PendingOrder(Order order, CompletableFuture<Order> committed) {
+    }
+
+    public OrderGroupCommitter(OrderLog orderLog,
+                               OrderRepository orderRepository,
+                               IdempotencyIndex idempotencyIndex,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${orders.commit.queue-capacity:50000}") int queueCapacity,
+                               @Value("${orders.commit.max-batch:1000}") int maxBatch,
+                               @Value("${orders.commit.retry-backoff:PT0.1S}") Duration retryBackoff) {
+        this.orderLog = orderLog;
+        this.orderRepository = orderRepository;
+        this.idempotencyIndex = idempotencyIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.retryBackoff = retryBackoff;
+        this.fsyncTimer = Timer.builder("orders.log.append")
+                .description("Time to write and fsync one batch to the order log")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("orders.commit")
+                .description("Time to insert and commit one order batch")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("orders.commit.batch")
+                .description("Orders per group commit")
+                .register(meterRegistry);
+        this.commitFailures = Counter.builder("orders.commit.failures")
+                .description("Order batches whose database commit failed and was retried")
+                .register(meterRegistry);
+        Gauge.builder("orders.commit.queue.size", queue, BlockingQueue::size)
+                .description("Orders waiting for the next group commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the order for the next batch, blocking only if the queue is full.
+     *
+     * @return a future completed once the order is in the log and in the database
+     */
+    public CompletableFuture<Order> submit(Order order) {
+        CompletableFuture<Order> committed = new CompletableFuture<>();
+        try {
+            queue.put(new PendingOrder(order, committed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            committed.completeExceptionally(e);
+        }
+        return committed;
+    }
+
+    @Override
+    public void start() {
+        replay();
+        idempotencyIndex.warm(orderRepository.findCreatedSince(Instant.now().minus(idempotencyIndex.getRetention())));
+        running = true;
+        committerThread = new Thread(this::runCommitter, "order-group-committer");
+        committerThread.setDaemon(true);
+        committerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (committerThread != null) {
+            try {
+                committerThread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server, so no request can submit to a stopped committer.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Inserts orders that made it into the log but not into the database before the last stop.
+     */
+    void replay() {
+        List<Order> logged = orderLog.takeActiveSegmentOrders();
+        int replayed = 0;
+        for (int from = 0; from < logged.size(); from += REPLAY_CHUNK) {
+            List<Order> chunk = logged.subList(from, Math.min(from + REPLAY_CHUNK, logged.size()));
+            Set<UUID> existing = orderRepository.findExistingIds(chunk.stream().map(Order::id).toList());
+            for (Order order : chunk) {
+                if (existing.contains(order.id())) {
+                    continue;
+                }
+                try {
+                    orderRepository.insertAll(List.of(order));
+                    replayed++;
+                } catch (DuplicateKeyException e) {
+                    log.warn("Skipping replay of order {}: idempotency key {} is already used",
+                            order.id(), order.idempotencyKey());
+                }
+            }
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} orders from the order log", replayed);
+        }
+    }
+
+    private void runCommitter() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatch);
+        List<Order> orders = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                batch.forEach(pending -> orders.add(pending.order()));
+                commit(batch, orders);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failPending(batch, e);
+                break;
+            } catch (RuntimeException e) {
+                log.error("Order batch of {} failed unexpectedly, leaving it for replay on next start", batch.size(), e);
+                failPending(batch, e);
+            } finally {
+                batch.clear();
+                orders.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> batch, List<Order> orders) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            orderLog.append(orders);
+        } catch (IOException e) {
+            log.error("Order log append of {} orders failed", orders.size(), e);
+            failPending(batch, e);
+            return;
+        } finally {
+            fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(orders.size());
+        if (!insertWithRetry(batch, orders)) {
+            if (!awaitingReplay) {
+                log.warn("Not rolling the order log until restart, so replay finds the orders left behind");
+            }
+            awaitingReplay = true;
+        }
+        if (awaitingReplay) {
+            return;
+        }
+        try {
+            orderLog.rollIfFull();
+        } catch (IOException e) {
+            log.warn("Could not roll the order log", e);
+        }
+    }
+
+    /**
+     * @return whether every order of the batch is now either committed or rejected for good
+     */
+    private boolean insertWithRetry(List<PendingOrder> batch, List<Order> orders) throws InterruptedException {
+        Duration backoff = retryBackoff;
+        while (true) {
+            try {
+                commitTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                        orderRepository.insertAll(orders)));
+                batch.forEach(pending -> pending.committed().complete(pending.order()));
+                return true;
+            } catch (DuplicateKeyException e) {
+                // A key that outlived the idempotency index; isolate it instead of retrying forever.
+                return insertOneByOne(batch);
+            } catch (RuntimeException e) {
+                // Includes TransactionException, e.g. no connection could be had for the transaction.
+                commitFailures.increment();
+                if (!running) {
+                    log.error("Leaving {} logged orders for replay on next start", orders.size(), e);
+                    failPending(batch, e);
+                    return false;
+                }
+                log.warn("Order batch of {} failed, retrying in {}", orders.size(), backoff, e);
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private boolean insertOneByOne(List<PendingOrder> batch) {
+        boolean settled = true;
+        for (PendingOrder pending : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> orderRepository.insertAll(List.of(pending.order())));
+                pending.committed().complete(pending.order());
+            } catch (DuplicateKeyException e) {
+                pending.committed().completeExceptionally(e);
+            } catch (RuntimeException e) {
+                // Not a rejection of the order itself, so replay gets another go at it.
+                settled = false;
+                pending.committed().completeExceptionally(e);
+            }
+        }
+        return settled;
+    }
+
+    private static void failPending(List<PendingOrder> batch, Throwable cause) {
+        batch.forEach(pending -> pending.committed().completeExceptionally(cause));
+    }
+}
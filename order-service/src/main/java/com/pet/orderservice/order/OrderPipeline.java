@@ -0,0 +1,162 @@
+package com.pet.orderservice.order;
+
+import com.pet.orderservice.catalog.CatalogEvent;
+import com.pet.orderservice.catalog.EventCatalog;
+import com.pet.orderservice.dto.OrderRequest;
+import com.pet.orderservice.exception.IdempotencyKeyReuseException;
+import com.pet.orderservice.exception.OrderValidationException;
+import com.pet.orderservice.idempotency.IdempotencyIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Checkout pipeline: dedupe by idempotency key, validate against the event catalog, then hand the
+ * order to the {@link OrderGroupCommitter}.
+ * <p>
+ * A retry with the same key and the same body gets the original order back, whether the original
+ * is still in flight or long committed; the same key with a different body is rejected. Failed
+ * commands release their key, so only accepted orders are remembered.
+ */
+@Service
+public class OrderPipeline {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    private final IdempotencyIndex idempotencyIndex;
+    private final EventCatalog eventCatalog;
+    private final OrderGroupCommitter committer;
+    private final OrderRepository orderRepository;
+    private final Clock clock;
+    private final Counter accepted;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public record Result(Order order, boolean replayed) {
+    }
+
+    public OrderPipeline(IdempotencyIndex idempotencyIndex,
+                         EventCatalog eventCatalog,
+                         OrderGroupCommitter committer,
+                         OrderRepository orderRepository,
+                         MeterRegistry meterRegistry) {
+        this.idempotencyIndex = idempotencyIndex;
+        this.eventCatalog = eventCatalog;
+        this.committer = committer;
+        this.orderRepository = orderRepository;
+        this.clock = Clock.systemUTC();
+        this.accepted = orderCounter(meterRegistry, "accepted");
+        this.replayed = orderCounter(meterRegistry, "replayed");
+        this.rejected = orderCounter(meterRegistry, "rejected");
+    }
+
+    public CompletableFuture<Result> place(String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters long");
+        }
+        String requestHash = requestHash(request);
+        IdempotencyIndex.Entry entry = new IdempotencyIndex.Entry(requestHash, new CompletableFuture<>());
+        IdempotencyIndex.Entry existing = idempotencyIndex.claim(idempotencyKey, entry);
+        if (existing != null) {
+            checkSameRequest(idempotencyKey, existing.requestHash(), requestHash);
+            replayed.increment();
+            return existing.order().thenApply(order -> new Result(order, true));
+        }
+
+        try {
+            validate(request);
+        } catch (RuntimeException e) {
+            rejected.increment();
+            fail(idempotencyKey, entry, e);
+            throw e;
+        }
+
+        Order order = new Order(UUID.randomUUID(), idempotencyKey, requestHash, request.eventId(),
+                request.holdId(), request.quantity(), request.customerEmail(), OrderStatus.ACCEPTED, clock.instant());
+        committer.submit(order).whenComplete((committed, ex) -> {
+            if (ex == null) {
+                accepted.increment();
+                entry.order().complete(committed);
+            } else if (ex instanceof DuplicateKeyException) {
+                resolveDuplicate(idempotencyKey, entry, (DuplicateKeyException) ex);
+            } else {
+                fail(idempotencyKey, entry, ex);
+            }
+        });
+        return entry.order().thenApply(committed -> new Result(committed, false));
+    }
+
+    public Optional<Order> findById(UUID id) {
+        return orderRepository.findById(id);
+    }
+
+    private void validate(OrderRequest request) {
+        CatalogEvent event = eventCatalog.findEvent(request.eventId())
+                .orElseThrow(() -> new OrderValidationException("Event not found: " + request.eventId()));
+        if (event.date() != null && event.date().isBefore(LocalDate.now(clock))) {
+            throw new OrderValidationException("Event has already taken place: " + request.eventId());
+        }
+    }
+
+    /**
+     * The key fell out of the index but is already in the database: answer with the stored order.
+     */
+    private void resolveDuplicate(String idempotencyKey, IdempotencyIndex.Entry entry, DuplicateKeyException ex) {
+        Optional<Order> stored = orderRepository.findByIdempotencyKey(idempotencyKey);
+        if (stored.isEmpty()) {
+            fail(idempotencyKey, entry, ex);
+        } else if (!stored.get().requestHash().equals(entry.requestHash())) {
+            fail(idempotencyKey, entry, reuseException(idempotencyKey));
+        } else {
+            replayed.increment();
+            entry.order().complete(stored.get());
+        }
+    }
+
+    private void fail(String idempotencyKey, IdempotencyIndex.Entry entry, Throwable ex) {
+        idempotencyIndex.release(idempotencyKey, entry);
+        entry.order().completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+    }
+
+    private static void checkSameRequest(String idempotencyKey, String expectedHash, String actualHash) {
+        if (!expectedHash.equals(actualHash)) {
+            throw reuseException(idempotencyKey);
+        }
+    }
+
+    private static IdempotencyKeyReuseException reuseException(String idempotencyKey) {
+        return new IdempotencyKeyReuseException(
+                "Idempotency key " + idempotencyKey + " was already used with a different request");
+    }
+
+    private static String requestHash(OrderRequest request) {
+        String canonical = request.eventId() + "|" + request.holdId() + "|" + request.quantity() + "|"
+                + request.customerEmail().trim().toLowerCase(Locale.ROOT);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter orderCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("orders.placed")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pet.orderservice.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderRepository {
+
+    private static final String INSERT_SQL = "insert into orders (id, idempotency_key, request_hash, event_id, hold_id, "
+            + "quantity, customer_email, status, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL = "select id, idempotency_key, request_hash, event_id, hold_id, quantity, "
+            + "customer_email, status, created_at from orders";
+
+    private static final RowMapper<Order> ORDER_ROW_MAPPER = (rs, rowNum) -> new Order(
+            rs.getObject("id", UUID.class),
+            rs.getString("idempotency_key"),
+            rs.getString("request_hash"),
+            rs.getLong("event_id"),
+            rs.getObject("hold_id", Long.class),
+            rs.getInt("quantity"),
+            rs.getString("customer_email"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the batch as one JDBC batch. The caller owns the transaction.
+     */
+    public void insertAll(List<Order> orders) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Order order = orders.get(i);
+                ps.setObject(1, order.id());
+                ps.setString(2, order.idempotencyKey());
+                ps.setString(3, order.requestHash());
+                ps.setLong(4, order.eventId());
+                if (order.holdId() != null) {
+                    ps.setLong(5, order.holdId());
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                }
+                ps.setInt(6, order.quantity());
+                ps.setString(7, order.customerEmail());
+                ps.setString(8, order.status().name());
+                ps.setTimestamp(9, Timestamp.from(order.createdAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return orders.size();
+            }
+        });
+    }
+
+    public Optional<Order> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_SQL + " where id = ?", ORDER_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public Optional<Order> findByIdempotencyKey(String idempotencyKey) {
+        return jdbcTemplate.query(SELECT_SQL + " where idempotency_key = ?", ORDER_ROW_MAPPER, idempotencyKey)
+                .stream().findFirst();
+    }
+
+    public List<Order> findCreatedSince(Instant since) {
+        return jdbcTemplate.query(SELECT_SQL + " where created_at >= ?", ORDER_ROW_MAPPER, Timestamp.from(since));
+    }
+
+    public Set<UUID> findExistingIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select id from orders where id in (" + placeholders + ")", UUID.class, ids.toArray()));
+    }
+}
@@ -0,0 +1,5 @@
+package com.pet.orderservice.order;
+
+public enum OrderStatus {
+    ACCEPTED
+}
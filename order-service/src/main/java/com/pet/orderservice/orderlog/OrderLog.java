@@ -0,0 +1,242 @@
+package com.pet.orderservice.orderlog;
+
+import com.pet.orderservice.order.Order;
+import com.pet.orderservice.order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, segmented file log of accepted orders. A batch is encoded into one buffer, written
+ * with a single {@code write} and made durable with a single {@code force}, which is what lets
+ * the order pipeline pay one fsync per batch instead of one per order.
+ * <p>
+ * Records are {@code [length][crc32c][payload]}. On open, the active segment is scanned and a torn
+ * tail left by a crash mid-write is truncated. Segments roll only between batches, after the
+ * database has committed everything before them, so startup replay only needs the active one.
+ */
+@Slf4j
+@Component
+public class OrderLog implements DisposableBean {
+
+    private static final String PREFIX = "orders-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int retainedSegments;
+    private List<Order> activeSegmentOrders;
+
+    private FileChannel channel;
+    private long segmentIndex;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    public OrderLog(@Value("${orders.log.dir:./data/order-log}") Path directory,
+                    @Value("${orders.log.segment-bytes:268435456}") long segmentBytes,
+                    @Value("${orders.log.retained-segments:4}") int retainedSegments) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retainedSegments = retainedSegments;
+        Files.createDirectories(directory);
+        List<Long> segments = listSegments();
+        this.segmentIndex = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+        this.channel = openSegment(segmentIndex);
+        this.activeSegmentOrders = recover();
+    }
+
+    /**
+     * Orders found in the active segment at startup, for replay into the database. They are handed
+     * out once and not kept, so a full segment is not held on the heap for the life of the process.
+     */
+    public synchronized List<Order> takeActiveSegmentOrders() {
+        List<Order> orders = activeSegmentOrders;
+        activeSegmentOrders = List.of();
+        return orders;
+    }
+
+    /**
+     * Appends the batch and forces it to disk. If writing fails, the segment is cut back to where
+     * the batch started, so a failed batch leaves no partial records behind.
+     */
+    public synchronized void append(List<Order> orders) throws IOException {
+        buffer.clear();
+        for (Order order : orders) {
+            encode(order);
+        }
+        buffer.flip();
+        long start = channel.position();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            channel.truncate(start);
+            channel.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new segment once the active one is full. Call only after everything appended so
+     * far has been committed downstream.
+     */
+    public synchronized void rollIfFull() throws IOException {
+        if (channel.position() < segmentBytes) {
+            return;
+        }
+        channel.close();
+        segmentIndex++;
+        channel = openSegment(segmentIndex);
+        List<Long> segments = listSegments();
+        for (int i = 0; i < segments.size() - retainedSegments; i++) {
+            Files.deleteIfExists(segmentPath(segments.get(i)));
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        channel.close();
+    }
+
+    private List<Order> recover() throws IOException {
+        List<Order> orders = new ArrayList<>();
+        long size = channel.size();
+        ByteBuffer data = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE));
+        while (data.hasRemaining() && channel.read(data, data.position()) >= 0) {
+            // A single read may return fewer bytes than requested.
+        }
+        data.flip();
+        long validBytes = 0;
+        CRC32C crc = new CRC32C();
+        while (data.remaining() >= HEADER_BYTES) {
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length <= 0 || length > data.remaining()) {
+                break;
+            }
+            ByteBuffer payload = data.slice(data.position(), length);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            try {
+                orders.add(decode(payload));
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                break;
+            }
+            data.position(data.position() + length);
+            validBytes = data.position();
+        }
+        if (validBytes < size) {
+            log.warn("Truncating torn tail of order log segment {}: {} of {} bytes are valid",
+                    segmentPath(segmentIndex), validBytes, size);
+            channel.truncate(validBytes);
+        }
+        channel.position(validBytes);
+        return orders;
+    }
+
+    private void encode(Order order) {
+        byte[] key = order.idempotencyKey().getBytes(StandardCharsets.UTF_8);
+        byte[] hash = order.requestHash().getBytes(StandardCharsets.UTF_8);
+        byte[] email = order.customerEmail().getBytes(StandardCharsets.UTF_8);
+        byte[] status = order.status().name().getBytes(StandardCharsets.UTF_8);
+        int length = 2 * Long.BYTES + Long.BYTES + 1 + Long.BYTES + Integer.BYTES + Long.BYTES
+                + 4 * Short.BYTES + key.length + hash.length + email.length + status.length;
+        ensureCapacity(HEADER_BYTES + length);
+        int headerAt = buffer.position();
+        buffer.position(headerAt + HEADER_BYTES);
+        int payloadAt = buffer.position();
+        buffer.putLong(order.id().getMostSignificantBits());
+        buffer.putLong(order.id().getLeastSignificantBits());
+        buffer.putLong(order.eventId());
+        buffer.put((byte) (order.holdId() != null ? 1 : 0));
+        buffer.putLong(order.holdId() != null ? order.holdId() : 0L);
+        buffer.putInt(order.quantity());
+        buffer.putLong(order.createdAt().toEpochMilli());
+        putString(key);
+        putString(hash);
+        putString(email);
+        putString(status);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(payloadAt, length));
+        buffer.putInt(headerAt, length);
+        buffer.putInt(headerAt + Integer.BYTES, (int) crc.getValue());
+    }
+
+    private static Order decode(ByteBuffer payload) {
+        UUID id = new UUID(payload.getLong(), payload.getLong());
+        long eventId = payload.getLong();
+        boolean hasHold = payload.get() == 1;
+        long holdId = payload.getLong();
+        int quantity = payload.getInt();
+        Instant createdAt = Instant.ofEpochMilli(payload.getLong());
+        String key = getString(payload);
+        String hash = getString(payload);
+        String email = getString(payload);
+        OrderStatus status = OrderStatus.valueOf(getString(payload));
+        return new Order(id, key, hash, eventId, hasHold ? holdId : null, quantity, email, status, createdAt);
+    }
+
+    private void putString(byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort() & 0xFFFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (buffer.remaining() >= extra) {
+            return;
+        }
+        ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+
+    private FileChannel openSegment(long index) throws IOException {
+        return FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(PREFIX + String.format("%020d", index) + SUFFIX);
+    }
+
+    private List<Long> listSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+create table if not exists orders (
+    id              uuid primary key,
+    idempotency_key varchar(100) not null unique,
+    request_hash    varchar(64) not null,
+    event_id        bigint not null,
+    hold_id         bigint,
+    quantity        integer not null,
+    customer_email  varchar(254) not null,
+    status          varchar(20) not null,
+    created_at      timestamp not null
+);
+
+create index if not exists idx_orders_created_at on orders (created_at);
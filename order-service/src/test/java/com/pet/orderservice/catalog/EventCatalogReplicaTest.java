@@ -0,0 +1,114 @@
+package com.pet.orderservice.catalog;
+
+import com.pet.orderservice.exception.CatalogUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventCatalogReplicaTest {
+
+    private static final LocalDate DATE = LocalDate.of(2030, 7, 26);
+
+    private EventSnapshotClient snapshotClient;
+    private EventCatalogReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        snapshotClient = mock(EventSnapshotClient.class);
+        replica = replica(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Lookups fail until the snapshot is loaded, then walk all pages")
+    void snapshotIsLoadedPageByPage() {
+        when(snapshotClient.fetchPage(null)).thenReturn(page("c1", event(1, "Kyiv Arena"), event(2, "Kyiv Arena")));
+        when(snapshotClient.fetchPage("c1")).thenReturn(page(null, event(3, "Lviv Opera")));
+
+        assertThrows(CatalogUnavailableException.class, () -> replica.findEvent(1));
+        replica.loadSnapshot();
+
+        assertEquals(3, replica.size());
+        assertEquals(Optional.of(event(3, "Lviv Opera")), replica.findEvent(3));
+        assertSame(replica.findEvent(1).orElseThrow().venue(), replica.findEvent(2).orElseThrow().venue());
+        assertTrue(replica.findEvent(4).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Changes received during the snapshot win over it, deletions included")
+    void changesWinOverSnapshot() {
+        replica.apply(new CatalogChange(1L, 3, CatalogChangeType.UPSERTED, event(1, "Odesa Theatre")));
+        replica.apply(new CatalogChange(2L, 5, CatalogChangeType.DELETED, null));
+        when(snapshotClient.fetchPage(null)).thenReturn(page(null, event(1, "Kyiv Arena"), event(2, "Kyiv Arena")));
+
+        replica.loadSnapshot();
+
+        assertEquals("Odesa Theatre", replica.findEvent(1).orElseThrow().venue());
+        assertTrue(replica.findEvent(2).isEmpty());
+        assertEquals(1, replica.size());
+    }
+
+    @Test
+    @DisplayName("Stale changes are ignored")
+    void staleChangesAreIgnored() {
+        when(snapshotClient.fetchPage(null)).thenReturn(page(null));
+        replica.loadSnapshot();
+
+        replica.apply(new CatalogChange(1L, 4, CatalogChangeType.UPSERTED, event(1, "New Venue")));
+        replica.apply(new CatalogChange(1L, 2, CatalogChangeType.UPSERTED, event(1, "Old Venue")));
+
+        assertEquals("New Venue", replica.findEvent(1).orElseThrow().venue());
+    }
+
+    @Test
+    @DisplayName("A deletion after the snapshot is not undone by an older change delivered late")
+    void lateChangeDoesNotResurrectDeletedEvent() {
+        when(snapshotClient.fetchPage(null)).thenReturn(page(null, event(1, "Kyiv Arena")));
+        replica.loadSnapshot();
+
+        replica.apply(new CatalogChange(1L, 5, CatalogChangeType.DELETED, null));
+        replica.apply(new CatalogChange(1L, 4, CatalogChangeType.UPSERTED, event(1, "Kyiv Arena")));
+
+        assertTrue(replica.findEvent(1).isEmpty());
+        assertEquals(0, replica.size());
+    }
+
+    @Test
+    @DisplayName("Tombstones are dropped once their time to live has passed")
+    void tombstonesExpire() {
+        EventCatalogReplica replica = replica(Duration.ZERO);
+        when(snapshotClient.fetchPage(null)).thenReturn(page(null));
+        replica.loadSnapshot();
+
+        replica.apply(new CatalogChange(1L, 5, CatalogChangeType.DELETED, null));
+        replica.apply(new CatalogChange(1L, 4, CatalogChangeType.UPSERTED, event(1, "Kyiv Arena")));
+
+        assertEquals("Kyiv Arena", replica.findEvent(1).orElseThrow().venue());
+        assertEquals(1, replica.size());
+    }
+
+    private EventCatalogReplica replica(Duration tombstoneTtl) {
+        return new EventCatalogReplica(snapshotClient, new SimpleMeterRegistry(), 16,
+                Duration.ofMillis(10), false, Duration.ZERO, tombstoneTtl);
+    }
+
+    private static EventSnapshotClient.SnapshotPage page(String nextCursor, CatalogEvent... events) {
+        return new EventSnapshotClient.SnapshotPage(List.of(events), nextCursor);
+    }
+
+    private static CatalogEvent event(long id, String venue) {
+        return new CatalogEvent(id, "Event " + id, DATE, new String(venue));
+    }
+}
@@ -0,0 +1,51 @@
+package com.pet.orderservice.catalog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("Random puts and removes agree with HashMap")
+    void behavesLikeHashMap() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        Map<Long, String> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000) - 10;
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(reference.put(key, value), map.put(key, value));
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        for (long key = -10; key < 1_990; key++) {
+            assertEquals(reference.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("removeIf drops matching entries, including key 0")
+    void removeIfDropsMatchingEntries() {
+        LongObjectMap<String> map = new LongObjectMap<>(16);
+        for (long key = 0; key < 100; key++) {
+            map.put(key, key % 2 == 0 ? "even" : "odd");
+        }
+
+        map.removeIf((key, value) -> value.equals("even"));
+
+        assertEquals(50, map.size());
+        assertNull(map.get(0));
+        assertNull(map.get(42));
+        assertEquals("odd", map.get(43));
+    }
+}
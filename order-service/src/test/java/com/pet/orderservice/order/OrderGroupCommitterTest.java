@@ -0,0 +1,107 @@
+package com.pet.orderservice.order;
+
+import com.pet.orderservice.idempotency.IdempotencyIndex;
+import com.pet.orderservice.orderlog.OrderLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class OrderGroupCommitterTest {
+
+    @TempDir
+    Path directory;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private OrderLog orderLog;
+    private OrderGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        committer.stop();
+        orderLog.destroy();
+    }
+
+    @Test
+    @DisplayName("A transaction that cannot be opened is retried and does not stop the committer")
+    void unavailableDatabaseIsRetried() throws Exception {
+        doThrow(new CannotCreateTransactionException("Could not open JDBC Connection for transaction"))
+                .doAnswer(invocation -> {
+                    invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate).executeWithoutResult(any());
+        start();
+
+        Order order = order("key-1");
+        assertEquals(order, committer.submit(order).get(5, TimeUnit.SECONDS));
+        Order next = order("key-2");
+        assertEquals(next, committer.submit(next).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A logged order that fails to commit keeps the log from rolling, so the next start replays it")
+    void uncommittedOrderStaysInActiveSegment() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        doThrow(new DuplicateKeyException("orders_idempotency_key_key"))
+                .doThrow(new DataAccessResourceFailureException("connection reset"))
+                .doAnswer(invocation -> null)
+                .when(orderRepository).insertAll(anyList());
+        start();
+
+        Order failed = order("key-1");
+        CompletableFuture<Order> first = committer.submit(failed);
+        assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        Order committed = order("key-2");
+        assertEquals(committed, committer.submit(committed).get(5, TimeUnit.SECONDS));
+        committer.stop();
+        orderLog.destroy();
+
+        orderLog = new OrderLog(directory, 1, 2);
+        assertEquals(List.of(failed, committed), orderLog.takeActiveSegmentOrders());
+    }
+
+    private void start() throws IOException {
+        // One-byte segments, so the log would roll after every batch.
+        orderLog = new OrderLog(directory, 1, 2);
+        committer = new OrderGroupCommitter(orderLog, orderRepository,
+                new IdempotencyIndex(new SimpleMeterRegistry(), 1000, Duration.ofHours(1)),
+                transactionTemplate, new SimpleMeterRegistry(), 100, 10, Duration.ofMillis(10));
+        committer.start();
+    }
+
+    private static Order order(String key) {
+        return new Order(UUID.randomUUID(), key, "hash-" + key, 101L, null, 2, "buyer@example.com",
+                OrderStatus.ACCEPTED, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+}
@@ -0,0 +1,103 @@
+package com.pet.orderservice.order;
+
+import com.pet.orderservice.catalog.CatalogEvent;
+import com.pet.orderservice.catalog.EventCatalogReplica;
+import com.pet.orderservice.dto.OrderRequest;
+import com.pet.orderservice.exception.IdempotencyKeyReuseException;
+import com.pet.orderservice.exception.OrderValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("it")
+class OrderPipelineTest {
+
+    @Autowired
+    private OrderPipeline orderPipeline;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EventCatalogReplica eventCatalog;
+
+    @BeforeEach
+    void setUp() {
+        when(eventCatalog.findEvent(anyLong())).thenAnswer(invocation -> Optional.of(new CatalogEvent(
+                invocation.getArgument(0), "Atlas Weekend", LocalDate.now().plusDays(30), "ВДНГ, Київ")));
+    }
+
+    @Test
+    @DisplayName("Concurrent orders are committed together and each is stored once")
+    void ordersAreGroupCommitted() throws Exception {
+        List<CompletableFuture<OrderPipeline.Result>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            results.add(orderPipeline.place("batch-" + i, request(101L, 2)));
+        }
+        for (CompletableFuture<OrderPipeline.Result> result : results) {
+            assertFalse(result.get(5, TimeUnit.SECONDS).replayed());
+        }
+
+        Integer stored = jdbcTemplate.queryForObject(
+                "select count(*) from orders where idempotency_key like 'batch-%'", Integer.class);
+        assertEquals(200, stored);
+    }
+
+    @Test
+    @DisplayName("A retry with the same key returns the original order")
+    void retriesAreDeduplicated() throws Exception {
+        OrderPipeline.Result first = orderPipeline.place("retry-key", request(102L, 1)).get(5, TimeUnit.SECONDS);
+        OrderPipeline.Result retry = orderPipeline.place("retry-key", request(102L, 1)).get(5, TimeUnit.SECONDS);
+
+        assertTrue(retry.replayed());
+        assertEquals(first.order().id(), retry.order().id());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from orders where idempotency_key = 'retry-key'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Reusing a key for a different order is rejected")
+    void keyReuseIsRejected() throws Exception {
+        orderPipeline.place("reused-key", request(103L, 1)).get(5, TimeUnit.SECONDS);
+
+        assertThrows(IdempotencyKeyReuseException.class, () -> orderPipeline.place("reused-key", request(103L, 3)));
+    }
+
+    @Test
+    @DisplayName("Orders for past or unknown events are rejected and free their key")
+    void invalidOrdersAreRejected() throws Exception {
+        when(eventCatalog.findEvent(104L)).thenReturn(Optional.of(
+                new CatalogEvent(104L, "Past Fest", LocalDate.now().minusDays(1), "Львів")));
+        when(eventCatalog.findEvent(105L)).thenReturn(Optional.empty());
+
+        assertThrows(OrderValidationException.class, () -> orderPipeline.place("past-key", request(104L, 1)));
+        assertThrows(OrderValidationException.class, () -> orderPipeline.place("unknown-key", request(105L, 1)));
+
+        OrderPipeline.Result result = orderPipeline.place("past-key", request(106L, 1)).get(5, TimeUnit.SECONDS);
+        assertFalse(result.replayed());
+    }
+
+    private static OrderRequest request(long eventId, int quantity) {
+        return new OrderRequest(eventId, null, quantity, "buyer@example.com");
+    }
+}
@@ -0,0 +1,91 @@
+package com.pet.orderservice.orderlog;
+
+import com.pet.orderservice.order.Order;
+import com.pet.orderservice.order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Appended batches are read back after reopening")
+    void appendedOrdersSurviveReopen() throws IOException {
+        OrderLog orderLog = new OrderLog(directory, 1 << 20, 2);
+        Order first = order("key-1", 7L);
+        Order second = order("key-2", null);
+        orderLog.append(List.of(first, second));
+        orderLog.append(List.of(order("key-3", 9L)));
+        orderLog.destroy();
+
+        OrderLog reopened = new OrderLog(directory, 1 << 20, 2);
+        List<Order> recovered = reopened.takeActiveSegmentOrders();
+        assertEquals(3, recovered.size());
+        assertEquals(first, recovered.get(0));
+        assertEquals(second, recovered.get(1));
+        assertTrue(reopened.takeActiveSegmentOrders().isEmpty());
+        reopened.destroy();
+    }
+
+    @Test
+    @DisplayName("A torn record at the end of the log is truncated on open")
+    void tornTailIsTruncated() throws IOException {
+        OrderLog orderLog = new OrderLog(directory, 1 << 20, 2);
+        orderLog.append(List.of(order("key-1", 1L)));
+        orderLog.destroy();
+        Path segment = onlySegment();
+        long validSize = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        OrderLog reopened = new OrderLog(directory, 1 << 20, 2);
+        assertEquals(1, reopened.takeActiveSegmentOrders().size());
+        assertEquals(validSize, Files.size(segment));
+
+        reopened.append(List.of(order("key-2", 2L)));
+        reopened.destroy();
+        assertEquals(2, new OrderLog(directory, 1 << 20, 2).takeActiveSegmentOrders().size());
+    }
+
+    @Test
+    @DisplayName("A full segment rolls over and old segments are pruned")
+    void fullSegmentsRollOver() throws IOException {
+        OrderLog orderLog = new OrderLog(directory, 1, 2);
+        for (int i = 0; i < 4; i++) {
+            orderLog.append(List.of(order("key-" + i, null)));
+            orderLog.rollIfFull();
+        }
+        orderLog.destroy();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+        assertTrue(new OrderLog(directory, 1, 2).takeActiveSegmentOrders().isEmpty());
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private static Order order(String key, Long holdId) {
+        return new Order(UUID.randomUUID(), key, "hash-" + key, 101L, holdId, 2, "buyer@example.com",
+                OrderStatus.ACCEPTED, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+}
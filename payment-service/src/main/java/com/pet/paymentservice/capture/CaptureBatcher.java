@@ -0,0 +1,83 @@
+package com.pet.paymentservice.capture;
+
+import com.pet.paymentservice.provider.Capture;
+import com.pet.paymentservice.provider.CaptureRequest;
+import com.pet.paymentservice.provider.PaymentProvider;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Collects captures for one provider and sends them as a single batch call once
+ * {@code maxBatch} have accumulated or {@code linger} has passed since the first one, whichever
+ * comes first. Batches are sent concurrently; the provider's bulkhead limits how many.
+ */
+@Slf4j
+public class CaptureBatcher implements Disposable {
+
+    private static final Duration EMIT_RETRY = Duration.ofMillis(100);
+
+    private final PaymentProvider provider;
+    private final Sinks.Many<PendingCapture> pending = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable subscription;
+    private final DistributionSummary batchSize;
+
+    private record PendingCapture(CaptureRequest request, Sinks.One<Capture> result) {
+    }
+
+    public CaptureBatcher(PaymentProvider provider, int maxBatch, Duration linger, MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.batchSize = DistributionSummary.builder("payments.capture.batch")
+                .description("Captures sent per provider call")
+                .tag("provider", provider.name())
+                .register(meterRegistry);
+        this.subscription = pending.asFlux()
+                .bufferTimeout(maxBatch, linger)
+                .flatMap(this::send)
+                .subscribe();
+    }
+
+    public Mono<Capture> capture(CaptureRequest request) {
+        Sinks.One<Capture> result = Sinks.one();
+        pending.emitNext(new PendingCapture(request, result), Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+        return result.asMono();
+    }
+
+    @Override
+    public void dispose() {
+        subscription.dispose();
+    }
+
+    private Mono<Void> send(List<PendingCapture> batch) {
+        batchSize.record(batch.size());
+        List<CaptureRequest> requests = batch.stream().map(PendingCapture::request).toList();
+        return provider.captureBatch(requests)
+                .doOnNext(results -> complete(batch, results))
+                .doOnError(e -> batch.forEach(capture -> capture.result().tryEmitError(e)))
+                .onErrorComplete()
+                .then();
+    }
+
+    private void complete(List<PendingCapture> batch, List<Capture> results) {
+        Map<String, Capture> byAuthorization = results.stream()
+                .collect(Collectors.toMap(Capture::authorizationId, Function.identity(), (first, second) -> first));
+        for (PendingCapture capture : batch) {
+            Capture result = byAuthorization.get(capture.request().authorizationId());
+            if (result != null) {
+                capture.result().tryEmitValue(result);
+            } else {
+                capture.result().tryEmitError(new IllegalStateException(
+                        "Provider " + provider.name() + " returned no result for " + capture.request().authorizationId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.pet.paymentservice.coalescing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one: callers that arrive while a call is in
+ * flight share its result, and successful results are remembered for {@code ttl} so later
+ * retries do not reach the provider at all. Failures are not remembered.
+ */
+public class Coalescer<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<K, V> completed;
+    private final Counter calls;
+    private final Counter coalesced;
+
+    public Coalescer(String operation, Duration ttl, long maximumSize, MeterRegistry meterRegistry) {
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+        this.calls = Counter.builder("payments.coalescer.calls")
+                .tag("operation", operation)
+                .description("Calls that went to the provider")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("payments.coalescer.coalesced")
+                .tag("operation", operation)
+                .description("Calls answered by an in-flight or remembered result")
+                .register(meterRegistry);
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            V done = completed.getIfPresent(key);
+            if (done != null) {
+                coalesced.increment();
+                return Mono.just(done);
+            }
+            boolean[] created = new boolean[1];
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+                created[0] = true;
+                return Mono.defer(call)
+                        .doOnNext(value -> completed.put(k, value))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache();
+            });
+            (created[0] ? calls : coalesced).increment();
+            return shared;
+        });
+    }
+
+    public V getCompleted(K key) {
+        return completed.getIfPresent(key);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pet.paymentservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Payment providers and their client settings. Circuit breakers and bulkheads are configured per
+ * provider name under {@code resilience4j.circuitbreaker.instances.<name>} and
+ * {@code resilience4j.bulkhead.instances.<name>}.
+ */
+@ConfigurationProperties("payments")
+public record PaymentProperties(
+        @DefaultValue("fake") String defaultProvider,
+        Map<String, Provider> providers,
+        @DefaultValue Fake fake,
+        @DefaultValue("PT10M") Duration resultTtl,
+        @DefaultValue("100000") long maxRememberedResults
+) {
+
+    public enum ProviderType {
+        HTTP,
+        FAKE
+    }
+
+    public record Provider(
+            @DefaultValue("HTTP") ProviderType type,
+            URI baseUrl,
+            String apiKey,
+            @DefaultValue("PT2S") Duration timeout,
+            @DefaultValue("false") boolean batchCapture,
+            @DefaultValue("100") int maxCaptureBatch,
+            @DefaultValue("PT0.02S") Duration captureLinger
+    ) {
+    }
+
+    /**
+     * Behaviour of the in-process fake provider.
+     */
+    public record Fake(
+            @DefaultValue("PT0.05S") Duration latency,
+            @DefaultValue("PT0.02S") Duration jitter,
+            @DefaultValue("0.0") double failureRate,
+            @DefaultValue("0.0") double declineRate
+    ) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.pet.paymentservice.controller;
+
+import com.pet.paymentservice.payment.PaymentService;
+import com.pet.paymentservice.dto.AuthorizationResponse;
+import com.pet.paymentservice.dto.AuthorizePaymentRequest;
+import com.pet.paymentservice.dto.CapturePaymentRequest;
+import com.pet.paymentservice.dto.CaptureResponse;
+import com.pet.paymentservice.provider.AuthorizationRequest;
+import com.pet.paymentservice.provider.CaptureRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/v1/payments")
+@RequiredArgsConstructor
+@Tag(name = "Payment API", description = "API для авторизації та списання платежів")
+public class PaymentController {
+
+    private final PaymentService paymentService;
+
+    @Operation(summary = "Авторизувати платіж", description = "Резервує кошти у провайдера. Повторні та одночасні запити для того самого замовлення повертають одну й ту саму авторизацію.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Платіж авторизовано або відхилено провайдером"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Замовлення вже авторизовано на іншу суму", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Провайдер тимчасово недоступний", content = @Content)
+    })
+    @PostMapping("/authorizations")
+    public Mono<AuthorizationResponse> authorize(@Valid @RequestBody AuthorizePaymentRequest request) {
+        AuthorizationRequest authorization = new AuthorizationRequest(request.orderId(), request.amountMinor(), request.currency());
+        return paymentService.authorize(request.provider(), authorization)
+                .map(AuthorizationResponse::from);
+    }
+
+    @Operation(summary = "Списати кошти", description = "Списує кошти за авторизацією, вказаною в запиті. Списання групуються в пакети для провайдерів, що це підтримують.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Результат списання"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Платіж було відхилено або запит не відповідає авторизації", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Провайдер тимчасово недоступний", content = @Content)
+    })
+    @PostMapping("/{orderId}/capture")
+    public Mono<CaptureResponse> capture(
+            @Parameter(description = "ID замовлення") @PathVariable String orderId,
+            @Valid @RequestBody CapturePaymentRequest request) {
+        CaptureRequest capture = new CaptureRequest(request.authorizationId(), request.amountMinor(), request.currency());
+        return paymentService.capture(orderId, request.provider(), capture).map(CaptureResponse::from);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pet.paymentservice.dto;
+
+import com.pet.paymentservice.provider.Authorization;
+import com.pet.paymentservice.provider.AuthorizationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Результат авторизації платежу")
+public record AuthorizationResponse(
+        @Schema(description = "ID авторизації у провайдера; відсутній, якщо платіж відхилено", example = "fake_auth_8d1f0c2a")
+        String authorizationId,
+
+        @Schema(description = "ID замовлення", example = "3f2b8c1e-6a51-4c3e-9d0a-2b7f4e8a9c10")
+        String orderId,
+
+        @Schema(description = "Платіжний провайдер", example = "fake")
+        String provider,
+
+        @Schema(description = "Статус авторизації", example = "APPROVED")
+        AuthorizationStatus status,
+
+        @Schema(description = "Причина відхилення", example = "insufficient_funds")
+        String declineReason
+) {
+    public static AuthorizationResponse from(Authorization authorization) {
+        return new AuthorizationResponse(authorization.authorizationId(), authorization.orderId(),
+                authorization.provider(), authorization.status(), authorization.declineReason());
+    }
+}
@@ -0,0 +1,30 @@
+package com.pet.paymentservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Запит на авторизацію платежу")
+public record AuthorizePaymentRequest(
+        @Schema(description = "ID замовлення; повторні запити з тим самим ID не авторизують платіж вдруге", example = "3f2b8c1e-6a51-4c3e-9d0a-2b7f4e8a9c10")
+        @NotBlank(message = "ID замовлення є обов'язковим")
+        @Size(max = 100, message = "ID замовлення не може перевищувати 100 символів")
+        String orderId,
+
+        @Schema(description = "Сума в мінімальних одиницях валюти (копійках)", example = "150000")
+        @NotNull(message = "Сума є обов'язковою")
+        @Positive(message = "Сума має бути додатною")
+        Long amountMinor,
+
+        @Schema(description = "Код валюти ISO 4217", example = "UAH")
+        @NotBlank(message = "Валюта є обов'язковою")
+        @Pattern(regexp = "[A-Z]{3}", message = "Валюта має бути кодом ISO 4217")
+        String currency,
+
+        @Schema(description = "Платіжний провайдер; якщо не вказано, використовується провайдер за замовчуванням", example = "fake")
+        String provider
+) {
+}
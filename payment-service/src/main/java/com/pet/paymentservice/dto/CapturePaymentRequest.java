@@ -0,0 +1,28 @@
+package com.pet.paymentservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "Запит на списання коштів за авторизацією")
+public record CapturePaymentRequest(
+        @Schema(description = "ID авторизації у провайдера з відповіді на авторизацію", example = "fake_auth_8d1f0c2a")
+        @NotBlank(message = "ID авторизації є обов'язковим")
+        String authorizationId,
+
+        @Schema(description = "Сума в мінімальних одиницях валюти (копійках)", example = "150000")
+        @NotNull(message = "Сума є обов'язковою")
+        @Positive(message = "Сума має бути додатною")
+        Long amountMinor,
+
+        @Schema(description = "Код валюти ISO 4217", example = "UAH")
+        @NotBlank(message = "Валюта є обов'язковою")
+        @Pattern(regexp = "[A-Z]{3}", message = "Валюта має бути кодом ISO 4217")
+        String currency,
+
+        @Schema(description = "Платіжний провайдер, що видав авторизацію; якщо не вказано, використовується провайдер за замовчуванням", example = "fake")
+        String provider
+) {
+}
@@ -0,0 +1,24 @@
+package com.pet.paymentservice.dto;
+
+import com.pet.paymentservice.provider.Capture;
+import com.pet.paymentservice.provider.CaptureStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Результат списання коштів")
+public record CaptureResponse(
+        @Schema(description = "ID авторизації", example = "fake_auth_8d1f0c2a")
+        String authorizationId,
+
+        @Schema(description = "ID списання у провайдера", example = "fake_cap_8d1f0c2a")
+        String captureId,
+
+        @Schema(description = "Статус списання", example = "CAPTURED")
+        CaptureStatus status,
+
+        @Schema(description = "Причина невдачі", example = "unknown_authorization")
+        String failureReason
+) {
+    public static CaptureResponse from(Capture capture) {
+        return new CaptureResponse(capture.authorizationId(), capture.captureId(), capture.status(), capture.failureReason());
+    }
+}
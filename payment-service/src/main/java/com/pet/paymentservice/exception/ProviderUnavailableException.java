@@ -0,0 +1,11 @@
+package com.pet.paymentservice.exception;
+
+/**
+ * The provider could not be asked: its circuit is open, its bulkhead is full, or the call failed
+ * or timed out. Safe to retry, since authorizations are idempotent per order.
+ */
+public class ProviderUnavailableException extends RuntimeException {
+    public ProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pet.paymentservice.payment;
+
+import com.pet.paymentservice.coalescing.Coalescer;
+import com.pet.paymentservice.config.PaymentProperties;
+import com.pet.paymentservice.exception.PaymentConflictException;
+import com.pet.paymentservice.provider.Authorization;
+import com.pet.paymentservice.provider.AuthorizationRequest;
+import com.pet.paymentservice.provider.AuthorizationStatus;
+import com.pet.paymentservice.provider.Capture;
+import com.pet.paymentservice.provider.CaptureRequest;
+import com.pet.paymentservice.provider.PaymentProviderRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Authorizes and captures payments. Attempts for the same order are coalesced, so a client
+ * retrying through the gateway while the first attempt is still waiting on the provider does not
+ * authorize twice; captures are coalesced per authorization the same way.
+ * <p>
+ * Results are kept in memory only for {@code payments.result-ttl}; after that a retry goes to
+ * the provider again, which deduplicates by order ID itself. A capture therefore names the
+ * provider authorization it settles instead of relying on this memory, so it works on any
+ * instance and after a restart; an authorization still remembered here is only checked against it.
+ */
+@Service
+public class PaymentService {
+
+    private final PaymentProviderRegistry providers;
+    private final Coalescer<String, Authorization> authorizations;
+    private final Coalescer<String, Capture> captures;
+
+    public PaymentService(PaymentProviderRegistry providers, PaymentProperties properties, MeterRegistry meterRegistry) {
+        this.providers = providers;
+        this.authorizations = new Coalescer<>("authorize", properties.resultTtl(),
+                properties.maxRememberedResults(), meterRegistry);
+        this.captures = new Coalescer<>("capture", properties.resultTtl(),
+                properties.maxRememberedResults(), meterRegistry);
+    }
+
+    public Mono<Authorization> authorize(String providerName, AuthorizationRequest request) {
+        return Mono.fromSupplier(() -> providers.get(providerName))
+                .flatMap(provider -> authorizations.execute(request.orderId(), () -> provider.authorize(request)))
+                .doOnNext(authorization -> checkSameAmount(authorization, request));
+    }
+
+    /**
+     * @param providerName provider that issued the authorization, or {@code null} for the default provider
+     */
+    public Mono<Capture> capture(String orderId, String providerName, CaptureRequest request) {
+        return Mono.defer(() -> {
+            Authorization known = authorizations.getCompleted(orderId);
+            if (known != null && known.status() != AuthorizationStatus.APPROVED) {
+                return Mono.error(new PaymentConflictException("Authorization for order " + orderId + " was declined"));
+            }
+            if (known != null && !matches(known, providerName, request)) {
+                return Mono.error(new PaymentConflictException("Capture for order " + orderId
+                        + " does not match its authorization"));
+            }
+            return captures.execute(request.authorizationId(), () -> providers.capture(providerName, request));
+        });
+    }
+
+    private boolean matches(Authorization authorization, String providerName, CaptureRequest request) {
+        return authorization.authorizationId().equals(request.authorizationId())
+                && authorization.provider().equals(providers.get(providerName).name())
+                && authorization.amountMinor() == request.amountMinor()
+                && authorization.currency().equals(request.currency());
+    }
+
+    private static void checkSameAmount(Authorization authorization, AuthorizationRequest request) {
+        if (authorization.amountMinor() != request.amountMinor() || !authorization.currency().equals(request.currency())) {
+            throw new PaymentConflictException("Order " + request.orderId()
+                    + " was already authorized for a different amount");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.pet.paymentservice.provider;
+
+/**
+ * Outcome of an authorization. A decline is a normal result, not an error.
+ */
+public record Authorization(
+        String authorizationId,
+        String orderId,
+        String provider,
+        AuthorizationStatus status,
+        String declineReason,
+        long amountMinor,
+        String currency
+) {
+}
@@ -0,0 +1,4 @@
+package com.pet.paymentservice.provider;
+
+public record AuthorizationRequest(String orderId, long amountMinor, String currency) {
+}
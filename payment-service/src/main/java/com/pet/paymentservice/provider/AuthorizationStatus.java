@@ -0,0 +1,6 @@
+package com.pet.paymentservice.provider;
+
+public enum AuthorizationStatus {
+    APPROVED,
+    DECLINED
+}
@@ -0,0 +1,4 @@
+package com.pet.paymentservice.provider;
+
+public record Capture(String authorizationId, String captureId, CaptureStatus status, String failureReason) {
+}
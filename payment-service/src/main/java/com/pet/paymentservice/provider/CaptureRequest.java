@@ -0,0 +1,4 @@
+package com.pet.paymentservice.provider;
+
+public record CaptureRequest(String authorizationId, long amountMinor, String currency) {
+}
@@ -0,0 +1,98 @@
+package com.pet.paymentservice.provider;
+
+import com.pet.paymentservice.config.PaymentProperties;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process provider for load tests and local runs. Every call waits {@code latency} plus up to
+ * {@code jitter} on a timer, without holding a thread, then fails with probability
+ * {@code failure-rate} or declines an authorization with probability {@code decline-rate}.
+ * A batch capture pays the latency once, like a real batch endpoint.
+ */
+public class FakePaymentProvider implements PaymentProvider {
+
+    private final String name;
+    private final PaymentProperties.Fake settings;
+    private final Map<String, Authorization> authorizationsByOrder = new ConcurrentHashMap<>();
+    private final Map<String, Long> approvedAmounts = new ConcurrentHashMap<>();
+
+    public static class InjectedFailureException extends RuntimeException {
+        public InjectedFailureException(String message) {
+            super(message);
+        }
+    }
+
+    public FakePaymentProvider(String name, PaymentProperties.Fake settings) {
+        this.name = name;
+        this.settings = settings;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Mono<Authorization> authorize(AuthorizationRequest request) {
+        return simulateCall().then(Mono.fromSupplier(() ->
+                authorizationsByOrder.computeIfAbsent(request.orderId(), orderId -> decide(request))));
+    }
+
+    @Override
+    public Mono<Capture> capture(CaptureRequest request) {
+        return simulateCall().then(Mono.fromSupplier(() -> settle(request)));
+    }
+
+    @Override
+    public Mono<List<Capture>> captureBatch(List<CaptureRequest> requests) {
+        return simulateCall().then(Mono.fromSupplier(() -> requests.stream().map(this::settle).toList()));
+    }
+
+    @Override
+    public boolean supportsBatchCapture() {
+        return true;
+    }
+
+    private Authorization decide(AuthorizationRequest request) {
+        if (ThreadLocalRandom.current().nextDouble() < settings.declineRate()) {
+            return new Authorization(null, request.orderId(), name, AuthorizationStatus.DECLINED,
+                    "insufficient_funds", request.amountMinor(), request.currency());
+        }
+        String authorizationId = "fake_auth_" + UUID.randomUUID();
+        approvedAmounts.put(authorizationId, request.amountMinor());
+        return new Authorization(authorizationId, request.orderId(), name, AuthorizationStatus.APPROVED,
+                null, request.amountMinor(), request.currency());
+    }
+
+    private Capture settle(CaptureRequest request) {
+        Long approved = approvedAmounts.get(request.authorizationId());
+        if (approved == null) {
+            return new Capture(request.authorizationId(), null, CaptureStatus.FAILED, "unknown_authorization");
+        }
+        if (request.amountMinor() > approved) {
+            return new Capture(request.authorizationId(), null, CaptureStatus.FAILED, "amount_exceeds_authorization");
+        }
+        return new Capture(request.authorizationId(), "fake_cap_" + request.authorizationId().substring(10),
+                CaptureStatus.CAPTURED, null);
+    }
+
+    private Mono<Void> simulateCall() {
+        return Mono.defer(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long jitterNanos = settings.jitter().isZero() ? 0 : random.nextLong(settings.jitter().toNanos());
+            Duration delay = settings.latency().plusNanos(jitterNanos);
+            Mono<Void> wait = delay.isZero() ? Mono.empty() : Mono.delay(delay).then();
+            if (random.nextDouble() < settings.failureRate()) {
+                return wait.then(Mono.error(new InjectedFailureException("Injected failure from " + name)));
+            }
+            return wait;
+        });
+    }
+}
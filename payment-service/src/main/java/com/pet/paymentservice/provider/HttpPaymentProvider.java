@@ -0,0 +1,93 @@
+package com.pet.paymentservice.provider;
+
+import com.pet.paymentservice.config.PaymentProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Client for a provider speaking the common REST contract: {@code POST /v1/authorizations} with
+ * the order ID as {@code Idempotency-Key}, {@code POST /v1/authorizations/{id}/capture}, and for
+ * providers that support it {@code POST /v1/captures} with a list of captures.
+ * <p>
+ * Calls run on the shared Reactor Netty connection pool, so waiting on the provider holds no
+ * thread; timeouts, bulkheads and circuit breaking are added by {@link ResilientPaymentProvider}.
+ */
+public class HttpPaymentProvider implements PaymentProvider {
+
+    private final String name;
+    private final WebClient webClient;
+    private final boolean batchCapture;
+
+    record AuthorizationBody(String orderId, long amountMinor, String currency) {
+    }
+
+    record AuthorizationReply(String authorizationId, AuthorizationStatus status, String declineReason) {
+    }
+
+    record CaptureBody(long amountMinor, String currency) {
+    }
+
+    record BatchCaptureBody(List<CaptureRequest> captures) {
+    }
+
+    record BatchCaptureReply(List<Capture> results) {
+    }
+
+    public HttpPaymentProvider(String name, WebClient.Builder webClientBuilder, PaymentProperties.Provider settings) {
+        if (settings.baseUrl() == null) {
+            throw new IllegalArgumentException("payments.providers." + name + ".base-url is required");
+        }
+        this.name = name;
+        this.batchCapture = settings.batchCapture();
+        WebClient.Builder builder = webClientBuilder.clone().baseUrl(settings.baseUrl().toString());
+        if (settings.apiKey() != null) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + settings.apiKey());
+        }
+        this.webClient = builder.build();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Mono<Authorization> authorize(AuthorizationRequest request) {
+        return webClient.post()
+                .uri("/v1/authorizations")
+                .header("Idempotency-Key", request.orderId())
+                .bodyValue(new AuthorizationBody(request.orderId(), request.amountMinor(), request.currency()))
+                .retrieve()
+                .bodyToMono(AuthorizationReply.class)
+                .map(reply -> new Authorization(reply.authorizationId(), request.orderId(), name, reply.status(),
+                        reply.declineReason(), request.amountMinor(), request.currency()));
+    }
+
+    @Override
+    public Mono<Capture> capture(CaptureRequest request) {
+        return webClient.post()
+                .uri("/v1/authorizations/{id}/capture", request.authorizationId())
+                .header("Idempotency-Key", request.authorizationId())
+                .bodyValue(new CaptureBody(request.amountMinor(), request.currency()))
+                .retrieve()
+                .bodyToMono(Capture.class);
+    }
+
+    @Override
+    public Mono<List<Capture>> captureBatch(List<CaptureRequest> requests) {
+        return webClient.post()
+                .uri("/v1/captures")
+                .bodyValue(new BatchCaptureBody(requests))
+                .retrieve()
+                .bodyToMono(BatchCaptureReply.class)
+                .map(BatchCaptureReply::results);
+    }
+
+    @Override
+    public boolean supportsBatchCapture() {
+        return batchCapture;
+    }
+}
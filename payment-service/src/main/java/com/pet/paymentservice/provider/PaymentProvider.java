@@ -0,0 +1,30 @@
+package com.pet.paymentservice.provider;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * A payment provider. Implementations must be non-blocking and treat {@code orderId} as the
+ * idempotency key of an authorization.
+ */
+public interface PaymentProvider {
+
+    String name();
+
+    Mono<Authorization> authorize(AuthorizationRequest request);
+
+    Mono<Capture> capture(CaptureRequest request);
+
+    /**
+     * Captures several authorizations in one provider call. Only used when
+     * {@link #supportsBatchCapture()} is {@code true}; results may come back in any order.
+     */
+    default Mono<List<Capture>> captureBatch(List<CaptureRequest> requests) {
+        return Mono.error(new UnsupportedOperationException(name() + " does not support batch capture"));
+    }
+
+    default boolean supportsBatchCapture() {
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.pet.paymentservice.provider;
+
+import com.pet.paymentservice.capture.CaptureBatcher;
+import com.pet.paymentservice.config.PaymentProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the configured providers, each wrapped in a {@link ResilientPaymentProvider} named
+ * after it, and routes captures of batch-capable providers through a {@link CaptureBatcher}.
+ */
+@Component
+public class PaymentProviderRegistry implements DisposableBean {
+
+    private final Map<String, ResilientPaymentProvider> providers = new HashMap<>();
+    private final Map<String, CaptureBatcher> batchers = new HashMap<>();
+    private final String defaultProvider;
+
+    public PaymentProviderRegistry(PaymentProperties properties,
+                                   WebClient.Builder webClientBuilder,
+                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                   BulkheadRegistry bulkheadRegistry,
+                                   MeterRegistry meterRegistry) {
+        Map<String, PaymentProperties.Provider> configured = properties.providers() != null
+                ? properties.providers() : Map.of();
+        configured.forEach((name, settings) -> {
+            PaymentProvider delegate = switch (settings.type()) {
+                case HTTP -> new HttpPaymentProvider(name, webClientBuilder, settings);
+                case FAKE -> new FakePaymentProvider(name, properties.fake());
+            };
+            ResilientPaymentProvider provider = new ResilientPaymentProvider(delegate,
+                    circuitBreakerRegistry.circuitBreaker(name), bulkheadRegistry.bulkhead(name), settings.timeout());
+            providers.put(name, provider);
+            if (provider.supportsBatchCapture()) {
+                batchers.put(name, new CaptureBatcher(provider, settings.maxCaptureBatch(),
+                        settings.captureLinger(), meterRegistry));
+            }
+        });
+        if (!providers.containsKey(properties.defaultProvider())) {
+            throw new IllegalStateException("Default payment provider is not configured: " + properties.defaultProvider());
+        }
+        this.defaultProvider = properties.defaultProvider();
+    }
+
+    /**
+     * @param name provider name, or {@code null} for the default provider
+     */
+    public PaymentProvider get(String name) {
+        PaymentProvider provider = providers.get(name != null ? name : defaultProvider);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown payment provider: " + name);
+        }
+        return provider;
+    }
+
+    /**
+     * @param providerName provider name, or {@code null} for the default provider
+     */
+    public Mono<Capture> capture(String providerName, CaptureRequest request) {
+        CaptureBatcher batcher = batchers.get(providerName != null ? providerName : defaultProvider);
+        return batcher != null ? batcher.capture(request) : get(providerName).capture(request);
+    }
+
+    @Override
+    public void destroy() {
+        batchers.values().forEach(CaptureBatcher::dispose);
+    }
+}
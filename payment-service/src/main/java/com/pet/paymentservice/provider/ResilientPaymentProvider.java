@@ -0,0 +1,70 @@
+package com.pet.paymentservice.provider;
+
+import com.pet.paymentservice.exception.ProviderUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Puts a provider behind its own bulkhead, circuit breaker and timeout. The bulkhead sits outside
+ * the breaker, so calls rejected for lack of capacity do not count as provider failures; the
+ * timeout sits inside, so slow calls do. Every failure surfaces as a
+ * {@link ProviderUnavailableException}.
+ */
+public class ResilientPaymentProvider implements PaymentProvider {
+
+    private final PaymentProvider delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration timeout;
+
+    public ResilientPaymentProvider(PaymentProvider delegate, CircuitBreaker circuitBreaker,
+                                    Bulkhead bulkhead, Duration timeout) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public Mono<Authorization> authorize(AuthorizationRequest request) {
+        return protect(delegate.authorize(request));
+    }
+
+    @Override
+    public Mono<Capture> capture(CaptureRequest request) {
+        return protect(delegate.capture(request));
+    }
+
+    @Override
+    public Mono<List<Capture>> captureBatch(List<CaptureRequest> requests) {
+        return protect(delegate.captureBatch(requests));
+    }
+
+    @Override
+    public boolean supportsBatchCapture() {
+        return delegate.supportsBatchCapture();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> Mono<T> protect(Mono<T> call) {
+        return call.timeout(timeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> !(e instanceof ProviderUnavailableException),
+                        e -> new ProviderUnavailableException("Payment provider " + name() + " is unavailable", e));
+    }
+}
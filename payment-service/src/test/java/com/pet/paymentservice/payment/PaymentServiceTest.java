@@ -0,0 +1,114 @@
+package com.pet.paymentservice.payment;
+
+import com.pet.paymentservice.config.PaymentProperties;
+import com.pet.paymentservice.exception.PaymentConflictException;
+import com.pet.paymentservice.provider.Authorization;
+import com.pet.paymentservice.provider.AuthorizationRequest;
+import com.pet.paymentservice.provider.AuthorizationStatus;
+import com.pet.paymentservice.provider.Capture;
+import com.pet.paymentservice.provider.CaptureRequest;
+import com.pet.paymentservice.provider.CaptureStatus;
+import com.pet.paymentservice.provider.PaymentProviderRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "payments.fake.latency=PT0.1S",
+        "payments.fake.jitter=PT0S",
+        "payments.providers.fake.capture-linger=PT0.05S"
+})
+@ActiveProfiles("it")
+class PaymentServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PaymentProviderRegistry providers;
+
+    @Autowired
+    private PaymentProperties properties;
+
+    @Test
+    @DisplayName("Concurrent authorizations of one order reach the provider once")
+    void duplicateAuthorizationsAreCoalesced() {
+        AuthorizationRequest request = new AuthorizationRequest("order-coalesced", 150_000, "UAH");
+        double callsBefore = counter("payments.coalescer.calls");
+
+        List<Authorization> results = Flux.range(0, 20)
+                .flatMap(i -> paymentService.authorize(null, request))
+                .collectList()
+                .block(TIMEOUT);
+
+        Set<String> authorizationIds = results.stream().map(Authorization::authorizationId).collect(Collectors.toSet());
+        assertEquals(1, authorizationIds.size());
+        assertEquals(AuthorizationStatus.APPROVED, results.get(0).status());
+        assertEquals(1, counter("payments.coalescer.calls") - callsBefore);
+    }
+
+    @Test
+    @DisplayName("Captures arriving together are sent as one batch")
+    void capturesAreBatched() {
+        List<String> orders = List.of("order-b1", "order-b2", "order-b3", "order-b4", "order-b5");
+        List<Authorization> authorizations = Flux.fromIterable(orders)
+                .flatMap(order -> paymentService.authorize("fake", new AuthorizationRequest(order, 1_000, "UAH")))
+                .collectList()
+                .block(TIMEOUT);
+        long batchesBefore = meterRegistry.get("payments.capture.batch").summary().count();
+
+        List<Capture> captures = Flux.fromIterable(authorizations)
+                .flatMap(authorization -> capture(paymentService, authorization))
+                .collectList()
+                .block(TIMEOUT);
+
+        assertEquals(5, captures.size());
+        assertTrue(captures.stream().allMatch(capture -> capture.status() == CaptureStatus.CAPTURED));
+
+        Capture retried = capture(paymentService, authorizations.get(0)).block(TIMEOUT);
+        assertTrue(captures.contains(retried));
+        assertEquals(1, meterRegistry.get("payments.capture.batch").summary().count() - batchesBefore);
+    }
+
+    @Test
+    @DisplayName("An instance that did not see the authorization still captures it, and a mismatched capture is refused")
+    void captureDoesNotNeedRememberedAuthorization() {
+        Authorization authorization = paymentService.authorize("fake", new AuthorizationRequest("order-elsewhere", 2_000, "UAH"))
+                .block(TIMEOUT);
+        PaymentService otherInstance = new PaymentService(providers, properties, meterRegistry);
+
+        Capture capture = capture(otherInstance, authorization).block(TIMEOUT);
+
+        assertEquals(CaptureStatus.CAPTURED, capture.status());
+        assertThrows(PaymentConflictException.class, () -> paymentService.capture("order-elsewhere", "fake",
+                new CaptureRequest(authorization.authorizationId(), 3_000, "UAH")).block(TIMEOUT));
+    }
+
+    private static Mono<Capture> capture(PaymentService service, Authorization authorization) {
+        return service.capture(authorization.orderId(), authorization.provider(), new CaptureRequest(
+                authorization.authorizationId(), authorization.amountMinor(), authorization.currency()));
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("operation", "authorize").counter().count();
+    }
+}
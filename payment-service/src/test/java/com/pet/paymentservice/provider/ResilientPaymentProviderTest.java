@@ -0,0 +1,73 @@
+package com.pet.paymentservice.provider;
+
+import com.pet.paymentservice.config.PaymentProperties;
+import com.pet.paymentservice.exception.ProviderUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResilientPaymentProviderTest {
+
+    private static final AuthorizationRequest REQUEST = new AuthorizationRequest("order-1", 100, "UAH");
+
+    @Test
+    @DisplayName("Repeated provider failures open the circuit")
+    void failuresOpenTheCircuit() {
+        FakePaymentProvider failing = new FakePaymentProvider("failing",
+                new PaymentProperties.Fake(Duration.ZERO, Duration.ZERO, 1.0, 0.0));
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("failing", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .build());
+        ResilientPaymentProvider provider = new ResilientPaymentProvider(failing, circuitBreaker,
+                Bulkhead.ofDefaults("failing"), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(provider.authorize(REQUEST))
+                    .expectError(ProviderUnavailableException.class)
+                    .verify();
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, provider.getCircuitState());
+        StepVerifier.create(provider.authorize(REQUEST))
+                .expectErrorMatches(e -> e instanceof ProviderUnavailableException
+                        && e.getCause() instanceof CallNotPermittedException)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Calls beyond the bulkhead are rejected without counting against the circuit")
+    void bulkheadRejectsExcessCalls() {
+        PaymentProvider hanging = new FakePaymentProvider("slow",
+                new PaymentProperties.Fake(Duration.ofSeconds(10), Duration.ZERO, 0.0, 0.0));
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("slow");
+        Bulkhead bulkhead = Bulkhead.of("slow", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        ResilientPaymentProvider provider = new ResilientPaymentProvider(hanging, circuitBreaker, bulkhead,
+                Duration.ofSeconds(30));
+
+        Mono<Authorization> first = provider.authorize(REQUEST);
+        StepVerifier.create(first)
+                .thenAwait(Duration.ofMillis(50))
+                .then(() -> StepVerifier.create(provider.authorize(REQUEST))
+                        .expectErrorMatches(e -> e.getCause() instanceof BulkheadFullException)
+                        .verify())
+                .thenCancel()
+                .verify();
+
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+}
@@ -0,0 +1,12 @@
+package com.pet.ticketgenerationservice;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class TicketGenerationServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(TicketGenerationServiceApplication.class, args);
+	}
+}
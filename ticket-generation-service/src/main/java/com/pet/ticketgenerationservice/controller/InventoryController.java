@@ -0,0 +1,110 @@
+package com.pet.ticketgenerationservice.controller;
+
+import com.pet.ticketgenerationservice.dto.HoldRequest;
+import com.pet.ticketgenerationservice.dto.HoldResponse;
+import com.pet.ticketgenerationservice.dto.InventoryResponse;
+import com.pet.ticketgenerationservice.dto.OpenInventoryRequest;
+import com.pet.ticketgenerationservice.inventory.SeatHold;
+import com.pet.ticketgenerationservice.inventory.SeatInventory;
+import com.pet.ticketgenerationservice.inventory.SeatMap;
+import com.pet.ticketgenerationservice.ticket.TicketIds;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/v1/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Inventory API", description = "API для бронювання та продажу місць")
+public class InventoryController {
+
+    private final SeatInventory seatInventory;
+    private final TicketIds ticketIds;
+
+    @Operation(summary = "Відкрити продаж місць", description = "Створює карту місць події. Повторний виклик з тією ж кількістю місць нічого не змінює.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Продаж відкрито"),
+            @ApiResponse(responseCode = "409", description = "Продаж уже відкрито з іншою кількістю місць", content = @Content)
+    })
+    @PutMapping("/{eventId}")
+    public InventoryResponse openInventory(
+            @Parameter(description = "ID події", example = "101") @PathVariable long eventId,
+            @Valid @RequestBody OpenInventoryRequest request) {
+        return toResponse(seatInventory.open(eventId, request.capacity()));
+    }
+
+    @Operation(summary = "Отримати стан місць", description = "Повертає лічильники та бітову карту вільних місць.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Стан місць"),
+            @ApiResponse(responseCode = "404", description = "Продаж на подію не відкрито", content = @Content)
+    })
+    @GetMapping("/{eventId}")
+    public InventoryResponse getInventory(
+            @Parameter(description = "ID події", example = "101") @PathVariable long eventId) {
+        return toResponse(seatInventory.getSeatMap(eventId));
+    }
+
+    @Operation(summary = "Забронювати місця", description = "Бронює вказані місця або задану кількість будь-яких вільних місць на обмежений час.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Місця заброньовано"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Продаж на подію не відкрито", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Місця вже зайняті", content = @Content)
+    })
+    @PostMapping("/{eventId}/holds")
+    @ResponseStatus(HttpStatus.CREATED)
+    public HoldResponse holdSeats(
+            @Parameter(description = "ID події", example = "101") @PathVariable long eventId,
+            @Valid @RequestBody HoldRequest request) {
+        SeatHold hold = request.quantity() != null
+                ? seatInventory.holdAny(eventId, request.quantity())
+                : seatInventory.hold(eventId, request.seats().stream().mapToInt(Integer::intValue).toArray());
+        return HoldResponse.from(hold);
+    }
+
+    @Operation(summary = "Підтвердити бронювання", description = "Продає заброньовані місця. Відповідь надходить після збереження продажу в базі даних і містить ID квитків для завантаження.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Місця продано"),
+            @ApiResponse(responseCode = "404", description = "Бронювання не знайдено або воно вже минуло", content = @Content)
+    })
+    @PostMapping("/holds/{holdId}/confirm")
+    public CompletableFuture<HoldResponse> confirmHold(
+            @Parameter(description = "ID бронювання") @PathVariable long holdId) {
+        return seatInventory.confirm(holdId).thenApply(hold -> HoldResponse.sold(hold, Arrays.stream(hold.seats())
+                .mapToObj(seat -> ticketIds.ticketId(holdId, seat))
+                .toList()));
+    }
+
+    @Operation(summary = "Скасувати бронювання", description = "Повертає заброньовані місця у продаж.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Бронювання скасовано"),
+            @ApiResponse(responseCode = "404", description = "Бронювання не знайдено", content = @Content)
+    })
+    @DeleteMapping("/holds/{holdId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releaseHold(
+            @Parameter(description = "ID бронювання") @PathVariable long holdId) {
+        seatInventory.release(holdId);
+    }
+
+    private static InventoryResponse toResponse(SeatMap seatMap) {
+        long[] words = seatMap.availabilityBitmap();
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(words);
+        return new InventoryResponse(seatMap.getEventId(), seatMap.getCapacity(), seatMap.getAvailable(),
+                seatMap.getHeld(), seatMap.getSold(), Base64.getEncoder().encodeToString(buffer.array()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.pet.ticketgenerationservice.controller;
+
+import com.pet.ticketgenerationservice.dto.TicketLayoutRequest;
+import com.pet.ticketgenerationservice.ticket.TicketIds;
+import com.pet.ticketgenerationservice.ticket.TicketLayoutRegistry;
+import com.pet.ticketgenerationservice.ticket.TicketService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+@RestController
+@RequestMapping("/v1/tickets")
+@RequiredArgsConstructor
+@Tag(name = "Ticket API", description = "API для отримання квитків")
+public class TicketController {
+
+    private final TicketLayoutRegistry layoutRegistry;
+    private final TicketService ticketService;
+    private final TicketIds ticketIds;
+
+    @Operation(summary = "Задати макет квитків події", description = "Компілює незмінну частину квитка для всіх місць події. Лише для внутрішніх викликів: шлюз не пропускає цей запит ззовні.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Макет збережено"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content)
+    })
+    @PutMapping("/layouts/{eventId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void registerLayout(
+            @Parameter(description = "ID події", example = "101") @PathVariable long eventId,
+            @Valid @RequestBody TicketLayoutRequest request) {
+        layoutRegistry.register(eventId, request.eventName(), request.venue(), request.startsAt());
+    }
+
+    @Operation(summary = "Завантажити квиток", description = "Повертає PDF квитка на місце з підписаним QR-кодом. ID квитка видається під час підтвердження бронювання.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "PDF квитка", content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE)),
+            @ApiResponse(responseCode = "404", description = "Квиток не знайдено або ще не випущено", content = @Content)
+    })
+    @GetMapping("/{ticketId}")
+    public void downloadTicket(
+            @Parameter(description = "ID квитка з відповіді на підтвердження бронювання") @PathVariable String ticketId,
+            HttpServletResponse response) throws IOException {
+        TicketIds.TicketRef ticket = ticketIds.resolve(ticketId);
+        long size = ticketService.size(ticket.holdId(), ticket.seat());
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(size);
+        response.setHeader("Content-Disposition", "inline; filename=\"ticket-" + ticket.holdId() + "-" + ticket.seat() + ".pdf\"");
+        ticketService.transferTo(ticket.holdId(), ticket.seat(), Channels.newChannel(response.getOutputStream()));
+    }
+}
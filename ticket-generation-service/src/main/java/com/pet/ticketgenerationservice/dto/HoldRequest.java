@@ -0,0 +1,28 @@
+package com.pet.ticketgenerationservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Запит на бронювання місць: або конкретні місця, або кількість будь-яких вільних")
+public record HoldRequest(
+        @Schema(description = "Номери місць", example = "[10, 11, 12]")
+        @Size(max = 20, message = "За один раз можна забронювати не більше 20 місць")
+        List<Integer> seats,
+
+        @Schema(description = "Кількість будь-яких вільних місць", example = "2")
+        @Min(value = 1, message = "Кількість місць має бути додатною")
+        @Max(value = 20, message = "За один раз можна забронювати не більше 20 місць")
+        Integer quantity
+) {
+    @Schema(hidden = true)
+    @AssertTrue(message = "Вкажіть або seats, або quantity")
+    public boolean isSeatsOrQuantity() {
+        boolean hasSeats = seats != null && !seats.isEmpty();
+        return hasSeats != (quantity != null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.pet.ticketgenerationservice.dto;
+
+import com.pet.ticketgenerationservice.inventory.SeatHold;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Бронювання місць")
+public record HoldResponse(
+        @Schema(description = "Ідентифікатор бронювання", example = "1780000000000001")
+        long holdId,
+
+        @Schema(description = "ID події", example = "101")
+        long eventId,
+
+        @Schema(description = "Заброньовані місця", example = "[10, 11, 12]")
+        int[] seats,
+
+        @Schema(description = "Час, після якого бронювання скасовується")
+        Instant expiresAt,
+
+        @Schema(description = "ID квитків на місця в тому ж порядку, що й seats; лише для проданого бронювання",
+                example = "[\"1780000000000001-10-5f1c0e9a7b3d42c8a6e1f0b9d2c4a8e7\"]")
+        List<String> ticketIds
+) {
+    public static HoldResponse from(SeatHold hold) {
+        return new HoldResponse(hold.holdId(), hold.eventId(), hold.seats(), hold.expiresAt(), List.of());
+    }
+
+    public static HoldResponse sold(SeatHold hold, List<String> ticketIds) {
+        return new HoldResponse(hold.holdId(), hold.eventId(), hold.seats(), hold.expiresAt(), ticketIds);
+    }
+}
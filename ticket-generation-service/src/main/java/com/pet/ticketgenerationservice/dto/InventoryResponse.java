@@ -0,0 +1,25 @@
+package com.pet.ticketgenerationservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Стан продажу місць на подію")
+public record InventoryResponse(
+        @Schema(description = "ID події", example = "101")
+        long eventId,
+
+        @Schema(description = "Загальна кількість місць", example = "50000")
+        int capacity,
+
+        @Schema(description = "Вільні місця", example = "41250")
+        int available,
+
+        @Schema(description = "Заброньовані місця", example = "1250")
+        int held,
+
+        @Schema(description = "Продані місця", example = "7500")
+        int sold,
+
+        @Schema(description = "Бітова карта вільних місць (base64, 64-бітні слова little-endian; біт i — місце i)")
+        String availability
+) {
+}
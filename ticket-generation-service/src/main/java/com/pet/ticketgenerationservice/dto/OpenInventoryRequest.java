@@ -0,0 +1,14 @@
+package com.pet.ticketgenerationservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@Schema(description = "Параметри відкриття продажу місць на подію")
+public record OpenInventoryRequest(
+        @Schema(description = "Кількість місць", example = "50000")
+        @Min(value = 1, message = "Кількість місць має бути додатною")
+        @Max(value = 1_000_000, message = "Кількість місць не може перевищувати 1 000 000")
+        int capacity
+) {
+}
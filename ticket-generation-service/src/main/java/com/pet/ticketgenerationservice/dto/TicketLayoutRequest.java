@@ -0,0 +1,23 @@
+package com.pet.ticketgenerationservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Дані події, що друкуються на квитку")
+public record TicketLayoutRequest(
+        @Schema(description = "Назва події", example = "Концерт симфонічного оркестру")
+        @NotBlank(message = "Назва події не може бути порожньою")
+        @Size(max = 80, message = "Назва події не може перевищувати 80 символів")
+        String eventName,
+
+        @Schema(description = "Місце проведення", example = "Національна філармонія, Київ")
+        @Size(max = 100, message = "Місце проведення не може перевищувати 100 символів")
+        String venue,
+
+        @Schema(description = "Дата та час початку", example = "2025-06-01T19:00:00")
+        LocalDateTime startsAt
+) {
+}
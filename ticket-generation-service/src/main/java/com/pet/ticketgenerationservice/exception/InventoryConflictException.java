@@ -0,0 +1,7 @@
+package com.pet.ticketgenerationservice.exception;
+
+public class InventoryConflictException extends RuntimeException {
+    public InventoryConflictException(String message) {
+        super(message);
+    }
+}
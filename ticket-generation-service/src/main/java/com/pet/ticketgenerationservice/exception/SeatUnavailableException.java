@@ -0,0 +1,7 @@
+package com.pet.ticketgenerationservice.exception;
+
+public class SeatUnavailableException extends RuntimeException {
+    public SeatUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,176 @@
+package com.pet.ticketgenerationservice.expiry;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Drives a {@link TimingWheel} from one ticker thread. {@link #schedule} only enqueues the new
+ * handle on a lock-free queue, and the ticker moves it into the wheel on its next tick, so request
+ * threads never contend on the wheel itself.
+ * <p>
+ * All keys that fall due in one tick are handed to the expiry handler as a single batch.
+ * {@code inventory.hold.expiry.lag} records how late each timeout fired relative to its deadline.
+ */
+@Slf4j
+@Component
+public class ExpiryScheduler implements SmartLifecycle {
+
+    private static final long ORIGIN_NANOS = System.nanoTime();
+
+    private final Queue<TimeoutHandle> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final TimingWheel wheel;
+    private final Timer lagTimer;
+    private final DistributionSummary batchSize;
+
+    private volatile Consumer<long[]> expiredHandler = keys -> { };
+    private volatile boolean running;
+    private Thread ticker;
+
+    public ExpiryScheduler(MeterRegistry meterRegistry,
+                           @Value("${inventory.hold.expiry.tick:PT0.01S}") Duration tick) {
+        this.wheel = new TimingWheel(tick.toMillis(), nowMs());
+        this.lagTimer = Timer.builder("inventory.hold.expiry.lag")
+                .description("Delay between a hold's deadline and its release")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("inventory.hold.expiry.batch")
+                .description("Holds released per expiry batch")
+                .register(meterRegistry);
+        Gauge.builder("inventory.hold.expiry.pending", pending, AtomicLong::get)
+                .description("Scheduled hold timeouts not yet fired or cancelled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sets the callback that receives the keys of each batch of expired timeouts. It runs on the
+     * ticker thread and should not block for long.
+     */
+    public void onExpired(Consumer<long[]> handler) {
+        this.expiredHandler = handler;
+    }
+
+    /**
+     * Creates a timeout for {@code key} due {@code delay} from now without scheduling it yet, so
+     * callers can publish the handle before it can possibly fire.
+     */
+    public TimeoutHandle newTimeout(long key, Duration delay) {
+        return new TimeoutHandle(key, nowMs() + delay.toMillis());
+    }
+
+    public void schedule(TimeoutHandle handle) {
+        pending.incrementAndGet();
+        incoming.offer(handle);
+    }
+
+    public void cancel(TimeoutHandle handle) {
+        if (handle.cancel()) {
+            pending.decrementAndGet();
+        }
+    }
+
+    public long getPending() {
+        return pending.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        ticker = new Thread(this::runTicker, "hold-expiry-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            LockSupport.unpark(ticker);
+            try {
+                ticker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runTicker() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(wheel.getTickMs());
+        LongBatch batch = new LongBatch();
+        while (running) {
+            LockSupport.parkNanos(tickNanos);
+            try {
+                tick(batch);
+            } catch (RuntimeException e) {
+                log.error("Hold expiry tick failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void tick(LongBatch batch) {
+        TimeoutHandle handle;
+        while ((handle = incoming.poll()) != null) {
+            wheel.add(handle);
+        }
+        long now = nowMs();
+        wheel.advanceTo(now, expired -> {
+            lagTimer.record(Math.max(0, now - expired.deadlineMs()), TimeUnit.MILLISECONDS);
+            batch.add(expired.key());
+        });
+        if (batch.size() > 0) {
+            pending.addAndGet(-batch.size());
+            batchSize.record(batch.size());
+            expiredHandler.accept(batch.toArray());
+        }
+    }
+
+    private static long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ORIGIN_NANOS);
+    }
+
+    private static final class LongBatch {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
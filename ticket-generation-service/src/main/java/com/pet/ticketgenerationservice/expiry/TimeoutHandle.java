@@ -0,0 +1,51 @@
+package com.pet.ticketgenerationservice.expiry;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A scheduled timeout. Cancelling only flips a flag, so it is O(1) and safe from any thread; the
+ * wheel drops cancelled handles the next time it touches their slot.
+ */
+public final class TimeoutHandle {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int FIRED = 2;
+    private static final AtomicIntegerFieldUpdater<TimeoutHandle> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(TimeoutHandle.class, "state");
+
+    private final long key;
+    private final long deadlineMs;
+    private volatile int state;
+
+    // Slot chain, touched only by the thread that owns the wheel.
+    TimeoutHandle next;
+
+    TimeoutHandle(long key, long deadlineMs) {
+        this.key = key;
+        this.deadlineMs = deadlineMs;
+    }
+
+    public long key() {
+        return key;
+    }
+
+    public long deadlineMs() {
+        return deadlineMs;
+    }
+
+    /**
+     * @return {@code true} if the timeout was still pending and will now never fire
+     */
+    public boolean cancel() {
+        return STATE.compareAndSet(this, PENDING, CANCELLED);
+    }
+
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    boolean markFired() {
+        return STATE.compareAndSet(this, PENDING, FIRED);
+    }
+}
@@ -0,0 +1,148 @@
+package com.pet.ticketgenerationservice.expiry;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel in the layout of the classic Linux kernel timer: a 256-slot root
+ * wheel of single ticks plus four 64-slot wheels, each slot of which spans a full turn of the
+ * wheel below. Adding a timeout is O(1); whenever the root wheel wraps, the next slot of the
+ * wheel above is cascaded (its timeouts re-placed one level down), so each timeout is touched at
+ * most once per level before it fires.
+ * <p>
+ * Not thread-safe: one thread owns the wheel (see {@link ExpiryScheduler}). Cancelled handles are
+ * dropped when their slot is processed, which keeps cancel O(1) for other threads.
+ */
+public class TimingWheel {
+
+    private static final int ROOT_BITS = 8;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_TICKS = (1L << (ROOT_BITS + LEVELS * LEVEL_BITS)) - 1;
+
+    private final long tickMs;
+    private final TimeoutHandle[] root = new TimeoutHandle[ROOT_SIZE];
+    private final TimeoutHandle[][] levels = new TimeoutHandle[LEVELS][LEVEL_SIZE];
+
+    // Next tick to process.
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMs, long startMs) {
+        if (tickMs < 1) {
+            throw new IllegalArgumentException("tickMs must be positive: " + tickMs);
+        }
+        this.tickMs = tickMs;
+        this.currentTick = startMs / tickMs;
+    }
+
+    public void add(TimeoutHandle handle) {
+        size++;
+        place(handle);
+    }
+
+    /**
+     * Processes every tick up to {@code nowMs} and hands each due, non-cancelled timeout to
+     * {@code expired}.
+     *
+     * @return the number of timeouts fired
+     */
+    public int advanceTo(long nowMs, Consumer<TimeoutHandle> expired) {
+        long targetTick = nowMs / tickMs;
+        int fired = 0;
+        while (currentTick <= targetTick) {
+            int index = (int) (currentTick & ROOT_MASK);
+            if (index == 0) {
+                for (int level = 0; level < LEVELS; level++) {
+                    int slot = (int) ((currentTick >>> (ROOT_BITS + level * LEVEL_BITS)) & LEVEL_MASK);
+                    cascade(level, slot);
+                    if (slot != 0) {
+                        break;
+                    }
+                }
+            }
+            TimeoutHandle handle = root[index];
+            root[index] = null;
+            long processedTick = currentTick++;
+            while (handle != null) {
+                TimeoutHandle next = handle.next;
+                handle.next = null;
+                if (handle.isCancelled()) {
+                    size--;
+                } else if (expiryTick(handle) > processedTick) {
+                    // Deadline was beyond the wheel's range when added; place it again.
+                    place(handle);
+                } else {
+                    size--;
+                    if (handle.markFired()) {
+                        expired.accept(handle);
+                        fired++;
+                    }
+                }
+                handle = next;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Timeouts in the wheel, including cancelled ones not yet dropped.
+     */
+    public int size() {
+        return size;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    private void cascade(int level, int slot) {
+        TimeoutHandle handle = levels[level][slot];
+        levels[level][slot] = null;
+        while (handle != null) {
+            TimeoutHandle next = handle.next;
+            handle.next = null;
+            if (handle.isCancelled()) {
+                size--;
+            } else {
+                place(handle);
+            }
+            handle = next;
+        }
+    }
+
+    private void place(TimeoutHandle handle) {
+        long expires = expiryTick(handle);
+        long delta = expires - currentTick;
+        if (delta < 0) {
+            expires = currentTick;
+            delta = 0;
+        } else if (delta > MAX_TICKS) {
+            expires = currentTick + MAX_TICKS;
+            delta = MAX_TICKS;
+        }
+        if (delta < ROOT_SIZE) {
+            push(root, (int) (expires & ROOT_MASK), handle);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = ROOT_BITS + level * LEVEL_BITS;
+            if (delta < 1L << (shift + LEVEL_BITS)) {
+                push(levels[level], (int) ((expires >>> shift) & LEVEL_MASK), handle);
+                return;
+            }
+        }
+    }
+
+    private long expiryTick(TimeoutHandle handle) {
+        return Math.floorDiv(handle.deadlineMs() + tickMs - 1, tickMs);
+    }
+
+    private static void push(TimeoutHandle[] slots, int slot, TimeoutHandle handle) {
+        handle.next = slots[slot];
+        slots[slot] = handle;
+    }
+}
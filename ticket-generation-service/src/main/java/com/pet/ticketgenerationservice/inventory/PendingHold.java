@@ -0,0 +1,9 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import com.pet.ticketgenerationservice.expiry.TimeoutHandle;
+
+/**
+ * An active hold together with its scheduled expiry.
+ */
+record PendingHold(SeatHold hold, TimeoutHandle timeout) {
+}
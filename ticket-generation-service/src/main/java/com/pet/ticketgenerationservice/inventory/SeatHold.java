@@ -0,0 +1,13 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import java.time.Instant;
+
+/**
+ * Seats of one event reserved for a checkout until {@code expiresAt}.
+ */
+public record SeatHold(long holdId, long eventId, int[] seats, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,239 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import com.pet.ticketgenerationservice.exception.InventoryConflictException;
+import com.pet.ticketgenerationservice.exception.ResourceNotFoundException;
+import com.pet.ticketgenerationservice.exception.SeatUnavailableException;
+import com.pet.ticketgenerationservice.expiry.ExpiryScheduler;
+import com.pet.ticketgenerationservice.expiry.TimeoutHandle;
+import com.pet.ticketgenerationservice.persistence.SeatInventoryRepository;
+import com.pet.ticketgenerationservice.persistence.SeatLogWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Seat inventory of every open event, held in memory as {@link SeatMap}s and persisted through
+ * the write-behind {@link SeatLogWriter}.
+ * <p>
+ * A hold lives in {@link #holds} until exactly one of confirm, release or expiry removes it;
+ * whoever wins that removal owns the seats' next transition, so the three can race freely.
+ * Expiry is driven by the timing wheel in {@link ExpiryScheduler}, which hands over due holds in
+ * batches; confirm and release cancel the pending timeout.
+ * Hold IDs are unique across restarts because sold seats keep the ID of the hold that bought them.
+ */
+@Slf4j
+@Component
+public class SeatInventory {
+
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+    private final Map<Long, PendingHold> holds = new ConcurrentHashMap<>();
+    private final AtomicLong holdIds = new AtomicLong();
+
+    private final SeatInventoryRepository repository;
+    private final SeatLogWriter seatLogWriter;
+    private final ExpiryScheduler expiryScheduler;
+    private final Clock clock;
+    private final Duration holdTtl;
+    private final Counter holdsCreated;
+    private final Counter holdsRejected;
+    private final Counter holdsReleased;
+    private final Counter holdsConfirmed;
+    private final Counter holdsExpired;
+
+    private volatile Consumer<SeatHold> soldHandler = hold -> { };
+
+    public SeatInventory(SeatInventoryRepository repository,
+                         SeatLogWriter seatLogWriter,
+                         ExpiryScheduler expiryScheduler,
+                         MeterRegistry meterRegistry,
+                         @Value("${inventory.hold.ttl:PT10M}") Duration holdTtl) {
+        this.repository = repository;
+        this.seatLogWriter = seatLogWriter;
+        this.expiryScheduler = expiryScheduler;
+        this.clock = Clock.systemUTC();
+        this.holdTtl = holdTtl;
+        this.holdsCreated = holdCounter(meterRegistry, "created");
+        this.holdsRejected = holdCounter(meterRegistry, "rejected");
+        this.holdsReleased = holdCounter(meterRegistry, "released");
+        this.holdsConfirmed = holdCounter(meterRegistry, "confirmed");
+        this.holdsExpired = holdCounter(meterRegistry, "expired");
+        expiryScheduler.onExpired(this::expireHolds);
+    }
+
+    /**
+     * Rebuilds seat maps from the database. Holds are not restored: they are short-lived and the
+     * clients that owned them have to retry anyway, so only sold seats come back.
+     */
+    @PostConstruct
+    void restore() {
+        repository.findAllInventories()
+                .forEach(row -> seatMaps.put(row.eventId(), new SeatMap(row.eventId(), row.capacity())));
+        int restored = 0;
+        for (SeatInventoryRepository.SoldSeatRow row : repository.findSoldSeats()) {
+            SeatMap seatMap = seatMaps.get(row.eventId());
+            if (seatMap != null) {
+                seatMap.restoreSold(row.seat(), row.holdId());
+                restored++;
+            }
+        }
+        holdIds.set(Math.max(repository.findMaxHoldId(), clock.millis() << 20));
+        log.info("Restored inventory of {} events with {} sold seats", seatMaps.size(), restored);
+    }
+
+    /**
+     * Opens the inventory of an event. Opening again with the same capacity is a no-op.
+     */
+    public synchronized SeatMap open(long eventId, int capacity) {
+        SeatMap existing = seatMaps.get(eventId);
+        if (existing != null) {
+            if (existing.getCapacity() != capacity) {
+                throw new InventoryConflictException("Inventory for event " + eventId
+                        + " is already open with capacity " + existing.getCapacity());
+            }
+            return existing;
+        }
+        SeatMap seatMap = new SeatMap(eventId, capacity);
+        repository.insertInventory(eventId, capacity);
+        seatMaps.put(eventId, seatMap);
+        return seatMap;
+    }
+
+    public SeatMap getSeatMap(long eventId) {
+        SeatMap seatMap = seatMaps.get(eventId);
+        if (seatMap == null) {
+            throw new ResourceNotFoundException("Inventory not found for event: " + eventId);
+        }
+        return seatMap;
+    }
+
+    public SeatHold hold(long eventId, int[] seats) {
+        SeatMap seatMap = getSeatMap(eventId);
+        long holdId = holdIds.incrementAndGet();
+        if (!seatMap.tryHold(seats, holdId)) {
+            holdsRejected.increment();
+            throw new SeatUnavailableException("Some of the requested seats are no longer available");
+        }
+        return register(eventId, seats.clone(), holdId);
+    }
+
+    public SeatHold holdAny(long eventId, int quantity) {
+        SeatMap seatMap = getSeatMap(eventId);
+        long holdId = holdIds.incrementAndGet();
+        int[] seats = seatMap.tryHoldAny(quantity, holdId);
+        if (seats == null) {
+            holdsRejected.increment();
+            throw new SeatUnavailableException("Not enough seats available: requested " + quantity);
+        }
+        return register(eventId, seats, holdId);
+    }
+
+    public void release(long holdId) {
+        SeatHold hold = claim(holdId);
+        freeSeats(hold);
+        holdsReleased.increment();
+    }
+
+    /**
+     * Sets the callback that receives every hold whose sale has been committed. It runs on the
+     * seat log writer thread and should hand off anything slow. A failing callback is logged and
+     * does not affect the sale, which is already committed by then.
+     */
+    public void onSold(Consumer<SeatHold> handler) {
+        this.soldHandler = handler;
+    }
+
+    /**
+     * Sells the seats of a hold. The returned future completes once the sale is committed to the
+     * database; the seats are already unavailable to everyone else when this method returns.
+     */
+    public CompletableFuture<SeatHold> confirm(long holdId) {
+        SeatHold hold = claim(holdId);
+        if (hold.isExpired(clock.instant())) {
+            freeSeats(hold);
+            holdsExpired.increment();
+            throw new ResourceNotFoundException("Hold has expired: " + holdId);
+        }
+        getSeatMap(hold.eventId()).confirm(hold.seats(), holdId);
+        holdsConfirmed.increment();
+        CompletableFuture<Void> durable = seatLogWriter.append(hold.eventId(), hold.seats(), SeatState.SOLD, holdId);
+        durable.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                notifySold(hold);
+            }
+        });
+        return durable.thenApply(ignored -> hold);
+    }
+
+    private void notifySold(SeatHold hold) {
+        try {
+            soldHandler.accept(hold);
+        } catch (RuntimeException e) {
+            log.error("Sold handler failed for committed hold {}", hold.holdId(), e);
+        }
+    }
+
+    /**
+     * Releases a batch of holds whose timeouts fired. Holds already confirmed or released are
+     * skipped.
+     *
+     * @return the number of holds released
+     */
+    public int expireHolds(long[] holdIds) {
+        int expired = 0;
+        for (long holdId : holdIds) {
+            PendingHold pending = holds.remove(holdId);
+            if (pending != null) {
+                freeSeats(pending.hold());
+                expired++;
+            }
+        }
+        holdsExpired.increment(expired);
+        return expired;
+    }
+
+    public int getActiveHolds() {
+        return holds.size();
+    }
+
+    private SeatHold register(long eventId, int[] seats, long holdId) {
+        SeatHold hold = new SeatHold(holdId, eventId, seats, clock.instant().plus(holdTtl));
+        TimeoutHandle timeout = expiryScheduler.newTimeout(holdId, holdTtl);
+        holds.put(holdId, new PendingHold(hold, timeout));
+        expiryScheduler.schedule(timeout);
+        seatLogWriter.append(eventId, seats, SeatState.HELD, holdId);
+        holdsCreated.increment();
+        return hold;
+    }
+
+    private SeatHold claim(long holdId) {
+        PendingHold pending = holds.remove(holdId);
+        if (pending == null) {
+            throw new ResourceNotFoundException("Hold not found: " + holdId);
+        }
+        expiryScheduler.cancel(pending.timeout());
+        return pending.hold();
+    }
+
+    private void freeSeats(SeatHold hold) {
+        getSeatMap(hold.eventId()).release(hold.seats(), hold.holdId());
+        seatLogWriter.append(hold.eventId(), hold.seats(), SeatState.FREE, hold.holdId());
+    }
+
+    private static Counter holdCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.holds")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
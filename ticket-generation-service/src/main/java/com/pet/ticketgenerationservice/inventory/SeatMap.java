@@ -0,0 +1,184 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seat states of one event, one {@code long} per seat, changed only by CAS:
+ * <ul>
+ *     <li>{@code 0} - free</li>
+ *     <li>{@code holdId > 0} - held by that hold</li>
+ *     <li>{@code -holdId} - sold through that hold</li>
+ * </ul>
+ * A seat can only leave the free state through a successful CAS from {@code 0}, so two holds can
+ * never own the same seat and nothing can be sold twice. Multi-seat holds claim seats one by one
+ * and give back what they already took if a later seat is gone, so they are all-or-nothing
+ * without any lock.
+ */
+public class SeatMap {
+
+    public static final long FREE = 0L;
+
+    private final long eventId;
+    private final AtomicLongArray seats;
+    private final AtomicInteger available;
+    private final AtomicInteger sold = new AtomicInteger();
+
+    public SeatMap(long eventId, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.eventId = eventId;
+        this.seats = new AtomicLongArray(capacity);
+        this.available = new AtomicInteger(capacity);
+    }
+
+    /**
+     * Holds exactly the given seats or none of them.
+     */
+    public boolean tryHold(int[] seatNumbers, long holdId) {
+        requireHoldId(holdId);
+        for (int seat : seatNumbers) {
+            checkSeat(seat);
+        }
+        for (int i = 0; i < seatNumbers.length; i++) {
+            if (!seats.compareAndSet(seatNumbers[i], FREE, holdId)) {
+                rollback(seatNumbers, i, holdId);
+                return false;
+            }
+        }
+        available.addAndGet(-seatNumbers.length);
+        return true;
+    }
+
+    /**
+     * Holds any {@code quantity} free seats. The scan starts at a random position so concurrent
+     * callers mostly race for different seats instead of all fighting over the first free ones.
+     *
+     * @return the held seats, or {@code null} if fewer than {@code quantity} were free
+     */
+    public int[] tryHoldAny(int quantity, long holdId) {
+        requireHoldId(holdId);
+        if (quantity < 1 || available.get() < quantity) {
+            return null;
+        }
+        int capacity = seats.length();
+        int[] taken = new int[quantity];
+        int count = 0;
+        int start = ThreadLocalRandom.current().nextInt(capacity);
+        for (int i = 0; i < capacity && count < quantity; i++) {
+            int seat = start + i < capacity ? start + i : start + i - capacity;
+            if (seats.get(seat) == FREE && seats.compareAndSet(seat, FREE, holdId)) {
+                taken[count++] = seat;
+            }
+        }
+        if (count < quantity) {
+            rollback(taken, count, holdId);
+            return null;
+        }
+        available.addAndGet(-quantity);
+        return taken;
+    }
+
+    /**
+     * Returns the seats of a hold to the free pool. Seats no longer owned by the hold are skipped.
+     *
+     * @return the number of seats released
+     */
+    public int release(int[] seatNumbers, long holdId) {
+        int released = 0;
+        for (int seat : seatNumbers) {
+            if (seats.compareAndSet(seat, holdId, FREE)) {
+                released++;
+            }
+        }
+        available.addAndGet(released);
+        return released;
+    }
+
+    /**
+     * Turns the seats of a hold into sold seats.
+     *
+     * @return the number of seats confirmed
+     */
+    public int confirm(int[] seatNumbers, long holdId) {
+        int confirmed = 0;
+        for (int seat : seatNumbers) {
+            if (seats.compareAndSet(seat, holdId, -holdId)) {
+                confirmed++;
+            }
+        }
+        sold.addAndGet(confirmed);
+        return confirmed;
+    }
+
+    /**
+     * Marks a seat as sold while rebuilding state from the persisted log.
+     */
+    void restoreSold(int seat, long holdId) {
+        long previous = seats.getAndSet(checkSeat(seat), -Math.abs(holdId));
+        if (previous == FREE) {
+            available.decrementAndGet();
+            sold.incrementAndGet();
+        }
+    }
+
+    /**
+     * Snapshot of free seats as a bitset: bit {@code i} of word {@code i / 64} is set when seat
+     * {@code i} is free.
+     */
+    public long[] availabilityBitmap() {
+        int capacity = seats.length();
+        long[] words = new long[(capacity + 63) >>> 6];
+        for (int seat = 0; seat < capacity; seat++) {
+            if (seats.get(seat) == FREE) {
+                words[seat >>> 6] |= 1L << seat;
+            }
+        }
+        return words;
+    }
+
+    public long state(int seat) {
+        return seats.get(checkSeat(seat));
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    public int getCapacity() {
+        return seats.length();
+    }
+
+    public int getAvailable() {
+        return available.get();
+    }
+
+    public int getSold() {
+        return sold.get();
+    }
+
+    public int getHeld() {
+        return seats.length() - available.get() - sold.get();
+    }
+
+    private void rollback(int[] seatNumbers, int count, long holdId) {
+        for (int i = 0; i < count; i++) {
+            seats.compareAndSet(seatNumbers[i], holdId, FREE);
+        }
+    }
+
+    private int checkSeat(int seat) {
+        if (seat < 0 || seat >= seats.length()) {
+            throw new IllegalArgumentException("Seat " + seat + " does not exist for event " + eventId);
+        }
+        return seat;
+    }
+
+    private static void requireHoldId(long holdId) {
+        if (holdId <= 0) {
+            throw new IllegalArgumentException("holdId must be positive: " + holdId);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.pet.ticketgenerationservice.inventory;
+
+/**
+ * Seat states as written to the seat log.
+ */
+public enum SeatState {
+    FREE(0),
+    HELD(1),
+    SOLD(2);
+
+    private final short code;
+
+    SeatState(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+}
@@ -0,0 +1,65 @@
+package com.pet.ticketgenerationservice.persistence;
+
+import com.pet.ticketgenerationservice.inventory.SeatState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Synchronous access to the inventory tables: opening an inventory (rare) and reading the log
+ * back at startup. High-volume seat transitions go through {@link SeatLogWriter} instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatInventoryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record InventoryRow(long eventId, int capacity) {
+    }
+
+    public record SoldSeatRow(long eventId, int seat, long holdId) {
+    }
+
+    public void insertInventory(long eventId, int capacity) {
+        jdbcTemplate.update("insert into seat_inventory (event_id, capacity, opened_at) values (?, ?, ?)",
+                eventId, capacity, Timestamp.from(Instant.now()));
+    }
+
+    public List<InventoryRow> findAllInventories() {
+        return jdbcTemplate.query("select event_id, capacity from seat_inventory",
+                (rs, rowNum) -> new InventoryRow(rs.getLong("event_id"), rs.getInt("capacity")));
+    }
+
+    /**
+     * Sold is terminal, so any SOLD entry in the log is a seat that is still sold.
+     */
+    public List<SoldSeatRow> findSoldSeats() {
+        return jdbcTemplate.query("select event_id, seat_no, hold_id from seat_log where state = ?",
+                (rs, rowNum) -> new SoldSeatRow(rs.getLong("event_id"), rs.getInt("seat_no"), rs.getLong("hold_id")),
+                SeatState.SOLD.code());
+    }
+
+    /**
+     * Served by the hold ID index. Compaction may have pruned the newest holds, but only those
+     * older than its retention, and hold IDs are also seeded from the clock.
+     */
+    public long findMaxHoldId() {
+        Long max = jdbcTemplate.queryForObject("select max(hold_id) from seat_log", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * Deletes HELD and FREE entries logged before {@code cutoff}; SOLD entries are kept.
+     *
+     * @return the number of entries deleted
+     */
+    public int deleteTransientBefore(Instant cutoff) {
+        return jdbcTemplate.update("delete from seat_log where state in (?, ?) and logged_at < ?",
+                SeatState.FREE.code(), SeatState.HELD.code(), Timestamp.from(cutoff));
+    }
+}
@@ -0,0 +1,39 @@
+package com.pet.ticketgenerationservice.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps {@code seat_log} proportional to the seats sold rather than to every transition ever made.
+ * <p>
+ * Sold is terminal, so a seat's SOLD entry is its latest lasting state and is kept. HELD and FREE
+ * entries are only read back while they are the newest hold IDs (see
+ * {@link SeatInventoryRepository#findMaxHoldId()}), so they are deleted once older than the
+ * retention, which leaves a window for inspecting recent holds.
+ */
+@Slf4j
+@Component
+public class SeatLogCompactor {
+
+    private final SeatInventoryRepository repository;
+    private final Duration retention;
+
+    public SeatLogCompactor(SeatInventoryRepository repository,
+                            @Value("${inventory.log.transient-retention:PT1H}") Duration retention) {
+        this.repository = repository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.log.compaction-interval:PT10M}")
+    public void compact() {
+        int deleted = repository.deleteTransientBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Pruned {} hold and release entries from the seat log", deleted);
+        }
+    }
+}
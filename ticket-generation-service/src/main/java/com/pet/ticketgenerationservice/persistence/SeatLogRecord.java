@@ -0,0 +1,14 @@
+package com.pet.ticketgenerationservice.persistence;
+
+import com.pet.ticketgenerationservice.inventory.SeatState;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One inventory operation waiting to be written: every seat of a hold moving to {@code state}.
+ * {@code durable} completes once the rows are committed.
+ */
+record SeatLogRecord(long eventId, int[] seats, SeatState state, long holdId, Instant loggedAt,
+                     CompletableFuture<Void> durable) {
+}
@@ -0,0 +1,213 @@
+package com.pet.ticketgenerationservice.persistence;
+
+import com.pet.ticketgenerationservice.inventory.SeatState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind log of seat transitions. Callers enqueue and return immediately; a single writer
+ * thread drains whatever has accumulated and inserts it into {@code seat_log} as one JDBC batch
+ * in one transaction, so the database sees a few large commits instead of one per seat.
+ * <p>
+ * Each append returns a future that completes after its batch commits. Holds ignore it; confirms
+ * wait on it, which makes a sale durable before it is acknowledged while still sharing the commit
+ * with everything else in the batch. A failed batch is retried with backoff rather than dropped.
+ * The bounded queue pushes back on callers if the database falls behind for long.
+ */
+@Slf4j
+@Component
+public class SeatLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "insert into seat_log (event_id, seat_no, state, hold_id, logged_at) values (?, ?, ?, ?, ?)";
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<SeatLogRecord> queue;
+    private final int maxBatchRecords;
+    private final Duration retryBackoff;
+    private final Timer flushTimer;
+    private final DistributionSummary batchRows;
+    private final Counter flushFailures;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public SeatLogWriter(JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         MeterRegistry meterRegistry,
+                         @Value("${inventory.log.queue-capacity:100000}") int queueCapacity,
+                         @Value("${inventory.log.max-batch:2000}") int maxBatchRecords,
+                         @Value("${inventory.log.retry-backoff:PT0.1S}") Duration retryBackoff) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchRecords = maxBatchRecords;
+        this.retryBackoff = retryBackoff;
+        this.flushTimer = Timer.builder("inventory.log.flush")
+                .description("Time to write and commit one seat log batch")
+                .register(meterRegistry);
+        this.batchRows = DistributionSummary.builder("inventory.log.batch.rows")
+                .description("Seat log rows per committed batch")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("inventory.log.flush.failures")
+                .description("Seat log batches that failed and were retried")
+                .register(meterRegistry);
+        Gauge.builder("inventory.log.queue.size", queue, BlockingQueue::size)
+                .description("Seat log operations waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the transition of {@code seats} to {@code state}, blocking only if the queue is full.
+     *
+     * @return a future completed once the transition is committed
+     */
+    public CompletableFuture<Void> append(long eventId, int[] seats, SeatState state, long holdId) {
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        SeatLogRecord record = new SeatLogRecord(eventId, seats, state, holdId, Instant.now(), durable);
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            durable.completeExceptionally(e);
+        }
+        return durable;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "seat-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server, so no request can append to a stopped writer.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void runWriter() {
+        List<SeatLogRecord> batch = new ArrayList<>(maxBatchRecords);
+        while (running || !queue.isEmpty()) {
+            try {
+                SeatLogRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchRecords - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(record -> record.durable().completeExceptionally(e));
+                break;
+            } catch (RuntimeException e) {
+                log.error("Seat log batch of {} operations failed unexpectedly", batch.size(), e);
+                batch.forEach(record -> record.durable().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<SeatLogRecord> batch) throws InterruptedException {
+        Duration backoff = retryBackoff;
+        while (true) {
+            try {
+                flush(batch);
+                batch.forEach(record -> record.durable().complete(null));
+                return;
+            } catch (RuntimeException e) {
+                // Includes TransactionException, e.g. no connection could be had for the transaction.
+                flushFailures.increment();
+                if (!running) {
+                    log.error("Dropping {} seat log operations during shutdown", batch.size(), e);
+                    batch.forEach(record -> record.durable().completeExceptionally(e));
+                    return;
+                }
+                log.warn("Seat log batch of {} operations failed, retrying in {}", batch.size(), backoff, e);
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void flush(List<SeatLogRecord> batch) {
+        int rowCount = 0;
+        for (SeatLogRecord record : batch) {
+            rowCount += record.seats().length;
+        }
+        int[] recordIndex = new int[rowCount];
+        int[] seatIndex = new int[rowCount];
+        int row = 0;
+        for (int r = 0; r < batch.size(); r++) {
+            for (int s = 0; s < batch.get(r).seats().length; s++) {
+                recordIndex[row] = r;
+                seatIndex[row] = s;
+                row++;
+            }
+        }
+        int rows = rowCount;
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        SeatLogRecord record = batch.get(recordIndex[i]);
+                        ps.setLong(1, record.eventId());
+                        ps.setInt(2, record.seats()[seatIndex[i]]);
+                        ps.setShort(3, record.state().code());
+                        ps.setLong(4, record.holdId());
+                        ps.setTimestamp(5, Timestamp.from(record.loggedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows;
+                    }
+                })));
+        batchRows.record(rows);
+    }
+}
@@ -0,0 +1,96 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Low-level helpers for writing PDF syntax straight into a {@link ByteBuffer}, without building
+ * intermediate strings per ticket.
+ */
+final class PdfBytes {
+
+    // The standard Type 1 fonts have no Cyrillic glyphs, so Ukrainian text is transliterated
+    // following the national romanization (KMU 2010).
+    private static final Map<Character, String> TRANSLITERATION = Map.ofEntries(
+            Map.entry('а', "a"), Map.entry('б', "b"), Map.entry('в', "v"), Map.entry('г', "h"),
+            Map.entry('ґ', "g"), Map.entry('д', "d"), Map.entry('е', "e"), Map.entry('є', "ie"),
+            Map.entry('ж', "zh"), Map.entry('з', "z"), Map.entry('и', "y"), Map.entry('і', "i"),
+            Map.entry('ї', "i"), Map.entry('й', "i"), Map.entry('к', "k"), Map.entry('л', "l"),
+            Map.entry('м', "m"), Map.entry('н', "n"), Map.entry('о', "o"), Map.entry('п', "p"),
+            Map.entry('р', "r"), Map.entry('с', "s"), Map.entry('т', "t"), Map.entry('у', "u"),
+            Map.entry('ф', "f"), Map.entry('х', "kh"), Map.entry('ц', "ts"), Map.entry('ч', "ch"),
+            Map.entry('ш', "sh"), Map.entry('щ', "shch"), Map.entry('ь', ""), Map.entry('ю', "iu"),
+            Map.entry('я', "ia"), Map.entry('ы', "y"), Map.entry('э', "e"), Map.entry('ё', "io"),
+            Map.entry('ъ', ""), Map.entry('\'', "'"), Map.entry('’', "'"));
+
+    private PdfBytes() {
+    }
+
+    static void ascii(ByteBuffer buffer, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    static void number(ByteBuffer buffer, long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        if (value >= 10) {
+            number(buffer, value / 10);
+        }
+        buffer.put((byte) ('0' + value % 10));
+    }
+
+    /**
+     * Writes {@code value} left-padded with zeros to {@code width} digits, as xref entries and
+     * placeholders that are patched in place need.
+     */
+    static void padded(ByteBuffer buffer, int position, long value, int width) {
+        for (int i = width - 1; i >= 0; i--) {
+            buffer.put(position + i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+    }
+
+    static void padded(ByteBuffer buffer, long value, int width) {
+        padded(buffer, buffer.position(), value, width);
+        buffer.position(buffer.position() + width);
+    }
+
+    /**
+     * Converts text to a PDF literal string in WinAnsiEncoding, including the parentheses.
+     */
+    static String literal(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 2).append('(');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char lower = Character.toLowerCase(c);
+            String transliterated = TRANSLITERATION.get(lower);
+            if (transliterated != null) {
+                out.append(c != lower && !transliterated.isEmpty()
+                        ? Character.toUpperCase(transliterated.charAt(0)) + transliterated.substring(1)
+                        : transliterated);
+            } else if (c == '(' || c == ')' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c >= 0x20 && c <= 0x7E || c >= 0xA0 && c <= 0xFF) {
+                out.append(c);
+            } else {
+                out.append('?');
+            }
+        }
+        return out.append(')').toString();
+    }
+
+    /**
+     * Latin-1 bytes of a string produced by {@link #literal}.
+     */
+    static byte[] latin1(String text) {
+        byte[] bytes = new byte[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,71 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Signs the payload of a ticket's QR code so that gates can check a ticket offline.
+ * <p>
+ * The payload is {@code BS1:<eventId>:<holdId>:<seat>:<mac>}, where {@code mac} is the first 128
+ * bits of an HMAC-SHA256 over the rest, in upper-case hex. Everything stays within the QR
+ * alphanumeric alphabet, which packs denser than byte mode.
+ */
+@Component
+public class QrCodeSigner {
+
+    private static final String PREFIX = "BS1:";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_BYTES = 16;
+    private static final HexFormat HEX = HexFormat.of().withUpperCase();
+
+    private final ThreadLocal<Mac> macs;
+
+    public QrCodeSigner(@Value("${tickets.qr.secret}") String secret) {
+        if (secret.length() < 32) {
+            throw new IllegalArgumentException("tickets.qr.secret must be at least 32 characters long");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    public String sign(long eventId, long holdId, int seat) {
+        String data = PREFIX + eventId + ":" + holdId + ":" + seat;
+        return data + ":" + HEX.formatHex(mac(data), 0, MAC_BYTES);
+    }
+
+    /**
+     * Checks a scanned payload in constant time.
+     */
+    public boolean verify(String payload) {
+        int separator = payload.lastIndexOf(':');
+        if (!payload.startsWith(PREFIX) || separator < 0 || payload.length() - separator - 1 != 2 * MAC_BYTES) {
+            return false;
+        }
+        byte[] expected = new byte[MAC_BYTES];
+        System.arraycopy(mac(payload.substring(0, separator)), 0, expected, 0, MAC_BYTES);
+        try {
+            return MessageDigest.isEqual(expected, HEX.parseHex(payload, separator + 1, payload.length()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] mac(String data) {
+        return macs.get().doFinal(data.getBytes(StandardCharsets.US_ASCII));
+    }
+}
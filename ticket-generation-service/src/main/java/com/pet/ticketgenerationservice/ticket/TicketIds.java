@@ -0,0 +1,84 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import com.pet.ticketgenerationservice.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Public IDs of issued tickets, the only way to download one.
+ * <p>
+ * An ID is {@code <holdId>-<seat>-<mac>}, where {@code mac} is the first 128 bits of an
+ * HMAC-SHA256 over hold and seat. Hold IDs are sequential, so the MAC is what keeps a ticket from
+ * being fetched by anyone who can count; it is keyed separately from the QR code signature, so
+ * the code printed on a ticket does not give away its download link.
+ */
+@Component
+public class TicketIds {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String CONTEXT = "ticket-id:";
+    private static final int MAC_BYTES = 16;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final ThreadLocal<Mac> macs;
+
+    public TicketIds(@Value("${tickets.qr.secret}") String secret) {
+        SecretKeySpec key = new SecretKeySpec((CONTEXT + secret).getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    public String ticketId(long holdId, int seat) {
+        String data = holdId + "-" + seat;
+        return data + "-" + HEX.formatHex(mac(data), 0, MAC_BYTES);
+    }
+
+    /**
+     * Resolves a ticket ID, checking its MAC in constant time. Malformed and forged IDs are
+     * reported the same way as tickets that do not exist.
+     */
+    public TicketRef resolve(String ticketId) {
+        int separator = ticketId.lastIndexOf('-');
+        int seatSeparator = separator > 0 ? ticketId.lastIndexOf('-', separator - 1) : -1;
+        if (seatSeparator <= 0 || ticketId.length() - separator - 1 != 2 * MAC_BYTES) {
+            throw notFound();
+        }
+        String data = ticketId.substring(0, separator);
+        byte[] expected = new byte[MAC_BYTES];
+        System.arraycopy(mac(data), 0, expected, 0, MAC_BYTES);
+        try {
+            if (!MessageDigest.isEqual(expected, HEX.parseHex(ticketId, separator + 1, ticketId.length()))) {
+                throw notFound();
+            }
+            return new TicketRef(Long.parseLong(ticketId, 0, seatSeparator, 10),
+                    Integer.parseInt(ticketId, seatSeparator + 1, separator, 10));
+        } catch (IllegalArgumentException e) {
+            throw notFound();
+        }
+    }
+
+    private byte[] mac(String data) {
+        return macs.get().doFinal(data.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static ResourceNotFoundException notFound() {
+        return new ResourceNotFoundException("Ticket not found");
+    }
+
+    public record TicketRef(long holdId, int seat) {
+    }
+}
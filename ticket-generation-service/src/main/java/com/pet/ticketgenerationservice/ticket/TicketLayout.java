@@ -0,0 +1,83 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The part of a ticket PDF that is the same for every seat of an event, compiled once.
+ * <p>
+ * A ticket is a one-page PDF with two content streams: object 5 draws the event (name, venue,
+ * date, frame) and is part of this layout, object 6 draws the seat and its QR code and is written
+ * per ticket by {@link TicketRenderer}. Objects 1 to 5 therefore sit at fixed offsets, and
+ * rendering only has to append object 6 and the cross-reference table after {@link #prefix()}.
+ */
+public final class TicketLayout {
+
+    static final int PAGE_WIDTH = 595;
+    static final int PAGE_HEIGHT = 283;
+    static final int STATIC_OBJECTS = 5;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private final long eventId;
+    private final ByteBuffer prefix;
+    private final long[] offsets;
+
+    private TicketLayout(long eventId, byte[] prefix, long[] offsets) {
+        this.eventId = eventId;
+        this.prefix = ByteBuffer.allocateDirect(prefix.length).put(prefix).flip().asReadOnlyBuffer();
+        this.offsets = offsets;
+    }
+
+    public static TicketLayout compile(long eventId, String eventName, String venue, LocalDateTime startsAt) {
+        String eventContent = "0.6 w 12 12 " + (PAGE_WIDTH - 24) + " " + (PAGE_HEIGHT - 24) + " re S\n"
+                + "BT /F1 20 Tf 32 230 Td " + PdfBytes.literal(eventName) + " Tj ET\n"
+                + (venue != null ? "BT /F1 12 Tf 32 206 Td " + PdfBytes.literal(venue) + " Tj ET\n" : "")
+                + (startsAt != null ? "BT /F1 12 Tf 32 188 Td " + PdfBytes.literal(DATE_FORMAT.format(startsAt)) + " Tj ET\n" : "");
+        byte[] content = PdfBytes.latin1(eventContent);
+        String[] objects = {
+                "<< /Type /Catalog /Pages 2 0 R >>",
+                "<< /Type /Pages /Kids [3 0 R] /Count 1 >>",
+                "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + PAGE_WIDTH + " " + PAGE_HEIGHT + "]"
+                        + " /Resources << /Font << /F1 4 0 R >> >> /Contents [5 0 R 6 0 R] >>",
+                "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>"
+        };
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024 + content.length);
+        out.writeBytes("%PDF-1.4\n%".getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(new byte[]{(byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'});
+        long[] offsets = new long[STATIC_OBJECTS];
+        for (int i = 0; i < objects.length; i++) {
+            offsets[i] = out.size();
+            out.writeBytes(((i + 1) + " 0 obj\n" + objects[i] + "\nendobj\n").getBytes(StandardCharsets.US_ASCII));
+        }
+        offsets[4] = out.size();
+        out.writeBytes(("5 0 obj\n<< /Length " + content.length + " >>\nstream\n").getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(content);
+        out.writeBytes("\nendstream\nendobj\n".getBytes(StandardCharsets.US_ASCII));
+        return new TicketLayout(eventId, out.toByteArray(), offsets);
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * A fresh view of the compiled bytes, positioned at the start; the bytes themselves are
+     * shared by every ticket of the event.
+     */
+    public ByteBuffer prefix() {
+        return prefix.duplicate();
+    }
+
+    int prefixLength() {
+        return prefix.capacity();
+    }
+
+    long offset(int object) {
+        return offsets[object - 1];
+    }
+}
@@ -0,0 +1,27 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link TicketLayout}s by event. Events whose details were never registered get a
+ * generic layout naming only the event ID.
+ */
+@Component
+public class TicketLayoutRegistry {
+
+    private final Map<Long, TicketLayout> layouts = new ConcurrentHashMap<>();
+
+    public TicketLayout register(long eventId, String eventName, String venue, LocalDateTime startsAt) {
+        TicketLayout layout = TicketLayout.compile(eventId, eventName, venue, startsAt);
+        layouts.put(eventId, layout);
+        return layout;
+    }
+
+    public TicketLayout get(long eventId) {
+        return layouts.computeIfAbsent(eventId, id -> TicketLayout.compile(id, "BilSpot event #" + id, null, null));
+    }
+}
@@ -0,0 +1,119 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders the per-seat part of a ticket: the seat label and the signed QR code, followed by the
+ * cross-reference table that closes the PDF.
+ * <p>
+ * The QR code is drawn as vector rectangles in module units under one scaling transform, with
+ * each horizontal run of dark modules merged into a single rectangle, which keeps the stream small
+ * and avoids rasterizing an image per ticket.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketRenderer {
+
+    static final int QR_SIZE = 150;
+    private static final int QR_X = TicketLayout.PAGE_WIDTH - 32 - QR_SIZE;
+    private static final int QR_Y = 66;
+    private static final int QUIET_ZONE = 2;
+    private static final int LENGTH_DIGITS = 10;
+    // A fixed mask skips ZXing's search, which builds and scores the matrix once per each of the
+    // eight masks; any mask scans fine, the search only picks the one with the fewest artefacts.
+    private static final Map<EncodeHintType, Object> QR_HINTS = Map.of(EncodeHintType.QR_MASK_PATTERN, 0);
+
+    private final QrCodeSigner qrCodeSigner;
+
+    /**
+     * Writes the per-seat bytes of the ticket into {@code body}, which is cleared first.
+     *
+     * @return the complete ticket as buffers for a gathering write: the layout prefix, then {@code body}
+     * @throws java.nio.BufferOverflowException if {@code body} is too small
+     */
+    public ByteBuffer[] render(TicketLayout layout, long holdId, int seat, ByteBuffer body) {
+        ByteMatrix qr = encode(qrCodeSigner.sign(layout.getEventId(), holdId, seat));
+        body.clear();
+
+        PdfBytes.ascii(body, "6 0 obj\n<< /Length ");
+        int lengthAt = body.position();
+        PdfBytes.padded(body, 0, LENGTH_DIGITS);
+        PdfBytes.ascii(body, " >>\nstream\n");
+        int streamStart = body.position();
+
+        PdfBytes.ascii(body, "BT /F1 16 Tf 32 120 Td (Seat ");
+        PdfBytes.number(body, seat);
+        PdfBytes.ascii(body, ") Tj ET\nBT /F1 9 Tf 32 100 Td (Ticket ");
+        PdfBytes.number(body, holdId);
+        body.put((byte) '-');
+        PdfBytes.number(body, seat);
+        PdfBytes.ascii(body, ") Tj ET\n");
+        writeQr(body, qr);
+
+        PdfBytes.padded(body, lengthAt, body.position() - streamStart, LENGTH_DIGITS);
+        PdfBytes.ascii(body, "\nendstream\nendobj\n");
+
+        long xrefOffset = layout.prefixLength() + body.position();
+        PdfBytes.ascii(body, "xref\n0 ");
+        PdfBytes.number(body, TicketLayout.STATIC_OBJECTS + 2);
+        PdfBytes.ascii(body, "\n0000000000 65535 f \n");
+        for (int object = 1; object <= TicketLayout.STATIC_OBJECTS; object++) {
+            PdfBytes.padded(body, layout.offset(object), 10);
+            PdfBytes.ascii(body, " 00000 n \n");
+        }
+        PdfBytes.padded(body, layout.prefixLength(), 10);
+        PdfBytes.ascii(body, " 00000 n \ntrailer\n<< /Size ");
+        PdfBytes.number(body, TicketLayout.STATIC_OBJECTS + 2);
+        PdfBytes.ascii(body, " /Root 1 0 R >>\nstartxref\n");
+        PdfBytes.number(body, xrefOffset);
+        PdfBytes.ascii(body, "\n%%EOF\n");
+        body.flip();
+        return new ByteBuffer[]{layout.prefix(), body};
+    }
+
+    private static void writeQr(ByteBuffer body, ByteMatrix qr) {
+        int modules = qr.getWidth();
+        float scale = (float) QR_SIZE / (modules + 2 * QUIET_ZONE);
+        String origin = String.format(Locale.ROOT, "q %.4f 0 0 %.4f %d %d cm\n", scale, scale, QR_X, QR_Y);
+        PdfBytes.ascii(body, origin);
+        for (int y = 0; y < modules; y++) {
+            int x = 0;
+            while (x < modules) {
+                if (qr.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int run = x;
+                while (run < modules && qr.get(run, y) == 1) {
+                    run++;
+                }
+                PdfBytes.number(body, QUIET_ZONE + x);
+                body.put((byte) ' ');
+                PdfBytes.number(body, QUIET_ZONE + modules - 1 - y);
+                body.put((byte) ' ');
+                PdfBytes.number(body, run - x);
+                PdfBytes.ascii(body, " 1 re\n");
+                x = run;
+            }
+        }
+        PdfBytes.ascii(body, "f Q\n");
+    }
+
+    private static ByteMatrix encode(String payload) {
+        try {
+            return Encoder.encode(payload, ErrorCorrectionLevel.M, QR_HINTS).getMatrix();
+        } catch (WriterException e) {
+            throw new IllegalStateException("Cannot encode QR payload " + payload, e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import com.pet.ticketgenerationservice.exception.ResourceNotFoundException;
+import com.pet.ticketgenerationservice.inventory.SeatHold;
+import com.pet.ticketgenerationservice.inventory.SeatInventory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues a ticket PDF per seat once a sale is committed.
+ * <p>
+ * Rendering is CPU-bound, so it runs on a dedicated {@link ForkJoinPool} with one worker per core
+ * by default, one task per seat. Each worker reuses a direct buffer for the per-seat bytes and
+ * writes the shared layout prefix and that buffer to the file in one gathering write, so a
+ * ticket never exists as a heap byte array. Files are written under a temporary name and moved
+ * into place, so a reader never sees a half-written ticket.
+ */
+@Slf4j
+@Service
+public class TicketService implements DisposableBean {
+
+    private static final int INITIAL_BUFFER_BYTES = 16 * 1024;
+
+    private final TicketLayoutRegistry layoutRegistry;
+    private final TicketRenderer renderer;
+    private final Path outputDir;
+    private final ForkJoinPool workers;
+    private final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_BUFFER_BYTES));
+    private final Timer renderTimer;
+    private final Counter failures;
+
+    public TicketService(SeatInventory seatInventory,
+                         TicketLayoutRegistry layoutRegistry,
+                         TicketRenderer renderer,
+                         MeterRegistry meterRegistry,
+                         @Value("${tickets.output.dir:./data/tickets}") Path outputDir,
+                         @Value("${tickets.rendering.parallelism:0}") int parallelism) throws IOException {
+        this.layoutRegistry = layoutRegistry;
+        this.renderer = renderer;
+        this.outputDir = Files.createDirectories(outputDir);
+        this.workers = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.renderTimer = Timer.builder("tickets.render")
+                .description("Time to render and write one ticket")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.failures = Counter.builder("tickets.render.failures").register(meterRegistry);
+        Gauge.builder("tickets.render.queued", workers, ForkJoinPool::getQueuedSubmissionCount)
+                .description("Tickets waiting for a rendering worker")
+                .register(meterRegistry);
+        seatInventory.onSold(this::issue);
+    }
+
+    /**
+     * Renders the tickets of a sold hold in the background.
+     *
+     * @return the ticket files, once all are written
+     */
+    public CompletableFuture<List<Path>> issue(SeatHold hold) {
+        TicketLayout layout = layoutRegistry.get(hold.eventId());
+        List<CompletableFuture<Path>> tickets = new ArrayList<>(hold.seats().length);
+        for (int seat : hold.seats()) {
+            tickets.add(CompletableFuture.supplyAsync(() -> renderToFile(layout, hold.holdId(), seat), workers));
+        }
+        return CompletableFuture.allOf(tickets.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        log.error("Could not issue all tickets of hold {}", hold.holdId(), ex);
+                    }
+                })
+                .thenApply(ignored -> tickets.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Copies a rendered ticket to {@code target}, letting the file channel transfer the bytes
+     * without passing them through the heap.
+     *
+     * @return the number of bytes written
+     */
+    public long transferTo(long holdId, int seat, WritableByteChannel target) throws IOException {
+        try (FileChannel file = FileChannel.open(ticketPath(holdId, seat), StandardOpenOption.READ)) {
+            long size = file.size();
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, target);
+            }
+            return size;
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Ticket not issued for hold " + holdId + ", seat " + seat);
+        }
+    }
+
+    public long size(long holdId, int seat) throws IOException {
+        try {
+            return Files.size(ticketPath(holdId, seat));
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Ticket not issued for hold " + holdId + ", seat " + seat);
+        }
+    }
+
+    Path ticketPath(long holdId, int seat) {
+        return outputDir.resolve(Long.toString(holdId)).resolve(seat + ".pdf");
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Ticket rendering did not finish within 30s, {} tickets abandoned", workers.getQueuedSubmissionCount());
+        }
+    }
+
+    private Path renderToFile(TicketLayout layout, long holdId, int seat) {
+        Timer.Sample sample = Timer.start();
+        Path target = ticketPath(holdId, seat);
+        Path temp = target.resolveSibling(seat + ".pdf.tmp");
+        try {
+            ByteBuffer[] ticket = render(layout, holdId, seat);
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (ticket[ticket.length - 1].hasRemaining()) {
+                    channel.write(ticket);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            failures.increment();
+            throw new UncheckedIOException("Could not write ticket " + target, e);
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    private ByteBuffer[] render(TicketLayout layout, long holdId, int seat) {
+        while (true) {
+            ByteBuffer buffer = buffers.get();
+            try {
+                return renderer.render(layout, holdId, seat, buffer);
+            } catch (BufferOverflowException | IndexOutOfBoundsException e) {
+                buffers.set(ByteBuffer.allocateDirect(buffer.capacity() * 2));
+            }
+        }
+    }
+}
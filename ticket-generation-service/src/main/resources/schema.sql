@@ -0,0 +1,21 @@
+create table if not exists seat_inventory (
+    event_id  bigint primary key,
+    capacity  integer not null,
+    opened_at timestamp not null
+);
+
+-- Log of seat transitions written by SeatLogWriter; state: 0 free, 1 held, 2 sold.
+-- SeatLogCompactor prunes old free and held rows, so sold rows make up most of it.
+create table if not exists seat_log (
+    id        bigint generated by default as identity primary key,
+    event_id  bigint not null,
+    seat_no   integer not null,
+    state     smallint not null,
+    hold_id   bigint not null,
+    logged_at timestamp not null
+);
+
+-- Covers the restore query (sold rows) and the compactor's scan of the few transient rows.
+drop index if exists idx_seat_log_state;
+create index if not exists idx_seat_log_state_seat on seat_log (state, event_id, seat_no, hold_id);
+create index if not exists idx_seat_log_hold on seat_log (hold_id);
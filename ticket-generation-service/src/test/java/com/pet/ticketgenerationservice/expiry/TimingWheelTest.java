@@ -0,0 +1,78 @@
+package com.pet.ticketgenerationservice.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final long TICK_MS = 10;
+
+    @Test
+    @DisplayName("Timeouts fire on the first tick at or after their deadline, across every wheel level")
+    void firesOnDeadlineTickAtEveryLevel() {
+        long start = 1_234_560;
+        TimingWheel wheel = new TimingWheel(TICK_MS, start);
+        // Root wheel, first and second level, and a deadline past two root wraps.
+        long[] delays = {5, 2_550, 2_560, 7_777, 600_000, 45 * 60_000L, 3 * 3_600_000L};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.add(new TimeoutHandle(i, start + delays[i]));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        long end = start + 3 * 3_600_000L + TICK_MS;
+        for (long now = start; now <= end; now += TICK_MS) {
+            long tickTime = now;
+            wheel.advanceTo(now, handle -> firedAt.put(handle.key(), tickTime));
+        }
+
+        assertEquals(delays.length, firedAt.size());
+        for (int i = 0; i < delays.length; i++) {
+            long deadline = start + delays[i];
+            long fired = firedAt.get((long) i);
+            assertTrue(fired >= deadline, "timeout " + i + " fired early");
+            assertTrue(fired < deadline + TICK_MS, "timeout " + i + " fired late: " + (fired - deadline) + " ms");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Cancelled timeouts never fire and are dropped from the wheel")
+    void cancelledTimeoutsDoNotFire() {
+        TimingWheel wheel = new TimingWheel(TICK_MS, 0);
+        TimeoutHandle kept = new TimeoutHandle(1, 100);
+        TimeoutHandle cancelled = new TimeoutHandle(2, 100);
+        TimeoutHandle cancelledInUpperLevel = new TimeoutHandle(3, 60_000);
+        wheel.add(kept);
+        wheel.add(cancelled);
+        wheel.add(cancelledInUpperLevel);
+
+        assertTrue(cancelled.cancel());
+        assertTrue(cancelledInUpperLevel.cancel());
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(120_000, handle -> fired.add(handle.key()));
+
+        assertEquals(List.of(1L), fired);
+        assertEquals(0, wheel.size());
+        assertTrue(!kept.cancel(), "fired timeout can no longer be cancelled");
+    }
+
+    @Test
+    @DisplayName("A timeout already due when added fires on the next advance")
+    void overdueTimeoutFiresImmediately() {
+        TimingWheel wheel = new TimingWheel(TICK_MS, 10_000);
+        wheel.add(new TimeoutHandle(7, 5_000));
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(10_000, handle -> fired.add(handle.key()));
+
+        assertEquals(List.of(7L), fired);
+    }
+}
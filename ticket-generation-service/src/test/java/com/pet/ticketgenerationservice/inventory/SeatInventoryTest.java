@@ -0,0 +1,121 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import com.pet.ticketgenerationservice.exception.ResourceNotFoundException;
+import com.pet.ticketgenerationservice.exception.SeatUnavailableException;
+import com.pet.ticketgenerationservice.expiry.ExpiryScheduler;
+import com.pet.ticketgenerationservice.persistence.SeatInventoryRepository;
+import com.pet.ticketgenerationservice.persistence.SeatLogCompactor;
+import com.pet.ticketgenerationservice.persistence.SeatLogWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "inventory.hold.ttl=PT0.5S")
+@ActiveProfiles("it")
+class SeatInventoryTest {
+
+    @Autowired
+    private SeatInventory seatInventory;
+
+    @Autowired
+    private SeatInventoryRepository repository;
+
+    @Autowired
+    private SeatLogWriter seatLogWriter;
+
+    @Autowired
+    private ExpiryScheduler expiryScheduler;
+
+    @Autowired
+    private SeatLogCompactor seatLogCompactor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Confirmed seats are committed before the confirm completes and survive a restart")
+    void confirmIsDurable() throws Exception {
+        seatInventory.open(100L, 50);
+        SeatHold hold = seatInventory.hold(100L, new int[]{4, 5});
+
+        seatInventory.confirm(hold.holdId()).get(5, TimeUnit.SECONDS);
+
+        Integer soldRows = jdbcTemplate.queryForObject(
+                "select count(*) from seat_log where event_id = 100 and state = 2", Integer.class);
+        assertEquals(2, soldRows);
+        assertThrows(SeatUnavailableException.class, () -> seatInventory.hold(100L, new int[]{5}));
+
+        SeatInventory restarted = new SeatInventory(repository, seatLogWriter,
+                new ExpiryScheduler(new SimpleMeterRegistry(), Duration.ofMillis(10)), new SimpleMeterRegistry(), Duration.ofMinutes(1));
+        restarted.restore();
+        SeatMap restored = restarted.getSeatMap(100L);
+        assertEquals(2, restored.getSold());
+        assertEquals(48, restored.getAvailable());
+        assertEquals(-hold.holdId(), restored.state(4));
+    }
+
+    @Test
+    @DisplayName("A failing sold handler does not turn a committed sale into an error")
+    void soldHandlerFailureKeepsSale() throws Exception {
+        SeatInventory inventory = new SeatInventory(repository, seatLogWriter,
+                new ExpiryScheduler(new SimpleMeterRegistry(), Duration.ofMillis(10)), new SimpleMeterRegistry(), Duration.ofMinutes(1));
+        inventory.onSold(sold -> {
+            throw new RejectedExecutionException("Ticket executor is shut down");
+        });
+        inventory.open(150L, 10);
+        SeatHold hold = inventory.hold(150L, new int[]{1});
+
+        assertEquals(hold, inventory.confirm(hold.holdId()).get(5, TimeUnit.SECONDS));
+        assertEquals(1, inventory.getSeatMap(150L).getSold());
+    }
+
+    @Test
+    @DisplayName("Expired holds go back on sale and can no longer be confirmed")
+    void expiredHoldsAreReleased() {
+        seatInventory.open(200L, 5);
+        SeatHold hold = seatInventory.holdAny(200L, 5);
+        assertThrows(SeatUnavailableException.class, () -> seatInventory.holdAny(200L, 1));
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> seatInventory.getSeatMap(200L).getAvailable() == 5);
+        assertEquals(0, expiryScheduler.getPending());
+
+        assertThrows(ResourceNotFoundException.class, () -> seatInventory.confirm(hold.holdId()));
+    }
+
+    @Test
+    @DisplayName("Compaction prunes old hold and release entries but keeps every sold seat")
+    void compactionKeepsSoldSeats() throws Exception {
+        seatInventory.open(300L, 10);
+        SeatHold sold = seatInventory.hold(300L, new int[]{1, 2});
+        seatInventory.confirm(sold.holdId()).get(5, TimeUnit.SECONDS);
+        seatInventory.release(seatInventory.hold(300L, new int[]{3}).holdId());
+        await().atMost(Duration.ofSeconds(5)).until(() -> jdbcTemplate.queryForObject(
+                "select count(*) from seat_log where event_id = 300", Integer.class) == 6);
+
+        jdbcTemplate.update("update seat_log set logged_at = ? where event_id = 300",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(1))));
+        seatLogCompactor.compact();
+
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from seat_log where event_id = 300", Integer.class));
+        SeatInventory restarted = new SeatInventory(repository, seatLogWriter,
+                new ExpiryScheduler(new SimpleMeterRegistry(), Duration.ofMillis(10)), new SimpleMeterRegistry(), Duration.ofMinutes(1));
+        restarted.restore();
+        assertEquals(2, restarted.getSeatMap(300L).getSold());
+        assertEquals(8, restarted.getSeatMap(300L).getAvailable());
+    }
+}
@@ -0,0 +1,92 @@
+package com.pet.ticketgenerationservice.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatMapTest {
+
+    @Test
+    @DisplayName("Multi-seat hold is all-or-nothing")
+    void holdIsAtomic() {
+        SeatMap seatMap = new SeatMap(1L, 10);
+        assertTrue(seatMap.tryHold(new int[]{3}, 1L));
+
+        assertFalse(seatMap.tryHold(new int[]{1, 2, 3}, 2L));
+
+        assertEquals(SeatMap.FREE, seatMap.state(1));
+        assertEquals(SeatMap.FREE, seatMap.state(2));
+        assertEquals(9, seatMap.getAvailable());
+    }
+
+    @Test
+    @DisplayName("Only the owning hold can release or confirm its seats")
+    void ownership() {
+        SeatMap seatMap = new SeatMap(1L, 4);
+        seatMap.tryHold(new int[]{0, 1}, 7L);
+
+        assertEquals(0, seatMap.release(new int[]{0, 1}, 8L));
+        assertEquals(2, seatMap.confirm(new int[]{0, 1}, 7L));
+        assertEquals(0, seatMap.release(new int[]{0, 1}, 7L));
+
+        assertEquals(-7L, seatMap.state(0));
+        assertEquals(2, seatMap.getSold());
+        assertEquals(2, seatMap.getAvailable());
+        assertArrayEquals(new long[]{0b1100}, seatMap.availabilityBitmap());
+    }
+
+    @Test
+    @DisplayName("Concurrent holds never oversell and never lose a seat")
+    void noOversellUnderContention() throws Exception {
+        int capacity = 10_000;
+        int threads = 16;
+        SeatMap seatMap = new SeatMap(1L, capacity);
+        AtomicLong holdIds = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<int[]>>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                List<int[]> taken = new ArrayList<>();
+                start.await();
+                int[] seats;
+                while ((seats = seatMap.tryHoldAny(3, holdIds.incrementAndGet())) != null) {
+                    taken.add(seats);
+                }
+                return taken;
+            }));
+        }
+        start.countDown();
+
+        boolean[] owned = new boolean[capacity];
+        int heldSeats = 0;
+        for (Future<List<int[]>> result : results) {
+            for (int[] seats : result.get(30, TimeUnit.SECONDS)) {
+                for (int seat : seats) {
+                    assertFalse(owned[seat], "seat " + seat + " held twice");
+                    owned[seat] = true;
+                    heldSeats++;
+                }
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(capacity - capacity % 3, heldSeats);
+        assertEquals(capacity % 3, seatMap.getAvailable());
+        assertNull(seatMap.tryHoldAny(3, holdIds.incrementAndGet()));
+    }
+}
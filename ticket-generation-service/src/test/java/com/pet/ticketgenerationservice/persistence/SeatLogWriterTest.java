@@ -0,0 +1,49 @@
+package com.pet.ticketgenerationservice.persistence;
+
+import com.pet.ticketgenerationservice.inventory.SeatState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class SeatLogWriterTest {
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SeatLogWriter writer = new SeatLogWriter(mock(JdbcTemplate.class), transactionTemplate,
+            new SimpleMeterRegistry(), 10, 100, Duration.ofMillis(10));
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("A transaction that cannot be opened is retried and the writer keeps running")
+    void unavailableDatabaseIsRetried() throws Exception {
+        doThrow(new CannotCreateTransactionException("Could not open JDBC Connection for transaction"))
+                .doThrow(new IllegalStateException("Connection is closed"))
+                .doAnswer(invocation -> {
+                    invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+                    return null;
+                })
+                .when(transactionTemplate).executeWithoutResult(any());
+        writer.start();
+
+        CompletableFuture<Void> first = writer.append(7L, new int[]{1, 2}, SeatState.SOLD, 1L);
+        first.get(5, TimeUnit.SECONDS);
+        writer.append(7L, new int[]{3}, SeatState.SOLD, 2L).get(5, TimeUnit.SECONDS);
+    }
+}
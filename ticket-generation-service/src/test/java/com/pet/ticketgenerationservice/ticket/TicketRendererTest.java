@@ -0,0 +1,66 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TicketRendererTest {
+
+    private final QrCodeSigner signer = new QrCodeSigner("test-secret-for-ticket-qr-codes-only");
+    private final TicketRenderer renderer = new TicketRenderer(signer);
+
+    @Test
+    @DisplayName("Every cross-reference entry and startxref point at the right place in the PDF")
+    void crossReferenceTableIsConsistent() {
+        TicketLayout layout = TicketLayout.compile(7L, "Джаз (у парку)", "Київ", LocalDateTime.of(2030, 6, 1, 19, 0));
+        String pdf = asString(renderer.render(layout, 123L, 45, ByteBuffer.allocateDirect(16 * 1024)));
+
+        assertTrue(pdf.startsWith("%PDF-1.4"));
+        assertTrue(pdf.contains("(Dzhaz \\(u parku\\))"));
+        assertTrue(pdf.contains("(Seat 45)"));
+        Matcher startxref = Pattern.compile("startxref\n(\\d+)\n%%EOF\n$").matcher(pdf);
+        assertTrue(startxref.find());
+        int xref = Integer.parseInt(startxref.group(1));
+        assertTrue(pdf.startsWith("xref\n0 7\n", xref));
+
+        Matcher entries = Pattern.compile("(\\d{10}) 00000 n ").matcher(pdf.substring(xref));
+        for (int object = 1; object <= 6; object++) {
+            assertTrue(entries.find());
+            assertTrue(pdf.startsWith(object + " 0 obj\n", Integer.parseInt(entries.group(1))), "object " + object);
+        }
+        Matcher length = Pattern.compile("6 0 obj\n<< /Length (\\d+) >>\nstream\n").matcher(pdf);
+        assertTrue(length.find());
+        assertTrue(pdf.startsWith("\nendstream", length.end() + Integer.parseInt(length.group(1))));
+    }
+
+    @Test
+    @DisplayName("QR payloads verify, and any change to them does not")
+    void qrPayloadIsSigned() {
+        String payload = signer.sign(7L, 123L, 45);
+
+        assertTrue(payload.startsWith("BS1:7:123:45:"));
+        assertTrue(signer.verify(payload));
+        assertFalse(signer.verify(payload.replace(":45:", ":46:")));
+        assertFalse(signer.verify(new QrCodeSigner("another-secret-for-ticket-qr-codes").sign(7L, 123L, 45)));
+        assertFalse(signer.verify("BS1:7:123:45:XYZ"));
+    }
+
+    private static String asString(ByteBuffer[] buffers) {
+        StringBuilder out = new StringBuilder();
+        for (ByteBuffer buffer : buffers) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            out.append(new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.ticketgenerationservice.ticket;
+
+import com.pet.ticketgenerationservice.inventory.SeatHold;
+import com.pet.ticketgenerationservice.inventory.SeatInventory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+class TicketServiceTest {
+
+    @Autowired
+    private SeatInventory seatInventory;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketIds ticketIds;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Confirming a hold issues one PDF per seat, served by the ticket endpoint")
+    void confirmedSeatsGetTickets() throws Exception {
+        mockMvc.perform(put("/v1/tickets/layouts/300")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventName\":\"Концерт\",\"venue\":\"Львів\",\"startsAt\":\"2030-06-01T19:00:00\"}"))
+                .andExpect(status().isNoContent());
+        seatInventory.open(300L, 100);
+        SeatHold hold = seatInventory.hold(300L, new int[]{1, 2, 3});
+        mockMvc.perform(get("/v1/tickets/{ticketId}", ticketIds.ticketId(hold.holdId(), 1))).andExpect(status().isNotFound());
+
+        seatInventory.confirm(hold.holdId()).get(5, TimeUnit.SECONDS);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(ticketService.ticketPath(hold.holdId(), 3)));
+        for (int seat : hold.seats()) {
+            assertTrue(Files.size(ticketService.ticketPath(hold.holdId(), seat)) > 1000);
+        }
+        byte[] pdf = mockMvc.perform(get("/v1/tickets/{ticketId}", ticketIds.ticketId(hold.holdId(), 2)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().longValue("Content-Length", Files.size(ticketService.ticketPath(hold.holdId(), 2))))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertTrue(new String(pdf, 0, 8).startsWith("%PDF-1.4"));
+    }
+
+    @Test
+    @DisplayName("A ticket cannot be downloaded by hold and seat alone or with a forged ID")
+    void ticketIdsCannotBeGuessed() throws Exception {
+        seatInventory.open(301L, 10);
+        SeatHold hold = seatInventory.hold(301L, new int[]{4});
+        seatInventory.confirm(hold.holdId()).get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(ticketService.ticketPath(hold.holdId(), 4)));
+
+        String ticketId = ticketIds.ticketId(hold.holdId(), 4);
+        mockMvc.perform(get("/v1/tickets/{ticketId}", ticketId)).andExpect(status().isOk());
+        mockMvc.perform(get("/v1/tickets/{holdId}/{seat}", hold.holdId(), 4)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/tickets/{ticketId}", hold.holdId() + "-4-" + "0".repeat(32))).andExpect(status().isNotFound());
+        mockMvc.perform(get("/v1/tickets/{ticketId}", ticketIds.ticketId(hold.holdId(), 4).replace(hold.holdId() + "-4-", hold.holdId() + "-5-")))
+                .andExpect(status().isNotFound());
+    }
+}
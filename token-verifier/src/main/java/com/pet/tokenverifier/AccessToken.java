@@ -0,0 +1,18 @@
+package com.pet.tokenverifier;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Claims of a verified user-service access token.
+ */
+public record AccessToken(String tokenId, String subject, Set<String> roles, Instant issuedAt, Instant expiresAt) {
+
+    public AccessToken {
+        roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+}
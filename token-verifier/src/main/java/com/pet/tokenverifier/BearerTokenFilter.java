@@ -0,0 +1,48 @@
+package com.pet.tokenverifier;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Verifies the bearer token of a request, if it has one, and exposes its claims as the
+ * {@link #ACCESS_TOKEN_ATTRIBUTE} request attribute. A request with an invalid token is rejected
+ * with 401; a request without one passes through, and endpoints that need a user ask for the
+ * attribute. {@link BearerTokenWebFilter} does the same for reactive services.
+ */
+public class BearerTokenFilter extends OncePerRequestFilter {
+
+    public static final String ACCESS_TOKEN_ATTRIBUTE = "com.pet.tokenverifier.AccessToken";
+
+    private final TokenVerifier verifier;
+
+    public BearerTokenFilter(TokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = BearerTokens.bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try {
+            request.setAttribute(ACCESS_TOKEN_ATTRIBUTE, verifier.verify(token));
+        } catch (InvalidTokenException e) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, BearerTokens.INVALID_TOKEN_CHALLENGE);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(BearerTokens.errorBody(e));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pet.tokenverifier;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reactive counterpart of {@link BearerTokenFilter}: claims of a valid token go into the
+ * {@link BearerTokenFilter#ACCESS_TOKEN_ATTRIBUTE} exchange attribute.
+ */
+public class BearerTokenWebFilter implements WebFilter, Ordered {
+
+    private final TokenVerifier verifier;
+
+    public BearerTokenWebFilter(TokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = BearerTokens.bearerToken(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+        try {
+            exchange.getAttributes().put(BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, verifier.verify(token));
+        } catch (InvalidTokenException e) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, BearerTokens.INVALID_TOKEN_CHALLENGE);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = BearerTokens.errorBody(e).getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+}
@@ -0,0 +1,26 @@
+package com.pet.tokenverifier;
+
+/**
+ * Parts shared by {@link BearerTokenFilter} and {@link BearerTokenWebFilter}, kept out of the
+ * servlet filter so that reactive services do not need the servlet API to load them.
+ */
+final class BearerTokens {
+
+    static final String INVALID_TOKEN_CHALLENGE = "Bearer error=\"invalid_token\"";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private BearerTokens() {
+    }
+
+    static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length()).trim();
+    }
+
+    static String errorBody(InvalidTokenException e) {
+        return "{\"status\":401,\"message\":\"" + e.getMessage() + "\"}";
+    }
+}
@@ -0,0 +1,44 @@
+package com.pet.tokenverifier;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Converts Ed25519 public keys to and from the raw 32-byte form used by the {@code x} member of
+ * an OKP JSON Web Key.
+ */
+public final class Ed25519Keys {
+
+    public static final String ALGORITHM = "Ed25519";
+
+    // DER prefix of a SubjectPublicKeyInfo holding an Ed25519 key (RFC 8410).
+    private static final byte[] X509_PREFIX = {0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+    private static final int KEY_BYTES = 32;
+
+    private Ed25519Keys() {
+    }
+
+    public static String encode(PublicKey key) {
+        byte[] encoded = key.getEncoded();
+        byte[] raw = Arrays.copyOfRange(encoded, encoded.length - KEY_BYTES, encoded.length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static PublicKey decode(String x) {
+        byte[] raw = Base64.getUrlDecoder().decode(x);
+        if (raw.length != KEY_BYTES) {
+            throw new IllegalArgumentException("Ed25519 public key must be " + KEY_BYTES + " bytes, got " + raw.length);
+        }
+        byte[] encoded = Arrays.copyOf(X509_PREFIX, X509_PREFIX.length + KEY_BYTES);
+        System.arraycopy(raw, 0, encoded, X509_PREFIX.length, KEY_BYTES);
+        try {
+            return KeyFactory.getInstance(ALGORITHM).generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid Ed25519 public key", e);
+        }
+    }
+}
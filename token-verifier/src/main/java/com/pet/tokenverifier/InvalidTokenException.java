@@ -0,0 +1,7 @@
+package com.pet.tokenverifier;
+
+public class InvalidTokenException extends RuntimeException {
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
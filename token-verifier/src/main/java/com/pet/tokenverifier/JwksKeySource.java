@@ -0,0 +1,82 @@
+package com.pet.tokenverifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fetches the key set user-service publishes as a JWKS document. Only Ed25519 keys are taken;
+ * anything else in the set is ignored.
+ */
+@Slf4j
+public class JwksKeySource implements VerificationKeySource {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI uri;
+    private final UnaryOperator<URI> resolver;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    /**
+     * @param resolver turns a service name in the URI into a concrete instance, if there is discovery
+     */
+    public JwksKeySource(URI uri, UnaryOperator<URI> resolver, ObjectMapper objectMapper) {
+        this.uri = uri;
+        this.resolver = resolver;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, PublicKey> fetch() {
+        HttpRequest request = HttpRequest.newBuilder(resolver.apply(uri))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fetch " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching " + uri, e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Fetching " + uri + " returned HTTP " + response.statusCode());
+        }
+        try {
+            return parse(objectMapper.readTree(response.body()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable key set from " + uri, e);
+        }
+    }
+
+    static Map<String, PublicKey> parse(JsonNode jwks) {
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            if (!"OKP".equals(jwk.path("kty").asText()) || !Ed25519Keys.ALGORITHM.equals(jwk.path("crv").asText())) {
+                continue;
+            }
+            try {
+                keys.put(jwk.path("kid").asText(), Ed25519Keys.decode(jwk.path("x").asText()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping invalid key {} in key set", jwk.path("kid").asText(), e);
+            }
+        }
+        return keys;
+    }
+}
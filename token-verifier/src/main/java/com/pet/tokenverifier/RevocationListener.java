@@ -0,0 +1,51 @@
+package com.pet.tokenverifier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Feeds the {@link RevocationSet} from user-service's revocation topic. Each instance joins its
+ * own consumer group and, on assignment, rewinds by the longest token lifetime, so a freshly
+ * started instance still learns of revocations for tokens that are alive.
+ */
+@Slf4j
+public class RevocationListener implements ConsumerSeekAware {
+
+    private final RevocationSet revocations;
+    private final ObjectMapper objectMapper;
+    private final Duration maxTokenTtl;
+    private final Clock clock;
+
+    public RevocationListener(RevocationSet revocations, ObjectMapper objectMapper, Duration maxTokenTtl, Clock clock) {
+        this.revocations = revocations;
+        this.objectMapper = objectMapper;
+        this.maxTokenTtl = maxTokenTtl;
+        this.clock = clock;
+    }
+
+    @KafkaListener(
+            topics = "${token-verifier.revocation-topic:token-revocations}",
+            groupId = "${spring.application.name:service}-revocations-${random.uuid}",
+            containerFactory = "tokenRevocationListenerContainerFactory",
+            autoStartup = "${token-verifier.revocations.enabled:true}")
+    public void onRevocation(String payload) {
+        try {
+            revocations.add(objectMapper.readValue(payload, TokenRevocation.class));
+        } catch (JsonProcessingException e) {
+            log.error("Skipping unreadable token revocation: {}", payload, e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToTimestamp(assignments.keySet(), clock.millis() - maxTokenTtl.toMillis());
+    }
+}
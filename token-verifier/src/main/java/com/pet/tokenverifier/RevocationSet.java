@@ -0,0 +1,93 @@
+package com.pet.tokenverifier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked tokens and subjects, kept only until the tokens they cover expire. Access tokens are
+ * short-lived, so the set stays small; it is bounded nonetheless, and when full it gives up the
+ * entries closest to expiry first.
+ */
+@Slf4j
+public class RevocationSet {
+
+    private record SubjectCutoff(long issuedBefore, long expiresAt) {
+    }
+
+    private final Map<String, Long> tokens = new ConcurrentHashMap<>();
+    private final Map<String, SubjectCutoff> subjects = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Clock clock;
+
+    public RevocationSet(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public void add(TokenRevocation revocation) {
+        long now = clock.instant().getEpochSecond();
+        if (revocation.expiresAt() <= now) {
+            return;
+        }
+        if (size() >= maxEntries) {
+            makeRoom(now);
+        }
+        if (revocation.tokenId() != null) {
+            tokens.merge(revocation.tokenId(), revocation.expiresAt(), Math::max);
+        }
+        if (revocation.subject() != null) {
+            subjects.merge(revocation.subject(), new SubjectCutoff(revocation.issuedBefore(), revocation.expiresAt()),
+                    (a, b) -> new SubjectCutoff(Math.max(a.issuedBefore(), b.issuedBefore()), Math.max(a.expiresAt(), b.expiresAt())));
+        }
+    }
+
+    public boolean isRevoked(AccessToken token) {
+        if (!tokens.isEmpty() && tokens.containsKey(token.tokenId())) {
+            return true;
+        }
+        if (subjects.isEmpty()) {
+            return false;
+        }
+        SubjectCutoff cutoff = subjects.get(token.subject());
+        return cutoff != null && token.issuedAt().getEpochSecond() < cutoff.issuedBefore();
+    }
+
+    public int size() {
+        return tokens.size() + subjects.size();
+    }
+
+    private synchronized void makeRoom(long now) {
+        tokens.values().removeIf(expiresAt -> expiresAt <= now);
+        subjects.values().removeIf(cutoff -> cutoff.expiresAt() <= now);
+        while (size() >= maxEntries) {
+            String oldestToken = null;
+            long oldestTokenExpiry = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : tokens.entrySet()) {
+                if (entry.getValue() < oldestTokenExpiry) {
+                    oldestToken = entry.getKey();
+                    oldestTokenExpiry = entry.getValue();
+                }
+            }
+            String oldestSubject = null;
+            long oldestSubjectExpiry = Long.MAX_VALUE;
+            for (Map.Entry<String, SubjectCutoff> entry : subjects.entrySet()) {
+                if (entry.getValue().expiresAt() < oldestSubjectExpiry) {
+                    oldestSubject = entry.getKey();
+                    oldestSubjectExpiry = entry.getValue().expiresAt();
+                }
+            }
+            if (oldestToken == null && oldestSubject == null) {
+                return;
+            }
+            if (oldestTokenExpiry <= oldestSubjectExpiry) {
+                tokens.remove(oldestToken);
+            } else {
+                subjects.remove(oldestSubject);
+            }
+            log.warn("Revocation set is full ({} entries), dropped the entry closest to expiry", maxEntries);
+        }
+    }
+}
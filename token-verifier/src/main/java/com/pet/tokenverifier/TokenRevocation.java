@@ -0,0 +1,17 @@
+package com.pet.tokenverifier;
+
+/**
+ * Revocation pushed by user-service: either one token by ID, or every token of a subject issued
+ * before a point in time. Either way the entry is only needed until {@code expiresAt}, when every
+ * token it covers has expired anyway.
+ */
+public record TokenRevocation(String tokenId, String subject, long issuedBefore, long expiresAt) {
+
+    public static TokenRevocation token(String tokenId, long expiresAt) {
+        return new TokenRevocation(tokenId, null, 0, expiresAt);
+    }
+
+    public static TokenRevocation subject(String subject, long issuedBefore, long expiresAt) {
+        return new TokenRevocation(null, subject, issuedBefore, expiresAt);
+    }
+}
@@ -0,0 +1,152 @@
+package com.pet.tokenverifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies user-service access tokens (compact JWS, EdDSA over Ed25519) on the calling thread,
+ * with no network call or database lookup.
+ * <p>
+ * Clients send the same token with every request until it expires, so verified claims are
+ * cached by token: a repeat costs a hash lookup plus the expiry and revocation checks, which are
+ * never cached. The key ID of each distinct header is remembered the same way, so the header is
+ * parsed once per key rather than once per token.
+ */
+public class TokenVerifier {
+
+    public static final String ALGORITHM = "EdDSA";
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int MAX_HEADERS = 64;
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance(Ed25519Keys.ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not available", e);
+        }
+    });
+
+    private final VerificationKeyCache keys;
+    private final RevocationSet revocations;
+    private final String issuer;
+    private final long clockSkewSeconds;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, AccessToken> verified;
+    private final Map<String, String> keyIdsByHeader = new ConcurrentHashMap<>();
+
+    public TokenVerifier(VerificationKeyCache keys, RevocationSet revocations, String issuer, Duration clockSkew,
+                         Duration maxTokenTtl, int verifiedCacheSize, Clock clock, ObjectMapper objectMapper) {
+        this.keys = keys;
+        this.revocations = revocations;
+        this.issuer = issuer;
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(maxTokenTtl.plus(clockSkew))
+                .build();
+    }
+
+    /**
+     * @throws InvalidTokenException if the token is malformed, not signed by a current key, from
+     *                               another issuer, expired or revoked
+     */
+    public AccessToken verify(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            throw new InvalidTokenException("Malformed token");
+        }
+        AccessToken claims = verified.getIfPresent(token);
+        if (claims == null) {
+            claims = verifySignature(token);
+            verified.put(token, claims);
+        }
+        if (claims.expiresAt().getEpochSecond() + clockSkewSeconds <= clock.instant().getEpochSecond()) {
+            throw new InvalidTokenException("Token has expired");
+        }
+        if (revocations.isRevoked(claims)) {
+            throw new InvalidTokenException("Token has been revoked");
+        }
+        return claims;
+    }
+
+    private AccessToken verifySignature(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd <= headerEnd + 1 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new InvalidTokenException("Malformed token");
+        }
+        String header = token.substring(0, headerEnd);
+        String keyId = keyIdsByHeader.get(header);
+        if (keyId == null) {
+            keyId = keyId(header);
+        }
+        PublicKey key = keys.find(keyId);
+        if (key == null) {
+            throw new InvalidTokenException("Token is signed with an unknown key");
+        }
+        try {
+            Signature signature = SIGNATURES.get();
+            signature.initVerify(key);
+            signature.update(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(DECODER.decode(token.substring(payloadEnd + 1)))) {
+                throw new InvalidTokenException("Token signature is invalid");
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Token signature is invalid");
+        }
+        if (keyIdsByHeader.size() < MAX_HEADERS) {
+            keyIdsByHeader.put(header, keyId);
+        }
+        return claims(token.substring(headerEnd + 1, payloadEnd));
+    }
+
+    private String keyId(String header) {
+        JsonNode node = decodeJson(header);
+        if (!ALGORITHM.equals(node.path("alg").asText()) || !node.path("kid").isTextual()) {
+            throw new InvalidTokenException("Unsupported token header");
+        }
+        return node.get("kid").asText();
+    }
+
+    private AccessToken claims(String payload) {
+        JsonNode node = decodeJson(payload);
+        if (!issuer.equals(node.path("iss").asText())) {
+            throw new InvalidTokenException("Token is from an unexpected issuer");
+        }
+        if (!node.path("sub").isTextual() || !node.path("jti").isTextual()
+                || !node.path("iat").canConvertToLong() || !node.path("exp").canConvertToLong()) {
+            throw new InvalidTokenException("Token is missing required claims");
+        }
+        Set<String> roles = new HashSet<>();
+        node.path("roles").forEach(role -> roles.add(role.asText()));
+        return new AccessToken(node.get("jti").asText(), node.get("sub").asText(), roles,
+                Instant.ofEpochSecond(node.get("iat").asLong()), Instant.ofEpochSecond(node.get("exp").asLong()));
+    }
+
+    private JsonNode decodeJson(String segment) {
+        try {
+            return objectMapper.readTree(DECODER.decode(segment));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Malformed token");
+        }
+    }
+}
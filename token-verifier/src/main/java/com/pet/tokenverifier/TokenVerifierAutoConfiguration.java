@@ -0,0 +1,141 @@
+package com.pet.tokenverifier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Sets up token verification in a service that has this library on its classpath. Keys come from
+ * {@code token-verifier.jwks-uri} unless the service defines its own {@link VerificationKeySource},
+ * as user-service does.
+ */
+@AutoConfiguration(after = {JacksonAutoConfiguration.class, KafkaAutoConfiguration.class})
+@ConditionalOnProperty(prefix = "token-verifier", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(TokenVerifierProperties.class)
+public class TokenVerifierAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public VerificationKeySource verificationKeySource(TokenVerifierProperties properties,
+                                                       ObjectProvider<ObjectMapper> objectMapper,
+                                                       ObjectProvider<LoadBalancerResolver> resolver) {
+        return new JwksKeySource(properties.jwksUri(), resolver.getIfAvailable(() -> uri -> uri),
+                objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    @Bean
+    public VerificationKeyCache verificationKeyCache(VerificationKeySource source, TokenVerifierProperties properties) {
+        return new VerificationKeyCache(source, properties.refreshInterval(), properties.minRefreshInterval());
+    }
+
+    @Bean
+    public RevocationSet revocationSet(TokenVerifierProperties properties) {
+        return new RevocationSet(properties.maxRevocations(), Clock.systemUTC());
+    }
+
+    @Bean
+    public TokenVerifier tokenVerifier(VerificationKeyCache keys, RevocationSet revocations,
+                                       TokenVerifierProperties properties, ObjectProvider<ObjectMapper> objectMapper) {
+        return new TokenVerifier(keys, revocations, properties.issuer(), properties.clockSkew(),
+                properties.maxTokenTtl(), properties.verifiedCacheSize(), Clock.systemUTC(),
+                objectMapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    /**
+     * Kept apart from the reactive filter so that a reactive service, without the servlet API on
+     * its classpath, can still load this configuration.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletFilterConfiguration {
+
+        @Bean
+        FilterRegistrationBean<BearerTokenFilter> bearerTokenFilter(TokenVerifier verifier) {
+            FilterRegistrationBean<BearerTokenFilter> registration = new FilterRegistrationBean<>(new BearerTokenFilter(verifier));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveFilterConfiguration {
+
+        @Bean
+        BearerTokenWebFilter bearerTokenWebFilter(TokenVerifier verifier) {
+            return new BearerTokenWebFilter(verifier);
+        }
+    }
+
+    /**
+     * Resolves a service name in the key set URI, such as {@code http://user-service}, through
+     * the discovery client.
+     */
+    @FunctionalInterface
+    public interface LoadBalancerResolver extends UnaryOperator<URI> {
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(LoadBalancerClient.class)
+    static class LoadBalancerResolverConfiguration {
+
+        @Bean
+        LoadBalancerResolver tokenVerifierLoadBalancerResolver(ObjectProvider<LoadBalancerClient> loadBalancer) {
+            return uri -> {
+                LoadBalancerClient client = loadBalancer.getIfAvailable();
+                ServiceInstance instance = client != null ? client.choose(uri.getHost()) : null;
+                return instance != null ? client.reconstructURI(instance, uri) : uri;
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(ConcurrentKafkaListenerContainerFactory.class)
+    @ConditionalOnBean(KafkaProperties.class)
+    static class RevocationConfiguration {
+
+        @Bean
+        RevocationListener tokenRevocationListener(RevocationSet revocations, ObjectProvider<ObjectMapper> objectMapper,
+                                                   TokenVerifierProperties properties) {
+            return new RevocationListener(revocations, objectMapper.getIfAvailable(ObjectMapper::new),
+                    properties.maxTokenTtl(), Clock.systemUTC());
+        }
+
+        @Bean
+        ConcurrentKafkaListenerContainerFactory<String, String> tokenRevocationListenerContainerFactory(
+                KafkaProperties kafkaProperties) {
+            Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+            // Offsets are rewound on assignment; this only applies if the topic is still empty.
+            props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+            DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                    props, new StringDeserializer(), new StringDeserializer());
+            ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+            factory.setConsumerFactory(consumerFactory);
+            return factory;
+        }
+    }
+}
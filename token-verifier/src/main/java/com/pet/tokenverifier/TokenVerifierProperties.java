@@ -0,0 +1,25 @@
+package com.pet.tokenverifier;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Where keys come from and how long tokens live. The key set URI may name a service, resolved
+ * through discovery. {@code maxTokenTtl} must be at least the lifetime user-service gives its
+ * tokens.
+ */
+@ConfigurationProperties("token-verifier")
+public record TokenVerifierProperties(
+        @DefaultValue("http://user-service/v1/auth/jwks") URI jwksUri,
+        @DefaultValue("user-service") String issuer,
+        @DefaultValue("PT5M") Duration refreshInterval,
+        @DefaultValue("PT10S") Duration minRefreshInterval,
+        @DefaultValue("PT30S") Duration clockSkew,
+        @DefaultValue("PT15M") Duration maxTokenTtl,
+        @DefaultValue("100000") int maxRevocations,
+        @DefaultValue("100000") int verifiedCacheSize
+) {
+}
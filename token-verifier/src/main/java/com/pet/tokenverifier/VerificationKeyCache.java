@@ -0,0 +1,127 @@
+package com.pet.tokenverifier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local copy of the verification keys, so checking a token never waits on the network.
+ * <p>
+ * A background thread refetches the whole set periodically; retired keys drop out with it. A
+ * token signed with a key not seen yet, normally right after a rotation, triggers an immediate
+ * refetch, but at most once per minimum interval so made-up key IDs cannot cause a fetch each.
+ */
+@Slf4j
+public class VerificationKeyCache implements SmartLifecycle {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final VerificationKeySource source;
+    private final Duration refreshInterval;
+    private final long minRefreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastFetchNanos;
+    private volatile boolean running;
+    private Thread refreshThread;
+
+    public VerificationKeyCache(VerificationKeySource source, Duration refreshInterval, Duration minRefreshInterval) {
+        this.source = source;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+        this.lastFetchNanos = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    /**
+     * @return the key, or {@code null} if it is unknown even after a refetch
+     */
+    public PublicKey find(String keyId) {
+        PublicKey key = keys.get(keyId);
+        if (key != null || !refreshIfAllowed()) {
+            return key;
+        }
+        return keys.get(keyId);
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            lastFetchNanos = System.nanoTime();
+            keys = Map.copyOf(source.fetch());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private boolean refreshIfAllowed() {
+        if (System.nanoTime() - lastFetchNanos < minRefreshIntervalNanos || !refreshLock.tryLock()) {
+            return false;
+        }
+        try {
+            if (System.nanoTime() - lastFetchNanos < minRefreshIntervalNanos) {
+                return false;
+            }
+            refresh();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Verification key refetch failed: {}", e.getMessage());
+            return false;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        refreshThread = new Thread(this::refreshLoop, "verification-key-refresh");
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (refreshThread != null) {
+            refreshThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void refreshLoop() {
+        Duration backoff = INITIAL_BACKOFF;
+        while (running) {
+            Duration wait;
+            try {
+                refresh();
+                backoff = INITIAL_BACKOFF;
+                wait = refreshInterval;
+            } catch (RuntimeException e) {
+                log.warn("Verification key refresh failed, retrying in {}: {}", backoff, e.getMessage());
+                wait = backoff;
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(wait.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
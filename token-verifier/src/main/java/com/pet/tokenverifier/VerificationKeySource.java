@@ -0,0 +1,13 @@
+package com.pet.tokenverifier;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * Where the currently valid verification keys come from, by key ID.
+ */
+@FunctionalInterface
+public interface VerificationKeySource {
+
+    Map<String, PublicKey> fetch();
+}
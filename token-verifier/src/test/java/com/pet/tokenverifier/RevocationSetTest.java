@@ -0,0 +1,43 @@
+package com.pet.tokenverifier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationSetTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final RevocationSet revocations = new RevocationSet(3, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("When full, the set drops expired entries first and then those closest to expiry")
+    void boundedByExpiry() {
+        long now = NOW.getEpochSecond();
+        revocations.add(TokenRevocation.token("expired", now - 1));
+        assertEquals(0, revocations.size());
+
+        revocations.add(TokenRevocation.token("a", now + 100));
+        revocations.add(TokenRevocation.token("b", now + 300));
+        revocations.add(TokenRevocation.subject("user-1", now, now + 200));
+        revocations.add(TokenRevocation.token("c", now + 400));
+
+        assertEquals(3, revocations.size());
+        assertFalse(revocations.isRevoked(token("a", "user-2")));
+        assertTrue(revocations.isRevoked(token("b", "user-2")));
+        assertTrue(revocations.isRevoked(token("c", "user-2")));
+        assertTrue(revocations.isRevoked(token("d", "user-1")));
+    }
+
+    private static AccessToken token(String tokenId, String subject) {
+        return new AccessToken(tokenId, subject, Set.of(), NOW.minusSeconds(60), NOW.plusSeconds(600));
+    }
+}
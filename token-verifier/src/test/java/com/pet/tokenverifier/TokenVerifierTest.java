@@ -0,0 +1,105 @@
+package com.pet.tokenverifier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenVerifierTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final Map<String, PublicKey> published = new ConcurrentHashMap<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final VerificationKeyCache keys = new VerificationKeyCache(() -> {
+        fetches.incrementAndGet();
+        return Map.copyOf(published);
+    }, Duration.ofMinutes(5), Duration.ofSeconds(10));
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final RevocationSet revocations = new RevocationSet(100, clock);
+    private final TokenVerifier verifier = new TokenVerifier(keys, revocations, "user-service", Duration.ofSeconds(30),
+            Duration.ofMinutes(15), 1000, clock, new ObjectMapper());
+
+    @Test
+    @DisplayName("A token signed with a newly rotated key is accepted after one refetch")
+    void acceptsTokenFromRotatedKey() throws Exception {
+        KeyPair key = publish("k1");
+        String token = sign(key, "k1", "t1", NOW.plusSeconds(600));
+
+        AccessToken claims = verifier.verify(token);
+        assertEquals("user-42", claims.subject());
+        assertTrue(claims.hasRole("USER"));
+        assertEquals(1, fetches.get());
+
+        verifier.verify(token);
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Tampered, expired, foreign and revoked tokens are rejected")
+    void rejectsInvalidTokens() throws Exception {
+        KeyPair key = publish("k1");
+        String token = sign(key, "k1", "t1", NOW.plusSeconds(600));
+        verifier.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = ENCODER.encodeToString(payload("t1", "admin", NOW.plusSeconds(600)).getBytes(StandardCharsets.UTF_8));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(parts[0] + "." + forgedPayload + "." + parts[2]));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify("not-a-token"));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(sign(key, "k1", "t2", NOW.minusSeconds(60))));
+
+        KeyPair unpublished = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(sign(unpublished, "k2", "t3", NOW.plusSeconds(600))));
+        // Unknown key IDs do not trigger a refetch each.
+        int fetchesBefore = fetches.get();
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(sign(unpublished, "k3", "t4", NOW.plusSeconds(600))));
+        assertEquals(fetchesBefore, fetches.get());
+
+        revocations.add(TokenRevocation.token("t1", NOW.plusSeconds(600).getEpochSecond()));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(token));
+
+        String other = sign(key, "k1", "t5", NOW.plusSeconds(600));
+        verifier.verify(other);
+        revocations.add(TokenRevocation.subject("user-42", NOW.plusSeconds(1).getEpochSecond(), NOW.plusSeconds(900).getEpochSecond()));
+        assertThrows(InvalidTokenException.class, () -> verifier.verify(other));
+    }
+
+    private KeyPair publish(String keyId) throws Exception {
+        KeyPair key = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        published.put(keyId, Ed25519Keys.decode(Ed25519Keys.encode(key.getPublic())));
+        return key;
+    }
+
+    private static String sign(KeyPair key, String keyId, String tokenId, Instant expiresAt) throws Exception {
+        String header = "{\"alg\":\"EdDSA\",\"typ\":\"JWT\",\"kid\":\"" + keyId + "\"}";
+        String signingInput = ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + ENCODER.encodeToString(payload(tokenId, "user-42", expiresAt).getBytes(StandardCharsets.UTF_8));
+        Signature signature = Signature.getInstance("Ed25519");
+        signature.initSign(key.getPrivate());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + ENCODER.encodeToString(signature.sign());
+    }
+
+    private static String payload(String tokenId, String subject, Instant expiresAt) {
+        return "{\"iss\":\"user-service\",\"sub\":\"" + subject + "\",\"jti\":\"" + tokenId + "\",\"roles\":[\"USER\"],"
+                + "\"iat\":" + NOW.getEpochSecond() + ",\"exp\":" + expiresAt.getEpochSecond() + "}";
+    }
+}
@@ -0,0 +1,20 @@
+package com.pet.userservice.auth;
+
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.InvalidTokenException;
+
+public final class AccessTokens {
+
+    private AccessTokens() {
+    }
+
+    /**
+     * The verified token of the request, for endpoints that need a signed-in user.
+     */
+    public static AccessToken require(AccessToken token) {
+        if (token == null) {
+            throw new InvalidTokenException("Bearer token is required");
+        }
+        return token;
+    }
+}
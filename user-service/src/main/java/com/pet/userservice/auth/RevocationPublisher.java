@@ -0,0 +1,88 @@
+package com.pet.userservice.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.RevocationSet;
+import com.pet.tokenverifier.TokenRevocation;
+import com.pet.userservice.exception.RevocationNotPublishedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Revokes tokens: applies the revocation here at once and pushes it to every verifying service
+ * through the revocation topic, keyed by subject so a user's revocations stay in order.
+ * <p>
+ * A revocation counts as done only once the broker has acknowledged it; until then the other
+ * services would keep accepting the token, so a failed or slow send is reported to the caller
+ * instead of being swallowed.
+ */
+@Slf4j
+@Component
+public class RevocationPublisher {
+
+    private final KafkaTemplate<String, String> revocationKafkaTemplate;
+    private final RevocationSet revocations;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Duration tokenTtl;
+    private final Duration publishTimeout;
+    private final Clock clock = Clock.systemUTC();
+
+    public RevocationPublisher(KafkaTemplate<String, String> revocationKafkaTemplate,
+                               RevocationSet revocations,
+                               ObjectMapper objectMapper,
+                               @Value("${token-verifier.revocation-topic:token-revocations}") String topic,
+                               @Value("${auth.tokens.ttl:PT10M}") Duration tokenTtl,
+                               @Value("${auth.revocation.publish-timeout:PT5S}") Duration publishTimeout) {
+        this.revocationKafkaTemplate = revocationKafkaTemplate;
+        this.revocations = revocations;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.tokenTtl = tokenTtl;
+        this.publishTimeout = publishTimeout;
+    }
+
+    public void revokeToken(AccessToken token) {
+        publish(token.subject(), TokenRevocation.token(token.tokenId(), token.expiresAt().getEpochSecond()));
+    }
+
+    /**
+     * Revokes every token the subject holds, including any issued earlier within this second.
+     */
+    public void revokeSubject(String subject) {
+        long issuedBefore = clock.instant().getEpochSecond() + 1;
+        publish(subject, TokenRevocation.subject(subject, issuedBefore, issuedBefore + tokenTtl.toSeconds()));
+    }
+
+    private void publish(String subject, TokenRevocation revocation) {
+        revocations.add(revocation);
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(revocation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        try {
+            revocationKafkaTemplate.send(topic, subject, payload).get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw notPublished(subject, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw notPublished(subject, e);
+        }
+    }
+
+    private static RevocationNotPublishedException notPublished(String subject, Exception cause) {
+        log.error("Failed to publish revocation for subject {}", subject, cause);
+        return new RevocationNotPublishedException("Token revocation could not be confirmed, try again", cause);
+    }
+}
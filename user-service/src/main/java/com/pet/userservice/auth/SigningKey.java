@@ -0,0 +1,9 @@
+package com.pet.userservice.auth;
+
+import java.security.PrivateKey;
+
+/**
+ * This instance's current signing key, with the token header that names it already encoded.
+ */
+record SigningKey(String keyId, PrivateKey privateKey, String encodedHeader) {
+}
@@ -0,0 +1,38 @@
+package com.pet.userservice.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SigningKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(String keyId, String publicKey, Instant createdAt, Instant expiresAt) {
+        jdbcTemplate.update("insert into signing_keys (key_id, public_key, created_at, expires_at) values (?, ?, ?, ?)",
+                keyId, publicKey, Timestamp.from(createdAt), Timestamp.from(expiresAt));
+    }
+
+    /**
+     * Encoded public keys by key ID, newest first.
+     */
+    public Map<String, String> findUnexpired(Instant now) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        jdbcTemplate.query("select key_id, public_key from signing_keys where expires_at > ? order by created_at desc",
+                rs -> {
+                    keys.put(rs.getString("key_id"), rs.getString("public_key"));
+                }, Timestamp.from(now));
+        return keys;
+    }
+
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("delete from signing_keys where expires_at <= ?", Timestamp.from(now));
+    }
+}
@@ -0,0 +1,148 @@
+package com.pet.userservice.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pet.tokenverifier.Ed25519Keys;
+import com.pet.tokenverifier.TokenVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates this instance's Ed25519 signing key and rotates it on an interval. Private keys never
+ * leave the process; the public half goes to the {@code signing_keys} table, from which every
+ * instance publishes the key set, before the first token is signed with it.
+ * <p>
+ * A key stays published for two rotation intervals plus the token lifetime, so tokens it signed
+ * remain verifiable even if a rotation is late, and a restarted instance simply starts a new key.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing implements SmartLifecycle {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SigningKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration rotationInterval;
+    private final Duration tokenTtl;
+    private final Clock clock = Clock.systemUTC();
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile SigningKey current;
+    private volatile boolean running;
+    private Thread rotationThread;
+
+    public SigningKeyRing(SigningKeyRepository repository,
+                          ObjectMapper objectMapper,
+                          @Value("${auth.keys.rotation-interval:PT6H}") Duration rotationInterval,
+                          @Value("${auth.tokens.ttl:PT10M}") Duration tokenTtl) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.rotationInterval = rotationInterval;
+        this.tokenTtl = tokenTtl;
+    }
+
+    SigningKey current() {
+        SigningKey key = current;
+        if (key == null) {
+            throw new IllegalStateException("No signing key yet");
+        }
+        return key;
+    }
+
+    void rotate() {
+        KeyPair pair;
+        try {
+            pair = KeyPairGenerator.getInstance(Ed25519Keys.ALGORITHM).generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not available", e);
+        }
+        byte[] id = new byte[12];
+        random.nextBytes(id);
+        String keyId = ENCODER.encodeToString(id);
+        Instant now = clock.instant();
+        repository.insert(keyId, Ed25519Keys.encode(pair.getPublic()), now,
+                now.plus(rotationInterval.multipliedBy(2)).plus(tokenTtl));
+        current = new SigningKey(keyId, pair.getPrivate(), header(keyId));
+        int expired = repository.deleteExpired(now);
+        log.info("Rotated signing key to {}, removed {} expired keys", keyId, expired);
+    }
+
+    private String header(String keyId) {
+        Map<String, String> header = new LinkedHashMap<>();
+        header.put("alg", TokenVerifier.ALGORITHM);
+        header.put("typ", "JWT");
+        header.put("kid", keyId);
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsString(header).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        rotate();
+        running = true;
+        rotationThread = new Thread(this::rotationLoop, "signing-key-rotation");
+        rotationThread.setDaemon(true);
+        rotationThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (rotationThread != null) {
+            rotationThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before the web server, so no login is answered before there is a key to sign with.
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void rotationLoop() {
+        Duration wait = rotationInterval;
+        Duration backoff = Duration.ofSeconds(1);
+        while (running) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(wait.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                rotate();
+                wait = rotationInterval;
+                backoff = Duration.ofSeconds(1);
+            } catch (RuntimeException e) {
+                log.warn("Signing key rotation failed, retrying in {}", backoff, e);
+                wait = backoff;
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.pet.userservice.auth;
+
+import com.pet.tokenverifier.Ed25519Keys;
+import com.pet.tokenverifier.VerificationKeySource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Verification keys straight from {@code signing_keys}: user-service verifies its own tokens
+ * without going through its key set endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoredKeySource implements VerificationKeySource {
+
+    private final SigningKeyRepository repository;
+    private final Clock clock = Clock.systemUTC();
+
+    @Override
+    public Map<String, PublicKey> fetch() {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        repository.findUnexpired(clock.instant()).forEach((keyId, x) -> keys.put(keyId, Ed25519Keys.decode(x)));
+        return keys;
+    }
+
+    /**
+     * The key set as a JWKS document.
+     */
+    public Map<String, Object> jwks() {
+        return Map.of("keys", repository.findUnexpired(clock.instant()).entrySet().stream()
+                .map(key -> Map.of("kty", "OKP", "crv", Ed25519Keys.ALGORITHM, "use", "sig",
+                        "alg", "EdDSA", "kid", key.getKey(), "x", key.getValue()))
+                .toList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.pet.userservice.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pet.tokenverifier.Ed25519Keys;
+import com.pet.userservice.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Signs access tokens as compact JWS with EdDSA: header, claims ({@code iss}, {@code sub},
+ * {@code jti}, {@code roles}, {@code iat}, {@code exp}) and signature, each Base64url-encoded.
+ */
+@Component
+public class TokenIssuer {
+
+    public record IssuedToken(String value, String tokenId, Instant expiresAt) {
+    }
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SigningKeyRing keyRing;
+    private final ObjectMapper objectMapper;
+    private final String issuer;
+    private final Duration ttl;
+    private final Clock clock = Clock.systemUTC();
+
+    public TokenIssuer(SigningKeyRing keyRing,
+                       ObjectMapper objectMapper,
+                       @Value("${token-verifier.issuer:user-service}") String issuer,
+                       @Value("${auth.tokens.ttl:PT10M}") Duration ttl) {
+        this.keyRing = keyRing;
+        this.objectMapper = objectMapper;
+        this.issuer = issuer;
+        this.ttl = ttl;
+    }
+
+    public IssuedToken issue(User user) {
+        SigningKey key = keyRing.current();
+        Instant issuedAt = clock.instant();
+        Instant expiresAt = issuedAt.plus(ttl);
+        String tokenId = UUID.randomUUID().toString();
+
+        ObjectNode claims = objectMapper.createObjectNode()
+                .put("iss", issuer)
+                .put("sub", user.id().toString())
+                .put("jti", tokenId);
+        ArrayNode roles = claims.putArray("roles");
+        user.roles().forEach(roles::add);
+        claims.put("iat", issuedAt.getEpochSecond()).put("exp", expiresAt.getEpochSecond());
+
+        try {
+            String signingInput = key.encodedHeader() + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            Signature signature = Signature.getInstance(Ed25519Keys.ALGORITHM);
+            signature.initSign(key.privateKey());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return new IssuedToken(signingInput + "." + ENCODER.encodeToString(signature.sign()), tokenId, expiresAt);
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign access token", e);
+        }
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
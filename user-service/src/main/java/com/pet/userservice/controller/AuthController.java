@@ -0,0 +1,82 @@
+package com.pet.userservice.controller;
+
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.BearerTokenFilter;
+import com.pet.userservice.auth.AccessTokens;
+import com.pet.userservice.auth.RevocationPublisher;
+import com.pet.userservice.auth.StoredKeySource;
+import com.pet.userservice.auth.TokenIssuer;
+import com.pet.userservice.dto.LoginRequest;
+import com.pet.userservice.dto.TokenResponse;
+import com.pet.userservice.user.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/v1/auth")
+@RequiredArgsConstructor
+@Tag(name = "Auth API", description = "API для видачі та відкликання токенів доступу")
+public class AuthController {
+
+    private final UserService userService;
+    private final TokenIssuer tokenIssuer;
+    private final RevocationPublisher revocationPublisher;
+    private final StoredKeySource storedKeySource;
+
+    @Operation(summary = "Отримати токен доступу", description = "Перевіряє email і пароль та видає короткоживучий підписаний токен.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Токен видано"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Невірний email або пароль", content = @Content)
+    })
+    @PostMapping("/tokens")
+    public TokenResponse issueToken(@Valid @RequestBody LoginRequest request) {
+        TokenIssuer.IssuedToken token = tokenIssuer.issue(userService.authenticate(request.email(), request.password()));
+        return new TokenResponse(token.value(), "Bearer", tokenIssuer.getTtl().toSeconds());
+    }
+
+    @Operation(summary = "Відкликати поточний токен", description = "Вихід із системи: токен, з яким надіслано запит, більше не приймається.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Токен відкликано"),
+            @ApiResponse(responseCode = "401", description = "Токен відсутній або недійсний", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Відкликання не підтверджено, повторіть запит", content = @Content)
+    })
+    @DeleteMapping("/tokens/current")
+    public ResponseEntity<Void> revokeCurrentToken(
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        revocationPublisher.revokeToken(AccessTokens.require(token));
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Відкликати всі токени користувача", description = "Вихід на всіх пристроях.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Токени відкликано"),
+            @ApiResponse(responseCode = "401", description = "Токен відсутній або недійсний", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Відкликання не підтверджено, повторіть запит", content = @Content)
+    })
+    @DeleteMapping("/tokens")
+    public ResponseEntity<Void> revokeAllTokens(
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        revocationPublisher.revokeSubject(AccessTokens.require(token).subject());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Ключі перевірки токенів", description = "Чинні публічні ключі у форматі JWKS.")
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> keySet() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)))
+                .body(storedKeySource.jwks());
+    }
+}
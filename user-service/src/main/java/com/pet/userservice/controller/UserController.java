@@ -0,0 +1,51 @@
+package com.pet.userservice.controller;
+
+import com.pet.tokenverifier.AccessToken;
+import com.pet.tokenverifier.BearerTokenFilter;
+import com.pet.userservice.auth.AccessTokens;
+import com.pet.userservice.dto.RegisterRequest;
+import com.pet.userservice.dto.UserResponse;
+import com.pet.userservice.user.UserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1/users")
+@RequiredArgsConstructor
+@Tag(name = "User API", description = "API для керування користувачами")
+public class UserController {
+
+    private final UserService userService;
+
+    @Operation(summary = "Зареєструвати користувача")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Користувача зареєстровано"),
+            @ApiResponse(responseCode = "400", description = "Некоректний запит", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Email уже зареєстровано", content = @Content)
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public UserResponse register(@Valid @RequestBody RegisterRequest request) {
+        return UserResponse.from(userService.register(request.email(), request.password()));
+    }
+
+    @Operation(summary = "Отримати поточного користувача")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Користувача знайдено"),
+            @ApiResponse(responseCode = "401", description = "Токен відсутній або недійсний", content = @Content)
+    })
+    @GetMapping("/me")
+    public UserResponse me(
+            @RequestAttribute(name = BearerTokenFilter.ACCESS_TOKEN_ATTRIBUTE, required = false) AccessToken token) {
+        return UserResponse.from(userService.getById(UUID.fromString(AccessTokens.require(token).subject())));
+    }
+}
@@ -0,0 +1,16 @@
+package com.pet.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "Запит на отримання токена доступу")
+public record LoginRequest(
+        @Schema(description = "Email користувача", example = "buyer@example.com")
+        @NotBlank(message = "Email є обов'язковим")
+        String email,
+
+        @Schema(description = "Пароль", example = "correct-horse-battery")
+        @NotBlank(message = "Пароль є обов'язковим")
+        String password
+) {
+}
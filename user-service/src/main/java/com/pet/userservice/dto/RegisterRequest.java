@@ -0,0 +1,21 @@
+package com.pet.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Запит на реєстрацію користувача")
+public record RegisterRequest(
+        @Schema(description = "Email користувача", example = "buyer@example.com")
+        @NotBlank(message = "Email є обов'язковим")
+        @Email(message = "Некоректний email")
+        @Size(max = 254, message = "Email не може перевищувати 254 символи")
+        String email,
+
+        @Schema(description = "Пароль", example = "correct-horse-battery")
+        @NotBlank(message = "Пароль є обов'язковим")
+        @Size(min = 8, max = 72, message = "Пароль має містити від 8 до 72 символів")
+        String password
+) {
+}
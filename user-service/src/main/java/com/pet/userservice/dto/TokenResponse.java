@@ -0,0 +1,16 @@
+package com.pet.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Токен доступу")
+public record TokenResponse(
+        @Schema(description = "Підписаний токен доступу")
+        String accessToken,
+
+        @Schema(description = "Тип токена", example = "Bearer")
+        String tokenType,
+
+        @Schema(description = "Час дії токена в секундах", example = "600")
+        long expiresIn
+) {
+}
@@ -0,0 +1,27 @@
+package com.pet.userservice.dto;
+
+import com.pet.userservice.user.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+@Schema(description = "Користувач")
+public record UserResponse(
+        @Schema(description = "ID користувача", example = "3f2b8c1e-6a51-4c3e-9d0a-2b7f4e8a9c10")
+        UUID id,
+
+        @Schema(description = "Email користувача", example = "buyer@example.com")
+        String email,
+
+        @Schema(description = "Ролі користувача", example = "[\"USER\"]")
+        Set<String> roles,
+
+        @Schema(description = "Час реєстрації")
+        Instant createdAt
+) {
+    public static UserResponse from(User user) {
+        return new UserResponse(user.id(), user.email(), user.roles(), user.createdAt());
+    }
+}
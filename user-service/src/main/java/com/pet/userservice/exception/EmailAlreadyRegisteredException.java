@@ -0,0 +1,7 @@
+package com.pet.userservice.exception;
+
+public class EmailAlreadyRegisteredException extends RuntimeException {
+    public EmailAlreadyRegisteredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,5 @@
+package com.pet.userservice.exception;
+
+import java.time.LocalDateTime;
+
+public record ErrorResponse(int status, String message, LocalDateTime timestamp) {}
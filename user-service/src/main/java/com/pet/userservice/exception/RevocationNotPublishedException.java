@@ -0,0 +1,7 @@
+package com.pet.userservice.exception;
+
+public class RevocationNotPublishedException extends RuntimeException {
+    public RevocationNotPublishedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pet.userservice.user;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+public record User(UUID id, String email, String passwordHash, Set<String> roles, Instant createdAt) {
+}
@@ -0,0 +1,45 @@
+package com.pet.userservice.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRepository {
+
+    private static final String SELECT_SQL = "select id, email, password_hash, roles, created_at from users";
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> new User(
+            rs.getObject("id", UUID.class),
+            rs.getString("email"),
+            rs.getString("password_hash"),
+            Arrays.stream(rs.getString("roles").split(",")).collect(Collectors.toUnmodifiableSet()),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @throws org.springframework.dao.DuplicateKeyException if the email is already registered
+     */
+    public void insert(User user) {
+        jdbcTemplate.update("insert into users (id, email, password_hash, roles, created_at) values (?, ?, ?, ?, ?)",
+                user.id(), user.email(), user.passwordHash(), String.join(",", user.roles()),
+                Timestamp.from(user.createdAt()));
+    }
+
+    public Optional<User> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_SQL + " where id = ?", USER_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return jdbcTemplate.query(SELECT_SQL + " where email = ?", USER_ROW_MAPPER, email).stream().findFirst();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pet.userservice.user;
+
+import com.pet.userservice.exception.EmailAlreadyRegisteredException;
+import com.pet.userservice.exception.InvalidCredentialsException;
+import com.pet.userservice.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class UserService {
+
+    public static final String DEFAULT_ROLE = "USER";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Clock clock = Clock.systemUTC();
+
+    public User register(String email, String password) {
+        User user = new User(UUID.randomUUID(), normalize(email), passwordEncoder.encode(password),
+                Set.of(DEFAULT_ROLE), clock.instant());
+        try {
+            userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw new EmailAlreadyRegisteredException("Email is already registered: " + user.email());
+        }
+        return user;
+    }
+
+    /**
+     * Same answer for an unknown email and a wrong password, so logins cannot probe for accounts.
+     */
+    public User authenticate(String email, String password) {
+        return userRepository.findByEmail(normalize(email))
+                .filter(user -> passwordEncoder.matches(password, user.passwordHash()))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid email or password"));
+    }
+
+    public User getById(UUID id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+create table if not exists users (
+    id            uuid primary key,
+    email         varchar(254) not null unique,
+    password_hash varchar(100) not null,
+    roles         varchar(200) not null,
+    created_at    timestamp not null
+);
+
+-- Public halves of the signing keys of every instance, published as the JWKS until they expire.
+create table if not exists signing_keys (
+    key_id     varchar(32) primary key,
+    public_key varchar(64) not null,
+    created_at timestamp not null,
+    expires_at timestamp not null
+);
@@ -0,0 +1,114 @@
+package com.pet.userservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+class AuthFlowTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean(name = "revocationKafkaTemplate")
+    private KafkaTemplate<String, String> revocationKafkaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(revocationKafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @DisplayName("A registered user gets a token that is verified locally until it is revoked")
+    void tokenLifecycle() throws Exception {
+        String credentials = "{\"email\":\"Buyer@Example.com\",\"password\":\"correct-horse-battery\"}";
+        mockMvc.perform(post("/v1/users").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("buyer@example.com"));
+        mockMvc.perform(post("/v1/users").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/v1/auth/tokens").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"buyer@example.com\",\"password\":\"wrong-password\"}"))
+                .andExpect(status().isUnauthorized());
+
+        String body = mockMvc.perform(post("/v1/auth/tokens").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("accessToken").asText();
+
+        mockMvc.perform(get("/v1/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("buyer@example.com"))
+                .andExpect(jsonPath("$.roles[0]").value("USER"));
+        mockMvc.perform(get("/v1/users/me"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/v1/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token.substring(0, token.length() - 4) + "AAAA"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(delete("/v1/auth/tokens/current").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNoContent());
+        verify(revocationKafkaTemplate).send(eq("token-revocations"), anyString(), any());
+        mockMvc.perform(get("/v1/users/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Logout fails with 503 when the revocation cannot be published")
+    void unpublishedRevocationFailsLogout() throws Exception {
+        String credentials = "{\"email\":\"logout@example.com\",\"password\":\"correct-horse-battery\"}";
+        mockMvc.perform(post("/v1/users").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isCreated());
+        String body = mockMvc.perform(post("/v1/auth/tokens").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(body).get("accessToken").asText();
+        when(revocationKafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("Broker not available")));
+
+        mockMvc.perform(delete("/v1/auth/tokens").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("The key set publishes this instance's signing key")
+    void publishesKeySet() throws Exception {
+        String body = mockMvc.perform(get("/v1/auth/jwks"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode key = objectMapper.readTree(body).get("keys").get(0);
+        assertEquals("OKP", key.get("kty").asText());
+        assertEquals("Ed25519", key.get("crv").asText());
+        assertEquals(43, key.get("x").asText().length());
+    }
+}